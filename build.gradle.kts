@@ -33,10 +33,17 @@ repositories {
     mavenCentral()
 }
 
+sourceSets {
+    create("jmh") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
 javafx {
     version = project.ext["javafx.version"] as String
     modules = listOf("javafx.base", "javafx.graphics", "javafx.controls")
-    configurations = arrayOf("compileOnly", "testImplementation")
+    configurations = arrayOf("compileOnly", "testImplementation", "jmhImplementation")
 }
 
 dependencies {
@@ -47,12 +54,36 @@ dependencies {
     testImplementation("org.testfx:testfx-junit5:4.0.17")
     testImplementation("org.junit.jupiter:junit-jupiter-api:5.9.2")
     testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:5.9.2")
+
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
 }
 
 tasks.getByName<Test>("test") {
     useJUnitPlatform()
 }
 
+// Runs the benchmarks in src/jmh with the GC profiler enabled, so that every scenario reports
+// throughput as well as allocation rate. A subset of benchmarks can be selected with a regular
+// expression, for example: ./gradlew jmh -Pjmh.includes=ListChangeAggregator
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs the JMH benchmarks."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+
+    val resultFile = layout.buildDirectory.file("reports/jmh/results.json")
+    outputs.file(resultFile)
+    outputs.upToDateWhen { false }
+
+    doFirst {
+        resultFile.get().asFile.parentFile.mkdirs()
+    }
+
+    args("-prof", "gc", "-rf", "json", "-rff", resultFile.get().asFile.absolutePath)
+    project.findProperty("jmh.includes")?.let { args(it.toString()) }
+}
+
 tasks.withType<GenerateModuleMetadata> {
     enabled = false
 }
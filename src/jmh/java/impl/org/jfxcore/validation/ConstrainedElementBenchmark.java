@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.jfxcore.validation.ConstrainedElement;
+import org.jfxcore.validation.Constraints;
+import org.jfxcore.validation.ValidationResult;
+import org.jfxcore.validation.property.SimpleConstrainedListProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of validating {@link ConstrainedElement constrained elements} of a list property,
+ * both for single-element changes (which are the common case in editable grids) and for revalidating
+ * all elements of the list.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ConstrainedElementBenchmark {
+
+    @Param({"1", "1000", "1000000"})
+    public int size;
+
+    private SimpleConstrainedListProperty<Integer, String> property;
+    private ListValidationHelper<Integer, String> helper;
+    private ObservableList<Integer> list;
+    private ObservableList<ConstrainedElement<Integer, String>> elements;
+    private SimpleIntegerProperty divisor;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        List<Integer> values = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            values.add(i % 200);
+        }
+
+        list = FXCollections.observableArrayList(values);
+        divisor = new SimpleIntegerProperty(7);
+        property = new SimpleConstrainedListProperty<>(
+            list,
+            Constraints.between(0, 100, value -> "Value out of range"),
+            Constraints.validate(
+                (Integer value, Number divisor) -> value != null && value % divisor.intValue() != 0 ?
+                    ValidationResult.valid() : ValidationResult.invalid("Invalid value"),
+                divisor));
+
+        helper = (ListValidationHelper<Integer, String>)PropertyHelper.getValidationHelper(property);
+        elements = property.getConstrainedElements();
+    }
+
+    /**
+     * Re-validates a single element without changing its value.
+     */
+    @Benchmark
+    public boolean validateElement() {
+        ConstrainedElement<Integer, String> element = elements.get(counter++ % size);
+        ConstrainedElementHelper.validate(element);
+        return element.isValid();
+    }
+
+    /**
+     * Replaces a single element of the list, which creates and validates a new constrained element
+     * and aggregates the list change for the constrained value of the property.
+     */
+    @Benchmark
+    public boolean setElement() {
+        int index = counter++ % size;
+        list.set(index, (list.get(index) + 1) % 200);
+        return property.isValid();
+    }
+
+    /**
+     * Re-validates all elements of the list by invalidating a dependency of an element constraint.
+     */
+    @Benchmark
+    public boolean validateAllElements() {
+        helper.invalidated(divisor);
+        return property.isValid();
+    }
+
+    /**
+     * Re-validates the list property as if a new list was set, which discards and re-creates
+     * all constrained elements.
+     */
+    @Benchmark
+    public boolean replaceAllElements() {
+        helper.invalidated(property);
+        return property.isValid();
+    }
+
+}
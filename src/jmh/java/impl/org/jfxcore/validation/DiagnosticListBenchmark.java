@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import javafx.collections.ListChangeListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of setting and clearing diagnostics in {@link DiagnosticListImpl}, which happens
+ * for every completed constraint validator that produces a diagnostic.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiagnosticListBenchmark {
+
+    @Param({"1", "16", "256"})
+    public int capacity;
+
+    @Param({"false", "true"})
+    public boolean observed;
+
+    private DiagnosticListImpl<String> diagnostics;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        diagnostics = new DiagnosticListImpl<>(capacity);
+
+        if (observed) {
+            diagnostics.addListener((ListChangeListener<String>)change -> {
+                while (change.next()) {
+                    change.getAddedSize();
+                }
+            });
+        }
+
+        for (int i = 0; i < capacity; i += 2) {
+            diagnostics.setDiagnostic(i, "diagnostic" + i, true);
+        }
+    }
+
+    /**
+     * Replaces the diagnostic of a validator, as if the validator was re-evaluated.
+     */
+    @Benchmark
+    public int setDiagnostic() {
+        int index = counter++ % capacity;
+        diagnostics.setDiagnostic(index, "diagnostic", (index & 1) == 0);
+        return diagnostics.size();
+    }
+
+    /**
+     * Sets and then clears the diagnostic of a validator.
+     */
+    @Benchmark
+    public int setAndClearDiagnostic() {
+        int index = counter++ % capacity;
+        diagnostics.setDiagnostic(index, "diagnostic", true);
+        diagnostics.clearDiagnostic(index);
+        return diagnostics.size();
+    }
+
+    /**
+     * Sets and clears the diagnostic of a validator within a quiescent period, which is how
+     * the diagnostic list is updated when synchronous validators complete immediately.
+     */
+    @Benchmark
+    public int setAndClearDiagnosticQuiescent() {
+        int index = counter++ % capacity;
+        diagnostics.beginQuiescence();
+        diagnostics.setDiagnostic(index, "diagnostic", true);
+        diagnostics.clearDiagnostic(index);
+        diagnostics.endQuiescence();
+        return diagnostics.size();
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import javafx.beans.property.SimpleListProperty;
+import javafx.collections.FXCollections;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of aggregating list changes with {@link ListChangeAggregator}, which happens
+ * for every change of a constrained list property until all constraints are satisfied.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ListChangeAggregatorBenchmark {
+
+    private static final int INDEX_COUNT = 1024;
+
+    @Param({"1", "1000", "1000000"})
+    public int size;
+
+    @Param({"1", "16"})
+    public int changeCount;
+
+    private ListChangeAggregator<Integer> aggregator;
+    private int[] indices;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        List<Integer> values = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            values.add(i);
+        }
+
+        aggregator = new ListChangeAggregator<>(new SimpleListProperty<>(FXCollections.observableList(values)));
+        indices = new int[INDEX_COUNT];
+
+        Random random = new Random(0);
+        for (int i = 0; i < INDEX_COUNT; ++i) {
+            indices[i] = random.nextInt(size);
+        }
+    }
+
+    /**
+     * Adds a number of single-element replacements at random indices, and then completes the
+     * aggregated change.
+     */
+    @Benchmark
+    public ListChange.ReplacedRange<Integer> replaceAndComplete() {
+        for (int i = 0; i < changeCount; ++i) {
+            int index = indices[counter++ & (INDEX_COUNT - 1)];
+            aggregator.add(new ListChange.ReplacedRange<>(index, 1, index));
+        }
+
+        return aggregator.completeAggregatedChange();
+    }
+
+    /**
+     * Adds a number of single-element replacements at random indices, and then queries the
+     * aggregated change without completing it.
+     */
+    @Benchmark
+    public ListChange.ReplacedRange<Integer> replaceAndGet() {
+        for (int i = 0; i < changeCount; ++i) {
+            int index = indices[counter++ & (INDEX_COUNT - 1)];
+            aggregator.add(new ListChange.ReplacedRange<>(index, 1, index));
+        }
+
+        ListChange.ReplacedRange<Integer> change = aggregator.getAggregatedChange();
+        aggregator.completeAggregatedChange();
+        return change;
+    }
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import javafx.beans.Observable;
+import org.jfxcore.validation.Constraint;
+import org.jfxcore.validation.Constraints;
+import org.jfxcore.validation.ValidationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of {@link SerializedValidator#validate} for synchronous constraints, and for
+ * asynchronous constraints that complete later or are superseded by a newer value.
+ * <p>
+ * Asynchronous completions are delivered on the calling thread, so the benchmarks measure the
+ * bookkeeping of the validator and not the latency of a completion executor.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializedValidatorBenchmark {
+
+    private static final String[] VALUES = { "foo", "", "bar", "  " };
+
+    private SerializedValidator<String, String> syncValidator;
+    private SerializedValidator<String, String> asyncValidator;
+    private PendingConstraint pendingConstraint;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        syncValidator = new ValidatorImpl(Constraints.notNullOrBlank(() -> "Value cannot be empty"));
+        pendingConstraint = new PendingConstraint();
+        asyncValidator = new ValidatorImpl(pendingConstraint);
+    }
+
+    /**
+     * Validates a value with a constraint that completes synchronously.
+     */
+    @Benchmark
+    public ValidationResult<String> validateSync() {
+        syncValidator.validate(VALUES[counter++ & 3]);
+        return syncValidator.getValidationResult();
+    }
+
+    /**
+     * Validates a value with a constraint that completes after the validation run was started.
+     */
+    @Benchmark
+    public ValidationResult<String> validateAsync() {
+        asyncValidator.validate(VALUES[counter++ & 3]);
+        pendingConstraint.complete();
+        return asyncValidator.getValidationResult();
+    }
+
+    /**
+     * Requests several validation runs while the constraint is still running, which supersedes all
+     * but the last request.
+     */
+    @Benchmark
+    public ValidationResult<String> validateAsyncSuperseded() {
+        asyncValidator.validate(VALUES[counter++ & 3]);
+        asyncValidator.validate(VALUES[counter++ & 3]);
+        asyncValidator.validate(VALUES[counter++ & 3]);
+        pendingConstraint.complete();
+        pendingConstraint.complete();
+        return asyncValidator.getValidationResult();
+    }
+
+    private static class ValidatorImpl extends SerializedValidator<String, String> {
+        final Constraint<String, String> constraint;
+        ValidationResult<String> result;
+
+        ValidatorImpl(Constraint<String, String> constraint) {
+            super(constraint);
+            this.constraint = constraint;
+        }
+
+        @Override
+        public ValidationResult<String> getValidationResult() {
+            return result;
+        }
+
+        @Override
+        protected CompletableFuture<ValidationResult<String>> newValidationRun(String value) {
+            return constraint.validate(value);
+        }
+
+        @Override
+        protected void onValidationStarted() {}
+
+        @Override
+        protected void onValidationCompleted(
+                String value, ValidationResult<String> result, boolean intermediateCompletion) {
+            this.result = result;
+        }
+    }
+
+    private static class PendingConstraint implements Constraint<String, String> {
+        CompletableFuture<ValidationResult<String>> future;
+
+        void complete() {
+            if (future != null) {
+                CompletableFuture<ValidationResult<String>> future = this.future;
+                this.future = null;
+                future.complete(ValidationResult.valid());
+            }
+        }
+
+        @Override
+        public CompletableFuture<ValidationResult<String>> validate(String value) {
+            return future = new CompletableFuture<>();
+        }
+
+        @Override
+        public Executor getCompletionExecutor() {
+            return Runnable::run;
+        }
+
+        @Override
+        public Observable[] getDependencies() {
+            return null;
+        }
+    }
+
+}
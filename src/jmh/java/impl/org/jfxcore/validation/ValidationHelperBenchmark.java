@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import javafx.beans.property.SimpleIntegerProperty;
+import org.jfxcore.validation.Constraint;
+import org.jfxcore.validation.Constraints;
+import org.jfxcore.validation.ValidationResult;
+import org.jfxcore.validation.property.SimpleConstrainedStringProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of {@link ValidationHelper#invalidated} for scalar properties, which is the
+ * per-keystroke cost of a text field that is bound to a constrained property.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationHelperBenchmark {
+
+    private static final String[] VALUES = { "foo", "", "bar", "  " };
+
+    @SuppressWarnings("unchecked")
+    private static Constraint<String, String>[] createConstraints(int count, SimpleIntegerProperty minLength) {
+        Constraint<String, String>[] constraints = new Constraint[count];
+        constraints[0] = Constraints.notNullOrBlank(() -> "Value cannot be empty");
+
+        for (int i = 1; i < count; ++i) {
+            constraints[i] = Constraints.validate(
+                (String value, Number min) -> value != null && value.length() >= min.intValue() ?
+                    ValidationResult.valid() : ValidationResult.invalid("Value too short"),
+                minLength);
+        }
+
+        return constraints;
+    }
+
+    /**
+     * A single field with a configurable number of constraints.
+     */
+    @State(Scope.Thread)
+    public static class FieldState {
+        @Param({"1", "4", "16"})
+        public int constraintCount;
+
+        SimpleConstrainedStringProperty<String> field;
+        ValidationHelper<String, String> helper;
+        int counter;
+
+        @Setup
+        public void setup() {
+            field = new SimpleConstrainedStringProperty<>(
+                createConstraints(constraintCount, new SimpleIntegerProperty(0)));
+            helper = PropertyHelper.getValidationHelper(field);
+        }
+    }
+
+    /**
+     * A form in which all fields depend on a single observable, so that a change of the
+     * shared dependency invalidates every field of the form.
+     */
+    @State(Scope.Thread)
+    public static class FormState {
+        @Param({"1", "1000", "100000"})
+        public int fieldCount;
+
+        SimpleIntegerProperty minLength;
+        SimpleConstrainedStringProperty<String>[] fields;
+        int counter;
+
+        @Setup
+        @SuppressWarnings("unchecked")
+        public void setup() {
+            minLength = new SimpleIntegerProperty(0);
+            fields = new SimpleConstrainedStringProperty[fieldCount];
+            Constraint<String, String>[] constraints = createConstraints(2, minLength);
+
+            for (int i = 0; i < fieldCount; ++i) {
+                fields[i] = new SimpleConstrainedStringProperty<>(VALUES[i % VALUES.length], constraints);
+            }
+        }
+    }
+
+    /**
+     * Re-validates a single field without changing its value.
+     */
+    @Benchmark
+    public boolean invalidateField(FieldState state) {
+        state.helper.invalidated(state.field);
+        return state.helper.isValid();
+    }
+
+    /**
+     * Changes the value of a single field, alternating between valid and invalid values.
+     */
+    @Benchmark
+    public boolean setFieldValue(FieldState state) {
+        state.field.set(VALUES[state.counter++ & 3]);
+        return state.field.isValid();
+    }
+
+    /**
+     * Changes a dependency that is shared by all fields of a form.
+     */
+    @Benchmark
+    public boolean invalidateSharedDependency(FormState state) {
+        state.minLength.set(state.counter++ & 3);
+        return state.fields[0].isValid();
+    }
+
+}
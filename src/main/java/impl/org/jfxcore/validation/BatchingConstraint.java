@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import javafx.beans.Observable;
+import org.jfxcore.validation.Constraint;
+import org.jfxcore.validation.ValidationResult;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Function;
+
+/**
+ * A constraint that gathers the values of many validation requests, and validates them with
+ * a single invocation of a batch validation function.
+ * <p>
+ * A batch is submitted to the executor when it contains {@code maxBatchSize} values, or when
+ * {@code maxDelay} has elapsed since the first value was added to the batch. Validation requests
+ * that are cancelled before their batch is submitted are removed from the batch, and don't count
+ * towards {@code maxBatchSize}. After the batch was submitted, cancellation requests only complete
+ * the future of the cancelled request, since the batch validation function can't be cancelled for
+ * a single value.
+ *
+ * @param <T> data type
+ * @param <D> diagnostic type
+ */
+public final class BatchingConstraint<T, D> implements Constraint<T, D> {
+
+    private final Function<List<T>, List<ValidationResult<D>>> validationFunc;
+    private final Executor executor;
+    private final int maxBatchSize;
+    private final long maxDelay;
+    private List<BatchEntry> batch;
+    private ScheduledFuture<?> timer;
+
+    /**
+     * Creates a new {@code BatchingConstraint}.
+     *
+     * @param validationFunc the batch validation function
+     * @param executor the executor that invokes the batch validation function
+     * @param maxBatchSize the maximum number of values in a batch
+     * @param maxDelay the maximum delay in nanoseconds
+     */
+    public BatchingConstraint(
+            Function<List<T>, List<ValidationResult<D>>> validationFunc,
+            Executor executor,
+            int maxBatchSize,
+            long maxDelay) {
+        this.validationFunc = Objects.requireNonNull(validationFunc, "validationFunc");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelay = maxDelay;
+    }
+
+    @Override
+    public CompletableFuture<ValidationResult<D>> validate(T value) {
+        var entry = new BatchEntry(value);
+        List<BatchEntry> fullBatch = null;
+
+        synchronized (this) {
+            if (batch == null) {
+                batch = new ArrayList<>();
+            }
+
+            batch.add(entry);
+
+            if (batch.size() >= maxBatchSize) {
+                fullBatch = takeBatch();
+            } else if (batch.size() == 1) {
+                timer = ValidationTimer.schedule(this::submitPendingBatch, maxDelay);
+            }
+        }
+
+        if (fullBatch != null) {
+            submit(fullBatch);
+        }
+
+        return entry;
+    }
+
+    @Override
+    public Executor getCompletionExecutor() {
+        return CoalescingCompletionExecutor.INSTANCE;
+    }
+
+    @Override
+    public Observable[] getDependencies() {
+        return null;
+    }
+
+    private List<BatchEntry> takeBatch() {
+        List<BatchEntry> result = batch;
+        batch = null;
+
+        if (timer != null) {
+            timer.cancel(false);
+            timer = null;
+        }
+
+        return result;
+    }
+
+    private synchronized void remove(BatchEntry entry) {
+        if (batch != null && batch.remove(entry) && batch.isEmpty()) {
+            // The next validation request starts a new batch with its own delay.
+            takeBatch();
+        }
+    }
+
+    private void submitPendingBatch() {
+        List<BatchEntry> pendingBatch;
+
+        synchronized (this) {
+            pendingBatch = batch != null ? takeBatch() : null;
+        }
+
+        if (pendingBatch != null) {
+            submit(pendingBatch);
+        }
+    }
+
+    private void submit(List<BatchEntry> entries) {
+        // Requests that were cancelled after the batch was taken are not validated.
+        entries.removeIf(CompletableFuture::isDone);
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> validateBatch(entries));
+        } catch (Throwable ex) {
+            for (BatchEntry entry : entries) {
+                entry.completeExceptionally(ex);
+            }
+        }
+    }
+
+    private void validateBatch(List<BatchEntry> entries) {
+        List<T> values = new ArrayList<>(entries.size());
+        for (BatchEntry entry : entries) {
+            values.add(entry.value);
+        }
+
+        List<ValidationResult<D>> results;
+
+        try {
+            results = validationFunc.apply(values);
+
+            if (results == null || results.size() != values.size()) {
+                throw new IllegalStateException(
+                    "Batch validation function returned " + (results == null ? "null" : results.size() + " results")
+                        + " for " + values.size() + " values");
+            }
+        } catch (Throwable ex) {
+            for (BatchEntry entry : entries) {
+                entry.completeExceptionally(ex);
+            }
+
+            return;
+        }
+
+        for (int i = 0; i < entries.size(); ++i) {
+            entries.get(i).complete(results.get(i));
+        }
+    }
+
+    private final class BatchEntry extends CompletableFuture<ValidationResult<D>> {
+        final T value;
+
+        BatchEntry(T value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (super.cancel(mayInterruptIfRunning)) {
+                remove(this);
+                return true;
+            }
+
+            return false;
+        }
+    }
+
+}
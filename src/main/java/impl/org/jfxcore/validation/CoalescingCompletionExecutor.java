@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import javafx.application.Platform;
+import org.jfxcore.validation.ValidationContext;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Completion executor that delivers the completions of asynchronous validators to the JavaFX application
+ * thread (or to the thread of a headless validation context) in batches.
+ * <p>
+ * Submitted commands are pushed onto a lock-free stack. The first command that is pushed onto an empty stack
+ * schedules a single drain task with the dispatch executor (by default, {@link Platform#runLater}), which takes
+ * all commands that were submitted up to that point and runs them in submission order. The commands are run in
+ * a {@link ValidationBatch} that coalesces validator completions, which ensures that a validation helper fires
+ * its change notifications only once per batch, instead of once for every completed validator.
+ */
+public final class CoalescingCompletionExecutor implements Executor {
+
+    public static final CoalescingCompletionExecutor INSTANCE = new CoalescingCompletionExecutor(Platform::runLater);
+
+    private static final class Node {
+        final Runnable command;
+        Node next;
+
+        Node(Runnable command) {
+            this.command = command;
+        }
+    }
+
+    private final AtomicReference<Node> head = new AtomicReference<>();
+    private final Executor dispatcher;
+
+    /**
+     * Creates a completion executor that runs the drain task with the specified executor.
+     */
+    public CoalescingCompletionExecutor(Executor dispatcher) {
+        this.dispatcher = Objects.requireNonNull(dispatcher, "dispatcher");
+    }
+
+    /**
+     * Resolves the completion executor of a constraint for a validation run that is started on the current thread.
+     * If the specified executor is this executor, returns the completion executor of the current
+     * {@link ValidationContext}; otherwise, returns the specified executor.
+     */
+    public static Executor resolve(Executor executor) {
+        return executor == INSTANCE ? ValidationContext.getCurrent().getCompletionExecutor() : executor;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        Node node = new Node(Objects.requireNonNull(command, "command"));
+        Node next;
+
+        do {
+            next = head.get();
+            node.next = next;
+        } while (!head.compareAndSet(next, node));
+
+        if (next == null) {
+            dispatcher.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        // The stack holds the commands in reverse submission order.
+        Node node = head.getAndSet(null);
+        Node reversed = null;
+
+        while (node != null) {
+            Node next = node.next;
+            node.next = reversed;
+            reversed = node;
+            node = next;
+        }
+
+        Node first = reversed;
+
+        ValidationBatch.runCompletions(() -> {
+            for (Node current = first; current != null; current = current.next) {
+                try {
+                    current.command.run();
+                } catch (Throwable ex) {
+                    Logger.error("Exception in completion handler", ex);
+                }
+            }
+        });
+    }
+
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import org.jfxcore.validation.ValidationResult;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Limits the number of concurrently running validation runs of asynchronous constraints.
+ * <p>
+ * Validation runs that exceed the limit are deferred in a first-in-first-out queue, and are started
+ * when a running validation run has completed. If a deferred validation run is cancelled before it has
+ * started, for example because the element was removed or validated again, it is dropped from the queue.
+ * <p>
+ * A validation run releases its slot when its future completes. The tasks of the built-in asynchronous
+ * constraints ({@link ValidateTaskBase}) only complete when the validation function has returned, even if
+ * they are cancelled while running, so the limit also bounds the number of tasks that are still running
+ * after cancellation. The futures of custom constraints may complete as soon as they are cancelled; in this
+ * case, the limit only counts validation runs that stop running when they are cancelled.
+ * <p>
+ * This class is not thread-safe: validation runs must be submitted on the thread that owns the validated
+ * values, and the completion of a validation run is observed with the completion executor of its constraint.
+ */
+public final class ConcurrencyLimiter {
+
+    private final ArrayDeque<PendingRun<?>> queue = new ArrayDeque<>();
+    private int maxConcurrency;
+    private int runningCount;
+    private int cancelledCount;
+    private boolean draining;
+
+    public ConcurrencyLimiter(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Sets the maximum number of concurrently running validation runs, and starts as many
+     * deferred validation runs as allowed by the new limit.
+     */
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+        drain();
+    }
+
+    public int getRunningCount() {
+        return runningCount;
+    }
+
+    /**
+     * Gets the number of deferred validation runs that were not cancelled.
+     */
+    public int getQueueSize() {
+        return queue.size() - cancelledCount;
+    }
+
+    /**
+     * Starts a validation run, or defers it if the maximum number of validation runs are already running.
+     *
+     * @param validationRun starts the validation run and returns its future
+     * @param completionExecutor the completion executor of the constraint
+     * @return the future of the validation run, or a future that completes with the deferred validation run
+     */
+    public <D> CompletableFuture<ValidationResult<D>> submit(
+            Supplier<CompletableFuture<ValidationResult<D>>> validationRun, Executor completionExecutor) {
+        if (runningCount < maxConcurrency && queue.isEmpty()) {
+            return start(validationRun, completionExecutor);
+        }
+
+        var pendingRun = new PendingRun<>(validationRun, completionExecutor);
+        queue.add(pendingRun);
+        return pendingRun;
+    }
+
+    /**
+     * Applies the decorator to the specified future when its validation run has started. If the future is
+     * a deferred validation run of a {@code ConcurrencyLimiter}, the decorator is applied to the future of
+     * the validation run when it is started by the limiter, and the deferred validation run is returned.
+     * Otherwise, the decorator is applied immediately.
+     * <p>
+     * This allows callers to apply a deadline that doesn't include the time that a validation run spends
+     * in the queue of a limiter.
+     */
+    @SuppressWarnings("unchecked")
+    public static <D> CompletableFuture<ValidationResult<D>> decorateOnStart(
+            CompletableFuture<ValidationResult<D>> future,
+            UnaryOperator<CompletableFuture<ValidationResult<D>>> decorator) {
+        if (future instanceof ConcurrencyLimiter.PendingRun<?> pendingRun && pendingRun.future == null) {
+            ((PendingRun<D>)pendingRun).decorator = decorator;
+            return future;
+        }
+
+        return decorator.apply(future);
+    }
+
+    /**
+     * If the specified future is a deferred validation run that has been started, returns the future of
+     * the validation run. Otherwise, returns the specified future. This allows callers to inspect the
+     * timings of a {@link ValidateTaskBase} without the time that it has spent in the queue of a limiter.
+     */
+    public static CompletableFuture<?> unwrap(CompletableFuture<?> future) {
+        return future instanceof ConcurrencyLimiter.PendingRun<?> pendingRun && pendingRun.future != null ?
+            pendingRun.future : future;
+    }
+
+    /**
+     * If the specified future is a deferred validation run, returns the time at which it was started by the
+     * limiter, or the current time if it was not started. Otherwise, returns the specified start time.
+     */
+    public static long getStartTime(CompletableFuture<?> future, long startTime) {
+        if (future instanceof ConcurrencyLimiter.PendingRun<?> pendingRun) {
+            return pendingRun.future != null ? pendingRun.startTime : System.nanoTime();
+        }
+
+        return startTime;
+    }
+
+    private <D> CompletableFuture<ValidationResult<D>> start(
+            Supplier<CompletableFuture<ValidationResult<D>>> validationRun, Executor completionExecutor) {
+        CompletableFuture<ValidationResult<D>> future = null;
+        ++runningCount;
+
+        try {
+            future = validationRun.get();
+        } finally {
+            if (future == null || future.isDone()) {
+                release();
+            } else {
+                future.whenCompleteAsync((result, exception) -> release(), completionExecutor);
+            }
+        }
+
+        return future;
+    }
+
+    private void release() {
+        --runningCount;
+        drain();
+    }
+
+    private void drain() {
+        // Validation runs that complete immediately release their slot while we're still
+        // in this loop, so we don't need to recurse into drain() in that case.
+        if (draining) {
+            return;
+        }
+
+        draining = true;
+
+        try {
+            while (runningCount < maxConcurrency) {
+                PendingRun<?> pendingRun = queue.poll();
+                if (pendingRun == null) {
+                    break;
+                }
+
+                if (pendingRun.isDone()) {
+                    --cancelledCount;
+                } else {
+                    pendingRun.start();
+                }
+            }
+        } finally {
+            draining = false;
+        }
+    }
+
+    private final class PendingRun<D> extends CompletableFuture<ValidationResult<D>> {
+        final Supplier<CompletableFuture<ValidationResult<D>>> validationRun;
+        final Executor completionExecutor;
+        UnaryOperator<CompletableFuture<ValidationResult<D>>> decorator;
+        CompletableFuture<ValidationResult<D>> future;
+        long startTime;
+
+        PendingRun(Supplier<CompletableFuture<ValidationResult<D>>> validationRun, Executor completionExecutor) {
+            this.validationRun = validationRun;
+            this.completionExecutor = completionExecutor;
+        }
+
+        void start() {
+            startTime = System.nanoTime();
+
+            try {
+                future = ConcurrencyLimiter.this.start(validationRun, completionExecutor);
+
+                if (future != null && decorator != null) {
+                    future = decorator.apply(future);
+                }
+            } catch (Throwable ex) {
+                completeExceptionally(ex);
+                return;
+            }
+
+            if (future == null) {
+                completeExceptionally(new NullPointerException("Constraint validator returned null"));
+            } else {
+                future.whenComplete((result, exception) -> {
+                    if (exception != null) {
+                        completeExceptionally(exception);
+                    } else {
+                        complete(result);
+                    }
+                });
+            }
+        }
+
+        /**
+         * A deferred validation run is dropped from the queue when it is cancelled. When the validation
+         * run has already started, cancellation is delegated to its future, which allows the constraint
+         * to decide whether it can be cancelled.
+         */
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (future != null) {
+                return future.cancel(mayInterruptIfRunning);
+            }
+
+            if (super.cancel(mayInterruptIfRunning)) {
+                ++cancelledCount;
+                return true;
+            }
+
+            return false;
+        }
+    }
+
+}
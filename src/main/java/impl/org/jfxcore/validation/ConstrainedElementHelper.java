@@ -22,6 +22,7 @@
 package impl.org.jfxcore.validation;
 
 import org.jfxcore.validation.ConstrainedElement;
+import org.jfxcore.validation.ValidationResult;
 
 public class ConstrainedElementHelper {
 
@@ -51,10 +52,20 @@ public class ConstrainedElementHelper {
         accessor.validate(element);
     }
 
+    static  <T, D> void validate(ConstrainedElement<T, D> element, int[] constraintIndices) {
+        accessor.validate(element, constraintIndices);
+    }
+
+    static  <T, D> void validate(ConstrainedElement<T, D> element, ValidationResult<?>[] results) {
+        accessor.validate(element, results);
+    }
+
     public interface Accessor {
         <T, D> ConstrainedElement<T, D> newInstance(T value, ElementValidationHelper<T, D> validationHelper);
         <T, D> void dispose(ConstrainedElement<T, D> element);
         <T, D> void validate(ConstrainedElement<T, D> element);
+        <T, D> void validate(ConstrainedElement<T, D> element, int[] constraintIndices);
+        <T, D> void validate(ConstrainedElement<T, D> element, ValidationResult<?>[] results);
     }
 
 }
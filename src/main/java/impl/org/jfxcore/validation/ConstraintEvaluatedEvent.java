@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("org.jfxcore.validation.ConstraintEvaluated")
+@Label("Constraint Evaluated")
+@Category({"JFXcore", "Validation"})
+@Description("Evaluation of a constraint, from the start of the validation run to the delivery of its result")
+@Enabled(false)
+@StackTrace(false)
+final class ConstraintEvaluatedEvent extends Event {
+
+    @Label("Constraint Class")
+    Class<?> constraintClass;
+
+    @Label("Bean Class")
+    Class<?> beanClass;
+
+    @Label("Property Name")
+    String propertyName;
+
+    @Label("Asynchronous")
+    boolean async;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Queue Time")
+    @Description("Time the validation task was waiting in the queue of its executor")
+    @Timespan(Timespan.NANOSECONDS)
+    long queueTime;
+
+    @Label("Execution Time")
+    @Description("Time the validation task was running")
+    @Timespan(Timespan.NANOSECONDS)
+    long executionTime;
+
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import org.jfxcore.validation.ConstrainedElement;
+import org.jfxcore.validation.Constraint;
+import org.jfxcore.validation.CrossElementConstraint;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hash index over the keys of the elements of a collection, which is used to evaluate a
+ * {@link CrossElementConstraint}. Elements that share a key are kept in a group, so that adding
+ * or removing an element only requires the other elements of its group to be validated again.
+ *
+ * @param <T> data type
+ * @param <D> diagnostic type
+ */
+public final class CrossElementIndex<T, D> {
+
+    /**
+     * Creates an index for each {@link CrossElementConstraint} in the specified array of constraints.
+     * The returned array is {@code null} if there are no cross-element constraints; otherwise, it has
+     * the same length as {@code constraints}, and contains {@code null} for all other constraints.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, D> CrossElementIndex<T, D>[] of(Constraint<? super T, D>[] constraints) {
+        CrossElementIndex<T, D>[] indices = null;
+
+        for (int i = 0; i < constraints.length; ++i) {
+            if (constraints[i] instanceof CrossElementConstraint<?, ?, ?> constraint) {
+                if (indices == null) {
+                    indices = new CrossElementIndex[constraints.length];
+                }
+
+                indices[i] = new CrossElementIndex<>((CrossElementConstraint<? super T, ?, D>)constraint);
+            }
+        }
+
+        return indices;
+    }
+
+    /**
+     * Removes all elements from the specified indices. This is used when all elements of a
+     * collection are discarded, which doesn't require the remaining elements to be validated.
+     */
+    public static void clear(CrossElementIndex<?, ?>[] indices) {
+        if (indices != null) {
+            for (CrossElementIndex<?, ?> index : indices) {
+                if (index != null) {
+                    index.groups.clear();
+                    index.members.clear();
+                }
+            }
+        }
+    }
+
+    private final CrossElementConstraint<? super T, ?, D> constraint;
+    private final Map<Object, List<ConstrainedElement<T, D>>> groups = new HashMap<>();
+    private final Map<ConstrainedElement<T, D>, List<ConstrainedElement<T, D>>> members = new IdentityHashMap<>();
+
+    private CrossElementIndex(CrossElementConstraint<? super T, ?, D> constraint) {
+        this.constraint = constraint;
+    }
+
+    public boolean contains(ConstrainedElement<T, D> element) {
+        return members.containsKey(element);
+    }
+
+    /**
+     * Adds the element to the index, and returns the other elements that have the same key.
+     */
+    public List<ConstrainedElement<T, D>> add(ConstrainedElement<T, D> element) {
+        Object key = getKey(element);
+        List<ConstrainedElement<T, D>> group;
+
+        if (key == null) {
+            // Elements with a null key are not indexed, and form a group of their own.
+            group = new ArrayList<>(1);
+        } else {
+            group = groups.computeIfAbsent(key, k -> new ArrayList<>(1));
+        }
+
+        group.add(element);
+        members.put(element, group);
+        return peersOf(element, group);
+    }
+
+    /**
+     * Removes the element from the index, and returns the remaining elements that have the same key.
+     */
+    public List<ConstrainedElement<T, D>> remove(ConstrainedElement<T, D> element) {
+        List<ConstrainedElement<T, D>> group = members.remove(element);
+        if (group == null) {
+            return List.of();
+        }
+
+        group.remove(element);
+
+        if (group.isEmpty()) {
+            Object key = getKey(element);
+            if (key != null && groups.get(key) == group) {
+                groups.remove(key);
+            }
+        }
+
+        return peersOf(null, group);
+    }
+
+    /**
+     * Returns a view of the values of all elements that have the same key as the specified element,
+     * including the element itself.
+     */
+    public List<T> getPeerValues(ConstrainedElement<T, D> element) {
+        List<ConstrainedElement<T, D>> group = members.get(element);
+        if (group == null) {
+            return List.of();
+        }
+
+        return new AbstractList<>() {
+            @Override
+            public T get(int index) {
+                return group.get(index).getValue();
+            }
+
+            @Override
+            public int size() {
+                return group.size();
+            }
+        };
+    }
+
+    private Object getKey(ConstrainedElement<T, D> element) {
+        try {
+            return constraint.getKey(element.getValue());
+        } catch (Throwable ex) {
+            Logger.error("Exception in constraint " + constraint.getClass().getName(), ex);
+            return null;
+        }
+    }
+
+    private static <T, D> List<ConstrainedElement<T, D>> peersOf(
+            ConstrainedElement<T, D> element, List<ConstrainedElement<T, D>> group) {
+        if (group.isEmpty() || group.size() == 1 && group.get(0) == element) {
+            return List.of();
+        }
+
+        List<ConstrainedElement<T, D>> peers = new ArrayList<>(group.size());
+        for (ConstrainedElement<T, D> peer : group) {
+            if (peer != element) {
+                peers.add(peer);
+            }
+        }
+
+        return peers;
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import org.jfxcore.validation.ValidationResult;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * A future that completes with the result of another future, or with a fallback result if the other
+ * future has not completed before a deadline.
+ * <p>
+ * When the deadline has passed, the future completes with the result of the fallback supplier, or with a
+ * {@link TimeoutException} if no fallback supplier was specified, and the other future is cancelled with
+ * {@code mayInterruptIfRunning = true}. The fallback supplier is invoked on the thread of the
+ * {@link ValidationTimer}, so it must return quickly. Cancellation requests are forwarded to the other future.
+ *
+ * @param <D> diagnostic type
+ */
+public final class DeadlineFuture<D> extends CompletableFuture<ValidationResult<D>> {
+
+    private final CompletableFuture<ValidationResult<D>> delegate;
+    private final Supplier<ValidationResult<D>> onTimeout;
+    private final ScheduledFuture<?> timer;
+
+    private DeadlineFuture(
+            CompletableFuture<ValidationResult<D>> delegate, long timeout, Supplier<ValidationResult<D>> onTimeout) {
+        this.delegate = delegate;
+        this.onTimeout = onTimeout;
+        this.timer = ValidationTimer.schedule(this::expire, timeout);
+    }
+
+    /**
+     * Returns a future that completes with the result of the specified future, or when the timeout has elapsed.
+     * If the specified future has already completed, it is returned directly.
+     *
+     * @param future the future
+     * @param timeout the timeout in nanoseconds
+     * @param onTimeout supplies the result when the timeout has elapsed, or {@code null}
+     * @return the new future
+     */
+    public static <D> CompletableFuture<ValidationResult<D>> of(
+            CompletableFuture<ValidationResult<D>> future, long timeout, Supplier<ValidationResult<D>> onTimeout) {
+        if (future.isDone()) {
+            return future;
+        }
+
+        var deadlineFuture = new DeadlineFuture<>(future, timeout, onTimeout);
+
+        future.whenComplete((result, exception) -> {
+            deadlineFuture.timer.cancel(false);
+
+            if (exception != null) {
+                deadlineFuture.completeExceptionally(exception);
+            } else {
+                deadlineFuture.complete(result);
+            }
+        });
+
+        return deadlineFuture;
+    }
+
+    /**
+     * If the specified future is a {@code DeadlineFuture} whose wrapped future has completed, returns
+     * the wrapped future. Otherwise, returns the specified future. This allows callers to inspect the
+     * timings of a {@link ValidateTaskBase} that is wrapped in a {@code DeadlineFuture}.
+     */
+    public static CompletableFuture<?> unwrap(CompletableFuture<?> future) {
+        return future instanceof DeadlineFuture<?> deadlineFuture && deadlineFuture.delegate.isDone() ?
+            deadlineFuture.delegate : future;
+    }
+
+    private void expire() {
+        boolean expired;
+
+        if (onTimeout == null) {
+            expired = completeExceptionally(new TimeoutException("Validation timed out"));
+        } else {
+            try {
+                expired = complete(onTimeout.get());
+            } catch (Throwable ex) {
+                expired = completeExceptionally(ex);
+            }
+        }
+
+        if (expired) {
+            delegate.cancel(true);
+        }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return delegate.cancel(mayInterruptIfRunning);
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import javafx.beans.Observable;
+import org.jfxcore.validation.Constraint;
+import org.jfxcore.validation.ValidationContext;
+import org.jfxcore.validation.ValidationResult;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * A constraint that waits for a quiet period before it invokes another constraint.
+ * <p>
+ * The future that is returned by {@link #validate(Object)} is not completed until the wrapped constraint has
+ * completed, so the validation system reports the <em>validating</em> state immediately. If the future is cancelled
+ * during the quiet period, it transitions into the cancelled state immediately and the wrapped constraint is never
+ * invoked. Since the validation system cancels the previous validation run when a property value changes, a burst
+ * of changes that are closer together than the quiet period only results in a single invocation of the wrapped
+ * constraint. When the wrapped constraint was already invoked, cancellation requests are forwarded to the
+ * future returned by the wrapped constraint.
+ * <p>
+ * The wrapped constraint is invoked on the thread of the completion executor, which is usually the thread of
+ * the current {@link ValidationContext}. This ensures that the wrapped constraint can safely read its dependencies.
+ *
+ * @param <T> data type
+ * @param <D> diagnostic type
+ */
+public final class DebouncingConstraint<T, D> implements Constraint<T, D> {
+
+    private final Constraint<T, D> constraint;
+    private final Executor completionExecutor;
+    private final long quietPeriod;
+
+    /**
+     * Creates a new {@code DebouncingConstraint}.
+     *
+     * @param constraint the wrapped constraint
+     * @param quietPeriod the quiet period in nanoseconds
+     */
+    public DebouncingConstraint(Constraint<T, D> constraint, long quietPeriod) {
+        this.constraint = Objects.requireNonNull(constraint, "constraint");
+        this.quietPeriod = quietPeriod;
+
+        Executor executor = constraint.getCompletionExecutor();
+        this.completionExecutor = executor != null ? executor : CoalescingCompletionExecutor.INSTANCE;
+    }
+
+    @Override
+    public CompletableFuture<ValidationResult<D>> validate(T value) {
+        return new DebouncedRun(value);
+    }
+
+    @Override
+    public Executor getCompletionExecutor() {
+        return completionExecutor;
+    }
+
+    @Override
+    public Observable[] getDependencies() {
+        return constraint.getDependencies();
+    }
+
+    private final class DebouncedRun extends CompletableFuture<ValidationResult<D>> implements Runnable {
+        private final T value;
+        private final ScheduledFuture<?> timer;
+        private CompletableFuture<ValidationResult<D>> future;
+
+        DebouncedRun(T value) {
+            this.value = value;
+            Executor executor = CoalescingCompletionExecutor.resolve(completionExecutor);
+            this.timer = ValidationTimer.schedule(() -> executor.execute(this), quietPeriod);
+        }
+
+        /**
+         * Invokes the wrapped constraint on the completion executor after the quiet period has elapsed.
+         */
+        @Override
+        public void run() {
+            CompletableFuture<ValidationResult<D>> future;
+
+            synchronized (this) {
+                if (isDone()) {
+                    return;
+                }
+
+                try {
+                    future = constraint.validate(value);
+                } catch (Throwable ex) {
+                    completeExceptionally(ex);
+                    return;
+                }
+
+                if (future == null) {
+                    completeExceptionally(new NullPointerException(
+                        "Constraint validator " + constraint.getClass().getName() + " returned null"));
+                    return;
+                }
+
+                this.future = future;
+            }
+
+            future.whenComplete((result, exception) -> {
+                if (exception != null) {
+                    completeExceptionally(exception);
+                } else {
+                    complete(result);
+                }
+            });
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            CompletableFuture<ValidationResult<D>> future;
+
+            synchronized (this) {
+                future = this.future;
+
+                if (future == null) {
+                    timer.cancel(false);
+                    return super.cancel(mayInterruptIfRunning);
+                }
+            }
+
+            return future.cancel(mayInterruptIfRunning);
+        }
+    }
+
+}
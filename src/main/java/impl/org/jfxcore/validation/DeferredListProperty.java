@@ -21,9 +21,11 @@
 
 package impl.org.jfxcore.validation;
 
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.ReadOnlyListPropertyBase;
+import javafx.beans.value.ChangeListener;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableListBase;
@@ -43,6 +45,8 @@ public abstract class DeferredListProperty<E>
     private ObservableList<E> newList;
     private CollectionSizeProperty size0;
     private CollectionEmptyProperty empty0;
+    private final ObserverList observers = new ObserverList();
+    private ValidationHelper<?, ?> validationHelper;
 
     public DeferredListProperty(ObservableList<E> initialValue) {
         if (initialValue != null) {
@@ -53,8 +57,14 @@ public abstract class DeferredListProperty<E>
 
     protected abstract ListChange.ReplacedRange<E> getListChange();
 
+    @Override
+    public void setValidationHelper(ValidationHelper<?, ?> validationHelper) {
+        this.validationHelper = validationHelper;
+    }
+
     @Override
     public ObservableList<E> get() {
+        ValidationHelper.valueRead(validationHelper);
         return backingList;
     }
 
@@ -80,6 +90,42 @@ public abstract class DeferredListProperty<E>
         }
     }
 
+    @Override
+    public void addListener(InvalidationListener listener) {
+        super.addListener(listener);
+        observers.add(listener, validationHelper);
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        super.removeListener(listener);
+        observers.remove(listener, validationHelper);
+    }
+
+    @Override
+    public void addListener(ChangeListener<? super ObservableList<E>> listener) {
+        super.addListener(listener);
+        observers.add(listener, validationHelper);
+    }
+
+    @Override
+    public void removeListener(ChangeListener<? super ObservableList<E>> listener) {
+        super.removeListener(listener);
+        observers.remove(listener, validationHelper);
+    }
+
+    @Override
+    public void addListener(ListChangeListener<? super E> listener) {
+        super.addListener(listener);
+        observers.add(listener, validationHelper);
+    }
+
+    @Override
+    public void removeListener(ListChangeListener<? super E> listener) {
+        super.removeListener(listener);
+        observers.remove(listener, validationHelper);
+    }
+
     @Override
     public ReadOnlyIntegerProperty sizeProperty() {
         if (size0 == null) {
@@ -21,7 +21,9 @@
 
 package impl.org.jfxcore.validation;
 
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.ReadOnlyLongPropertyBase;
+import javafx.beans.value.ChangeListener;
 
 public abstract class DeferredLongProperty
         extends ReadOnlyLongPropertyBase
@@ -29,14 +31,22 @@ public abstract class DeferredLongProperty
 
     private long value;
     private long newValue;
+    private final ObserverList observers = new ObserverList();
+    private ValidationHelper<?, ?> validationHelper;
 
     public DeferredLongProperty(long initialValue) {
         this.value = initialValue;
         this.newValue = initialValue;
     }
 
+    @Override
+    public void setValidationHelper(ValidationHelper<?, ?> validationHelper) {
+        this.validationHelper = validationHelper;
+    }
+
     @Override
     public long get() {
+        ValidationHelper.valueRead(validationHelper);
         return value;
     }
 
@@ -53,4 +63,28 @@ public abstract class DeferredLongProperty
         }
     }
 
+    @Override
+    public void addListener(InvalidationListener listener) {
+        super.addListener(listener);
+        observers.add(listener, validationHelper);
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        super.removeListener(listener);
+        observers.remove(listener, validationHelper);
+    }
+
+    @Override
+    public void addListener(ChangeListener<? super Number> listener) {
+        super.addListener(listener);
+        observers.add(listener, validationHelper);
+    }
+
+    @Override
+    public void removeListener(ChangeListener<? super Number> listener) {
+        super.removeListener(listener);
+        observers.remove(listener, validationHelper);
+    }
+
 }
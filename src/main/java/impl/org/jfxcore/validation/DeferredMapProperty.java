@@ -21,9 +21,11 @@
 
 package impl.org.jfxcore.validation;
 
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.ReadOnlyMapPropertyBase;
+import javafx.beans.value.ChangeListener;
 import javafx.collections.FXCollections;
 import javafx.collections.MapChangeListener;
 import javafx.collections.ObservableMap;
@@ -44,6 +46,8 @@ public abstract class DeferredMapProperty<K, V>
     private ObservableMap<K, V> newMap;
     private MapSizeProperty size0;
     private MapEmptyProperty empty0;
+    private final ObserverList observers = new ObserverList();
+    private ValidationHelper<?, ?> validationHelper;
 
     public DeferredMapProperty(Map<K, V> initialValue) {
         if (initialValue != null) {
@@ -55,8 +59,14 @@ public abstract class DeferredMapProperty<K, V>
 
     protected abstract MapChange<K, V> getMapChange();
 
+    @Override
+    public void setValidationHelper(ValidationHelper<?, ?> validationHelper) {
+        this.validationHelper = validationHelper;
+    }
+
     @Override
     public ObservableMap<K, V> get() {
+        ValidationHelper.valueRead(validationHelper);
         return unmodifiableSet;
     }
 
@@ -92,6 +102,42 @@ public abstract class DeferredMapProperty<K, V>
         }
     }
 
+    @Override
+    public void addListener(InvalidationListener listener) {
+        super.addListener(listener);
+        observers.add(listener, validationHelper);
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        super.removeListener(listener);
+        observers.remove(listener, validationHelper);
+    }
+
+    @Override
+    public void addListener(ChangeListener<? super ObservableMap<K, V>> listener) {
+        super.addListener(listener);
+        observers.add(listener, validationHelper);
+    }
+
+    @Override
+    public void removeListener(ChangeListener<? super ObservableMap<K, V>> listener) {
+        super.removeListener(listener);
+        observers.remove(listener, validationHelper);
+    }
+
+    @Override
+    public void addListener(MapChangeListener<? super K, ? super V> listener) {
+        super.addListener(listener);
+        observers.add(listener, validationHelper);
+    }
+
+    @Override
+    public void removeListener(MapChangeListener<? super K, ? super V> listener) {
+        super.removeListener(listener);
+        observers.remove(listener, validationHelper);
+    }
+
     @Override
     public ReadOnlyIntegerProperty sizeProperty() {
         if (size0 == null) {
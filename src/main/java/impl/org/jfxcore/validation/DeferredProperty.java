@@ -37,4 +37,10 @@ public interface DeferredProperty<T> extends ReadOnlyProperty<T> {
      */
     void applyValue();
 
+    /**
+     * Sets the validation helper that is notified when the value of this property is read,
+     * and when listeners are added to or removed from this property.
+     */
+    void setValidationHelper(ValidationHelper<?, ?> validationHelper);
+
 }
@@ -21,9 +21,11 @@
 
 package impl.org.jfxcore.validation;
 
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.ReadOnlySetPropertyBase;
+import javafx.beans.value.ChangeListener;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableSet;
 import javafx.collections.SetChangeListener;
@@ -44,6 +46,8 @@ public abstract class DeferredSetProperty<E>
     private ObservableSet<E> newSet;
     private CollectionSizeProperty size0;
     private CollectionEmptyProperty empty0;
+    private final ObserverList observers = new ObserverList();
+    private ValidationHelper<?, ?> validationHelper;
 
     public DeferredSetProperty(Set<E> initialValue) {
         if (initialValue != null) {
@@ -55,8 +59,14 @@ public abstract class DeferredSetProperty<E>
 
     protected abstract SetChange<E> getSetChange();
 
+    @Override
+    public void setValidationHelper(ValidationHelper<?, ?> validationHelper) {
+        this.validationHelper = validationHelper;
+    }
+
     @Override
     public ObservableSet<E> get() {
+        ValidationHelper.valueRead(validationHelper);
         return unmodifiableSet;
     }
 
@@ -92,6 +102,42 @@ public abstract class DeferredSetProperty<E>
         }
     }
 
+    @Override
+    public void addListener(InvalidationListener listener) {
+        super.addListener(listener);
+        observers.add(listener, validationHelper);
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        super.removeListener(listener);
+        observers.remove(listener, validationHelper);
+    }
+
+    @Override
+    public void addListener(ChangeListener<? super ObservableSet<E>> listener) {
+        super.addListener(listener);
+        observers.add(listener, validationHelper);
+    }
+
+    @Override
+    public void removeListener(ChangeListener<? super ObservableSet<E>> listener) {
+        super.removeListener(listener);
+        observers.remove(listener, validationHelper);
+    }
+
+    @Override
+    public void addListener(SetChangeListener<? super E> listener) {
+        super.addListener(listener);
+        observers.add(listener, validationHelper);
+    }
+
+    @Override
+    public void removeListener(SetChangeListener<? super E> listener) {
+        super.removeListener(listener);
+        observers.remove(listener, validationHelper);
+    }
+
     @Override
     public ReadOnlyIntegerProperty sizeProperty() {
         if (size0 == null) {
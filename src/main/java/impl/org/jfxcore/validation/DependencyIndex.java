@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import javafx.beans.Observable;
+import org.jfxcore.validation.ConstraintBase;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Maps each dependency of a list of constraints to the indices of the constraints that depend on it.
+ * <p>
+ * Dependencies are compared by identity, which allows a validation helper to route a dependency
+ * invalidation to the affected constraints without scanning the dependencies of all constraints.
+ */
+final class DependencyIndex {
+
+    static final DependencyIndex EMPTY = new DependencyIndex(Map.of());
+
+    private final Map<Observable, int[]> index;
+
+    private DependencyIndex(Map<Observable, int[]> index) {
+        this.index = index;
+    }
+
+    /**
+     * Creates a dependency index for the specified constraints.
+     * The returned indices correspond to the positions of the constraints in the array.
+     */
+    static DependencyIndex of(ConstraintBase<?, ?>[] constraints) {
+        Map<Observable, int[]> index = null;
+
+        for (int i = 0; i < constraints.length; ++i) {
+            Observable[] dependencies = constraints[i].getDependencies();
+            if (dependencies == null) {
+                continue;
+            }
+
+            for (Observable dependency : dependencies) {
+                if (dependency == null) {
+                    continue;
+                }
+
+                if (index == null) {
+                    index = new IdentityHashMap<>();
+                }
+
+                int[] indices = index.get(dependency);
+                if (indices == null) {
+                    index.put(dependency, new int[] {i});
+                } else if (indices[indices.length - 1] != i) {
+                    indices = Arrays.copyOf(indices, indices.length + 1);
+                    indices[indices.length - 1] = i;
+                    index.put(dependency, indices);
+                }
+            }
+        }
+
+        return index != null ? new DependencyIndex(index) : EMPTY;
+    }
+
+    /**
+     * Returns the indices of the constraints that depend on the specified dependency in ascending order,
+     * or {@code null} if no constraint depends on it.
+     */
+    int[] get(Observable dependency) {
+        return index.get(dependency);
+    }
+
+    boolean contains(Observable dependency) {
+        return index.containsKey(dependency);
+    }
+
+    Set<Observable> dependencies() {
+        return index.keySet();
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import org.jfxcore.validation.ConstrainedElement;
+import org.jfxcore.validation.ValidationState;
+
+/**
+ * Counts the {@link ConstrainedElement elements} of a constrained collection that are invalid, or whose
+ * validation state is unknown. This allows validation helpers to compute the combined validation state
+ * of all elements in constant time, instead of iterating over all elements.
+ */
+final class ElementStateCounter {
+
+    private int invalidCount;
+    private int unknownCount;
+
+    /**
+     * Updates the counters when the validation state of an element has changed.
+     * When an element is added, {@code oldState} is {@code null}; when it is removed,
+     * {@code newState} is {@code null}.
+     */
+    void update(ValidationState oldState, ValidationState newState) {
+        if (oldState != newState) {
+            adjust(oldState, -1);
+            adjust(newState, 1);
+        }
+    }
+
+    private void adjust(ValidationState state, int delta) {
+        if (state == ValidationState.INVALID) {
+            invalidCount += delta;
+        } else if (state == ValidationState.UNKNOWN) {
+            unknownCount += delta;
+        }
+    }
+
+    /**
+     * Returns the combined validation state of all elements, which is
+     * <ol>
+     *     <li>{@link ValidationState#INVALID} if at least one element is invalid,
+     *     <li>{@link ValidationState#UNKNOWN} if at least one element is neither valid nor invalid,
+     *     <li>{@link ValidationState#VALID} otherwise.
+     * </ol>
+     */
+    ValidationState getValidationState() {
+        if (invalidCount > 0) {
+            return ValidationState.INVALID;
+        }
+
+        return unknownCount > 0 ? ValidationState.UNKNOWN : ValidationState.VALID;
+    }
+
+}
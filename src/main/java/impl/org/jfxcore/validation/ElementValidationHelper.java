@@ -21,7 +21,14 @@
 
 package impl.org.jfxcore.validation;
 
+import org.jfxcore.validation.ConcurrencyLimit;
 import org.jfxcore.validation.Constraint;
+import org.jfxcore.validation.CrossElementConstraint;
+import org.jfxcore.validation.ParallelValidation;
+import org.jfxcore.validation.SupersessionMode;
+import org.jfxcore.validation.ValidationState;
+import org.jfxcore.validation.metrics.ValidationMetrics;
+import org.jfxcore.validation.property.ReadOnlyConstrainedProperty;
 
 /**
  * Common interface for {@link ListValidationHelper}, {@link SetValidationHelper} and {@link MapValidationHelper}.
@@ -31,8 +38,38 @@ import org.jfxcore.validation.Constraint;
  */
 public interface ElementValidationHelper<T, D> {
 
+    ReadOnlyConstrainedProperty<?, D> getObservable();
+
+    ValidationMetrics getMetrics();
+
     Constraint<? super T, D>[] getElementConstraints();
 
+    /**
+     * Returns the index of the {@link CrossElementConstraint} at the specified position of the
+     * element constraints, or {@code null} if the constraint is not a {@code CrossElementConstraint}.
+     */
+    CrossElementIndex<T, D> getCrossElementIndex(int constraintIndex);
+
+    ParallelValidation getParallelValidation();
+
+    /**
+     * Returns the limiter for asynchronous element validations, or {@code null} if no
+     * {@link ConcurrencyLimit} was set for the property.
+     */
+    ConcurrencyLimiter getConcurrencyLimiter();
+
+    /**
+     * Returns the {@link SupersessionMode} of the property, or {@code null} if the property
+     * uses the default supersession mode.
+     */
+    SupersessionMode getSupersessionMode();
+
     void notifyValidatorStateChanged(ValidatorState state, boolean intermediate);
 
+    /**
+     * Occurs when the validation state of an element has changed. When an element is created,
+     * {@code oldState} is {@code null}; when it is disposed, {@code newState} is {@code null}.
+     */
+    void notifyElementStateChanged(ValidationState oldState, ValidationState newState);
+
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import javafx.scene.Node;
+import org.jfxcore.validation.ConstraintBase;
+import org.jfxcore.validation.ValidationResult;
+import org.jfxcore.validation.property.ReadOnlyConstrainedProperty;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Emits Java Flight Recorder events for validation runs.
+ * <p>
+ * All events are disabled by default, and can be enabled in a JFR configuration with the event names
+ * {@code org.jfxcore.validation.ValidationRun}, {@code org.jfxcore.validation.ConstraintEvaluated} and
+ * {@code org.jfxcore.validation.PseudoClassUpdate}.
+ * <p>
+ * The {@code jdk.jfr} module is an optional dependency ({@code requires static}), which means that it is not
+ * resolved in a modular application unless another module requires it, or the application is launched with
+ * {@code --add-modules jdk.jfr}. In this case, no events are emitted. If the module is not available at runtime,
+ * the event classes are never loaded. For this reason, events are passed to and from this class as
+ * {@code Object}, which ensures that call sites can be verified without loading the event classes, and event
+ * types are only referenced after a {@code null} check. When an event is disabled, the {@code begin} methods
+ * return {@code null} without allocating an event instance.
+ */
+public final class FlightRecorderHelper {
+
+    private FlightRecorderHelper() {}
+
+    private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    /**
+     * Event instances that are only used to query whether the event types are enabled.
+     * This class is only initialized if the {@code jdk.jfr} module is available.
+     */
+    private static final class Probes {
+        static final ValidationRunEvent VALIDATION_RUN = new ValidationRunEvent();
+        static final ConstraintEvaluatedEvent CONSTRAINT_EVALUATED = new ConstraintEvaluatedEvent();
+        static final PseudoClassUpdateEvent PSEUDO_CLASS_UPDATE = new PseudoClassUpdateEvent();
+    }
+
+    public static Object beginValidationRun() {
+        if (AVAILABLE && Probes.VALIDATION_RUN.isEnabled()) {
+            ValidationRunEvent event = new ValidationRunEvent();
+            event.begin();
+            return event;
+        }
+
+        return null;
+    }
+
+    public static void commitValidationRun(
+            Object event, ReadOnlyConstrainedProperty<?, ?> property, int validatorCount) {
+        if (event != null) {
+            ValidationRunEvent e = (ValidationRunEvent)event;
+            e.end();
+
+            if (e.shouldCommit()) {
+                Object bean = property.getBean();
+                e.beanClass = bean != null ? bean.getClass() : null;
+                e.propertyName = property.getName();
+                e.validatorCount = validatorCount;
+                e.commit();
+            }
+        }
+    }
+
+    public static Object beginConstraintEvaluation() {
+        if (AVAILABLE && Probes.CONSTRAINT_EVALUATED.isEnabled()) {
+            ConstraintEvaluatedEvent event = new ConstraintEvaluatedEvent();
+            event.begin();
+            return event;
+        }
+
+        return null;
+    }
+
+    /**
+     * Commits a {@code ConstraintEvaluated} event that was returned by {@link #beginConstraintEvaluation()}.
+     *
+     * @param event the event, or {@code null}
+     * @param constraint the constraint
+     * @param property the property that is validated by the constraint, or {@code null}
+     * @param future the future returned by the constraint, or {@code null} if the constraint is synchronous
+     * @param result the result of the validation run
+     * @param exception the exception that was thrown by the constraint validator
+     * @param superseded indicates whether the result was discarded because another validation run was requested
+     */
+    public static void commitConstraintEvaluation(
+            Object event,
+            ConstraintBase<?, ?> constraint,
+            ReadOnlyConstrainedProperty<?, ?> property,
+            CompletableFuture<?> future,
+            ValidationResult<?> result,
+            Throwable exception,
+            boolean superseded) {
+        if (event != null) {
+            ConstraintEvaluatedEvent e = (ConstraintEvaluatedEvent)event;
+            e.end();
+
+            if (e.shouldCommit()) {
+                Object bean = property != null ? property.getBean() : null;
+                e.constraintClass = constraint.getClass();
+                e.beanClass = bean != null ? bean.getClass() : null;
+                e.propertyName = property != null ? property.getName() : null;
+                e.async = future != null;
+                e.outcome = ValidationOutcome.of(result, exception, superseded).name();
+
+                if (DeadlineFuture.unwrap(ConcurrencyLimiter.unwrap(future)) instanceof ValidateTaskBase<?, ?> task) {
+                    e.queueTime = task.getQueueTime();
+                    e.executionTime = task.getExecutionTime();
+                }
+
+                e.commit();
+            }
+        }
+    }
+
+    public static Object beginPseudoClassUpdate() {
+        if (AVAILABLE && Probes.PSEUDO_CLASS_UPDATE.isEnabled()) {
+            PseudoClassUpdateEvent event = new PseudoClassUpdateEvent();
+            event.begin();
+            return event;
+        }
+
+        return null;
+    }
+
+    public static void commitPseudoClassUpdate(Object event, Node node, String changeType, boolean value) {
+        if (event != null) {
+            PseudoClassUpdateEvent e = (PseudoClassUpdateEvent)event;
+            e.end();
+
+            if (e.shouldCommit()) {
+                e.nodeClass = node.getClass();
+                e.nodeId = node.getId();
+                e.changeType = changeType;
+                e.value = value;
+                e.commit();
+            }
+        }
+    }
+
+}
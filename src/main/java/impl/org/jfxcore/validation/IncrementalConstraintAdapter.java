@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import javafx.beans.Observable;
+import org.jfxcore.validation.ConstraintBase;
+import org.jfxcore.validation.IncrementalConstraint;
+import org.jfxcore.validation.ListConstraint;
+import org.jfxcore.validation.MapConstraint;
+import org.jfxcore.validation.SetConstraint;
+import org.jfxcore.validation.ValidationResult;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Adapts an {@link IncrementalConstraint} to a {@link ListConstraint}, {@link SetConstraint} or {@link MapConstraint}.
+ * <p>
+ * When an adapter is validated as a regular collection constraint, a new accumulator is populated with all
+ * elements of the collection. {@link ValidationHelper} recognizes adapters and keeps a single accumulator
+ * for the lifetime of the constrained collection, which is updated with the elements that are added to or
+ * removed from the collection.
+ *
+ * @param <D> diagnostic type
+ */
+public abstract class IncrementalConstraintAdapter<D> {
+
+    public static <T, D> ListConstraint<T, D> forList(IncrementalConstraint<? super T, D> constraint) {
+        return new ListAdapter<>(constraint);
+    }
+
+    public static <T, D> SetConstraint<T, D> forSet(IncrementalConstraint<? super T, D> constraint) {
+        return new SetAdapter<>(constraint);
+    }
+
+    public static <K, V, D> MapConstraint<K, V, D> forMap(IncrementalConstraint<? super V, D> constraint) {
+        return new MapAdapter<>(constraint);
+    }
+
+    private final IncrementalConstraint<?, D> constraint;
+
+    private IncrementalConstraintAdapter(IncrementalConstraint<?, D> constraint) {
+        this.constraint = Objects.requireNonNull(constraint, "constraint");
+    }
+
+    /**
+     * Returns the elements of the specified collection that are passed to the accumulator.
+     * For maps, these are the values of the map.
+     */
+    public abstract Iterable<?> getElements(Object collection);
+
+    @SuppressWarnings("unchecked")
+    public IncrementalConstraint.Accumulator<Object, D> newAccumulator() {
+        return Objects.requireNonNull(
+            (IncrementalConstraint.Accumulator<Object, D>)constraint.newAccumulator(), "accumulator");
+    }
+
+    /**
+     * Creates a new accumulator that is populated with all elements of the specified collection.
+     */
+    public IncrementalConstraint.Accumulator<Object, D> newAccumulator(Object collection) {
+        IncrementalConstraint.Accumulator<Object, D> accumulator = newAccumulator();
+        for (Object element : getElements(collection)) {
+            accumulator.add(element);
+        }
+
+        return accumulator;
+    }
+
+    public Executor getCompletionExecutor() {
+        return null;
+    }
+
+    public Observable[] getDependencies() {
+        return constraint.getDependencies();
+    }
+
+    /**
+     * Accumulators are evaluated synchronously, which is why incremental constraints
+     * always report the cost of a synchronous constraint.
+     */
+    public int getCost() {
+        return ConstraintBase.SYNC_COST;
+    }
+
+    CompletableFuture<ValidationResult<D>> validateAll(Object collection) {
+        return CompletableFuture.completedFuture(newAccumulator(collection).getResult());
+    }
+
+    private static final class ListAdapter<T, D> extends IncrementalConstraintAdapter<D> implements ListConstraint<T, D> {
+        ListAdapter(IncrementalConstraint<? super T, D> constraint) {
+            super(constraint);
+        }
+
+        @Override
+        public Iterable<?> getElements(Object collection) {
+            return collection != null ? (Collection<?>)collection : List.of();
+        }
+
+        @Override
+        public CompletableFuture<ValidationResult<D>> validate(List<? super T> value) {
+            return validateAll(value);
+        }
+    }
+
+    private static final class SetAdapter<T, D> extends IncrementalConstraintAdapter<D> implements SetConstraint<T, D> {
+        SetAdapter(IncrementalConstraint<? super T, D> constraint) {
+            super(constraint);
+        }
+
+        @Override
+        public Iterable<?> getElements(Object collection) {
+            return collection != null ? (Collection<?>)collection : List.of();
+        }
+
+        @Override
+        public CompletableFuture<ValidationResult<D>> validate(Set<? super T> value) {
+            return validateAll(value);
+        }
+    }
+
+    private static final class MapAdapter<K, V, D> extends IncrementalConstraintAdapter<D> implements MapConstraint<K, V, D> {
+        MapAdapter(IncrementalConstraint<? super V, D> constraint) {
+            super(constraint);
+        }
+
+        @Override
+        public Iterable<?> getElements(Object collection) {
+            return collection != null ? ((Map<?, ?>)collection).values() : List.of();
+        }
+
+        @Override
+        public CompletableFuture<ValidationResult<D>> validate(Map<? super K, ? super V> value) {
+            return validateAll(value);
+        }
+    }
+
+}
@@ -92,7 +92,7 @@ public class ListChangeAggregator<T> {
         } else if (change instanceof ListChange.RemovedRange<T> c) {
             removeRange(c.getFrom(), c.getRemovedSize());
         } else if (change instanceof ListChange.ReplacedRange<T> c) {
-            removeRange(c.getFrom(), c.getTo());
+            removeRange(c.getFrom(), c.getRemovedSize());
             addRange(c.getFrom(), c.getElements());
         }
     }
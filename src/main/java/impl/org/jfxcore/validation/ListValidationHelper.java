@@ -50,6 +50,9 @@ public class ListValidationHelper<T, D>
     private static final Constraint<?, ?>[] NO_CONSTRAINTS = new Constraint[0];
 
     private final Constraint<? super T, D>[] elementConstraints;
+    private final DependencyIndex elementDependencyIndex;
+    private final CrossElementIndex<T, D>[] crossElementIndices;
+    private final ElementStateCounter elementStates = new ElementStateCounter();
     private final ListChangeAggregator<T> listChangeAggregator;
     private ObservableList<ConstrainedElement<T, D>> elements;
 
@@ -83,10 +86,13 @@ public class ListValidationHelper<T, D>
         }
 
         listChangeAggregator = new ListChangeAggregator<>(constrainedValue);
+        elementDependencyIndex = DependencyIndex.of(elementConstraints);
+        crossElementIndices = CrossElementIndex.of(elementConstraints);
+        addDependencies(elementDependencyIndex);
     }
 
     @Override
-    protected ReadOnlyConstrainedListProperty<T, D> getObservable() {
+    public ReadOnlyConstrainedListProperty<T, D> getObservable() {
         return (ReadOnlyConstrainedListProperty<T, D>)super.getObservable();
     }
 
@@ -95,41 +101,38 @@ public class ListValidationHelper<T, D>
      *
      * This method starts all list validators (which are handled by the {@link ValidationHelper} superclass),
      * as well as all element validators (which are handled by {@link ConstrainedElement}).
+     * If the validation run was requested by a dependency, only the validators of constraints that
+     * depend on it are started.
      */
     @Override
     protected void onStartValidation(Observable dependency, ObservableList<T> newValue) {
         super.onStartValidation(dependency, newValue);
 
         if (elementConstraints.length > 0) {
-            for (ConstrainedElement<T, D> element : getElements()) {
-                ConstrainedElementHelper.validate(element);
+            if (dependency == getObservable()) {
+                ParallelElementValidator.validate(this, getElements());
+            } else {
+                // Only the element constraints that depend on the invalidated dependency need to run.
+                int[] constraintIndices = elementDependencyIndex.get(dependency);
+                if (constraintIndices != null) {
+                    for (ConstrainedElement<T, D> element : getElements()) {
+                        ConstrainedElementHelper.validate(element, constraintIndices);
+                    }
+                }
             }
         }
     }
 
     /**
      * Computes the combined validation state for the list as a whole, as well as all of its elements.
+     * The combined validation state of the elements is maintained incrementally by {@link ElementStateCounter}.
      */
     @Override
     protected ValidationState getValidationState() {
         return switch (super.getValidationState()) {
             case UNKNOWN -> ValidationState.UNKNOWN;
             case INVALID -> ValidationState.INVALID;
-            case VALID -> {
-                if (elements != null) {
-                    for (ConstrainedElement<T, D> element : elements) {
-                        if (element.isInvalid()) {
-                            yield ValidationState.INVALID;
-                        }
-
-                        if (!element.isValid()) {
-                            yield ValidationState.UNKNOWN;
-                        }
-                    }
-                }
-
-                yield ValidationState.VALID;
-            }
+            case VALID -> elementStates.getValidationState();
         };
     }
 
@@ -138,6 +141,16 @@ public class ListValidationHelper<T, D>
         return elementConstraints;
     }
 
+    @Override
+    public CrossElementIndex<T, D> getCrossElementIndex(int constraintIndex) {
+        return crossElementIndices != null ? crossElementIndices[constraintIndex] : null;
+    }
+
+    @Override
+    public void notifyElementStateChanged(ValidationState oldState, ValidationState newState) {
+        elementStates.update(oldState, newState);
+    }
+
     public ObservableList<ConstrainedElement<T, D>> getElements() {
         // We need to be careful to not validate the property here, so we can't call List methods
         // on getObservable() directly (doing so would validate the property)
@@ -172,32 +185,40 @@ public class ListValidationHelper<T, D>
      */
     @Override
     public void invalidated(Observable dependency) {
-        // We need to be careful to not validate the property here, so we can't call List methods
-        // on getObservable() directly (doing so would validate the property)
-        ReadOnlyConstrainedListProperty<T, D> observable = getObservable();
-        if (dependency == observable) {
-            ObservableList<T> observableList = PropertyHelper.readValue(observable);
-            if (elements != null && elements.size() > 0) {
-                listChangeAggregator.add(new ListChange.RemovedRange<>(0, elements.size()));
-                elements.forEach(ConstrainedElementHelper::dispose);
-                elements.clear();
-            }
+        setLazyValidationSuspended(true);
+
+        try {
+            // We need to be careful to not validate the property here, so we can't call List methods
+            // on getObservable() directly (doing so would validate the property)
+            ReadOnlyConstrainedListProperty<T, D> observable = getObservable();
+            if (dependency == observable) {
+                ObservableList<T> observableList = PropertyHelper.readValue(observable);
+                if (elements != null && elements.size() > 0) {
+                    // All elements are discarded, so there's no need to validate their peers.
+                    CrossElementIndex.clear(crossElementIndices);
+                    listChangeAggregator.add(new ListChange.RemovedRange<>(0, elements.size()));
+                    elements.forEach(ConstrainedElementHelper::dispose);
+                    elements.clear();
+                }
 
-            if (observableList != null && observableList.size() > 0) {
-                listChangeAggregator.add(new ListChange.AddedRange<>(0, observableList));
+                if (observableList != null && observableList.size() > 0) {
+                    listChangeAggregator.add(new ListChange.AddedRange<>(0, observableList));
 
-                if (elements != null) {
-                    List<ConstrainedElement<T, D>> list = new ArrayList<>(observableList.size());
-                    for (T value : observableList) {
-                        list.add(ConstrainedElementHelper.newInstance(value, this));
-                    }
+                    if (elements != null) {
+                        List<ConstrainedElement<T, D>> list = new ArrayList<>(observableList.size());
+                        for (T value : observableList) {
+                            list.add(ConstrainedElementHelper.newInstance(value, this));
+                        }
 
-                    elements.addAll(list);
-                } else {
-                    // Initializes the elements list and validates its elements.
-                    getElements();
+                        elements.addAll(list);
+                    } else {
+                        // Initializes the elements list and validates its elements.
+                        getElements();
+                    }
                 }
             }
+        } finally {
+            setLazyValidationSuspended(false);
         }
 
         super.invalidated(dependency);
@@ -210,10 +231,17 @@ public class ListValidationHelper<T, D>
      * for the list as a whole, as well as element validators for all list elements.
      */
     public void invalidated(ListChangeListener.Change<? extends T> change) {
-        beginQuiescence();
+        if (hasIncrementalConstraints()) {
+            applyIncrementalChanges(change);
+        }
 
         ReadOnlyConstrainedListProperty<T, D> observable = getObservable();
-        super.onStartValidation(observable, PropertyHelper.readValue(observable));
+        boolean deferred = deferValidation(observable, true);
+        beginQuiescence();
+
+        if (!deferred) {
+            super.onStartValidation(observable, PropertyHelper.readValue(observable));
+        }
 
         if (elementConstraints.length == 0) {
             aggregateChanges(change);
@@ -224,6 +252,36 @@ public class ListValidationHelper<T, D>
         endQuiescence();
     }
 
+    /**
+     * Reports the added and removed elements to the accumulators of incremental constraints.
+     * Permutations don't change the elements of the list, while updated elements can't be reported
+     * as a delta, which is why the accumulators are discarded in this case.
+     */
+    private void applyIncrementalChanges(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+
+            if (change.wasUpdated()) {
+                resetIncrementalState();
+                continue;
+            }
+
+            for (T element : change.getRemoved()) {
+                incrementalElementRemoved(element);
+            }
+
+            if (change.wasAdded()) {
+                for (T element : change.getAddedSubList()) {
+                    incrementalElementAdded(element);
+                }
+            }
+        }
+
+        change.reset();
+    }
+
     @SuppressWarnings("unchecked")
     private void aggregateChanges(ListChangeListener.Change<? extends T> change) {
         while (change.next()) {
@@ -306,9 +364,7 @@ public class ListValidationHelper<T, D>
                     }
                 }
 
-                for (int i = from; i < to; ++i) {
-                    ConstrainedElementHelper.validate(elements.get(i));
-                }
+                ParallelElementValidator.validate(this, elements.subList(from, to));
             } else if (change.wasRemoved()) {
                 if (change.getRemovedSize() == 1) {
                     listChangeAggregator.add(new ListChange.RemovedRange<>(from, change.getRemovedSize()));
@@ -337,9 +393,7 @@ public class ListValidationHelper<T, D>
                     }
                 }
 
-                for (int i = from; i < to; ++i) {
-                    ConstrainedElementHelper.validate(elements.get(i));
-                }
+                ParallelElementValidator.validate(this, elements.subList(from, to));
             }
         }
     }
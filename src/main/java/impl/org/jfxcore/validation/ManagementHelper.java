@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+package impl.org.jfxcore.validation;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Registers MBeans with the platform MBean server.
+ * <p>
+ * The {@code java.management} module is an optional dependency ({@code requires static}), so classes that are
+ * loaded on every validation run must not reference its types. This class is only loaded when an MBean is
+ * registered or unregistered, which requires the caller to provide an {@link ObjectName}; in this case, the
+ * module is always resolved.
+ */
+public final class ManagementHelper {
+
+    private ManagementHelper() {}
+
+    public static void registerMBean(Object mbean, ObjectName name) throws JMException {
+        ManagementFactory.getPlatformMBeanServer().registerMBean(mbean, name);
+    }
+
+    public static void unregisterMBean(ObjectName name) throws JMException {
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+    }
+
+}
@@ -51,6 +51,9 @@ public class MapValidationHelper<K, V, D>
     private static final Constraint<?, ?>[] NO_CONSTRAINTS = new Constraint[0];
 
     private final Constraint<? super V, D>[] elementConstraints;
+    private final DependencyIndex elementDependencyIndex;
+    private final CrossElementIndex<V, D>[] crossElementIndices;
+    private final ElementStateCounter elementStates = new ElementStateCounter();
     private final MapChangeAggregator<K, V> mapChangeAggregator;
     private ObservableMap<K, ConstrainedElement<V, D>> elements;
 
@@ -84,10 +87,13 @@ public class MapValidationHelper<K, V, D>
         }
 
         mapChangeAggregator = new MapChangeAggregator<>();
+        elementDependencyIndex = DependencyIndex.of(elementConstraints);
+        crossElementIndices = CrossElementIndex.of(elementConstraints);
+        addDependencies(elementDependencyIndex);
     }
 
     @Override
-    protected ReadOnlyConstrainedMapProperty<K, V, D> getObservable() {
+    public ReadOnlyConstrainedMapProperty<K, V, D> getObservable() {
         return (ReadOnlyConstrainedMapProperty<K, V, D>)super.getObservable();
     }
 
@@ -96,8 +102,16 @@ public class MapValidationHelper<K, V, D>
         super.onStartValidation(dependency, newValue);
 
         if (elementConstraints.length > 0) {
-            for (ConstrainedElement<V, D> element : getElements().values()) {
-                ConstrainedElementHelper.validate(element);
+            if (dependency == getObservable()) {
+                ParallelElementValidator.validate(this, getElements().values());
+            } else {
+                // Only the element constraints that depend on the invalidated dependency need to run.
+                int[] constraintIndices = elementDependencyIndex.get(dependency);
+                if (constraintIndices != null) {
+                    for (ConstrainedElement<V, D> element : getElements().values()) {
+                        ConstrainedElementHelper.validate(element, constraintIndices);
+                    }
+                }
             }
         }
     }
@@ -107,21 +121,7 @@ public class MapValidationHelper<K, V, D>
         return switch (super.getValidationState()) {
             case UNKNOWN -> ValidationState.UNKNOWN;
             case INVALID -> ValidationState.INVALID;
-            case VALID -> {
-                if (elements != null) {
-                    for (ConstrainedElement<V, D> element : elements.values()) {
-                        if (element.isInvalid()) {
-                            yield ValidationState.INVALID;
-                        }
-
-                        if (!element.isValid()) {
-                            yield ValidationState.UNKNOWN;
-                        }
-                    }
-                }
-
-                yield ValidationState.VALID;
-            }
+            case VALID -> elementStates.getValidationState();
         };
     }
 
@@ -130,6 +130,16 @@ public class MapValidationHelper<K, V, D>
         return elementConstraints;
     }
 
+    @Override
+    public CrossElementIndex<V, D> getCrossElementIndex(int constraintIndex) {
+        return crossElementIndices != null ? crossElementIndices[constraintIndex] : null;
+    }
+
+    @Override
+    public void notifyElementStateChanged(ValidationState oldState, ValidationState newState) {
+        elementStates.update(oldState, newState);
+    }
+
     public ObservableMap<K, ConstrainedElement<V, D>> getElements() {
         if (elements == null) {
             // We need to be careful to not validate the property here, so we can't call Map methods
@@ -164,35 +174,43 @@ public class MapValidationHelper<K, V, D>
      */
     @Override
     public void invalidated(Observable dependency) {
-        // We need to be careful to not validate the property here, so we can't call Map methods
-        // on getObservable() directly (doing so would validate the property)
-        ReadOnlyConstrainedMapProperty<K, V, D> observable = getObservable();
-        if (dependency == observable) {
-            ObservableMap<K, V> observableMap = PropertyHelper.readValue(observable);
-            if (elements != null && elements.size() > 0) {
-                for (Map.Entry<K, ConstrainedElement<V, D>> entry : elements.entrySet()) {
-                    mapChangeAggregator.addRemoved(entry.getKey());
-                    ConstrainedElementHelper.dispose(entry.getValue());
+        setLazyValidationSuspended(true);
+
+        try {
+            // We need to be careful to not validate the property here, so we can't call Map methods
+            // on getObservable() directly (doing so would validate the property)
+            ReadOnlyConstrainedMapProperty<K, V, D> observable = getObservable();
+            if (dependency == observable) {
+                ObservableMap<K, V> observableMap = PropertyHelper.readValue(observable);
+                if (elements != null && elements.size() > 0) {
+                    // All elements are discarded, so there's no need to validate their peers.
+                    CrossElementIndex.clear(crossElementIndices);
+                    for (Map.Entry<K, ConstrainedElement<V, D>> entry : elements.entrySet()) {
+                        mapChangeAggregator.addRemoved(entry.getKey());
+                        ConstrainedElementHelper.dispose(entry.getValue());
+                    }
+
+                    elements.clear();
                 }
 
-                elements.clear();
-            }
+                if (observableMap != null && observableMap.size() > 0) {
+                    if (elements != null) {
+                        for (Map.Entry<K, V> entry : observableMap.entrySet()) {
+                            elements.put(entry.getKey(), ConstrainedElementHelper.newInstance(entry.getValue(), this));
+                            mapChangeAggregator.addAdded(entry.getKey(), entry.getValue());
+                        }
+                    } else {
+                        for (Map.Entry<K, V> entry : observableMap.entrySet()) {
+                            mapChangeAggregator.addAdded(entry.getKey(), entry.getValue());
+                        }
 
-            if (observableMap != null && observableMap.size() > 0) {
-                if (elements != null) {
-                    for (Map.Entry<K, V> entry : observableMap.entrySet()) {
-                        elements.put(entry.getKey(), ConstrainedElementHelper.newInstance(entry.getValue(), this));
-                        mapChangeAggregator.addAdded(entry.getKey(), entry.getValue());
+                        // Initializes the elements map and validates its values.
+                        getElements();
                     }
-                } else {
-                    for (Map.Entry<K, V> entry : observableMap.entrySet()) {
-                        mapChangeAggregator.addAdded(entry.getKey(), entry.getValue());
-                    }
-
-                    // Initializes the elements map and validates its values.
-                    getElements();
                 }
             }
+        } finally {
+            setLazyValidationSuspended(false);
         }
 
         super.invalidated(dependency);
@@ -205,10 +223,23 @@ public class MapValidationHelper<K, V, D>
      * for the set as a whole, as well as element validators for all set elements.
      */
     public void invalidated(MapChangeListener.Change<? extends K, ? extends V> change) {
-        beginQuiescence();
+        if (hasIncrementalConstraints()) {
+            if (change.wasRemoved()) {
+                incrementalElementRemoved(change.getValueRemoved());
+            }
+
+            if (change.wasAdded()) {
+                incrementalElementAdded(change.getValueAdded());
+            }
+        }
 
         ReadOnlyConstrainedMapProperty<K, V, D> observable = getObservable();
-        super.onStartValidation(observable, PropertyHelper.readValue(observable));
+        boolean deferred = deferValidation(observable, true);
+        beginQuiescence();
+
+        if (!deferred) {
+            super.onStartValidation(observable, PropertyHelper.readValue(observable));
+        }
 
         if (elementConstraints.length == 0) {
             aggregateChanges(change);
@@ -0,0 +1,403 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.value.ObservableValue;
+import org.jfxcore.validation.Constraint;
+import org.jfxcore.validation.SyncConstraint;
+import org.jfxcore.validation.ValidationResult;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * A constraint that caches the validation results of another constraint in a bounded LRU cache.
+ * <p>
+ * Validation results are keyed by the validated value and the current values of all constraint dependencies
+ * that are {@link ObservableValue ObservableValues}. All other dependencies can't be represented in the key,
+ * which is why the cache is cleared when such a dependency is invalidated. Only valid or invalid results are
+ * cached; cancelled and failed validation runs as well as {@link ValidationResult#none()} are not cached.
+ * <p>
+ * If several callers request the validation of the same key while a validation run is in progress, all callers
+ * share the in-progress validation run. The validation run of the wrapped constraint is only cancelled when all
+ * callers have cancelled their futures.
+ * <p>
+ * This class is thread-safe, which allows a single instance to be shared by many properties.
+ *
+ * @param <T> data type
+ * @param <D> diagnostic type
+ */
+public class MemoizingConstraint<T, D> implements Constraint<T, D> {
+
+    /**
+     * Creates a new {@code MemoizingConstraint}, or a {@link SyncConstraint} if the wrapped constraint
+     * is a {@code SyncConstraint}.
+     *
+     * @param constraint the wrapped constraint
+     * @param maxEntries the maximum number of cached results
+     * @param timeToLive the time in nanoseconds after which a cached result expires, or 0 if results don't expire
+     */
+    public static <T, D> Constraint<T, D> create(Constraint<T, D> constraint, int maxEntries, long timeToLive) {
+        Objects.requireNonNull(constraint, "constraint");
+
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+
+        if (timeToLive < 0) {
+            throw new IllegalArgumentException("timeToLive must not be negative");
+        }
+
+        return constraint instanceof SyncConstraint<T, D> syncConstraint ?
+            new Sync<>(syncConstraint, maxEntries, timeToLive) :
+            new MemoizingConstraint<>(constraint, maxEntries, timeToLive);
+    }
+
+    private final Constraint<T, D> constraint;
+    private final Observable[] dependencies;
+    private final long timeToLive;
+    private final Map<Key, CachedResult<D>> cache;
+    private final Map<Key, SharedRun> runs = new HashMap<>();
+    private final InvalidationListener invalidationListener = observable -> clear();
+
+    private MemoizingConstraint(Constraint<T, D> constraint, int maxEntries, long timeToLive) {
+        this.constraint = constraint;
+        this.dependencies = constraint.getDependencies();
+        this.timeToLive = timeToLive;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CachedResult<D>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+
+        if (dependencies != null) {
+            var listener = new WeakInvalidationListener(invalidationListener);
+
+            for (Observable dependency : dependencies) {
+                if (!(dependency instanceof ObservableValue<?>)) {
+                    dependency.addListener(listener);
+                }
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<ValidationResult<D>> validate(T value) {
+        Key key = newKey(value);
+        SharedRun run;
+        Subscriber subscriber;
+
+        synchronized (cache) {
+            ValidationResult<D> result = getCachedResult(key);
+            if (result != null) {
+                return CompletableFuture.completedFuture(result);
+            }
+
+            run = runs.get(key);
+            if (run != null) {
+                return run.subscribe();
+            }
+
+            // The run is registered before the wrapped constraint is invoked, so that concurrent
+            // requests for the same key subscribe to this run instead of starting another one.
+            run = new SharedRun(key);
+            subscriber = run.subscribe();
+            runs.put(key, run);
+        }
+
+        CompletableFuture<ValidationResult<D>> future;
+
+        try {
+            future = constraint.validate(value);
+        } catch (Throwable ex) {
+            run.complete(null, ex);
+            throw ex;
+        }
+
+        if (future == null) {
+            run.complete(null, new NullPointerException(
+                "Constraint validator " + constraint.getClass().getName() + " returned null"));
+            return null;
+        }
+
+        run.attach(future);
+
+        // If the future has already completed, the run is completed synchronously, and the
+        // future can be returned directly.
+        future.whenComplete(run::complete);
+        return future.isDone() ? future : subscriber;
+    }
+
+    @Override
+    public Executor getCompletionExecutor() {
+        return constraint.getCompletionExecutor();
+    }
+
+    @Override
+    public Observable[] getDependencies() {
+        return dependencies;
+    }
+
+    @Override
+    public int getCost() {
+        return constraint.getCost();
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    final Key newKey(T value) {
+        if (dependencies == null || dependencies.length == 0) {
+            return new Key(value, null);
+        }
+
+        Object[] dependencyValues = new Object[dependencies.length];
+        for (int i = 0; i < dependencies.length; ++i) {
+            if (dependencies[i] instanceof ObservableValue<?> observableValue) {
+                dependencyValues[i] = observableValue.getValue();
+            }
+        }
+
+        return new Key(value, dependencyValues);
+    }
+
+    final ValidationResult<D> getCachedResult(Key key) {
+        synchronized (cache) {
+            CachedResult<D> entry = cache.get(key);
+            if (entry == null) {
+                return null;
+            }
+
+            if (timeToLive > 0 && System.nanoTime() - entry.timestamp >= timeToLive) {
+                cache.remove(key);
+                return null;
+            }
+
+            return entry.result;
+        }
+    }
+
+    final void putCachedResult(Key key, ValidationResult<D> result) {
+        if (result != null && result != ValidationResult.none()) {
+            synchronized (cache) {
+                cache.put(key, new CachedResult<>(result, timeToLive > 0 ? System.nanoTime() : 0));
+            }
+        }
+    }
+
+    private record CachedResult<D>(ValidationResult<D> result, long timestamp) {}
+
+    static final class Key {
+        final Object value;
+        final Object[] dependencyValues;
+        final int hash;
+
+        Key(Object value, Object[] dependencyValues) {
+            this.value = value;
+            this.dependencyValues = dependencyValues;
+            this.hash = 31 * Objects.hashCode(value) + Arrays.hashCode(dependencyValues);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Key other
+                && hash == other.hash
+                && Objects.equals(value, other.value)
+                && Arrays.equals(dependencyValues, other.dependencyValues);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * A validation run of the wrapped constraint that is shared by several callers.
+     * All fields are guarded by the cache lock.
+     */
+    private final class SharedRun {
+        final Key key;
+        final List<Subscriber> subscribers = new ArrayList<>(1);
+        CompletableFuture<ValidationResult<D>> future;
+        boolean cancelled;
+        boolean mayInterruptIfRunning;
+
+        SharedRun(Key key) {
+            this.key = key;
+        }
+
+        /**
+         * Attaches the future of the wrapped constraint to this run. If all subscribers have cancelled
+         * their futures before the wrapped constraint returned, the cancellation request is forwarded now.
+         */
+        void attach(CompletableFuture<ValidationResult<D>> future) {
+            boolean cancel;
+
+            synchronized (cache) {
+                this.future = future;
+                cancel = cancelled;
+            }
+
+            if (cancel) {
+                future.cancel(mayInterruptIfRunning);
+            }
+        }
+
+        /**
+         * Forwards a cancellation request to the wrapped validation run, or defers the request
+         * until the future of the wrapped constraint is attached.
+         */
+        void cancel(boolean mayInterruptIfRunning) {
+            CompletableFuture<ValidationResult<D>> future;
+
+            synchronized (cache) {
+                future = this.future;
+
+                if (future == null) {
+                    this.cancelled = true;
+                    this.mayInterruptIfRunning = mayInterruptIfRunning;
+                }
+            }
+
+            if (future != null) {
+                future.cancel(mayInterruptIfRunning);
+            }
+        }
+
+        Subscriber subscribe() {
+            var subscriber = new Subscriber(this);
+
+            synchronized (cache) {
+                subscribers.add(subscriber);
+            }
+
+            return subscriber;
+        }
+
+        void complete(ValidationResult<D> result, Throwable exception) {
+            List<Subscriber> subscribers;
+
+            synchronized (cache) {
+                runs.remove(key, this);
+                subscribers = new ArrayList<>(this.subscribers);
+                this.subscribers.clear();
+            }
+
+            if (exception == null) {
+                putCachedResult(key, result);
+            }
+
+            for (Subscriber subscriber : subscribers) {
+                if (exception != null) {
+                    subscriber.completeExceptionally(exception);
+                } else {
+                    subscriber.complete(result);
+                }
+            }
+        }
+
+        /**
+         * Removes the subscriber from this run and returns {@code true} if it was the last subscriber.
+         */
+        boolean unsubscribe(Subscriber subscriber) {
+            synchronized (cache) {
+                if (subscribers.size() == 1 && subscribers.get(0) == subscriber) {
+                    runs.remove(key, this);
+                    return true;
+                }
+
+                subscribers.remove(subscriber);
+                return false;
+            }
+        }
+    }
+
+    private final class Subscriber extends CompletableFuture<ValidationResult<D>> {
+        final SharedRun run;
+
+        Subscriber(SharedRun run) {
+            this.run = run;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (isDone()) {
+                return false;
+            }
+
+            // If this is the last subscriber, the cancellation request is forwarded to the wrapped
+            // validation run, and this future completes when the validation run completes. This
+            // retains the cancellation semantics of the wrapped constraint.
+            if (run.unsubscribe(this)) {
+                run.cancel(mayInterruptIfRunning);
+                return false;
+            }
+
+            return super.cancel(mayInterruptIfRunning);
+        }
+    }
+
+    private static final class Sync<T, D> extends MemoizingConstraint<T, D> implements SyncConstraint<T, D> {
+        final SyncConstraint<T, D> constraint;
+
+        Sync(SyncConstraint<T, D> constraint, int maxEntries, long timeToLive) {
+            super(constraint, maxEntries, timeToLive);
+            this.constraint = constraint;
+        }
+
+        @Override
+        public CompletableFuture<ValidationResult<D>> validate(T value) {
+            return SyncConstraint.super.validate(value);
+        }
+
+        @Override
+        public ValidationResult<D> validateSync(T value) {
+            Key key = newKey(value);
+            ValidationResult<D> result = getCachedResult(key);
+
+            if (result == null) {
+                result = constraint.validateSync(value);
+                putCachedResult(key, result);
+            }
+
+            return result;
+        }
+    }
+
+}
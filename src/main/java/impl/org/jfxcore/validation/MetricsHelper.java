@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import org.jfxcore.validation.ConstraintBase;
+import org.jfxcore.validation.ValidationResult;
+import org.jfxcore.validation.metrics.ValidationMetrics;
+import org.jfxcore.validation.property.ReadOnlyConstrainedProperty;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Contains the global default {@link ValidationMetrics} and reports validation runs to
+ * {@code ValidationMetrics} implementations, shielding the validation system from
+ * exceptions that are thrown by user code.
+ */
+public final class MetricsHelper {
+
+    private MetricsHelper() {}
+
+    private static volatile ValidationMetrics defaultMetrics;
+
+    public static ValidationMetrics getDefault() {
+        return defaultMetrics;
+    }
+
+    public static void setDefault(ValidationMetrics metrics) {
+        defaultMetrics = metrics;
+    }
+
+    /**
+     * Returns the specified metrics, or the global default metrics if {@code metrics} is {@code null}.
+     */
+    public static ValidationMetrics resolve(ValidationMetrics metrics) {
+        return metrics != null ? metrics : defaultMetrics;
+    }
+
+    /**
+     * Reports the start of a validation run and returns the start time in nanoseconds.
+     */
+    public static long validationStarted(
+            ValidationMetrics metrics, ConstraintBase<?, ?> constraint, ReadOnlyConstrainedProperty<?, ?> property) {
+        try {
+            metrics.validationStarted(constraint, property);
+        } catch (Throwable ex) {
+            Logger.error("Exception in validation metrics " + metrics.getClass().getName(), ex);
+        }
+
+        return System.nanoTime();
+    }
+
+    /**
+     * Reports the end of a validation run.
+     *
+     * @param metrics the metrics
+     * @param constraint the constraint
+     * @param property the property that is validated by the constraint
+     * @param future the future returned by the constraint, or {@code null} if the constraint is synchronous
+     * @param startTime the start time that was returned by {@link #validationStarted}
+     * @param result the result of the validation run
+     * @param exception the exception that was thrown by the constraint validator
+     * @param superseded indicates whether the result was discarded because another validation run was requested
+     */
+    public static void validationCompleted(
+            ValidationMetrics metrics,
+            ConstraintBase<?, ?> constraint,
+            ReadOnlyConstrainedProperty<?, ?> property,
+            CompletableFuture<?> future,
+            long startTime,
+            ValidationResult<?> result,
+            Throwable exception,
+            boolean superseded) {
+        long queueTime, executionTime;
+
+        if (DeadlineFuture.unwrap(ConcurrencyLimiter.unwrap(future)) instanceof ValidateTaskBase<?, ?> task) {
+            queueTime = task.getQueueTime();
+            executionTime = task.getExecutionTime();
+        } else {
+            queueTime = 0;
+            executionTime = System.nanoTime() - ConcurrencyLimiter.getStartTime(future, startTime);
+        }
+
+        try {
+            switch (ValidationOutcome.of(result, exception, superseded)) {
+                case VALID -> metrics.validationCompleted(constraint, property, true, queueTime, executionTime);
+                case INVALID -> metrics.validationCompleted(constraint, property, false, queueTime, executionTime);
+                case CANCELLED -> metrics.validationCancelled(constraint, property, queueTime, executionTime);
+                case SUPERSEDED -> metrics.validationSuperseded(constraint, property, queueTime, executionTime);
+                case FAILED -> metrics.validationFailed(
+                    constraint, property,
+                    exception instanceof CompletionException && exception.getCause() != null ?
+                        exception.getCause() : exception,
+                    queueTime, executionTime);
+            }
+        } catch (Throwable ex) {
+            Logger.error("Exception in validation metrics " + metrics.getClass().getName(), ex);
+        }
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import org.jfxcore.validation.ValidationExecutor;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Wraps an {@link ExecutorService} to count queued, running, completed and rejected tasks,
+ * and to limit the number of queued tasks.
+ */
+public final class MonitoredExecutor extends AbstractExecutorService implements ValidationExecutor {
+
+    private final ExecutorService delegate;
+    private final int maxQueueSize;
+    private final boolean pooledThreads;
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /**
+     * Creates a new {@code MonitoredExecutor}.
+     *
+     * @param delegate the executor that runs the tasks
+     * @param maxQueueSize the maximum number of queued tasks
+     * @param pooledThreads {@code true} if the delegate reuses threads for several tasks; in this case,
+     *                      the interrupted state of a thread is cleared after a task has completed, so that
+     *                      a late interrupt of a cancelled task doesn't affect the next task on the thread
+     */
+    public MonitoredExecutor(ExecutorService delegate, int maxQueueSize, boolean pooledThreads) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.maxQueueSize = maxQueueSize;
+        this.pooledThreads = pooledThreads;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        Objects.requireNonNull(command, "command");
+
+        int size;
+        do {
+            size = queueSize.get();
+            if (size >= maxQueueSize) {
+                rejectedCount.increment();
+                throw new RejectedExecutionException("Queue is full: maxQueueSize = " + maxQueueSize);
+            }
+        } while (!queueSize.compareAndSet(size, size + 1));
+
+        try {
+            delegate.execute(() -> run(command));
+        } catch (RuntimeException ex) {
+            queueSize.decrementAndGet();
+            rejectedCount.increment();
+            throw ex;
+        }
+    }
+
+    private void run(Runnable command) {
+        queueSize.decrementAndGet();
+        activeCount.incrementAndGet();
+
+        try {
+            command.run();
+        } finally {
+            activeCount.decrementAndGet();
+            completedCount.increment();
+
+            if (pooledThreads) {
+                Thread.interrupted();
+            }
+        }
+    }
+
+    @Override
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+
+    @Override
+    public int getQueueSize() {
+        return queueSize.get();
+    }
+
+    @Override
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    @Override
+    public long getCompletedCount() {
+        return completedCount.sum();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> tasks = delegate.shutdownNow();
+        queueSize.addAndGet(-tasks.size());
+        return tasks;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[active = " + activeCount.get() + ", queued = " + queueSize.get()
+            + ", completed = " + completedCount.sum() + ", rejected = " + rejectedCount.sum() + "]";
+    }
+
+}
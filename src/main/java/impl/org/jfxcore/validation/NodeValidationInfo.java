@@ -114,6 +114,8 @@ public final class NodeValidationInfo implements ValidationListener, Invalidatio
      */
     @Override
     public void changed(ConstrainedValue value, ChangeType changeType, boolean oldValue, boolean newValue) {
+        Object event = FlightRecorderHelper.beginPseudoClassUpdate();
+
         switch (changeType) {
             case VALID -> {
                 node.pseudoClassStateChanged(VALID_PSEUDOCLASS, newValue);
@@ -127,6 +129,10 @@ public final class NodeValidationInfo implements ValidationListener, Invalidatio
 
             case VALIDATING -> node.pseudoClassStateChanged(VALIDATING_PSEUDOCLASS, newValue);
         }
+
+        if (event != null) {
+            FlightRecorderHelper.commitPseudoClassUpdate(event, node, changeType.name(), newValue);
+        }
     }
 
     private boolean isUserModified() {
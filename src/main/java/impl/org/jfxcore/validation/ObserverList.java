@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tracks the listeners that were added to a property that reports its observers to a {@link ValidationHelper}.
+ * <p>
+ * {@code ExpressionHelper} doesn't indicate whether a listener was actually removed, so a property can't tell
+ * whether a call to {@code removeListener} removed a registered listener, or was a no-op because the listener
+ * was never added or was already removed. This class keeps its own list of registered listeners, and reports
+ * the removal of a listener to the validation helper only if the listener was registered.
+ * <p>
+ * Weak listeners (for example, the listeners added by {@link javafx.beans.binding.Bindings Bindings}) that are
+ * purged by {@code ExpressionHelper} after they were garbage-collected are never removed with
+ * {@code removeListener}, and are therefore still counted as observers. A helper that uses lazy validation
+ * continues to validate immediately on every change in this case.
+ */
+final class ObserverList {
+
+    private List<Object> listeners;
+
+    /**
+     * Registers the listener, and reports the new observer to the validation helper.
+     */
+    void add(Object listener, ValidationHelper<?, ?> helper) {
+        if (listeners == null) {
+            listeners = new ArrayList<>(1);
+        }
+
+        listeners.add(listener);
+        ValidationHelper.observerAdded(helper);
+    }
+
+    /**
+     * Unregisters the listener, and reports the removed observer to the validation helper
+     * if the listener was registered.
+     */
+    void remove(Object listener, ValidationHelper<?, ?> helper) {
+        if (listeners != null && listeners.remove(listener)) {
+            ValidationHelper.observerRemoved(helper);
+        }
+    }
+
+}
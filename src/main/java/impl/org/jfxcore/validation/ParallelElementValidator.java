@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import org.jfxcore.validation.ConstrainedElement;
+import org.jfxcore.validation.Constraint;
+import org.jfxcore.validation.CrossElementConstraint;
+import org.jfxcore.validation.ParallelValidation;
+import org.jfxcore.validation.SyncConstraint;
+import org.jfxcore.validation.ValidationResult;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Validates a range of collection elements, and evaluates the thread-safe synchronous element constraints
+ * in parallel if the {@link ParallelValidation} of the validation helper allows it.
+ * <p>
+ * The constraints are evaluated on the threads of the {@code ForkJoinPool} while the calling thread
+ * waits for the evaluation to complete. Then the results are published to the elements on the calling
+ * thread, which also evaluates all other element constraints.
+ */
+public final class ParallelElementValidator {
+
+    private ParallelElementValidator() {}
+
+    /**
+     * Validates the specified elements with all element constraints.
+     */
+    public static <T, D> void validate(
+            ElementValidationHelper<T, D> helper, Collection<ConstrainedElement<T, D>> elements) {
+        ParallelValidation parallelValidation = helper.getParallelValidation();
+        int[] constraintIndices = parallelValidation != null && elements.size() >= parallelValidation.getThreshold() ?
+            getThreadSafeConstraints(helper.getElementConstraints()) : null;
+
+        if (constraintIndices == null) {
+            for (ConstrainedElement<T, D> element : elements) {
+                ConstrainedElementHelper.validate(element);
+            }
+
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        ConstrainedElement<T, D>[] array = elements.toArray(new ConstrainedElement[0]);
+        ValidationResult<?>[][] results = new ValidationResult[array.length][];
+        EvaluateTask<T, D> task = new EvaluateTask<>(
+            helper.getElementConstraints(), constraintIndices, array, results,
+            0, array.length, getChunkSize(array.length, parallelValidation));
+
+        try {
+            parallelValidation.getPool().invoke(task);
+        } catch (RuntimeException ex) {
+            Logger.error("Parallel validation failed with an exception", ex);
+            results = new ValidationResult[array.length][];
+        }
+
+        for (int i = 0; i < array.length; ++i) {
+            ConstrainedElementHelper.validate(array[i], results[i]);
+        }
+    }
+
+    /**
+     * Returns the indices of the constraints that can be evaluated in parallel, or {@code null}
+     * if there are no such constraints.
+     */
+    private static int[] getThreadSafeConstraints(Constraint<?, ?>[] constraints) {
+        int count = 0;
+        int[] indices = new int[constraints.length];
+
+        for (int i = 0; i < constraints.length; ++i) {
+            if (constraints[i] instanceof SyncConstraint<?, ?> constraint
+                    && !(constraint instanceof CrossElementConstraint)
+                    && constraint.isThreadSafe()) {
+                indices[count++] = i;
+            }
+        }
+
+        if (count == 0) {
+            return null;
+        }
+
+        return count == indices.length ? indices : Arrays.copyOf(indices, count);
+    }
+
+    private static int getChunkSize(int elements, ParallelValidation parallelValidation) {
+        // Split the elements into a few chunks per worker thread to balance uneven evaluation costs.
+        int chunks = parallelValidation.getPool().getParallelism() * 4;
+        return Math.max(elements / chunks, 64);
+    }
+
+    private static final class EvaluateTask<T, D> extends RecursiveAction {
+        private final Constraint<? super T, D>[] constraints;
+        private final int[] constraintIndices;
+        private final ConstrainedElement<T, D>[] elements;
+        private final ValidationResult<?>[][] results;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        EvaluateTask(Constraint<? super T, D>[] constraints, int[] constraintIndices,
+                     ConstrainedElement<T, D>[] elements, ValidationResult<?>[][] results,
+                     int from, int to, int chunkSize) {
+            this.constraints = constraints;
+            this.constraintIndices = constraintIndices;
+            this.elements = elements;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > chunkSize) {
+                int mid = (from + to) >>> 1;
+                invokeAll(
+                    new EvaluateTask<>(constraints, constraintIndices, elements, results, from, mid, chunkSize),
+                    new EvaluateTask<>(constraints, constraintIndices, elements, results, mid, to, chunkSize));
+                return;
+            }
+
+            for (int i = from; i < to; ++i) {
+                T value = elements[i].getValue();
+                ValidationResult<?>[] elementResults = new ValidationResult[constraints.length];
+
+                for (int index : constraintIndices) {
+                    SyncConstraint<? super T, D> constraint = (SyncConstraint<? super T, D>)constraints[index];
+                    ValidationResult<D> result;
+
+                    try {
+                        result = constraint.validateSync(value);
+                    } catch (Throwable ex) {
+                        Logger.error("Exception in constraint validator " + constraint.getClass().getName(), ex);
+                        result = null;
+                    }
+
+                    // A constraint that didn't produce a result is published as ValidationResult.none().
+                    elementResults[index] = result != null ? result : ValidationResult.none();
+                }
+
+                results[i] = elementResults;
+            }
+        }
+    }
+
+}
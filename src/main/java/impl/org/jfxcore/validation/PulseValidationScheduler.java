@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import org.jfxcore.validation.ValidationScheduler;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base class for schedulers that run deferred validations once per JavaFX pulse.
+ * <p>
+ * Deferred validations are queued in the order in which they were scheduled. When the queue is flushed,
+ * all queued validations run in order, including validations that were scheduled by validations that
+ * ran earlier in the same flush. Instances of this class must only be used on the JavaFX application thread.
+ */
+public abstract class PulseValidationScheduler implements ValidationScheduler {
+
+    private List<Runnable> queue = new ArrayList<>();
+    private boolean flushing;
+
+    @Override
+    public final void schedule(Runnable validation) {
+        boolean requestPulse = queue.isEmpty() && !flushing;
+        queue.add(validation);
+
+        if (requestPulse) {
+            requestPulse();
+        }
+    }
+
+    /**
+     * Requests that {@link #flush()} is called in the next pulse.
+     */
+    protected abstract void requestPulse();
+
+    /**
+     * Runs all queued validations.
+     */
+    protected final void flush() {
+        if (flushing) {
+            return;
+        }
+
+        flushing = true;
+
+        try {
+            while (!queue.isEmpty()) {
+                List<Runnable> validations = queue;
+                queue = new ArrayList<>(validations.size());
+
+                for (Runnable validation : validations) {
+                    try {
+                        validation.run();
+                    } catch (Throwable ex) {
+                        Logger.error("Exception in deferred validation", ex);
+                    }
+                }
+            }
+        } finally {
+            flushing = false;
+        }
+    }
+
+    /**
+     * Runs deferred validations in the next pulse, independent of any particular scene.
+     */
+    static final class Global extends PulseValidationScheduler {
+        private final AnimationTimer timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                stop();
+                flush();
+            }
+        };
+
+        @Override
+        protected void requestPulse() {
+            timer.start();
+        }
+    }
+
+    /**
+     * Runs deferred validations before the layout pass of the next pulse of a scene.
+     * <p>
+     * The pre-layout pulse listener stays registered for the lifetime of the scheduler, since pulse
+     * listeners must not be removed while the scene is processing its pulse listeners.
+     */
+    public static final class SceneScheduler extends PulseValidationScheduler {
+        public SceneScheduler(Scene scene) {
+            scene.addPreLayoutPulseListener(this::flush);
+        }
+
+        @Override
+        protected void requestPulse() {
+            Platform.requestNextPulse();
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import javafx.scene.Scene;
+import org.jfxcore.validation.ValidationScheduler;
+
+/**
+ * Contains the global default {@link ValidationScheduler} and the built-in scheduler instances.
+ */
+public final class SchedulerHelper {
+
+    private SchedulerHelper() {}
+
+    public static final ValidationScheduler IMMEDIATE = Runnable::run;
+
+    // Never runs deferred validations; they run when the validation state is observed or queried
+    public static final ValidationScheduler LAZY = validation -> {};
+
+    private static final Object SCENE_SCHEDULER_KEY = new Object();
+
+    private static volatile ValidationScheduler defaultScheduler;
+
+    private static final class GlobalPulseHolder {
+        static final ValidationScheduler INSTANCE = new PulseValidationScheduler.Global();
+    }
+
+    public static ValidationScheduler getDefault() {
+        ValidationScheduler scheduler = defaultScheduler;
+        return scheduler != null ? scheduler : IMMEDIATE;
+    }
+
+    public static void setDefault(ValidationScheduler scheduler) {
+        defaultScheduler = scheduler == IMMEDIATE ? null : scheduler;
+    }
+
+    public static ValidationScheduler getGlobalPulseScheduler() {
+        return GlobalPulseHolder.INSTANCE;
+    }
+
+    /**
+     * Returns the pulse scheduler of the specified scene, and creates it if necessary.
+     */
+    public static ValidationScheduler getScenePulseScheduler(Scene scene) {
+        return (ValidationScheduler)scene.getProperties().computeIfAbsent(
+            SCENE_SCHEDULER_KEY, key -> new PulseValidationScheduler.SceneScheduler(scene));
+    }
+
+    /**
+     * Returns the specified scheduler, or the global default scheduler if {@code scheduler} is {@code null}.
+     * If the resolved scheduler is the immediate scheduler, this method returns {@code null}.
+     */
+    public static ValidationScheduler resolve(ValidationScheduler scheduler) {
+        if (scheduler == null) {
+            scheduler = defaultScheduler;
+        }
+
+        return scheduler == IMMEDIATE ? null : scheduler;
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Executor that runs commands one at a time in submission order, using the threads of another executor.
+ * <p>
+ * Commands are added to a queue, which is drained by a single task that is submitted to the underlying
+ * executor when the first command is added to an empty queue. Every command happens-before the next command,
+ * but subsequent commands are not guaranteed to run on the same thread.
+ */
+public final class SerialExecutor implements Executor {
+
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final Executor executor;
+
+    public SerialExecutor(Executor executor) {
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        queue.add(Objects.requireNonNull(command, "command"));
+        schedule();
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (Throwable ex) {
+                scheduled.set(false);
+                throw ex;
+            }
+        }
+    }
+
+    private void drain() {
+        Runnable command;
+
+        while ((command = queue.poll()) != null) {
+            try {
+                command.run();
+            } catch (Throwable ex) {
+                Logger.error("Exception in serial executor", ex);
+            }
+        }
+
+        scheduled.set(false);
+
+        // A command may have been added after the queue was found empty, but before the flag was cleared.
+        if (!queue.isEmpty()) {
+            schedule();
+        }
+    }
+
+}
@@ -22,10 +22,16 @@
 package impl.org.jfxcore.validation;
 
 import org.jfxcore.validation.ConstraintBase;
+import org.jfxcore.validation.SyncConstraint;
+import org.jfxcore.validation.ValidationExecutors;
 import org.jfxcore.validation.ValidationResult;
+import org.jfxcore.validation.metrics.ValidationMetrics;
+import org.jfxcore.validation.property.ReadOnlyConstrainedProperty;
+import java.time.Duration;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Wrapper for a {@link ConstraintBase} that enforces serialized execution of validation requests.
@@ -33,6 +39,18 @@ import java.util.concurrent.CompletionException;
  * will be deferred until after the validator has completed. If several validation runs are requested
  * while the validator is still running, only the last request will be executed and all intermediate
  * requests will be dropped.
+ * <p>
+ * If {@link #isLatestValueWins()} returns {@code true}, a new validation run starts immediately instead. The running
+ * validation run is cancelled and completes as an intermediate completion, and its result is discarded when it
+ * arrives later. Every validation run is tagged with a sequence number, so a result is only applied if it
+ * belongs to the latest validation run.
+ * <p>
+ * If the constraint is a {@link SyncConstraint}, the validator is invoked directly without
+ * wrapping the result in a {@link CompletableFuture}.
+ * <p>
+ * If {@link #getMetrics()} returns a {@link ValidationMetrics} instance, the start and end
+ * of every validation run is reported to it. Validation runs are also recorded as
+ * Java Flight Recorder events if the corresponding event type is enabled.
  *
  * @param <T> type of the value to be validated
  * @param <D> diagnostic type
@@ -42,13 +60,23 @@ public abstract class SerializedValidator<T, D> {
     private static final CancellationException CANCELLED = new CancellationException();
 
     private final ConstraintBase<?, D> constraint;
+    private final SyncConstraint<T, D> syncConstraint;
     private CompletableFuture<ValidationResult<D>> validatingFuture;
     private T currentValue;
     private T nextValue;
     private boolean hasNextValue;
+    private long runSequence;
+    private boolean discarded;
+    private ValidationMetrics currentMetrics;
+    private long currentStartTime;
+    private Object currentEvent;
 
+    @SuppressWarnings("unchecked")
     public SerializedValidator(ConstraintBase<?, D> constraint) {
         this.constraint = constraint;
+
+        // A SyncConstraint is a Constraint, which means that it always validates values of type T.
+        this.syncConstraint = constraint instanceof SyncConstraint<?, D> c ? (SyncConstraint<T, D>)c : null;
     }
 
     /**
@@ -76,6 +104,27 @@ public abstract class SerializedValidator<T, D> {
      */
     protected abstract void onValidationCompleted(T value, ValidationResult<D> result, boolean intermediateCompletion);
 
+    /**
+     * Gets the {@link ValidationMetrics} that receive the timings of validation runs, or {@code null}.
+     */
+    protected ValidationMetrics getMetrics() {
+        return null;
+    }
+
+    /**
+     * Indicates whether a new validation run starts immediately when the validator is still running.
+     */
+    protected boolean isLatestValueWins() {
+        return false;
+    }
+
+    /**
+     * Gets the property that is validated by this validator, or {@code null}.
+     */
+    protected ReadOnlyConstrainedProperty<?, ?> getProperty() {
+        return null;
+    }
+
     /**
      * Requests a validation run for the specified value.
      * {@link #onValidationStarted()} and {@link #onValidationCompleted} are invoked before and after the validator is
@@ -83,20 +132,38 @@ public abstract class SerializedValidator<T, D> {
      */
     public void validate(T value) {
         if (validatingFuture != null) {
-            nextValue = value;
-            hasNextValue = true;
-            validatingFuture.cancel(false);
+            if (!isLatestValueWins()) {
+                nextValue = value;
+                hasNextValue = true;
+                validatingFuture.cancel(false);
+                return;
+            }
+
+            supersede();
+        }
+
+        if (syncConstraint != null) {
+            validateSync(value);
         } else {
+            ValidationMetrics metrics = getMetrics();
+            long startTime = metrics != null ? MetricsHelper.validationStarted(metrics, constraint, getProperty()) : 0;
+            Object event = FlightRecorderHelper.beginConstraintEvaluation();
+            CompletableFuture<ValidationResult<D>> future = null;
+
             try {
                 onValidationStarted();
-                CompletableFuture<ValidationResult<D>> future = newValidationRun(value);
+                future = newValidationRun(value);
 
                 if (future == null) {
                     Logger.error("Constraint validator " + constraint.getClass().getName() + " returned null");
+                    reportCompleted(metrics, event, null, startTime, null, null, false);
                     onValidationCompleted(value, null, false);
                 } else if (future.isDone()) {
+                    ValidationResult<D> result;
+
                     try {
-                        onValidationCompleted(value, getResult(future.get()), false);
+                        result = future.get();
+                        reportCompleted(metrics, event, future, startTime, result, null, false);
                     } catch (Throwable ex) {
                         if (!(ex instanceof CancellationException)) {
                             Logger.error(
@@ -104,23 +171,116 @@ public abstract class SerializedValidator<T, D> {
                                 ex instanceof CompletionException ? ex.getCause() : ex);
                         }
 
-                        onValidationCompleted(value, null, false);
+                        reportCompleted(metrics, event, future, startTime, null, ex, false);
+                        result = null;
                     }
+
+                    onValidationCompleted(value, getResult(result), false);
                 } else {
+                    if (!(constraint instanceof TimeoutConstraint<?, ?>)) {
+                        Duration timeout = ValidationExecutors.getDefaultTimeout();
+                        if (timeout != null) {
+                            // A validation run that is deferred by a concurrency limit only
+                            // starts its deadline when the validation run is started.
+                            future = ConcurrencyLimiter.decorateOnStart(
+                                future, f -> DeadlineFuture.of(f, timeout.toNanos(), null));
+                        }
+                    }
+
+                    long sequence = ++runSequence;
+                    CompletableFuture<ValidationResult<D>> runFuture = future;
                     currentValue = value;
+                    currentMetrics = metrics;
+                    currentStartTime = startTime;
+                    currentEvent = event;
                     validatingFuture = future;
-                    future.whenCompleteAsync(this::handleValidationCompleted, constraint.getCompletionExecutor());
+                    future.whenCompleteAsync((result, exception) -> {
+                        if (sequence == runSequence) {
+                            handleValidationCompleted(result, exception);
+                        } else {
+                            // The validation run was superseded, so its result is discarded.
+                            reportCompleted(metrics, event, runFuture, startTime, result, exception, true);
+                        }
+                    }, CoalescingCompletionExecutor.resolve(constraint.getCompletionExecutor()));
                 }
             } catch (Throwable ex) {
                 Logger.error(
                     "Exception in constraint validator " + constraint.getClass().getName(), ex);
 
+                // If the exception was thrown after the validator returned a future,
+                // the validation run was already reported as completed.
+                if (future == null) {
+                    reportCompleted(metrics, event, null, startTime, null, ex, false);
+                }
+
                 onValidationCompleted(value, null, false);
             }
         }
     }
 
-    public void dispose() {
+    /**
+     * Cancels the running validation run, and completes it as an intermediate completion without waiting
+     * for its result. The result of the validation run is discarded when it arrives.
+     */
+    private void supersede() {
+        CompletableFuture<ValidationResult<D>> future = validatingFuture;
+        T value = currentValue;
+        ++runSequence;
+        discarded = false;
+        currentValue = null;
+        currentMetrics = null;
+        currentEvent = null;
+        validatingFuture = null;
+        nextValue = null;
+        hasNextValue = false;
+
+        future.cancel(false);
+        onValidationCompleted(value, null, true);
+    }
+
+    private void validateSync(T value) {
+        ValidationMetrics metrics = getMetrics();
+        long startTime = metrics != null ? MetricsHelper.validationStarted(metrics, constraint, getProperty()) : 0;
+        Object event = FlightRecorderHelper.beginConstraintEvaluation();
+        ValidationResult<D> result;
+        onValidationStarted();
+
+        try {
+            result = syncConstraint.validateSync(value);
+            reportCompleted(metrics, event, null, startTime, result, null, false);
+        } catch (Throwable ex) {
+            Logger.error("Exception in constraint validator " + constraint.getClass().getName(), ex);
+            reportCompleted(metrics, event, null, startTime, null, ex, false);
+            result = null;
+        }
+
+        onValidationCompleted(value, getResult(result), false);
+    }
+
+    private void reportCompleted(
+            ValidationMetrics metrics,
+            Object event,
+            CompletableFuture<ValidationResult<D>> future,
+            long startTime,
+            ValidationResult<D> result,
+            Throwable exception,
+            boolean superseded) {
+        if (metrics != null) {
+            MetricsHelper.validationCompleted(
+                metrics, constraint, getProperty(), future, startTime, result, exception, superseded);
+        }
+
+        if (event != null) {
+            FlightRecorderHelper.commitConstraintEvaluation(
+                event, constraint, getProperty(), future, result, exception, superseded);
+        }
+    }
+
+    /**
+     * Cancels the current validation run, as well as a pending follow-up validation run.
+     * If the validator is running, {@link #onValidationCompleted} is invoked with a {@code null} result.
+     */
+    public void cancel() {
         nextValue = null;
         hasNextValue = false;
 
@@ -129,13 +289,41 @@ public abstract class SerializedValidator<T, D> {
         }
     }
 
+    /**
+     * Cancels the current validation run like {@link #cancel()}, and discards its result if the validator
+     * doesn't respond to the cancellation request: when the validation run completes, it is reported as
+     * cancelled, and {@link #onValidationCompleted} is invoked with a {@code null} result.
+     */
+    public void discard() {
+        if (validatingFuture != null) {
+            discarded = true;
+        }
+
+        cancel();
+    }
+
+    public void dispose() {
+        cancel();
+    }
+
     private void handleValidationCompleted(ValidationResult<D> result, Throwable exception) {
-        if (exception != null && !(exception instanceof CancellationException)) {
+        if (discarded) {
+            discarded = false;
+            result = null;
+            exception = CANCELLED;
+        }
+
+        if (exception != null
+                && !(exception instanceof CancellationException)
+                && !(exception instanceof TimeoutException)) {
             Logger.error(
                 "Exception in constraint validator " + constraint.getClass().getName(),
                 exception instanceof CompletionException ? exception.getCause() : exception);
         }
 
+        reportCompleted(
+            currentMetrics, currentEvent, validatingFuture, currentStartTime, result, exception, hasNextValue);
+
         if (hasNextValue) {
             exception = CANCELLED;
         }
@@ -143,6 +331,8 @@ public abstract class SerializedValidator<T, D> {
         onValidationCompleted(currentValue, exception != null ? null : getResult(result), hasNextValue);
 
         currentValue = null;
+        currentMetrics = null;
+        currentEvent = null;
         validatingFuture = null;
 
         if (hasNextValue) {
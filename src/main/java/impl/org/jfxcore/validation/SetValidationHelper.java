@@ -50,6 +50,9 @@ public class SetValidationHelper<T, D>
     private static final Constraint<?, ?>[] NO_CONSTRAINTS = new Constraint[0];
 
     private final Constraint<? super T, D>[] elementConstraints;
+    private final DependencyIndex elementDependencyIndex;
+    private final CrossElementIndex<T, D>[] crossElementIndices;
+    private final ElementStateCounter elementStates = new ElementStateCounter();
     private final SetChangeAggregator<T> setChangeAggregator;
     private ObservableMap<T, ConstrainedElement<T, D>> elements;
 
@@ -83,10 +86,13 @@ public class SetValidationHelper<T, D>
         }
 
         setChangeAggregator = new SetChangeAggregator<>();
+        elementDependencyIndex = DependencyIndex.of(elementConstraints);
+        crossElementIndices = CrossElementIndex.of(elementConstraints);
+        addDependencies(elementDependencyIndex);
     }
 
     @Override
-    protected ReadOnlyConstrainedSetProperty<T, D> getObservable() {
+    public ReadOnlyConstrainedSetProperty<T, D> getObservable() {
         return (ReadOnlyConstrainedSetProperty<T, D>)super.getObservable();
     }
 
@@ -95,8 +101,16 @@ public class SetValidationHelper<T, D>
         super.onStartValidation(dependency, newValue);
 
         if (elementConstraints.length > 0) {
-            for (ConstrainedElement<T, D> element : getElements().values()) {
-                ConstrainedElementHelper.validate(element);
+            if (dependency == getObservable()) {
+                ParallelElementValidator.validate(this, getElements().values());
+            } else {
+                // Only the element constraints that depend on the invalidated dependency need to run.
+                int[] constraintIndices = elementDependencyIndex.get(dependency);
+                if (constraintIndices != null) {
+                    for (ConstrainedElement<T, D> element : getElements().values()) {
+                        ConstrainedElementHelper.validate(element, constraintIndices);
+                    }
+                }
             }
         }
     }
@@ -106,21 +120,7 @@ public class SetValidationHelper<T, D>
         return switch (super.getValidationState()) {
             case UNKNOWN -> ValidationState.UNKNOWN;
             case INVALID -> ValidationState.INVALID;
-            case VALID -> {
-                if (elements != null) {
-                    for (ConstrainedElement<T, D> element : elements.values()) {
-                        if (element.isInvalid()) {
-                            yield ValidationState.INVALID;
-                        }
-
-                        if (!element.isValid()) {
-                            yield ValidationState.UNKNOWN;
-                        }
-                    }
-                }
-
-                yield ValidationState.VALID;
-            }
+            case VALID -> elementStates.getValidationState();
         };
     }
 
@@ -129,6 +129,16 @@ public class SetValidationHelper<T, D>
         return elementConstraints;
     }
 
+    @Override
+    public CrossElementIndex<T, D> getCrossElementIndex(int constraintIndex) {
+        return crossElementIndices != null ? crossElementIndices[constraintIndex] : null;
+    }
+
+    @Override
+    public void notifyElementStateChanged(ValidationState oldState, ValidationState newState) {
+        elementStates.update(oldState, newState);
+    }
+
     public ObservableMap<T, ConstrainedElement<T, D>> getElements() {
         if (elements == null) {
             // We need to be careful to not validate the property here, so we can't call Set methods
@@ -163,35 +173,43 @@ public class SetValidationHelper<T, D>
      */
     @Override
     public void invalidated(Observable dependency) {
-        // We need to be careful to not validate the property here, so we can't call Set methods
-        // on getObservable() directly (doing so would validate the property)
-        ReadOnlyConstrainedSetProperty<T, D> observable = getObservable();
-        if (dependency == observable) {
-            ObservableSet<T> observableSet = PropertyHelper.readValue(observable);
-            if (elements != null && elements.size() > 0) {
-                for (Map.Entry<T, ConstrainedElement<T, D>> entry : elements.entrySet()) {
-                    setChangeAggregator.addRemoved(entry.getKey());
-                    ConstrainedElementHelper.dispose(entry.getValue());
+        setLazyValidationSuspended(true);
+
+        try {
+            // We need to be careful to not validate the property here, so we can't call Set methods
+            // on getObservable() directly (doing so would validate the property)
+            ReadOnlyConstrainedSetProperty<T, D> observable = getObservable();
+            if (dependency == observable) {
+                ObservableSet<T> observableSet = PropertyHelper.readValue(observable);
+                if (elements != null && elements.size() > 0) {
+                    // All elements are discarded, so there's no need to validate their peers.
+                    CrossElementIndex.clear(crossElementIndices);
+                    for (Map.Entry<T, ConstrainedElement<T, D>> entry : elements.entrySet()) {
+                        setChangeAggregator.addRemoved(entry.getKey());
+                        ConstrainedElementHelper.dispose(entry.getValue());
+                    }
+
+                    elements.clear();
                 }
 
-                elements.clear();
-            }
+                if (observableSet != null && observableSet.size() > 0) {
+                    if (elements != null) {
+                        for (T value : observableSet) {
+                            elements.put(value, ConstrainedElementHelper.newInstance(value, this));
+                            setChangeAggregator.addAdded(value);
+                        }
+                    } else {
+                        for (T value : observableSet) {
+                            setChangeAggregator.addAdded(value);
+                        }
 
-            if (observableSet != null && observableSet.size() > 0) {
-                if (elements != null) {
-                    for (T value : observableSet) {
-                        elements.put(value, ConstrainedElementHelper.newInstance(value, this));
-                        setChangeAggregator.addAdded(value);
+                        // Initializes the elements map and validates its values.
+                        getElements();
                     }
-                } else {
-                    for (T value : observableSet) {
-                        setChangeAggregator.addAdded(value);
-                    }
-
-                    // Initializes the elements map and validates its values.
-                    getElements();
                 }
             }
+        } finally {
+            setLazyValidationSuspended(false);
         }
 
         super.invalidated(dependency);
@@ -204,10 +222,23 @@ public class SetValidationHelper<T, D>
      * for the set as a whole, as well as element validators for all set elements.
      */
     public void invalidated(SetChangeListener.Change<? extends T> change) {
-        beginQuiescence();
+        if (hasIncrementalConstraints()) {
+            if (change.wasRemoved()) {
+                incrementalElementRemoved(change.getElementRemoved());
+            }
+
+            if (change.wasAdded()) {
+                incrementalElementAdded(change.getElementAdded());
+            }
+        }
 
         ReadOnlyConstrainedSetProperty<T, D> observable = getObservable();
-        super.onStartValidation(observable, PropertyHelper.readValue(observable));
+        boolean deferred = deferValidation(observable, true);
+        beginQuiescence();
+
+        if (!deferred) {
+            super.onStartValidation(observable, PropertyHelper.readValue(observable));
+        }
 
         if (elementConstraints.length == 0) {
             aggregateChanges(change);
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import javafx.beans.Observable;
+import org.jfxcore.validation.Constraint;
+import org.jfxcore.validation.ValidationResult;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * A constraint that completes with a fallback result if another constraint doesn't complete within a timeout.
+ * <p>
+ * When the timeout has elapsed, the future returned by the wrapped constraint is cancelled with
+ * {@code mayInterruptIfRunning = true}, which interrupts the validation function of interruptible
+ * constraints. The {@link ValidationExecutors#getDefaultTimeout() default timeout} is not applied
+ * to this constraint.
+ *
+ * @param <T> data type
+ * @param <D> diagnostic type
+ */
+public final class TimeoutConstraint<T, D> implements Constraint<T, D> {
+
+    private final Constraint<T, D> constraint;
+    private final long timeout;
+    private final Supplier<ValidationResult<D>> onTimeout;
+
+    /**
+     * Creates a new {@code TimeoutConstraint}.
+     *
+     * @param constraint the wrapped constraint
+     * @param timeout the timeout in nanoseconds
+     * @param onTimeout supplies the result when the timeout has elapsed, or {@code null}
+     */
+    public TimeoutConstraint(Constraint<T, D> constraint, long timeout, Supplier<ValidationResult<D>> onTimeout) {
+        this.constraint = Objects.requireNonNull(constraint, "constraint");
+        this.timeout = timeout;
+        this.onTimeout = onTimeout;
+    }
+
+    @Override
+    public CompletableFuture<ValidationResult<D>> validate(T value) {
+        CompletableFuture<ValidationResult<D>> future = constraint.validate(value);
+        return future != null ? DeadlineFuture.of(future, timeout, onTimeout) : null;
+    }
+
+    @Override
+    public Executor getCompletionExecutor() {
+        return constraint.getCompletionExecutor();
+    }
+
+    @Override
+    public Observable[] getDependencies() {
+        return constraint.getDependencies();
+    }
+
+    @Override
+    public int getCost() {
+        return constraint.getCost();
+    }
+
+}
@@ -22,45 +22,34 @@
 package impl.org.jfxcore.validation;
 
 import org.jfxcore.validation.ValidationResult;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 
-public abstract class ValidateCancellableTask<T, D>
-        extends CompletableFuture<ValidationResult<D>> implements Runnable {
+public abstract class ValidateCancellableTask<T, D> extends ValidateTaskBase<T, D> {
 
     private final AtomicBoolean cancellationRequested = new AtomicBoolean();
-    private final T value;
-    private boolean hasRun;
 
     protected ValidateCancellableTask(T value) {
-        this.value = value;
+        super(value);
     }
 
     @Override
-    public void run() {
-        if (hasRun) {
-            return;
-        }
-
-        hasRun = true;
-
-        try {
-            ValidationResult<D> result = apply(value, cancellationRequested);
+    protected final ValidationResult<D> execute(T value) {
+        return apply(value, cancellationRequested);
+    }
 
-            if (cancellationRequested.get()) {
-                super.cancel(true);
-            } else {
-                complete(result);
-            }
-        } catch (Throwable ex) {
-            completeExceptionally(ex);
-        }
+    @Override
+    protected final boolean isCancellationRequested() {
+        return cancellationRequested.get();
     }
 
     protected abstract ValidationResult<D> apply(T value, AtomicBoolean cancellationRequested);
 
     @Override
     public boolean cancel(boolean mayInterruptIfRunning) {
+        if (cancelBeforeStart()) {
+            return true;
+        }
+
         cancellationRequested.set(true);
         return false;
     }
@@ -22,39 +22,29 @@
 package impl.org.jfxcore.validation;
 
 import org.jfxcore.validation.ValidationResult;
-import java.util.concurrent.CompletableFuture;
 
-public abstract class ValidateInterruptibleTask<T, D>
-        extends CompletableFuture<ValidationResult<D>> implements Runnable {
+public abstract class ValidateInterruptibleTask<T, D> extends ValidateTaskBase<T, D> {
 
-    private final T value;
-    private boolean hasRun;
     private volatile Thread executingThread;
 
     protected ValidateInterruptibleTask(T value) {
-        this.value = value;
+        super(value);
     }
 
     @Override
-    public void run() {
-        if (hasRun) {
-            return;
-        }
-
-        hasRun = true;
+    protected final ValidationResult<D> execute(T value) {
         executingThread = Thread.currentThread();
-
-        try {
-            complete(apply(value));
-        } catch (Throwable ex) {
-            completeExceptionally(ex);
-        }
+        return apply(value);
     }
 
     protected abstract ValidationResult<D> apply(T value);
 
     @Override
     public boolean cancel(boolean mayInterruptIfRunning) {
+        if (cancelBeforeStart()) {
+            return true;
+        }
+
         if (executingThread != null) {
             executingThread.interrupt();
             executingThread = null;
@@ -22,38 +22,24 @@
 package impl.org.jfxcore.validation;
 
 import org.jfxcore.validation.ValidationResult;
-import java.util.concurrent.CompletableFuture;
 
-public abstract class ValidateTask<T, D> extends CompletableFuture<ValidationResult<D>> implements Runnable {
-
-    private final T value;
-    private boolean hasRun;
+public abstract class ValidateTask<T, D> extends ValidateTaskBase<T, D> {
 
     protected ValidateTask(T value) {
-        this.value = value;
+        super(value);
     }
 
     @Override
-    public void run() {
-        if (hasRun) {
-            return;
-        }
-
-        hasRun = true;
-
-        try {
-            complete(apply(value));
-        } catch (Throwable ex) {
-            completeExceptionally(ex);
-        }
+    protected final ValidationResult<D> execute(T value) {
+        return apply(value);
     }
 
     protected abstract ValidationResult<D> apply(T value);
 
     @Override
     public boolean cancel(boolean mayInterruptIfRunning) {
-        // Cancellation is not supported
-        return false;
+        // Cancellation is only supported before the task has started running
+        return cancelBeforeStart();
     }
 
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import org.jfxcore.validation.ValidationResult;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Base class for validation tasks that are created by asynchronous constraints and submitted to an executor.
+ * <p>
+ * The task records when it was created, when it started running and when it finished running, which
+ * allows the validation system to distinguish between the time a task spent waiting in the queue of
+ * its executor and the time it took to execute the validation function.
+ * <p>
+ * A task that is cancelled while it is still waiting in the queue of its executor is dropped: it transitions
+ * into the cancelled state immediately, and the validation function is never invoked when the executor
+ * eventually runs the task. This prevents the executor from spending time on validation runs that were
+ * superseded by a newer validation run before they have started. Subclasses define how a task that has
+ * already started running responds to cancellation.
+ *
+ * @param <T> type of the value to be validated
+ * @param <D> diagnostic type
+ */
+public abstract class ValidateTaskBase<T, D> extends CompletableFuture<ValidationResult<D>> implements Runnable {
+
+    private static final int NEW = 0;
+    private static final int RUNNING = 1;
+    private static final int DROPPED = 2;
+
+    private final T value;
+    private final long creationTime = System.nanoTime();
+    private final AtomicInteger state = new AtomicInteger(NEW);
+    private long startTime;
+    private long endTime;
+
+    protected ValidateTaskBase(T value) {
+        this.value = value;
+    }
+
+    @Override
+    public final void run() {
+        if (!state.compareAndSet(NEW, RUNNING)) {
+            return;
+        }
+
+        startTime = System.nanoTime();
+        ValidationResult<D> result = null;
+        Throwable exception = null;
+
+        try {
+            result = execute(value);
+        } catch (Throwable ex) {
+            exception = ex;
+        }
+
+        // The timestamp needs to be recorded before the future is completed, since
+        // completing the future publishes the timestamp to other threads.
+        endTime = System.nanoTime();
+
+        if (exception != null) {
+            completeExceptionally(exception);
+        } else if (isCancellationRequested()) {
+            super.cancel(true);
+        } else {
+            complete(result);
+        }
+    }
+
+    /**
+     * Cancels the task if it has not started running yet. In this case, the task transitions
+     * into the cancelled state, and the validation function will never be invoked.
+     *
+     * @return {@code true} if the task was cancelled, {@code false} if it has already started running
+     */
+    protected final boolean cancelBeforeStart() {
+        if (state.compareAndSet(NEW, DROPPED)) {
+            super.cancel(false);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Executes the validation function for the specified value.
+     */
+    protected abstract ValidationResult<D> execute(T value);
+
+    /**
+     * Indicates whether the task should transition to the cancelled state after
+     * {@link #execute(Object)} has returned.
+     */
+    protected boolean isCancellationRequested() {
+        return false;
+    }
+
+    /**
+     * Gets the time in nanoseconds that this task was waiting to be executed,
+     * or 0 if the task has not started running.
+     * <p>
+     * This method must only be called after the task has completed.
+     */
+    public long getQueueTime() {
+        return startTime != 0 ? startTime - creationTime : 0;
+    }
+
+    /**
+     * Gets the time in nanoseconds that this task was running, or 0 if the task has not finished running.
+     * <p>
+     * This method must only be called after the task has completed.
+     */
+    public long getExecutionTime() {
+        return endTime != 0 ? endTime - startTime : 0;
+    }
+
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects the validation helpers that are invalidated while a batch action is running,
+ * and validates each of them exactly once when the outermost batch action has completed.
+ * <p>
+ * The collected helpers are validated in two phases: first, every helper enters quiescence and starts
+ * its validators; then, every helper leaves quiescence and fires its change notifications. This ensures
+ * that no validation state changes or constrained values are published until all affected helpers
+ * have started validating the final values of their properties.
+ * <p>
+ * A batch that is started with {@link #runCompletions(Runnable)} only coalesces the completions of validators:
+ * when a validator completes while the batch is running, its validation helper enters quiescence, and leaves
+ * quiescence when the action has completed. This ensures that a validation helper fires its change notifications
+ * only once, independent of the number of validators that have completed while the batch was running.
+ * Invalidations are not deferred in such a batch, so that code which runs in the batch (for example, a listener
+ * that sets the value of another constrained property) observes the validation state of the property it changed.
+ */
+public final class ValidationBatch {
+
+    private static final ThreadLocal<ValidationBatch> CURRENT = new ThreadLocal<>();
+
+    // Number of threads that are currently running a batch, allows skipping the thread-local lookup
+    private static final AtomicInteger ACTIVE = new AtomicInteger();
+
+    private List<ValidationHelper<?, ?>> helpers = new ArrayList<>();
+    private List<ValidationHelper<?, ?>> completedHelpers;
+    private boolean defersValidation;
+
+    private ValidationBatch() {}
+
+    /**
+     * Returns the batch that is running on the current thread, or {@code null}.
+     */
+    static ValidationBatch current() {
+        return ACTIVE.get() == 0 ? null : CURRENT.get();
+    }
+
+    /**
+     * Returns the batch that is running on the current thread and defers the validation of invalidated
+     * helpers, or {@code null}.
+     */
+    static ValidationBatch deferring() {
+        ValidationBatch batch = current();
+        return batch != null && batch.defersValidation ? batch : null;
+    }
+
+    /**
+     * Runs the specified action in a batch. If a batch is already running on the current thread,
+     * the action joins the running batch.
+     */
+    public static void run(Runnable action) {
+        run(action, false);
+    }
+
+    /**
+     * Runs the specified action in a batch that coalesces validator completions, but doesn't defer
+     * the validation of invalidated helpers. If a batch is already running on the current thread,
+     * the action joins the running batch.
+     */
+    public static void runCompletions(Runnable action) {
+        run(action, true);
+    }
+
+    private static void run(Runnable action, boolean coalesceCompletions) {
+        ValidationBatch batch = current();
+        if (batch != null) {
+            if (coalesceCompletions || batch.defersValidation) {
+                action.run();
+                return;
+            }
+
+            // A batch is started while a batch that only coalesces completions is running:
+            // invalidations are deferred until the action has completed.
+            batch.defersValidation = true;
+
+            try {
+                action.run();
+            } finally {
+                try {
+                    batch.flush();
+                } finally {
+                    batch.defersValidation = false;
+                }
+            }
+
+            return;
+        }
+
+        batch = new ValidationBatch();
+        CURRENT.set(batch);
+        ACTIVE.incrementAndGet();
+
+        if (coalesceCompletions) {
+            batch.completedHelpers = new ArrayList<>();
+        } else {
+            batch.defersValidation = true;
+        }
+
+        try {
+            action.run();
+        } finally {
+            try {
+                batch.endCompletions();
+                batch.flush();
+            } finally {
+                ACTIVE.decrementAndGet();
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Called by a validation helper that is not quiescent when one of its validators has changed its state.
+     * If a batch that coalesces validator completions is running on the current thread, the helper enters
+     * quiescence until the batch action has completed.
+     */
+    static void deferCompletion(ValidationHelper<?, ?> helper) {
+        ValidationBatch batch = current();
+        if (batch != null && batch.completedHelpers != null && helper.beginCompletionQuiescence()) {
+            batch.completedHelpers.add(helper);
+        }
+    }
+
+    void add(ValidationHelper<?, ?> helper) {
+        helpers.add(helper);
+    }
+
+    /**
+     * Ends the quiescence of all helpers whose validators have completed while the batch action was running.
+     * Validators that complete after this point (for example, synchronous validators that are started by
+     * the change notifications of another helper) are not coalesced.
+     */
+    private void endCompletions() {
+        List<ValidationHelper<?, ?>> completed = completedHelpers;
+        if (completed == null) {
+            return;
+        }
+
+        completedHelpers = null;
+
+        for (ValidationHelper<?, ?> helper : completed) {
+            try {
+                helper.endCompletionQuiescence();
+            } catch (Throwable ex) {
+                Logger.error("Exception in validation listener", ex);
+            }
+        }
+    }
+
+    /**
+     * Validates all collected helpers. Helpers that are invalidated while the collected helpers
+     * are validated, for example because they depend on the constrained value of another helper,
+     * are collected and validated in a subsequent round.
+     */
+    private void flush() {
+        while (!helpers.isEmpty()) {
+            List<ValidationHelper<?, ?>> round = helpers;
+            helpers = new ArrayList<>();
+            int started = 0;
+
+            try {
+                for (ValidationHelper<?, ?> helper : round) {
+                    if (helper.beginDeferredValidation()) {
+                        round.set(started++, helper);
+                    }
+                }
+            } finally {
+                for (int i = 0; i < started; ++i) {
+                    round.get(i).endQuiescence();
+                }
+            }
+        }
+    }
+
+}
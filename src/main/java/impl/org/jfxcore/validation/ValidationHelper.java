@@ -26,19 +26,29 @@ import javafx.beans.Observable;
 import javafx.beans.WeakInvalidationListener;
 import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.ReadOnlyBooleanPropertyBase;
+import javafx.beans.value.ChangeListener;
+import org.jfxcore.validation.ConcurrencyLimit;
 import org.jfxcore.validation.Constraint;
 import org.jfxcore.validation.ConstraintBase;
 import org.jfxcore.validation.DiagnosticList;
+import org.jfxcore.validation.EvaluationMode;
+import org.jfxcore.validation.IncrementalConstraint;
 import org.jfxcore.validation.ListConstraint;
 import org.jfxcore.validation.MapConstraint;
+import org.jfxcore.validation.ParallelValidation;
 import org.jfxcore.validation.SetConstraint;
+import org.jfxcore.validation.SupersessionMode;
+import org.jfxcore.validation.SyncConstraint;
 import org.jfxcore.validation.ValidationListener;
 import org.jfxcore.validation.ValidationResult;
+import org.jfxcore.validation.ValidationScheduler;
 import org.jfxcore.validation.ValidationState;
+import org.jfxcore.validation.metrics.ValidationMetrics;
 import org.jfxcore.validation.property.ReadOnlyConstrainedProperty;
 import org.jfxcore.validation.property.ReadOnlyDiagnosticListProperty;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -70,12 +80,33 @@ public class ValidationHelper<T, D> implements InvalidationListener {
     private final ReadOnlyConstrainedProperty<T, D> observable;
     private final DeferredProperty<T> constrainedValue;
     private final ValidatorImpl<T, D>[] validators;
+    private final DependencyIndex dependencyIndex;
 
     private List<ValidationListener<? super T, D>> validationListeners;
     private DiagnosticListImpl<D> diagnosticsList;
     private Properties<D> properties;
+    private ValidationMetrics metrics;
+    private ValidationScheduler scheduler;
+    private EvaluationMode evaluationMode;
+    private SupersessionMode supersessionMode;
+    private ParallelValidation parallelValidation;
+    private ConcurrencyLimit concurrencyLimit;
+    private ConcurrencyLimiter concurrencyLimiter;
+    private int[] costOrder;
+    private int staleValidators;
+    private int incrementalValidators;
+    private Runnable deferredValidation;
+    private Observable pendingDependency;
+    private boolean pendingContentChange;
+    private boolean validationPending;
+    private boolean validationQueued;
+    private boolean lazyValidationSuspended;
+    private boolean diagnosticsExposed;
+    private int observerCount;
+    private Object validationRunEvent;
     private boolean userModified;
     private boolean quiescent;
+    private boolean completionQuiescent;
     private int currentlyValidatingCount;
     private int flags;
 
@@ -107,6 +138,7 @@ public class ValidationHelper<T, D> implements InvalidationListener {
 
         this.observable = observable;
         this.constrainedValue = constrainedValue;
+        this.constrainedValue.setValidationHelper(this);
         int length = 0;
 
         if (constraints != null) {
@@ -128,44 +160,221 @@ public class ValidationHelper<T, D> implements InvalidationListener {
         setLastFlag(INVALID_FLAG, invalid);
 
         if (length > 0) {
+            ConstraintBase<?, ?>[] filteredConstraints = new ConstraintBase<?, ?>[length];
+
             for (int i = 0, j = 0; i < constraints.length && j < length; ++i) {
                 if (!constraintType.checkType(constraints[i])) {
                     continue;
                 }
 
-                Observable[] dependencies = constraints[i].getDependencies();
-                if (dependencies != null) {
-                    for (Observable dependency : dependencies) {
-                        if (!isRecurringDependency(dependency)) {
-                            dependency.addListener(weakInvalidationListener);
-                        }
-                    }
+                filteredConstraints[j] = constraints[i];
+                validators[j] = new ValidatorImpl<>(this, constraints[i], j);
+
+                if (validators[j].incrementalAdapter != null) {
+                    incrementalValidators++;
                 }
 
-                validators[j] = new ValidatorImpl<>(this, constraints[i], j);
                 j++;
             }
+
+            dependencyIndex = DependencyIndex.of(filteredConstraints);
+
+            for (Observable dependency : dependencyIndex.dependencies()) {
+                dependency.addListener(weakInvalidationListener);
+            }
+        } else {
+            dependencyIndex = DependencyIndex.EMPTY;
         }
     }
 
-    private boolean isRecurringDependency(Observable dependency) {
-        for (var validator : validators) {
-            if (validator == null) {
-                return false;
+    /**
+     * Adds a dependency listener to the specified dependencies, unless they are already dependencies
+     * of the constraints of this helper. This can be used by extending classes to subscribe to the
+     * dependencies of additional constraints.
+     */
+    protected final void addDependencies(DependencyIndex dependencies) {
+        for (Observable dependency : dependencies.dependencies()) {
+            if (!dependencyIndex.contains(dependency)) {
+                dependency.addListener(weakInvalidationListener);
             }
+        }
+    }
 
-            if (validator.isDependency(dependency)) {
-                return true;
-            }
+    /**
+     * Indicates whether any of the constraints of this helper is an {@link IncrementalConstraintAdapter}.
+     * If that is the case, extending classes must report added and removed elements by calling
+     * {@link #incrementalElementAdded(Object)} and {@link #incrementalElementRemoved(Object)}.
+     */
+    protected final boolean hasIncrementalConstraints() {
+        return incrementalValidators > 0;
+    }
+
+    /**
+     * Adds the specified element to the accumulators of all incremental constraints.
+     */
+    protected final void incrementalElementAdded(Object element) {
+        for (ValidatorImpl<T, D> validator : validators) {
+            validator.elementAdded(element);
         }
+    }
 
-        return false;
+    /**
+     * Removes the specified element from the accumulators of all incremental constraints.
+     */
+    protected final void incrementalElementRemoved(Object element) {
+        for (ValidatorImpl<T, D> validator : validators) {
+            validator.elementRemoved(element);
+        }
+    }
+
+    /**
+     * Discards the accumulators of all incremental constraints, which causes them to be populated
+     * with all elements of the collection in the next validation run.
+     */
+    protected final void resetIncrementalState() {
+        if (incrementalValidators > 0) {
+            for (ValidatorImpl<T, D> validator : validators) {
+                validator.accumulator = null;
+            }
+        }
     }
 
-    ReadOnlyConstrainedProperty<T, D> getObservable() {
+    public ReadOnlyConstrainedProperty<T, D> getObservable() {
         return observable;
     }
 
+    public ValidationMetrics getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(ValidationMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public EvaluationMode getEvaluationMode() {
+        return evaluationMode;
+    }
+
+    public void setEvaluationMode(EvaluationMode evaluationMode) {
+        this.evaluationMode = evaluationMode;
+    }
+
+    private EvaluationMode resolveEvaluationMode() {
+        return evaluationMode != null ? evaluationMode : EvaluationMode.getDefault();
+    }
+
+    public SupersessionMode getSupersessionMode() {
+        return supersessionMode;
+    }
+
+    public void setSupersessionMode(SupersessionMode supersessionMode) {
+        this.supersessionMode = supersessionMode;
+    }
+
+    private SupersessionMode resolveSupersessionMode() {
+        return supersessionMode != null ? supersessionMode : SupersessionMode.getDefault();
+    }
+
+    public ParallelValidation getParallelValidation() {
+        return parallelValidation;
+    }
+
+    public void setParallelValidation(ParallelValidation parallelValidation) {
+        this.parallelValidation = parallelValidation;
+    }
+
+    public ConcurrencyLimit getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    public void setConcurrencyLimit(ConcurrencyLimit concurrencyLimit) {
+        this.concurrencyLimit = concurrencyLimit;
+
+        if (concurrencyLimit != null && concurrencyLimiter == null) {
+            concurrencyLimiter = new ConcurrencyLimiter(concurrencyLimit.getMaxConcurrency());
+        } else if (concurrencyLimiter != null) {
+            // When the limit is removed, the limiter is retained with unlimited capacity, which starts
+            // all queued validations and keeps track of the validations that are still running.
+            concurrencyLimiter.setMaxConcurrency(
+                concurrencyLimit != null ? concurrencyLimit.getMaxConcurrency() : Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Returns the limiter for asynchronous element validations, or {@code null} if no
+     * {@link ConcurrencyLimit} was set for the property.
+     */
+    public ConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    public ValidationScheduler getScheduler() {
+        return scheduler;
+    }
+
+    public void setScheduler(ValidationScheduler scheduler) {
+        this.scheduler = scheduler;
+
+        if (validationPending && !quiescent) {
+            runDeferredValidation();
+        }
+    }
+
+    /**
+     * Runs the pending deferred validation run if this helper uses lazy validation, or if the pending
+     * run was deferred lazily and never scheduled (for example, because the default scheduler has
+     * changed since then). This method is called before the validation state is queried.
+     */
+    final void validateIfStale() {
+        if (validationPending
+                && !quiescent
+                && !lazyValidationSuspended
+                && (!validationQueued || SchedulerHelper.resolve(scheduler) == SchedulerHelper.LAZY)) {
+            runDeferredValidation();
+        }
+    }
+
+    /**
+     * Occurs when a listener was added to the validation state properties, the diagnostics or the
+     * constrained value. A helper that uses lazy validation validates immediately while it is observed.
+     */
+    final void addObserver() {
+        ++observerCount;
+        validateIfStale();
+    }
+
+    final void removeObserver() {
+        if (observerCount > 0) {
+            --observerCount;
+        }
+    }
+
+    static void valueRead(ValidationHelper<?, ?> helper) {
+        if (helper != null) {
+            helper.validateIfStale();
+        }
+    }
+
+    static void observerAdded(ValidationHelper<?, ?> helper) {
+        if (helper != null) {
+            helper.addObserver();
+        }
+    }
+
+    static void observerRemoved(ValidationHelper<?, ?> helper) {
+        if (helper != null) {
+            helper.removeObserver();
+        }
+    }
+
+    /**
+     * Suspends lazy validation while a subclass updates its internal state, which may require
+     * reading the constrained value.
+     */
+    protected final void setLazyValidationSuspended(boolean value) {
+        lazyValidationSuspended = value;
+    }
+
     public void updateUserModified(boolean value) {
         if (userModified != value) {
             userModified = value;
@@ -178,10 +387,10 @@ public class ValidationHelper<T, D> implements InvalidationListener {
     public ReadOnlyBooleanProperty validProperty() {
         Properties<D> properties = properties();
         if (properties.valid == null) {
-            properties.valid = new BooleanPropertyImpl() {
+            properties.valid = new BooleanPropertyImpl(this) {
                 @Override public String getName() { return "valid"; }
                 @Override public Object getBean() { return observable; }
-                @Override public boolean get() { return isFlag(VALID_FLAG); }
+                @Override public boolean get() { return isValid(); }
             };
         }
 
@@ -189,16 +398,17 @@ public class ValidationHelper<T, D> implements InvalidationListener {
     }
 
     public boolean isValid() {
+        validateIfStale();
         return isFlag(VALID_FLAG);
     }
 
     public ReadOnlyBooleanProperty invalidProperty() {
         Properties<D> properties = properties();
         if (properties.invalid == null) {
-            properties.invalid = new BooleanPropertyImpl() {
+            properties.invalid = new BooleanPropertyImpl(this) {
                 @Override public String getName() { return "invalid"; }
                 @Override public Object getBean() { return observable; }
-                @Override public boolean get() { return isFlag(INVALID_FLAG); }
+                @Override public boolean get() { return isInvalid(); }
             };
         }
 
@@ -206,16 +416,17 @@ public class ValidationHelper<T, D> implements InvalidationListener {
     }
 
     public boolean isInvalid() {
+        validateIfStale();
         return isFlag(INVALID_FLAG);
     }
 
     public ReadOnlyBooleanProperty userValidProperty() {
         Properties<D> properties = properties();
         if (properties.userValid == null) {
-            properties.userValid = new BooleanPropertyImpl() {
+            properties.userValid = new BooleanPropertyImpl(this) {
                 @Override public String getName() { return "userValid"; }
                 @Override public Object getBean() { return observable; }
-                @Override public boolean get() { return isFlag(USER_VALID_FLAG); }
+                @Override public boolean get() { return isUserValid(); }
             };
         }
 
@@ -223,16 +434,17 @@ public class ValidationHelper<T, D> implements InvalidationListener {
     }
 
     public boolean isUserValid() {
+        validateIfStale();
         return isFlag(USER_VALID_FLAG);
     }
 
     public ReadOnlyBooleanProperty userInvalidProperty() {
         Properties<D> properties = properties();
         if (properties.userInvalid == null) {
-            properties.userInvalid = new BooleanPropertyImpl() {
+            properties.userInvalid = new BooleanPropertyImpl(this) {
                 @Override public String getName() { return "userInvalid"; }
                 @Override public Object getBean() { return observable; }
-                @Override public boolean get() { return isFlag(USER_INVALID_FLAG); }
+                @Override public boolean get() { return isUserInvalid(); }
             };
         }
 
@@ -240,16 +452,17 @@ public class ValidationHelper<T, D> implements InvalidationListener {
     }
 
     public boolean isUserInvalid() {
+        validateIfStale();
         return isFlag(USER_INVALID_FLAG);
     }
 
     public ReadOnlyBooleanProperty validatingProperty() {
         Properties<D> properties = properties();
         if (properties.validating == null) {
-            properties.validating = new BooleanPropertyImpl() {
+            properties.validating = new BooleanPropertyImpl(this) {
                 @Override public String getName() { return "validating"; }
                 @Override public Object getBean() { return observable; }
-                @Override public boolean get() { return isFlag(VALIDATING_FLAG); }
+                @Override public boolean get() { return isValidating(); }
             };
         }
 
@@ -257,6 +470,7 @@ public class ValidationHelper<T, D> implements InvalidationListener {
     }
 
     public boolean isValidating() {
+        validateIfStale();
         return isFlag(VALIDATING_FLAG);
     }
 
@@ -269,7 +483,22 @@ public class ValidationHelper<T, D> implements InvalidationListener {
         return properties.diagnostics;
     }
 
+    /**
+     * Returns the diagnostics list. Since the diagnostics list may be observed by the caller,
+     * a helper that uses lazy validation validates immediately after the list was returned.
+     */
     public DiagnosticList<D> getDiagnostics() {
+        if (!diagnosticsExposed) {
+            diagnosticsExposed = true;
+            addObserver();
+        } else {
+            validateIfStale();
+        }
+
+        return diagnostics();
+    }
+
+    private DiagnosticListImpl<D> diagnostics() {
         if (diagnosticsList == null) {
             diagnosticsList = new DiagnosticListImpl<>(validators.length);
 
@@ -291,11 +520,12 @@ public class ValidationHelper<T, D> implements InvalidationListener {
         }
 
         validationListeners.add(listener);
+        addObserver();
     }
 
     public void removeListener(ValidationListener<? super T, D> listener) {
-        if (validationListeners != null) {
-            validationListeners.remove(listener);
+        if (validationListeners != null && validationListeners.remove(listener)) {
+            removeObserver();
         }
     }
 
@@ -304,11 +534,119 @@ public class ValidationHelper<T, D> implements InvalidationListener {
      */
     @Override
     public void invalidated(Observable dependency) {
+        if (dependency == observable) {
+            resetIncrementalState();
+        }
+
+        if (deferValidation(dependency, false)) {
+            return;
+        }
+
         beginQuiescence();
         onStartValidation(dependency, PropertyHelper.readValue(observable));
         endQuiescence();
     }
 
+    /**
+     * Defers the validation run for the specified dependency if the {@link ValidationScheduler} of this
+     * helper doesn't validate immediately, or if a {@link ValidationBatch} that defers validation is running
+     * on the current thread.
+     * Multiple deferred validation runs are coalesced into a single run, which is scheduled (or added to
+     * the batch) when the first run is deferred. If the helper uses lazy validation and is not observed,
+     * the deferred run is not scheduled, but runs when the validation state is queried. If such a run
+     * is still pending when the helper no longer validates lazily, it is scheduled (or added to the batch)
+     * with the next deferred run, or runs immediately if the helper now validates immediately.
+     * <p>
+     * This method must not be called when the validation helper is quiescent, since the scheduler
+     * may run the deferred validation before this method returns.
+     *
+     * @param dependency the dependency, or the observable itself
+     * @param contentChange {@code true} if only the constraints of the observable need to be evaluated
+     *                      because the content of a collection has changed
+     * @return {@code true} if the validation run was deferred, {@code false} if it must run immediately
+     */
+    protected final boolean deferValidation(Observable dependency, boolean contentChange) {
+        ValidationScheduler scheduler = SchedulerHelper.resolve(this.scheduler);
+        if (scheduler == SchedulerHelper.LAZY && observerCount > 0) {
+            scheduler = null;
+        }
+
+        ValidationBatch batch = scheduler == null ? ValidationBatch.deferring() : null;
+        if (scheduler == null && batch == null && !validationPending) {
+            return false;
+        }
+
+        if (contentChange) {
+            pendingContentChange = true;
+        } else if (pendingDependency == null) {
+            pendingDependency = dependency;
+        } else if (pendingDependency != dependency) {
+            pendingDependency = observable;
+        }
+
+        if (!validationPending) {
+            validationPending = true;
+        } else if (validationQueued || scheduler == SchedulerHelper.LAZY) {
+            return true;
+        }
+
+        if (batch != null) {
+            validationQueued = true;
+            batch.add(this);
+        } else if (scheduler == null) {
+            // The pending run was deferred lazily, but this helper now validates immediately.
+            runDeferredValidation();
+        } else if (scheduler != SchedulerHelper.LAZY) {
+            if (deferredValidation == null) {
+                deferredValidation = this::runDeferredValidation;
+            }
+
+            validationQueued = true;
+            scheduler.schedule(deferredValidation);
+        }
+
+        return true;
+    }
+
+    /**
+     * Runs the pending deferred validation run, which validates the current value of the observable.
+     */
+    private void runDeferredValidation() {
+        if (beginDeferredValidation()) {
+            endQuiescence();
+        }
+    }
+
+    /**
+     * Begins quiescence and starts the validators of the pending deferred validation run.
+     * If this method returns {@code true}, the caller must call {@link #endQuiescence()}.
+     *
+     * @return {@code true} if a deferred validation run was pending, {@code false} otherwise
+     */
+    boolean beginDeferredValidation() {
+        if (!validationPending) {
+            return false;
+        }
+
+        Observable dependency = pendingDependency;
+        boolean contentChange = pendingContentChange;
+        pendingDependency = null;
+        pendingContentChange = false;
+        validationPending = false;
+        validationQueued = false;
+
+        T value = PropertyHelper.readValue(observable);
+        beginQuiescence();
+
+        if (dependency == null) {
+            startValidators(observable, value);
+        } else {
+            onStartValidation(contentChange ? observable : dependency, value);
+        }
+
+        return true;
+    }
+
     /**
      * Notifies the validation helper that the state of a validator has changed.
      * A well-behaved validator must signal the STARTED state before doing any computations,
@@ -318,6 +656,10 @@ public class ValidationHelper<T, D> implements InvalidationListener {
      * @param intermediate indicates whether the validator has scheduled a follow-up validation run
      */
     public void notifyValidatorStateChanged(ValidatorState state, boolean intermediate) {
+        if (!quiescent) {
+            ValidationBatch.deferCompletion(this);
+        }
+
         switch (state) {
             case STARTED -> {
                 if (currentlyValidatingCount++ == 0) {
@@ -345,7 +687,7 @@ public class ValidationHelper<T, D> implements InvalidationListener {
                         updateValidatingProperties(validationState);
                     }
 
-                    if (validationState == ValidationState.VALID) {
+                    if (validationState == ValidationState.VALID && !validationPending) {
                         constrainedValue.applyValue();
                     }
 
@@ -395,15 +737,56 @@ public class ValidationHelper<T, D> implements InvalidationListener {
      * properties if the validators complete immediately and synchronously.
      */
     protected void beginQuiescence() {
+        if (completionQuiescent) {
+            // The helper entered quiescence to coalesce validator completions, and now starts a new
+            // validation run. Change notifications are fired when the validation run ends quiescence.
+            completionQuiescent = false;
+            validationRunEvent = FlightRecorderHelper.beginValidationRun();
+            return;
+        }
+
         if (quiescent) {
             throw new IllegalStateException();
         }
 
         quiescent = true;
+        validationRunEvent = FlightRecorderHelper.beginValidationRun();
+
+        if (diagnosticsList != null) {
+            diagnosticsList.beginQuiescence();
+        }
+    }
+
+    /**
+     * Begins quiescence to coalesce the completions of validators in a {@link ValidationBatch}.
+     * If this method returns {@code true}, the caller must call {@link #endCompletionQuiescence()}.
+     *
+     * @return {@code true} if the helper entered quiescence, {@code false} if it was already quiescent
+     */
+    boolean beginCompletionQuiescence() {
+        if (quiescent) {
+            return false;
+        }
+
+        quiescent = true;
+        completionQuiescent = true;
 
         if (diagnosticsList != null) {
             diagnosticsList.beginQuiescence();
         }
+
+        return true;
+    }
+
+    /**
+     * Ends the quiescence that was started by {@link #beginCompletionQuiescence()}, unless a validation
+     * run has started in the meantime, which will end quiescence on its own.
+     */
+    void endCompletionQuiescence() {
+        if (completionQuiescent) {
+            completionQuiescent = false;
+            endQuiescence();
+        }
     }
 
     /**
@@ -421,7 +804,7 @@ public class ValidationHelper<T, D> implements InvalidationListener {
             ValidationState validationState = getValidationState();
             updateValidatingProperties(validationState);
 
-            if (validationState == ValidationState.VALID) {
+            if (validationState == ValidationState.VALID && !validationPending) {
                 constrainedValue.applyValue();
             }
         }
@@ -431,6 +814,11 @@ public class ValidationHelper<T, D> implements InvalidationListener {
         }
 
         fireValidationStateChanged();
+
+        if (validationRunEvent != null) {
+            FlightRecorderHelper.commitValidationRun(validationRunEvent, observable, validators.length);
+            validationRunEvent = null;
+        }
     }
 
     /**
@@ -438,17 +826,145 @@ public class ValidationHelper<T, D> implements InvalidationListener {
      * run begins. Extending classes can override this method to start additional validators.
      */
     protected void onStartValidation(Observable dependency, T newValue) {
+        startValidators(dependency, newValue);
+    }
+
+    private void startValidators(Observable dependency, T newValue) {
         if (validators.length > 0) {
-            for (var validator : validators) {
-                if (dependency == observable || validator.isDependency(dependency)) {
+            EvaluationMode mode = resolveEvaluationMode();
+            if (mode != EvaluationMode.ALL || staleValidators > 0) {
+                startValidatorsInOrder(dependency, newValue, mode);
+            } else if (dependency == observable) {
+                for (var validator : validators) {
                     validator.validate(newValue);
                 }
+            } else {
+                int[] indices = dependencyIndex.get(dependency);
+                if (indices != null) {
+                    for (int index : indices) {
+                        validators[index].validate(newValue);
+                    }
+                }
             }
         } else {
             constrainedValue.storeValue(newValue);
         }
     }
 
+    /**
+     * Starts the validators that are affected by the dependency, as well as all validators that were skipped
+     * in a previous validation run. In the fail-fast evaluation modes, validators are started in evaluation
+     * order, and the remaining validators are skipped as soon as a validator has failed synchronously.
+     */
+    private void startValidatorsInOrder(Observable dependency, T newValue, EvaluationMode mode) {
+        boolean failFast = mode != EvaluationMode.ALL;
+        int[] order = failFast ? getEvaluationOrder(mode) : null;
+        int[] indices = dependency != observable ? dependencyIndex.get(dependency) : null;
+        boolean failed = false;
+
+        if (failFast && dependency != observable) {
+            // If a validator that is not affected by the dependency has already failed for the current value,
+            // the validation run can't change the validation state, so all affected validators are skipped.
+            for (var validator : validators) {
+                ValidationResult<D> result = validator.getValidationResult();
+                if (!validator.running && result != null && !result.isValid() && !contains(indices, validator.index)) {
+                    failed = true;
+                    break;
+                }
+            }
+        }
+
+        for (int i = 0; i < validators.length; ++i) {
+            ValidatorImpl<T, D> validator = validators[order != null ? order[i] : i];
+            if (dependency != observable && !validator.stale && !contains(indices, validator.index)) {
+                continue;
+            }
+
+            if (failed) {
+                validator.skip();
+                continue;
+            }
+
+            validator.setStale(false);
+            validator.completed = false;
+            validator.validate(newValue);
+
+            if (failFast && validator.completed) {
+                ValidationResult<D> result = validator.getValidationResult();
+                failed = result != null && !result.isValid();
+            }
+        }
+    }
+
+    private static boolean contains(int[] indices, int index) {
+        if (indices != null) {
+            for (int i : indices) {
+                if (i == index) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the indices of the validators in the order in which they are evaluated in the specified mode.
+     */
+    private int[] getEvaluationOrder(EvaluationMode mode) {
+        if (mode == EvaluationMode.FAIL_FAST) {
+            if (costOrder == null) {
+                costOrder = sortValidators(ValidationHelper::compareCost);
+            }
+
+            return costOrder;
+        }
+
+        return sortValidators(ValidationHelper::compareAdaptive);
+    }
+
+    private int[] sortValidators(Comparator<ValidatorImpl<?, ?>> comparator) {
+        int[] order = new int[validators.length];
+
+        // Insertion sort is stable and fast for the small number of validators of a property.
+        for (int i = 0; i < order.length; ++i) {
+            int j = i;
+            while (j > 0 && comparator.compare(validators[order[j - 1]], validators[i]) > 0) {
+                order[j] = order[j - 1];
+                --j;
+            }
+
+            order[j] = i;
+        }
+
+        return order;
+    }
+
+    private static int compareCost(ValidatorImpl<?, ?> v1, ValidatorImpl<?, ?> v2) {
+        return Integer.compare(v1.cost, v2.cost);
+    }
+
+    private static int compareAdaptive(ValidatorImpl<?, ?> v1, ValidatorImpl<?, ?> v2) {
+        if (v1.sync != v2.sync) {
+            return v1.sync ? -1 : 1;
+        }
+
+        int result = Double.compare(v1.getEvaluationScore(), v2.getEvaluationScore());
+        return result != 0 ? result : compareCost(v1, v2);
+    }
+
+    /**
+     * Cancels all running validators except the specified validator.
+     * This is called in the fail-fast evaluation modes when a validator has failed asynchronously.
+     */
+    private void cancelRunningValidators(ValidatorImpl<T, D> failedValidator) {
+        for (var validator : validators) {
+            if (validator != failedValidator && validator.running) {
+                validator.skip();
+            }
+        }
+    }
+
     /**
      * Determines the current {@link ValidationState} of the validation, which is
      * <ol>
@@ -564,19 +1080,37 @@ public class ValidationHelper<T, D> implements InvalidationListener {
 
     private static class ValidatorImpl<T, D> extends SerializedValidator<T, D> {
         private final Function<T, CompletableFuture<ValidationResult<D>>> validateFunc;
+        private final IncrementalConstraintAdapter<D> incrementalAdapter;
         private final ValidationHelper<T, D> helper;
-        private final Observable[] dependencies;
         private final int index;
+        private final int cost;
+        private final boolean sync;
         private ValidationResult<D> validationResult;
+        private boolean running;
+        private boolean completed;
+        private boolean stale;
+        private long startTime;
+        private double latency;
+        private int runs;
+        private int failures;
+        private IncrementalConstraint.Accumulator<Object, D> accumulator;
 
         @SuppressWarnings({"unchecked", "rawtypes"})
         ValidatorImpl(ValidationHelper<T, D> helper, ConstraintBase<?, D> constraint, int index) {
             super(constraint);
             this.helper = helper;
-            this.dependencies = constraint.getDependencies();
             this.index = index;
-
-            if (constraint instanceof Constraint c) {
+            this.cost = constraint.getCost();
+            this.sync = constraint instanceof SyncConstraint;
+            this.incrementalAdapter = constraint instanceof IncrementalConstraintAdapter<?> adapter ?
+                (IncrementalConstraintAdapter<D>)adapter : null;
+
+            if (constraint instanceof SyncConstraint) {
+                // Synchronous constraints are invoked directly by SerializedValidator
+                validateFunc = null;
+            } else if (incrementalAdapter != null) {
+                validateFunc = value -> CompletableFuture.completedFuture(validateIncremental(value));
+            } else if (constraint instanceof Constraint c) {
                 validateFunc = value -> c.validate(value);
             } else if (constraint instanceof ListConstraint c) {
                 validateFunc = value -> c.validate((List)value);
@@ -589,21 +1123,98 @@ public class ValidationHelper<T, D> implements InvalidationListener {
             }
         }
 
-        public boolean isDependency(Observable observable) {
-            if (dependencies != null) {
-                for (Observable dep : dependencies) {
-                    if (observable == dep) {
-                        return true;
-                    }
+        @Override
+        public ValidationResult<D> getValidationResult() {
+            return validationResult;
+        }
+
+        /**
+         * Validates the aggregated state of an incremental constraint. If the accumulator was discarded,
+         * a new accumulator is populated with all elements of the collection.
+         */
+        private ValidationResult<D> validateIncremental(T value) {
+            if (accumulator == null) {
+                accumulator = incrementalAdapter.newAccumulator(value);
+            }
+
+            return accumulator.getResult();
+        }
+
+        void elementAdded(Object element) {
+            if (accumulator != null) {
+                try {
+                    accumulator.add(element);
+                } catch (Throwable ex) {
+                    Logger.error("Accumulator failed with an exception", ex);
+                    accumulator = null;
                 }
             }
+        }
 
-            return false;
+        void elementRemoved(Object element) {
+            if (accumulator != null) {
+                try {
+                    accumulator.remove(element);
+                } catch (Throwable ex) {
+                    Logger.error("Accumulator failed with an exception", ex);
+                    accumulator = null;
+                }
+            }
+        }
+
+        void setStale(boolean stale) {
+            if (this.stale != stale) {
+                this.stale = stale;
+                helper.staleValidators += stale ? 1 : -1;
+            }
+        }
+
+        /**
+         * Skips the evaluation of this validator in the current validation run, and cancels the
+         * validator if it is running. If the validator doesn't respond to cancellation, its result
+         * is discarded when it completes. The validator is evaluated in the next validation run.
+         */
+        void skip() {
+            setStale(true);
+            validationResult = null;
+
+            if (helper.diagnosticsList != null) {
+                helper.diagnosticsList.clearDiagnostic(index);
+            }
+
+            if (running) {
+                discard();
+            }
+        }
+
+        /**
+         * Gets the expected latency of this validator per failure, which is lower for validators that
+         * complete quickly and fail often. Validators that were never evaluated have a score of zero.
+         */
+        double getEvaluationScore() {
+            return runs > 0 ? latency * (runs + 2) / (failures + 1) : 0;
+        }
+
+        private void recordEvaluation(boolean valid) {
+            double elapsed = System.nanoTime() - startTime;
+            latency = runs > 0 ? latency + (elapsed - latency) / Math.min(runs + 1, 16) : elapsed;
+            runs = runs < Integer.MAX_VALUE ? runs + 1 : runs;
+            failures = valid ? failures : failures + 1;
         }
 
         @Override
-        public ValidationResult<D> getValidationResult() {
-            return validationResult;
+        protected boolean isLatestValueWins() {
+            return helper.resolveSupersessionMode() == SupersessionMode.LATEST_VALUE_WINS;
+        }
+
+        @Override
+        protected ValidationMetrics getMetrics() {
+            return MetricsHelper.resolve(helper.metrics);
+        }
+
+        @Override
+        protected ReadOnlyConstrainedProperty<?, ?> getProperty() {
+            return helper.observable;
         }
 
         @Override
@@ -617,12 +1228,26 @@ public class ValidationHelper<T, D> implements InvalidationListener {
                 helper.diagnosticsList.clearDiagnostic(index);
             }
 
+            running = true;
+
+            if (helper.resolveEvaluationMode() == EvaluationMode.ADAPTIVE) {
+                startTime = System.nanoTime();
+            }
+
             helper.notifyValidatorStateChanged(ValidatorState.STARTED, false);
         }
 
         @Override
         protected void onValidationCompleted(T value, ValidationResult<D> result, boolean intermediateCompletion) {
             validationResult = result;
+            running = false;
+            completed = true;
+
+            if (result != null && startTime != 0) {
+                recordEvaluation(result.isValid());
+            }
+
+            startTime = 0;
 
             if (result == null) {
                 helper.notifyValidatorStateChanged(ValidatorState.CANCELLED, intermediateCompletion);
@@ -633,13 +1258,17 @@ public class ValidationHelper<T, D> implements InvalidationListener {
             } else {
                 updateDiagnostic(result, false);
                 helper.notifyValidatorStateChanged(ValidatorState.FAILED, intermediateCompletion);
+
+                if (!intermediateCompletion && helper.resolveEvaluationMode() != EvaluationMode.ALL) {
+                    helper.cancelRunningValidators(this);
+                }
             }
         }
 
         private void updateDiagnostic(ValidationResult<D> result, boolean valid) {
             D diagnostic = result.getDiagnostic();
             if (diagnostic != null) {
-                ((DiagnosticListImpl<D>)helper.getDiagnostics()).setDiagnostic(index, diagnostic, valid);
+                helper.diagnostics().setDiagnostic(index, diagnostic, valid);
             } else if (helper.diagnosticsList != null) {
                 helper.diagnosticsList.clearDiagnostic(index);
             }
@@ -647,10 +1276,41 @@ public class ValidationHelper<T, D> implements InvalidationListener {
     }
 
     private static abstract class BooleanPropertyImpl extends ReadOnlyBooleanPropertyBase {
+        private final ValidationHelper<?, ?> helper;
+        private final ObserverList observers = new ObserverList();
+
+        BooleanPropertyImpl(ValidationHelper<?, ?> helper) {
+            this.helper = helper;
+        }
+
         @Override
         protected final void fireValueChangedEvent() {
             super.fireValueChangedEvent();
         }
+
+        @Override
+        public void addListener(InvalidationListener listener) {
+            super.addListener(listener);
+            observers.add(listener, helper);
+        }
+
+        @Override
+        public void removeListener(InvalidationListener listener) {
+            super.removeListener(listener);
+            observers.remove(listener, helper);
+        }
+
+        @Override
+        public void addListener(ChangeListener<? super Boolean> listener) {
+            super.addListener(listener);
+            observers.add(listener, helper);
+        }
+
+        @Override
+        public void removeListener(ChangeListener<? super Boolean> listener) {
+            super.removeListener(listener);
+            observers.remove(listener, helper);
+        }
     }
 
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import org.jfxcore.validation.ValidationResult;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Classifies how a validation run has ended.
+ */
+public enum ValidationOutcome {
+
+    VALID,
+    INVALID,
+    CANCELLED,
+    SUPERSEDED,
+    FAILED;
+
+    /**
+     * Determines the outcome of a validation run.
+     *
+     * @param result the result of the validation run
+     * @param exception the exception that was thrown by the constraint validator
+     * @param superseded indicates whether the result was discarded because another validation run was requested
+     */
+    public static ValidationOutcome of(ValidationResult<?> result, Throwable exception, boolean superseded) {
+        if (superseded) {
+            return SUPERSEDED;
+        }
+
+        if (exception instanceof CancellationException) {
+            return CANCELLED;
+        }
+
+        if (exception != null) {
+            return FAILED;
+        }
+
+        if (result == null || result == ValidationResult.none()) {
+            return CANCELLED;
+        }
+
+        return result.isValid() ? VALID : INVALID;
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules delayed actions of the validation system on a shared daemon thread.
+ * <p>
+ * Actions that are scheduled with this class must return quickly, since they all run on a single thread.
+ * Usually, an action will only hand off its work to another executor.
+ */
+public final class ValidationTimer {
+
+    private ValidationTimer() {}
+
+    private static final class Holder {
+        static final ScheduledThreadPoolExecutor EXECUTOR = createExecutor();
+
+        private static ScheduledThreadPoolExecutor createExecutor() {
+            var executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "jfxcore-validation-timer");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+            // Cancelled actions are removed from the work queue immediately, since debounced constraints
+            // may cancel a large number of actions in short succession.
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
+
+    /**
+     * Schedules an action that runs after the specified delay.
+     *
+     * @param action the action
+     * @param delay the delay in nanoseconds
+     * @return a {@code ScheduledFuture} that can be used to cancel the action
+     */
+    public static ScheduledFuture<?> schedule(Runnable action, long delay) {
+        return Holder.EXECUTOR.schedule(action, delay, TimeUnit.NANOSECONDS);
+    }
+
+}
@@ -5,10 +5,13 @@ module jfxcore.validation {
 
     requires javafx.base;
     requires javafx.graphics;
+    requires static java.management;
+    requires static jdk.jfr;
     requires static javafx.controls;
 
     exports org.jfxcore.validation;
     exports org.jfxcore.validation.function;
+    exports org.jfxcore.validation.metrics;
     exports org.jfxcore.validation.property;
 
 }
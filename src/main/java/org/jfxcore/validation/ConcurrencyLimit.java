@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jfxcore.validation;
+
+import impl.org.jfxcore.validation.ElementValidationHelper;
+import impl.org.jfxcore.validation.PropertyHelper;
+import impl.org.jfxcore.validation.ValidationHelper;
+import org.jfxcore.validation.property.ReadOnlyConstrainedProperty;
+import java.util.Objects;
+
+/**
+ * Limits the number of asynchronous element validations of a constrained collection that run concurrently.
+ * <p>
+ * By default, every element of a constrained collection starts its asynchronous element constraints as soon
+ * as it is added to the collection. When a large number of elements is added at once, this submits a large
+ * number of tasks to the executor of the constraint, which can delay other asynchronous validations in the
+ * application. If a concurrency limit is set for the property, only up to {@link #getMaxConcurrency()} element
+ * validations are running at any time, and the remaining validations wait in a queue of the property:
+ *
+ * <pre>{@code
+ * var rows = new SimpleConstrainedListProperty<String, String>(
+ *     Constraints.validateAsync(value -> lookup(value)));
+ *
+ * ConcurrencyLimit.setConcurrencyLimit(rows, new ConcurrencyLimit(16));
+ * rows.setAll(loadRows());
+ * }</pre>
+ *
+ * Elements with queued validations are reported as {@link ConstrainedElement#isValidating() validating}.
+ * When an element is removed from the collection or validated again before its queued validation has
+ * started, the queued validation is dropped. Synchronous element constraints and the constraints of the
+ * collection itself are not affected by the concurrency limit.
+ */
+public final class ConcurrencyLimit {
+
+    /**
+     * Gets the {@code ConcurrencyLimit} that is used for the specified property.
+     *
+     * @param property the property
+     * @return the {@code ConcurrencyLimit}, or {@code null} if the number of concurrent validations is not limited
+     */
+    public static ConcurrencyLimit getConcurrencyLimit(ReadOnlyConstrainedProperty<?, ?> property) {
+        return getElementValidationHelper(property).getConcurrencyLimit();
+    }
+
+    /**
+     * Sets the {@code ConcurrencyLimit} that is used for the specified property.
+     * <p>
+     * If the new limit allows more concurrent validations than the previous limit,
+     * queued validations are started immediately.
+     *
+     * @param property the constrained list, set or map property
+     * @param concurrencyLimit the {@code ConcurrencyLimit}, or {@code null} to remove the limit
+     * @throws IllegalArgumentException if {@code property} is not a constrained collection property
+     */
+    public static void setConcurrencyLimit(
+            ReadOnlyConstrainedProperty<?, ?> property, ConcurrencyLimit concurrencyLimit) {
+        getElementValidationHelper(property).setConcurrencyLimit(concurrencyLimit);
+    }
+
+    private static ValidationHelper<?, ?> getElementValidationHelper(ReadOnlyConstrainedProperty<?, ?> property) {
+        Objects.requireNonNull(property, "property");
+
+        ValidationHelper<?, ?> helper = PropertyHelper.getValidationHelper(property);
+        if (helper instanceof ElementValidationHelper<?, ?>) {
+            return helper;
+        }
+
+        throw new IllegalArgumentException("property must be a constrained list, set or map property");
+    }
+
+    private final int maxConcurrency;
+
+    /**
+     * Creates a new {@code ConcurrencyLimit} instance.
+     *
+     * @param maxConcurrency the maximum number of concurrently running element validations
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     */
+    public ConcurrencyLimit(int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive");
+        }
+
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Gets the maximum number of concurrently running element validations.
+     *
+     * @return the maximum number of concurrently running element validations
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+}
@@ -0,0 +1,424 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jfxcore.validation;
+
+import impl.org.jfxcore.validation.DiagnosticListImpl;
+import impl.org.jfxcore.validation.Logger;
+import impl.org.jfxcore.validation.SerialExecutor;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+/**
+ * A constrained value that can be set concurrently by many threads.
+ * <p>
+ * Unlike constrained properties, which must only be used on the thread of their {@link ValidationContext},
+ * a {@code ConcurrentConstrainedValue} can be {@link #setValue(Object) set} by any thread. The constraints are
+ * evaluated on the thread that sets the value, and the validation state is published with a single atomic
+ * compare-and-set operation. This allows the throughput of validation to scale with the number of producer
+ * threads, for example when validating market data or telemetry values:
+ * <pre>{@code
+ * var price = new ConcurrentConstrainedValue<Double, String>(
+ *     Constraints.greaterThan(0.0, value -> "Price must be positive"));
+ *
+ * // on any thread:
+ * price.setValue(42.0);
+ * boolean valid = price.isValid();
+ * }</pre>
+ * When a value is set while a previous value is still being validated by asynchronous constraints, the previous
+ * validation run is cancelled, and its results are discarded. If many threads set the value at the same time,
+ * the value that was set last wins. The completions of asynchronous constraints are processed on the thread
+ * that completes the validation run; the {@link ConstraintBase#getCompletionExecutor() completion executor}
+ * of the constraints is not used.
+ * <p>
+ * Since the constraints are evaluated concurrently by producer threads, constraints that have
+ * {@link ConstraintBase#getDependencies() dependencies} are not supported, and synchronous constraints must be
+ * {@link SyncConstraint#isThreadSafe() thread-safe}. The thread-safe constraints in {@link Constraints} can be used,
+ * and custom synchronous constraints opt in by overriding {@link SyncConstraint#isThreadSafe()}.
+ * <p>
+ * {@link #getValue()}, {@link #getValidationState()}, {@link #isValid()}, {@link #isInvalid()} and
+ * {@link #isValidating()} return the latest state, and can be called by any thread.
+ * {@link ValidationListener ValidationListeners} and the {@link #getDiagnostics() diagnostics} list are updated
+ * with the <em>notification executor</em>, which runs one update at a time. Updates are conflated: if the state
+ * changes many times before the notification executor runs the next update, listeners are only notified of the
+ * difference between the last published state and the latest state. The diagnostics list must only be accessed
+ * on the thread of the notification executor.
+ *
+ * @param <T> value type
+ * @param <D> diagnostic type
+ */
+public final class ConcurrentConstrainedValue<T, D> implements ConstrainedValue<T, D> {
+
+    private static final int VALID = 1;
+    private static final int INVALID = 2;
+    private static final int VALIDATING = 4;
+
+    private static final VarHandle STATE;
+    private static final VarHandle VERSION;
+    private static final VarHandle NOTIFICATION_PENDING;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            STATE = lookup.findVarHandle(ConcurrentConstrainedValue.class, "state", State.class);
+            VERSION = lookup.findVarHandle(ConcurrentConstrainedValue.class, "lastVersion", long.class);
+            NOTIFICATION_PENDING = lookup.findVarHandle(
+                ConcurrentConstrainedValue.class, "notificationPending", boolean.class);
+        } catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    /**
+     * Immutable validation state of a single value. The {@code results} array is never modified
+     * after the state was published; a {@code null} element indicates a pending validation run.
+     */
+    private record State<T, D>(
+        T value, long version, int flags, ValidationResult<D>[] results, CompletableFuture<?>[] futures) {}
+
+    private final Constraint<? super T, D>[] constraints;
+    private final Executor notificationExecutor;
+    private final List<ValidationListener<? super T, D>> listeners = new CopyOnWriteArrayList<>();
+    private final DiagnosticListImpl<D> diagnostics;
+
+    private volatile State<T, D> state;
+
+    @SuppressWarnings("unused") // accessed with VERSION
+    private volatile long lastVersion;
+
+    @SuppressWarnings("unused") // accessed with NOTIFICATION_PENDING
+    private volatile boolean notificationPending;
+
+    // Only accessed with the notification executor
+    private int publishedFlags;
+    private ValidationResult<D>[] publishedResults;
+
+    /**
+     * Creates a new {@code ConcurrentConstrainedValue} that publishes state changes to the
+     * {@link ValidationContext#getCurrent() current validation context}.
+     *
+     * @param constraints the value constraints
+     * @throws IllegalArgumentException if a constraint has dependencies, or if a synchronous constraint
+     *                                  is not thread-safe
+     */
+    @SafeVarargs
+    public ConcurrentConstrainedValue(Constraint<? super T, D>... constraints) {
+        this(null, ValidationContext.getCurrent().getCompletionExecutor(), constraints);
+    }
+
+    /**
+     * Creates a new {@code ConcurrentConstrainedValue}.
+     *
+     * @param initialValue the initial value
+     * @param notificationExecutor the executor that notifies listeners and updates the diagnostics list
+     * @param constraints the value constraints
+     * @throws IllegalArgumentException if a constraint has dependencies, or if a synchronous constraint
+     *                                  is not thread-safe
+     */
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    public ConcurrentConstrainedValue(
+            T initialValue, Executor notificationExecutor, Constraint<? super T, D>... constraints) {
+        Objects.requireNonNull(notificationExecutor, "notificationExecutor");
+        Objects.requireNonNull(constraints, "constraints");
+
+        for (Constraint<? super T, D> constraint : constraints) {
+            Objects.requireNonNull(constraint, "constraint");
+
+            if (constraint.getDependencies() != null) {
+                throw new IllegalArgumentException(
+                    "Constraint " + constraint.getClass().getName() + " has dependencies");
+            }
+
+            if (constraint instanceof SyncConstraint<?, ?> syncConstraint && !syncConstraint.isThreadSafe()) {
+                throw new IllegalArgumentException(
+                    "Constraint " + constraint.getClass().getName() + " is not thread-safe");
+            }
+        }
+
+        this.constraints = constraints.clone();
+        this.notificationExecutor = new SerialExecutor(notificationExecutor);
+        this.diagnostics = new DiagnosticListImpl<>(constraints.length);
+        this.publishedResults = new ValidationResult[constraints.length];
+        this.state = new State<>(null, 0, 0, publishedResults, null);
+        setValue(initialValue);
+    }
+
+    @Override
+    public void addListener(ValidationListener<? super T, D> listener) {
+        listeners.add(Objects.requireNonNull(listener, "listener"));
+    }
+
+    @Override
+    public void removeListener(ValidationListener<? super T, D> listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public T getValue() {
+        return state.value();
+    }
+
+    /**
+     * Sets the value, and validates it on the current thread.
+     * <p>
+     * Synchronous constraints and asynchronous constraints that return a completed future are evaluated before
+     * this method returns. The validation runs of other asynchronous constraints complete at a later time.
+     * This method can be called by any thread.
+     *
+     * @param value the new value
+     */
+    @SuppressWarnings("unchecked")
+    public void setValue(T value) {
+        long version = (long)VERSION.getAndAdd(this, 1L) + 1;
+        ValidationResult<D>[] results = new ValidationResult[constraints.length];
+        CompletableFuture<ValidationResult<D>>[] futures = null;
+
+        for (int i = 0; i < constraints.length; ++i) {
+            Constraint<? super T, D> constraint = constraints[i];
+
+            try {
+                if (constraint instanceof SyncConstraint<? super T, D> syncConstraint) {
+                    results[i] = getResult(syncConstraint.validateSync(value));
+                    continue;
+                }
+
+                CompletableFuture<ValidationResult<D>> future = constraint.validate(value);
+
+                if (future == null) {
+                    Logger.error("Constraint validator " + constraint.getClass().getName() + " returned null");
+                    results[i] = ValidationResult.none();
+                } else if (future.isDone()) {
+                    results[i] = getResult(future.join());
+                } else {
+                    if (futures == null) {
+                        futures = new CompletableFuture[constraints.length];
+                    }
+
+                    futures[i] = future;
+                }
+            } catch (Throwable ex) {
+                logException(constraint, ex);
+                results[i] = ValidationResult.none();
+            }
+        }
+
+        State<T, D> newState = new State<>(value, version, getFlags(results), results, futures);
+        State<T, D> currentState;
+
+        do {
+            currentState = state;
+
+            // A value that was set later has already been published, so this value is discarded.
+            if (currentState.version() > version) {
+                cancel(futures);
+                return;
+            }
+        } while (!STATE.compareAndSet(this, currentState, newState));
+
+        cancel(currentState.futures());
+        scheduleNotification();
+
+        if (futures != null) {
+            for (int i = 0; i < futures.length; ++i) {
+                if (futures[i] != null) {
+                    int index = i;
+                    futures[i].whenComplete((result, exception) -> {
+                        if (exception != null) {
+                            logException(constraints[index], exception);
+                            onValidationCompleted(version, index, ValidationResult.none());
+                        } else {
+                            onValidationCompleted(version, index, getResult(result));
+                        }
+                    });
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the list of validation diagnostics, which is updated with the notification executor.
+     * This method must only be called on the thread of the notification executor.
+     *
+     * @return the list of validation diagnostics
+     */
+    @Override
+    public DiagnosticList<D> getDiagnostics() {
+        return diagnostics;
+    }
+
+    @Override
+    public boolean isValid() {
+        return (state.flags() & VALID) != 0;
+    }
+
+    @Override
+    public boolean isInvalid() {
+        return (state.flags() & INVALID) != 0;
+    }
+
+    @Override
+    public boolean isValidating() {
+        return (state.flags() & VALIDATING) != 0;
+    }
+
+    /**
+     * Gets the validation state of the latest value.
+     * <p>
+     * Since the state can be changed by other threads at any time, calling {@link #isValid()} and
+     * {@link #isInvalid()} in succession can observe two different states. This method reads the
+     * state only once, and therefore always returns a consistent result.
+     *
+     * @return the validation state
+     */
+    public ValidationState getValidationState() {
+        int flags = state.flags();
+        return (flags & VALID) != 0 ? ValidationState.VALID :
+            (flags & INVALID) != 0 ? ValidationState.INVALID : ValidationState.UNKNOWN;
+    }
+
+    private void onValidationCompleted(long version, int index, ValidationResult<D> result) {
+        State<T, D> currentState, newState;
+
+        do {
+            currentState = state;
+
+            // The validation run was superseded by a value that was set later.
+            if (currentState.version() != version) {
+                return;
+            }
+
+            ValidationResult<D>[] results = currentState.results().clone();
+            results[index] = result;
+            newState = new State<>(
+                currentState.value(), version, getFlags(results), results, currentState.futures());
+        } while (!STATE.compareAndSet(this, currentState, newState));
+
+        scheduleNotification();
+    }
+
+    private void scheduleNotification() {
+        if (NOTIFICATION_PENDING.compareAndSet(this, false, true)) {
+            notificationExecutor.execute(this::notifyListeners);
+        }
+    }
+
+    /**
+     * Publishes the latest state to the diagnostics list and listeners. The pending flag is cleared before
+     * the state is read, which ensures that a state change that happens after the state was read schedules
+     * another notification.
+     */
+    private void notifyListeners() {
+        NOTIFICATION_PENDING.setVolatile(this, false);
+        State<T, D> currentState = state;
+        ValidationResult<D>[] results = currentState.results();
+
+        if (results != publishedResults) {
+            diagnostics.beginQuiescence();
+
+            for (int i = 0; i < results.length; ++i) {
+                ValidationResult<D> result = results[i];
+                if (result == publishedResults[i]) {
+                    continue;
+                }
+
+                D diagnostic = result != null ? result.getDiagnostic() : null;
+                if (diagnostic != null) {
+                    diagnostics.setDiagnostic(i, diagnostic, result.isValid());
+                } else {
+                    diagnostics.clearDiagnostic(i);
+                }
+            }
+
+            publishedResults = results;
+            diagnostics.endQuiescence();
+        }
+
+        int oldFlags = publishedFlags;
+        int newFlags = currentState.flags();
+        publishedFlags = newFlags;
+
+        notifyListeners(ValidationListener.ChangeType.VALIDATING, oldFlags, newFlags, VALIDATING);
+        notifyListeners(ValidationListener.ChangeType.INVALID, oldFlags, newFlags, INVALID);
+        notifyListeners(ValidationListener.ChangeType.VALID, oldFlags, newFlags, VALID);
+    }
+
+    private void notifyListeners(ValidationListener.ChangeType changeType, int oldFlags, int newFlags, int flag) {
+        boolean oldValue = (oldFlags & flag) != 0;
+        boolean newValue = (newFlags & flag) != 0;
+
+        if (oldValue != newValue) {
+            for (ValidationListener<? super T, D> listener : listeners) {
+                listener.changed(this, changeType, oldValue, newValue);
+            }
+        }
+    }
+
+    private static int getFlags(ValidationResult<?>[] results) {
+        boolean valid = true, invalid = false, validating = false;
+
+        for (ValidationResult<?> result : results) {
+            if (result == null) {
+                valid = false;
+                validating = true;
+            } else if (result == ValidationResult.none()) {
+                valid = false;
+            } else if (!result.isValid()) {
+                valid = false;
+                invalid = true;
+            }
+        }
+
+        return (valid ? VALID : 0) | (invalid ? INVALID : 0) | (validating ? VALIDATING : 0);
+    }
+
+    private static <D> ValidationResult<D> getResult(ValidationResult<D> result) {
+        return result != null ? result : ValidationResult.none();
+    }
+
+    private static void cancel(CompletableFuture<?>[] futures) {
+        if (futures != null) {
+            for (CompletableFuture<?> future : futures) {
+                if (future != null) {
+                    future.cancel(false);
+                }
+            }
+        }
+    }
+
+    private static void logException(Constraint<?, ?> constraint, Throwable exception) {
+        if (exception instanceof CompletionException) {
+            exception = exception.getCause();
+        }
+
+        if (!(exception instanceof CancellationException)) {
+            Logger.error("Exception in constraint validator " + constraint.getClass().getName(), exception);
+        }
+    }
+
+}
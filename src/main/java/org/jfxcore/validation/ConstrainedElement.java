@@ -21,20 +21,29 @@
 
 package org.jfxcore.validation;
 
+import impl.org.jfxcore.validation.CoalescingCompletionExecutor;
+import impl.org.jfxcore.validation.ConcurrencyLimiter;
 import impl.org.jfxcore.validation.ConstrainedElementHelper;
+import impl.org.jfxcore.validation.CrossElementIndex;
 import impl.org.jfxcore.validation.DiagnosticListImpl;
 import impl.org.jfxcore.validation.DiagnosticListPropertyImpl;
 import impl.org.jfxcore.validation.ElementValidationHelper;
+import impl.org.jfxcore.validation.FlightRecorderHelper;
+import impl.org.jfxcore.validation.Logger;
+import impl.org.jfxcore.validation.MetricsHelper;
 import impl.org.jfxcore.validation.SerializedValidator;
 import impl.org.jfxcore.validation.ValidatorState;
 import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.ReadOnlyBooleanPropertyBase;
+import org.jfxcore.validation.metrics.ValidationMetrics;
+import org.jfxcore.validation.property.ReadOnlyConstrainedProperty;
 import org.jfxcore.validation.property.ReadOnlyDiagnosticListProperty;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 /**
@@ -89,7 +98,18 @@ public final class ConstrainedElement<T, D> implements ConstrainedValue<T, D> {
 
             @Override
             public <T0, D0> void validate(ConstrainedElement<T0, D0> element) {
-                element.validate();
+                element.validate(null);
+            }
+
+            @Override
+            public <T0, D0> void validate(ConstrainedElement<T0, D0> element, int[] constraintIndices) {
+                element.validate(constraintIndices);
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T0, D0> void validate(ConstrainedElement<T0, D0> element, ValidationResult<?>[] results) {
+                element.validate(null, (ValidationResult<D0>[])results);
             }
         });
     }
@@ -116,6 +136,7 @@ public final class ConstrainedElement<T, D> implements ConstrainedValue<T, D> {
     private ConstrainedElement(T value, ElementValidationHelper<T, D> validationHelper) {
         this.value = value;
         this.validationHelper = validationHelper;
+        validationHelper.notifyElementStateChanged(null, ValidationState.UNKNOWN);
         setFlag(VALID_FLAG, validationHelper.getElementConstraints().length == 0);
     }
 
@@ -124,10 +145,24 @@ public final class ConstrainedElement<T, D> implements ConstrainedValue<T, D> {
             validationHelper.notifyValidatorStateChanged(ValidatorState.CANCELLED, false);
         }
 
+        validationHelper.notifyElementStateChanged(getFlagState(flags), null);
+
         // We don't wait for the validators to terminate, but instead null out the validationHelper
         // field to prevent running validators from modifying the validation helper at a later time.
+        ElementValidationHelper<T, D> helper = validationHelper;
         validationHelper = null;
 
+        // The elements that had the same key as this element need to be validated again.
+        Constraint<? super T, D>[] constraints = helper.getElementConstraints();
+        for (int i = 0; i < constraints.length; ++i) {
+            CrossElementIndex<T, D> crossElementIndex = helper.getCrossElementIndex(i);
+            if (crossElementIndex != null) {
+                for (ConstrainedElement<T, D> peer : crossElementIndex.remove(this)) {
+                    peer.validate(new int[] {i});
+                }
+            }
+        }
+
         if (validators != null) {
             for (var validator : validators) {
                 validator.dispose();
@@ -135,8 +170,21 @@ public final class ConstrainedElement<T, D> implements ConstrainedValue<T, D> {
         }
     }
 
+    /**
+     * Validates the element value with the constraints at the specified indices, or with all constraints
+     * if {@code constraintIndices} is {@code null}. The results of all other constraints are retained.
+     */
+    private void validate(int[] constraintIndices) {
+        validate(constraintIndices, null);
+    }
+
+    /**
+     * Validates the element value like {@link #validate(int[])}. If {@code results} is not {@code null}, it
+     * contains the results of synchronous constraints that were already evaluated, which are published
+     * instead of evaluating the constraints again.
+     */
     @SuppressWarnings("unchecked")
-    private void validate() {
+    private void validate(int[] constraintIndices, ValidationResult<D>[] results) {
         Constraint<? super T, D>[] constraints = validationHelper.getElementConstraints();
         if (constraints.length == 0) {
             return;
@@ -144,6 +192,9 @@ public final class ConstrainedElement<T, D> implements ConstrainedValue<T, D> {
 
         if (validators == null) {
             validators = new SerializedValidator[constraints.length];
+
+            // The element has never been validated, so we need to run all constraints.
+            constraintIndices = null;
         }
 
         boolean oldValid = isFlag(VALID_FLAG);
@@ -156,12 +207,28 @@ public final class ConstrainedElement<T, D> implements ConstrainedValue<T, D> {
         // are invoked, and fire the final change notification later.
         setFlag(SUPPRESS_CHANGE_EVENT_FLAG, true);
 
-        for (int i = 0; i < constraints.length; ++i) {
+        int count = constraintIndices != null ? constraintIndices.length : constraints.length;
+
+        for (int j = 0; j < count; ++j) {
+            int i = constraintIndices != null ? constraintIndices[j] : j;
             SerializedValidator<T, D> validator = validators[i];
             if (validator == null
                     || validator == VALID_RESULT
                     || validator == INVALID_RESULT
                     || validator == NO_RESULT) {
+                // A synchronous constraint always completes immediately, so we don't need to
+                // allocate a validator that would be discarded right after validation.
+                if (constraints[i] instanceof SyncConstraint<? super T, D> syncConstraint) {
+                    if (results != null && results[i] != null) {
+                        notifyValidatorStateChanged(ValidatorState.STARTED, false);
+                        onValidationCompleted(i, results[i] == ValidationResult.none() ? null : results[i], false, false);
+                    } else {
+                        validateSync(i, syncConstraint);
+                    }
+
+                    continue;
+                }
+
                 validators[i] = new ValidatorImpl(i, constraints[i]);
             }
 
@@ -198,6 +265,62 @@ public final class ConstrainedElement<T, D> implements ConstrainedValue<T, D> {
         }
     }
 
+    private void validateSync(int index, SyncConstraint<? super T, D> constraint) {
+        ValidationMetrics metrics = getMetrics();
+        ReadOnlyConstrainedProperty<?, ?> property = metrics != null ? validationHelper.getObservable() : null;
+        long startTime = metrics != null ? MetricsHelper.validationStarted(metrics, constraint, property) : 0;
+        Object event = FlightRecorderHelper.beginConstraintEvaluation();
+        ValidationResult<D> result;
+        Throwable exception = null;
+        notifyValidatorStateChanged(ValidatorState.STARTED, false);
+
+        try {
+            result = constraint instanceof CrossElementConstraint<? super T, ?, D> crossElementConstraint ?
+                validateCrossElement(index, crossElementConstraint) : constraint.validateSync(value);
+        } catch (Throwable ex) {
+            Logger.error("Exception in constraint validator " + constraint.getClass().getName(), ex);
+            result = null;
+            exception = ex;
+        }
+
+        if (metrics != null) {
+            MetricsHelper.validationCompleted(
+                metrics, constraint, property, null, startTime, result, exception, false);
+        }
+
+        if (event != null) {
+            FlightRecorderHelper.commitConstraintEvaluation(
+                event, constraint, validationHelper != null ? validationHelper.getObservable() : null,
+                null, result, exception, false);
+        }
+
+        onValidationCompleted(index, result == ValidationResult.none() ? null : result, false, false);
+    }
+
+    /**
+     * Validates this element together with all elements that have the same key. When the element is
+     * validated for the first time, it is added to the hash index of the constraint, and the elements
+     * that have the same key are validated again.
+     */
+    private ValidationResult<D> validateCrossElement(int index, CrossElementConstraint<? super T, ?, D> constraint) {
+        CrossElementIndex<T, D> crossElementIndex = validationHelper.getCrossElementIndex(index);
+        if (crossElementIndex == null) {
+            return constraint.validateSync(value);
+        }
+
+        if (!crossElementIndex.contains(this)) {
+            for (ConstrainedElement<T, D> peer : crossElementIndex.add(this)) {
+                peer.validate(new int[] {index});
+            }
+        }
+
+        return constraint.validate(value, crossElementIndex.getPeerValues(this));
+    }
+
+    private ValidationMetrics getMetrics() {
+        return validationHelper != null ? MetricsHelper.resolve(validationHelper.getMetrics()) : null;
+    }
+
     private void notifyValidatorStateChanged(ValidatorState state, boolean intermediate) {
         if (validationHelper != null) {
             validationHelper.notifyValidatorStateChanged(state, intermediate);
@@ -412,6 +535,7 @@ public final class ConstrainedElement<T, D> implements ConstrainedValue<T, D> {
     }
 
     private boolean setFlag(int flag, boolean value) {
+        int oldFlags = flags;
         boolean changed = ((flags & flag) != 0) ^ value;
 
         if (value) {
@@ -420,9 +544,22 @@ public final class ConstrainedElement<T, D> implements ConstrainedValue<T, D> {
             flags &= ~flag;
         }
 
+        // The validation helper keeps track of the validation states of its elements.
+        if (changed && (flag == VALID_FLAG || flag == INVALID_FLAG) && validationHelper != null) {
+            validationHelper.notifyElementStateChanged(getFlagState(oldFlags), getFlagState(flags));
+        }
+
         return changed;
     }
 
+    private static ValidationState getFlagState(int flags) {
+        if ((flags & INVALID_FLAG) != 0) {
+            return ValidationState.INVALID;
+        }
+
+        return (flags & VALID_FLAG) != 0 ? ValidationState.VALID : ValidationState.UNKNOWN;
+    }
+
     private boolean isFlag(int flag) {
         return (flags & flag) != 0;
     }
@@ -440,7 +577,9 @@ public final class ConstrainedElement<T, D> implements ConstrainedValue<T, D> {
 
         if (validators != null) {
             for (var validator : validators) {
-                ValidationResult<D> lastResult = validator.getValidationResult();
+                // A validator can be null if the element is validated for the first time, and the
+                // validation run has not yet reached the constraint.
+                ValidationResult<D> lastResult = validator != null ? validator.getValidationResult() : null;
                 if (lastResult == null || lastResult == ValidationResult.none()) {
                     unknown = true;
                 } else if (!lastResult.isValid()) {
@@ -469,14 +608,19 @@ public final class ConstrainedElement<T, D> implements ConstrainedValue<T, D> {
     private class ValidatorImpl extends SerializedValidator<T, D> {
         final int index;
         final Function<T, CompletableFuture<ValidationResult<D>>> validateFunc;
+        final Executor completionExecutor;
         ValidationResult<D> validationResult;
 
         @SuppressWarnings({"unchecked", "rawtypes"})
         public ValidatorImpl(int index, ConstraintBase<?, D> constraint) {
             super(constraint);
             this.index = index;
+            this.completionExecutor = constraint.getCompletionExecutor();
 
-            if (constraint instanceof Constraint c) {
+            if (constraint instanceof SyncConstraint) {
+                // Synchronous constraints are invoked directly by SerializedValidator
+                validateFunc = null;
+            } else if (constraint instanceof Constraint c) {
                 validateFunc = value -> c.validate(value);
             } else if (constraint instanceof ListConstraint c) {
                 validateFunc = value -> c.validate((List)value);
@@ -494,8 +638,34 @@ public final class ConstrainedElement<T, D> implements ConstrainedValue<T, D> {
             return validationResult;
         }
 
+        @Override
+        protected ValidationMetrics getMetrics() {
+            return ConstrainedElement.this.getMetrics();
+        }
+
+        @Override
+        protected boolean isLatestValueWins() {
+            if (validationHelper == null) {
+                return false;
+            }
+
+            SupersessionMode mode = validationHelper.getSupersessionMode();
+            return (mode != null ? mode : SupersessionMode.getDefault()) == SupersessionMode.LATEST_VALUE_WINS;
+        }
+
+        @Override
+        protected ReadOnlyConstrainedProperty<?, ?> getProperty() {
+            return validationHelper != null ? validationHelper.getObservable() : null;
+        }
+
         @Override
         protected CompletableFuture<ValidationResult<D>> newValidationRun(T value) {
+            ConcurrencyLimiter limiter = validationHelper != null ? validationHelper.getConcurrencyLimiter() : null;
+            if (limiter != null) {
+                return limiter.submit(
+                    () -> validateFunc.apply(value), CoalescingCompletionExecutor.resolve(completionExecutor));
+            }
+
             return validateFunc.apply(value);
         }
 
@@ -506,91 +676,107 @@ public final class ConstrainedElement<T, D> implements ConstrainedValue<T, D> {
         }
 
         @Override
-        @SuppressWarnings("unchecked")
         protected void onValidationCompleted(T value, ValidationResult<D> result, boolean intermediateCompletion) {
             boolean validatingChanged = --currentlyValidatingCount == 0 && setFlag(VALIDATING_FLAG, false);
             validationResult = result;
+            ConstrainedElement.this.onValidationCompleted(index, result, validatingChanged, intermediateCompletion);
+        }
+    }
 
-            if (result == null) {
-                onCancelledValidation(validatingChanged, intermediateCompletion);
+    @SuppressWarnings("unchecked")
+    private void onValidationCompleted(
+            int index, ValidationResult<D> result, boolean validatingChanged, boolean intermediateCompletion) {
+        // The completed validator is replaced with a shared instance that only retains its result,
+        // which needs to happen before the validation state of this element is computed. After an
+        // intermediate completion, the validator is retained since it has already started its next run.
+        if (result == null) {
+            if (!intermediateCompletion) {
                 validators[index] = (SerializedValidator<T, D>)NO_RESULT;
-            } else if (result.isValid()) {
-                onSuccessfulValidation(result, validatingChanged, intermediateCompletion);
+            }
+
+            onCancelledValidation(validatingChanged, intermediateCompletion);
+        } else if (result.isValid()) {
+            if (!intermediateCompletion) {
                 validators[index] = (SerializedValidator<T, D>)VALID_RESULT;
-            } else {
-                onFailedValidation(result, validatingChanged, intermediateCompletion);
+            }
+
+            onSuccessfulValidation(index, result, validatingChanged, intermediateCompletion);
+        } else {
+            if (!intermediateCompletion) {
                 validators[index] = (SerializedValidator<T, D>)INVALID_RESULT;
             }
-        }
 
-        private void onCancelledValidation(boolean validatingChanged, boolean intermediateCompletion) {
-            fireValueChangedEvent(false, false, validatingChanged);
-            notifyValidatorStateChanged(ValidatorState.CANCELLED, intermediateCompletion);
+            onFailedValidation(index, result, validatingChanged, intermediateCompletion);
         }
+    }
 
-        private void onSuccessfulValidation(
-                ValidationResult<D> result, boolean validatingChanged, boolean intermediateCompletion) {
-            boolean validChanged = false;
-            boolean invalidChanged = false;
+    private void onCancelledValidation(boolean validatingChanged, boolean intermediateCompletion) {
+        fireValueChangedEvent(false, false, validatingChanged);
+        notifyValidatorStateChanged(ValidatorState.CANCELLED, intermediateCompletion);
+    }
 
-            if (!isFlag(VALIDATING_FLAG)) {
-                ValidationState validationState = getValidationState();
-                validChanged = setFlag(VALID_FLAG, validationState == ValidationState.VALID);
-                invalidChanged = setFlag(INVALID_FLAG, validationState == ValidationState.INVALID);
-            }
+    private void onSuccessfulValidation(
+            int index, ValidationResult<D> result, boolean validatingChanged, boolean intermediateCompletion) {
+        boolean validChanged = false;
+        boolean invalidChanged = false;
 
-            handleDiagnostic(result, true);
-            fireValueChangedEvent(validChanged, invalidChanged, validatingChanged);
-            notifyValidatorStateChanged(ValidatorState.SUCCEEDED, intermediateCompletion);
+        if (!isFlag(VALIDATING_FLAG)) {
+            ValidationState validationState = getValidationState();
+            validChanged = setFlag(VALID_FLAG, validationState == ValidationState.VALID);
+            invalidChanged = setFlag(INVALID_FLAG, validationState == ValidationState.INVALID);
         }
 
-        private void onFailedValidation(
-                ValidationResult<D> result, boolean validatingChanged, boolean intermediateCompletion) {
-            boolean validChanged = setFlag(VALID_FLAG, false);
-            boolean invalidChanged = setFlag(INVALID_FLAG, true);
+        handleDiagnostic(index, result, true);
+        fireValueChangedEvent(validChanged, invalidChanged, validatingChanged);
+        notifyValidatorStateChanged(ValidatorState.SUCCEEDED, intermediateCompletion);
+    }
 
-            handleDiagnostic(result, false);
-            notifyValidatorStateChanged(ValidatorState.FAILED, intermediateCompletion);
-            fireValueChangedEvent(validChanged, invalidChanged, validatingChanged);
-        }
+    private void onFailedValidation(
+            int index, ValidationResult<D> result, boolean validatingChanged, boolean intermediateCompletion) {
+        boolean validChanged = setFlag(VALID_FLAG, false);
+        boolean invalidChanged = setFlag(INVALID_FLAG, true);
 
-        private void handleDiagnostic(ValidationResult<D> result, boolean valid) {
-            D diagnostic = result.getDiagnostic();
-            if (diagnostic != null) {
-                if (diagnostics == null) {
-                    diagnostics = new DiagnosticListImpl<>(validators.length);
-                }
+        handleDiagnostic(index, result, false);
+        notifyValidatorStateChanged(ValidatorState.FAILED, intermediateCompletion);
+        fireValueChangedEvent(validChanged, invalidChanged, validatingChanged);
+    }
 
-                diagnostics.setDiagnostic(index, diagnostic, valid);
-            } else if (diagnostics != null) {
-                diagnostics.clearDiagnostic(index);
+    private void handleDiagnostic(int index, ValidationResult<D> result, boolean valid) {
+        D diagnostic = result.getDiagnostic();
+        if (diagnostic != null) {
+            if (diagnostics == null) {
+                diagnostics = new DiagnosticListImpl<>(validators.length);
             }
+
+            diagnostics.setDiagnostic(index, diagnostic, valid);
+        } else if (diagnostics != null) {
+            diagnostics.clearDiagnostic(index);
         }
+    }
 
-        private void fireValueChangedEvent(boolean validChanged, boolean invalidChanged, boolean validatingChanged) {
-            if (isFlag(SUPPRESS_CHANGE_EVENT_FLAG)) {
-                return;
-            }
+    private void fireValueChangedEvent(boolean validChanged, boolean invalidChanged, boolean validatingChanged) {
+        if (isFlag(SUPPRESS_CHANGE_EVENT_FLAG)) {
+            return;
+        }
 
-            if (validChanged) {
-                fireValidationListener(ValidationListener.ChangeType.VALID);
-                if (observables != null && observables.validProperty != null) {
-                    observables.validProperty.fireValueChangedEvent();
-                }
+        if (validChanged) {
+            fireValidationListener(ValidationListener.ChangeType.VALID);
+            if (observables != null && observables.validProperty != null) {
+                observables.validProperty.fireValueChangedEvent();
             }
+        }
 
-            if (invalidChanged) {
-                fireValidationListener(ValidationListener.ChangeType.INVALID);
-                if (observables != null && observables.invalidProperty != null) {
-                    observables.invalidProperty.fireValueChangedEvent();
-                }
+        if (invalidChanged) {
+            fireValidationListener(ValidationListener.ChangeType.INVALID);
+            if (observables != null && observables.invalidProperty != null) {
+                observables.invalidProperty.fireValueChangedEvent();
             }
+        }
 
-            if (validatingChanged) {
-                fireValidationListener(ValidationListener.ChangeType.VALIDATING);
-                if (observables != null && observables.validatingProperty != null) {
-                    observables.validatingProperty.fireValueChangedEvent();
-                }
+        if (validatingChanged) {
+            fireValidationListener(ValidationListener.ChangeType.VALIDATING);
+            if (observables != null && observables.validatingProperty != null) {
+                observables.validatingProperty.fireValueChangedEvent();
             }
         }
     }
@@ -36,12 +36,24 @@ import java.util.concurrent.Executor;
 @SuppressWarnings("unused")
 public sealed interface ConstraintBase<T, D> permits Constraint, ListConstraint, SetConstraint, MapConstraint {
 
+    /**
+     * The default {@link #getCost() cost} of a {@link SyncConstraint}.
+     */
+    int SYNC_COST = 0;
+
+    /**
+     * The default {@link #getCost() cost} of an asynchronous constraint.
+     */
+    int ASYNC_COST = 100;
+
     /**
      * Returns the {@link Executor} that is used to yield the {@link ValidationResult} to the validation system,
      * or {@code null} if no executor was specified.
      * <p>
      * Note: If this constraint is used with properties that live on the JavaFX application thread,
-     * a method reference to {@link Platform#runLater} should be returned from this method.
+     * a method reference to {@link Platform#runLater} should be returned from this method. Constraints
+     * that return {@link ValidationExecutors#getCompletionExecutor()} can also be used with properties
+     * that live in a headless {@link ValidationContext}.
      *
      * @return the {@code Executor}
      */
@@ -54,4 +66,17 @@ public sealed interface ConstraintBase<T, D> permits Constraint, ListConstraint,
      */
     Observable[] getDependencies();
 
+    /**
+     * Returns a hint for the relative cost of evaluating this constraint.
+     * <p>
+     * If a property uses the {@link EvaluationMode#FAIL_FAST} evaluation mode, its constraints are
+     * evaluated in ascending order of their cost. The default implementation returns {@link #SYNC_COST}
+     * for a {@link SyncConstraint}, and {@link #ASYNC_COST} for all other constraints.
+     *
+     * @return the cost hint
+     */
+    default int getCost() {
+        return this instanceof SyncConstraint ? SYNC_COST : ASYNC_COST;
+    }
+
 }
@@ -21,10 +21,15 @@
 
 package org.jfxcore.validation;
 
+import impl.org.jfxcore.validation.BatchingConstraint;
+import impl.org.jfxcore.validation.CoalescingCompletionExecutor;
+import impl.org.jfxcore.validation.DebouncingConstraint;
+import impl.org.jfxcore.validation.IncrementalConstraintAdapter;
+import impl.org.jfxcore.validation.MemoizingConstraint;
+import impl.org.jfxcore.validation.TimeoutConstraint;
 import impl.org.jfxcore.validation.ValidateCancellableTask;
 import impl.org.jfxcore.validation.ValidateInterruptibleTask;
 import impl.org.jfxcore.validation.ValidateTask;
-import javafx.application.Platform;
 import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
 import javafx.beans.WeakInvalidationListener;
@@ -52,15 +57,19 @@ import org.jfxcore.validation.function.ValidationFunction5;
 import org.jfxcore.validation.function.ValidationFunction6;
 import org.jfxcore.validation.function.ValidationFunction7;
 import org.jfxcore.validation.function.ValidationFunction8;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
 import java.util.regex.Pattern;
 
 /**
@@ -71,6 +80,8 @@ public final class Constraints {
 
     private Constraints() {}
 
+    private static final Executor DEFAULT_EXECUTOR = command -> ValidationExecutors.getDefault().execute(command);
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     private static abstract class ConstraintImpl<T, D> implements Constraint<T, D> {
         final ObservableValue[] dependencies;
@@ -99,6 +110,39 @@ public final class Constraints {
         }
     }
 
+    @SuppressWarnings("rawtypes")
+    private static abstract class SyncConstraintImpl<T, D> extends ConstraintImpl<T, D>
+            implements SyncConstraint<T, D> {
+        SyncConstraintImpl() {}
+
+        SyncConstraintImpl(ObservableValue... dependencies) {
+            super(dependencies);
+        }
+    }
+
+    /**
+     * Base class for predefined constraints that don't have dependencies, and can be evaluated concurrently.
+     * Note that diagnostic functions specified by applications are also invoked concurrently.
+     */
+    private static abstract class ThreadSafeSyncConstraintImpl<T, D> extends SyncConstraintImpl<T, D> {
+        @Override
+        public boolean isThreadSafe() {
+            return true;
+        }
+    }
+
+    /**
+     * Returns the shared {@link ValidationResult#valid()} or {@link ValidationResult#invalid()} instance
+     * if the result doesn't include a diagnostic, which avoids allocating a new {@code ValidationResult}.
+     */
+    private static <D> ValidationResult<D> result(boolean valid, D diagnostic) {
+        if (diagnostic == null) {
+            return valid ? ValidationResult.valid() : ValidationResult.invalid();
+        }
+
+        return new ValidationResult<>(valid, diagnostic);
+    }
+
     /**
      * Creates a constraint that synchronously validates a value by applying a validation function.
      * <p>
@@ -131,14 +175,10 @@ public final class Constraints {
     public static <T, D> Constraint<T, D> validate(ValidationFunction0<T, D> validationFunc) {
         Objects.requireNonNull(validationFunc, "validationFunc");
 
-        return new ConstraintImpl<>() {
+        return new SyncConstraintImpl<>() {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(T value) {
-                try {
-                    return CompletableFuture.completedFuture(validationFunc.apply(value));
-                } catch (Throwable ex) {
-                    return CompletableFuture.failedFuture(ex);
-                }
+            public ValidationResult<D> validateSync(T value) {
+                return validationFunc.apply(value);
             }
         };
     }
@@ -184,15 +224,10 @@ public final class Constraints {
         Objects.requireNonNull(validationFunc, "validationFunc");
         Objects.requireNonNull(dependency, "dependency");
 
-        return new ConstraintImpl<>(dependency) {
+        return new SyncConstraintImpl<>(dependency) {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(T value) {
-                try {
-                    return CompletableFuture.completedFuture(validationFunc.apply(
-                        value, this.<P1>dependency(0).getValue()));
-                } catch (Throwable ex) {
-                    return CompletableFuture.failedFuture(ex);
-                }
+            public ValidationResult<D> validateSync(T value) {
+                return validationFunc.apply(value, this.<P1>dependency(0).getValue());
             }
         };
     }
@@ -220,15 +255,11 @@ public final class Constraints {
         Objects.requireNonNull(dependency1, "dependency1");
         Objects.requireNonNull(dependency2, "dependency2");
 
-        return new ConstraintImpl<>(dependency1, dependency2) {
+        return new SyncConstraintImpl<>(dependency1, dependency2) {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(T value) {
-                try {
-                    return CompletableFuture.completedFuture(validationFunc.apply(
-                        value, this.<P1>dependency(0).getValue(), this.<P2>dependency(1).getValue()));
-                } catch (Throwable ex) {
-                    return CompletableFuture.failedFuture(ex);
-                }
+            public ValidationResult<D> validateSync(T value) {
+                return validationFunc.apply(
+                    value, this.<P1>dependency(0).getValue(), this.<P2>dependency(1).getValue());
             }
         };
     }
@@ -260,16 +291,12 @@ public final class Constraints {
         Objects.requireNonNull(dependency2, "dependency2");
         Objects.requireNonNull(dependency3, "dependency3");
 
-        return new ConstraintImpl<>(dependency1, dependency2, dependency3) {
+        return new SyncConstraintImpl<>(dependency1, dependency2, dependency3) {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(T value) {
-                try {
-                    return CompletableFuture.completedFuture(validationFunc.apply(value,
-                        this.<P1>dependency(0).getValue(), this.<P2>dependency(1).getValue(),
-                        this.<P3>dependency(2).getValue()));
-                } catch (Throwable ex) {
-                    return CompletableFuture.failedFuture(ex);
-                }
+            public ValidationResult<D> validateSync(T value) {
+                return validationFunc.apply(value,
+                    this.<P1>dependency(0).getValue(), this.<P2>dependency(1).getValue(),
+                    this.<P3>dependency(2).getValue());
             }
         };
     }
@@ -305,16 +332,12 @@ public final class Constraints {
         Objects.requireNonNull(dependency3, "dependency3");
         Objects.requireNonNull(dependency4, "dependency4");
 
-        return new ConstraintImpl<>(dependency1, dependency2, dependency3, dependency4) {
+        return new SyncConstraintImpl<>(dependency1, dependency2, dependency3, dependency4) {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(T value) {
-                try {
-                    return CompletableFuture.completedFuture(validationFunc.apply(value,
-                        this.<P1>dependency(0).getValue(), this.<P2>dependency(1).getValue(),
-                        this.<P3>dependency(2).getValue(), this.<P4>dependency(3).getValue()));
-                } catch (Throwable ex) {
-                    return CompletableFuture.failedFuture(ex);
-                }
+            public ValidationResult<D> validateSync(T value) {
+                return validationFunc.apply(value,
+                    this.<P1>dependency(0).getValue(), this.<P2>dependency(1).getValue(),
+                    this.<P3>dependency(2).getValue(), this.<P4>dependency(3).getValue());
             }
         };
     }
@@ -354,17 +377,13 @@ public final class Constraints {
         Objects.requireNonNull(dependency4, "dependency4");
         Objects.requireNonNull(dependency5, "dependency5");
 
-        return new ConstraintImpl<>(dependency1, dependency2, dependency3, dependency4, dependency5) {
+        return new SyncConstraintImpl<>(dependency1, dependency2, dependency3, dependency4, dependency5) {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(T value) {
-                try {
-                    return CompletableFuture.completedFuture(validationFunc.apply(value,
-                        this.<P1>dependency(0).getValue(), this.<P2>dependency(1).getValue(),
-                        this.<P3>dependency(2).getValue(), this.<P4>dependency(3).getValue(),
-                        this.<P5>dependency(4).getValue()));
-                } catch (Throwable ex) {
-                    return CompletableFuture.failedFuture(ex);
-                }
+            public ValidationResult<D> validateSync(T value) {
+                return validationFunc.apply(value,
+                    this.<P1>dependency(0).getValue(), this.<P2>dependency(1).getValue(),
+                    this.<P3>dependency(2).getValue(), this.<P4>dependency(3).getValue(),
+                    this.<P5>dependency(4).getValue());
             }
         };
     }
@@ -408,18 +427,14 @@ public final class Constraints {
         Objects.requireNonNull(dependency5, "dependency5");
         Objects.requireNonNull(dependency6, "dependency6");
 
-        return new ConstraintImpl<>(
+        return new SyncConstraintImpl<>(
                 dependency1, dependency2, dependency3, dependency4, dependency5, dependency6) {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(T value) {
-                try {
-                    return CompletableFuture.completedFuture(validationFunc.apply(value,
-                        this.<P1>dependency(0).getValue(), this.<P2>dependency(1).getValue(),
-                        this.<P3>dependency(2).getValue(), this.<P4>dependency(3).getValue(),
-                        this.<P5>dependency(4).getValue(), this.<P6>dependency(5).getValue()));
-                } catch (Throwable ex) {
-                    return CompletableFuture.failedFuture(ex);
-                }
+            public ValidationResult<D> validateSync(T value) {
+                return validationFunc.apply(value,
+                    this.<P1>dependency(0).getValue(), this.<P2>dependency(1).getValue(),
+                    this.<P3>dependency(2).getValue(), this.<P4>dependency(3).getValue(),
+                    this.<P5>dependency(4).getValue(), this.<P6>dependency(5).getValue());
             }
         };
     }
@@ -467,19 +482,15 @@ public final class Constraints {
         Objects.requireNonNull(dependency6, "dependency6");
         Objects.requireNonNull(dependency7, "dependency7");
 
-        return new ConstraintImpl<>(
+        return new SyncConstraintImpl<>(
                 dependency1, dependency2, dependency3, dependency4, dependency5, dependency6, dependency7) {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(T value) {
-                try {
-                    return CompletableFuture.completedFuture(validationFunc.apply(value,
-                        this.<P1>dependency(0).getValue(), this.<P2>dependency(1).getValue(),
-                        this.<P3>dependency(2).getValue(), this.<P4>dependency(3).getValue(),
-                        this.<P5>dependency(4).getValue(), this.<P6>dependency(5).getValue(),
-                        this.<P7>dependency(6).getValue()));
-                } catch (Throwable ex) {
-                    return CompletableFuture.failedFuture(ex);
-                }
+            public ValidationResult<D> validateSync(T value) {
+                return validationFunc.apply(value,
+                    this.<P1>dependency(0).getValue(), this.<P2>dependency(1).getValue(),
+                    this.<P3>dependency(2).getValue(), this.<P4>dependency(3).getValue(),
+                    this.<P5>dependency(4).getValue(), this.<P6>dependency(5).getValue(),
+                    this.<P7>dependency(6).getValue());
             }
         };
     }
@@ -531,19 +542,15 @@ public final class Constraints {
         Objects.requireNonNull(dependency7, "dependency7");
         Objects.requireNonNull(dependency8, "dependency8");
 
-        return new ConstraintImpl<>(
+        return new SyncConstraintImpl<>(
                 dependency1, dependency2, dependency3, dependency4, dependency5, dependency6, dependency7, dependency8) {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(T value) {
-                try {
-                    return CompletableFuture.completedFuture(validationFunc.apply(value,
-                        this.<P1>dependency(0).getValue(), this.<P2>dependency(1).getValue(),
-                        this.<P3>dependency(2).getValue(), this.<P4>dependency(3).getValue(),
-                        this.<P5>dependency(4).getValue(), this.<P6>dependency(5).getValue(),
-                        this.<P7>dependency(6).getValue(), this.<P8>dependency(7).getValue()));
-                } catch (Throwable ex) {
-                    return CompletableFuture.failedFuture(ex);
-                }
+            public ValidationResult<D> validateSync(T value) {
+                return validationFunc.apply(value,
+                    this.<P1>dependency(0).getValue(), this.<P2>dependency(1).getValue(),
+                    this.<P3>dependency(2).getValue(), this.<P4>dependency(3).getValue(),
+                    this.<P5>dependency(4).getValue(), this.<P6>dependency(5).getValue(),
+                    this.<P7>dependency(6).getValue(), this.<P8>dependency(7).getValue());
             }
         };
     }
@@ -616,11 +623,25 @@ public final class Constraints {
 
             @Override
             public Executor getCompletionExecutor() {
-                return Platform::runLater;
+                return CoalescingCompletionExecutor.INSTANCE;
             }
         };
     }
 
+    /**
+     * Creates a constraint like
+     * {@link #validateAsync(ValidationFunction0, Executor) validateAsync},
+     * but invokes the validation function with the {@link ValidationExecutors#getDefault() default executor}.
+     *
+     * @param validationFunc the function that validates the value
+     * @param <T> value type
+     * @param <D> diagnostic type
+     * @return the new constraint
+     */
+    public static <T, D> Constraint<T, D> validateAsync(ValidationFunction0<T, D> validationFunc) {
+        return validateAsync(validationFunc, DEFAULT_EXECUTOR);
+    }
+
     /**
      * Creates a constraint that asynchronously validates a value by applying a validation function,
      * and specifies a dependency on another {@link ObservableValue}.
@@ -710,11 +731,29 @@ public final class Constraints {
 
             @Override
             public Executor getCompletionExecutor() {
-                return Platform::runLater;
+                return CoalescingCompletionExecutor.INSTANCE;
             }
         };
     }
 
+    /**
+     * Creates a constraint like
+     * {@link #validateAsync(ValidationFunction1, ObservableValue, Executor) validateAsync},
+     * but invokes the validation function with the {@link ValidationExecutors#getDefault() default executor}.
+     *
+     * @param validationFunc the function that validates the value
+     * @param dependency the constraint dependency
+     * @param <T> value type
+     * @param <P1> dependency type
+     * @param <D> diagnostic type
+     * @return the new constraint
+     */
+    public static <T, P1, D> Constraint<T, D> validateAsync(
+            ValidationFunction1<T, P1, D> validationFunc,
+            ObservableValue<P1> dependency) {
+        return validateAsync(validationFunc, dependency, DEFAULT_EXECUTOR);
+    }
+
     /**
      * Creates a constraint that asynchronously validates a value by applying a validation function,
      * and specifies dependencies on two {@link ObservableValue ObservableValues}.
@@ -759,11 +798,32 @@ public final class Constraints {
 
             @Override
             public Executor getCompletionExecutor() {
-                return Platform::runLater;
+                return CoalescingCompletionExecutor.INSTANCE;
             }
         };
     }
 
+    /**
+     * Creates a constraint like
+     * {@link #validateAsync(ValidationFunction2, ObservableValue, ObservableValue, Executor) validateAsync},
+     * but invokes the validation function with the {@link ValidationExecutors#getDefault() default executor}.
+     *
+     * @param validationFunc the function that validates the value
+     * @param dependency1 the first constraint dependency
+     * @param dependency2 the second constraint dependency
+     * @param <T> value type
+     * @param <P1> type of the first dependency
+     * @param <P2> type of the second dependency
+     * @param <D> diagnostic type
+     * @return the new constraint
+     */
+    public static <T, P1, P2, D> Constraint<T, D> validateAsync(
+            ValidationFunction2<T, P1, P2, D> validationFunc,
+            ObservableValue<P1> dependency1,
+            ObservableValue<P2> dependency2) {
+        return validateAsync(validationFunc, dependency1, dependency2, DEFAULT_EXECUTOR);
+    }
+
     /**
      * Creates a constraint that asynchronously validates a value by applying a validation function,
      * and specifies dependencies on three {@link ObservableValue ObservableValues}.
@@ -813,11 +873,35 @@ public final class Constraints {
 
             @Override
             public Executor getCompletionExecutor() {
-                return Platform::runLater;
+                return CoalescingCompletionExecutor.INSTANCE;
             }
         };
     }
 
+    /**
+     * Creates a constraint like
+     * {@link #validateAsync(ValidationFunction3, ObservableValue, ObservableValue, ObservableValue, Executor) validateAsync},
+     * but invokes the validation function with the {@link ValidationExecutors#getDefault() default executor}.
+     *
+     * @param validationFunc the function that validates the value
+     * @param dependency1 the first constraint dependency
+     * @param dependency2 the second constraint dependency
+     * @param dependency3 the third constraint dependency
+     * @param <T> value type
+     * @param <P1> type of the first dependency
+     * @param <P2> type of the second dependency
+     * @param <P3> type of the third dependency
+     * @param <D> diagnostic type
+     * @return the new constraint
+     */
+    public static <T, P1, P2, P3, D> Constraint<T, D> validateAsync(
+            ValidationFunction3<T, P1, P2, P3, D> validationFunc,
+            ObservableValue<P1> dependency1,
+            ObservableValue<P2> dependency2,
+            ObservableValue<P3> dependency3) {
+        return validateAsync(validationFunc, dependency1, dependency2, dependency3, DEFAULT_EXECUTOR);
+    }
+
     /**
      * Creates a constraint that asynchronously validates a value by applying a validation function,
      * and specifies dependencies on four {@link ObservableValue ObservableValues}.
@@ -872,11 +956,38 @@ public final class Constraints {
 
             @Override
             public Executor getCompletionExecutor() {
-                return Platform::runLater;
+                return CoalescingCompletionExecutor.INSTANCE;
             }
         };
     }
 
+    /**
+     * Creates a constraint like
+     * {@link #validateAsync(ValidationFunction4, ObservableValue, ObservableValue, ObservableValue, ObservableValue, Executor) validateAsync},
+     * but invokes the validation function with the {@link ValidationExecutors#getDefault() default executor}.
+     *
+     * @param validationFunc the function that validates the value
+     * @param dependency1 the first constraint dependency
+     * @param dependency2 the second constraint dependency
+     * @param dependency3 the third constraint dependency
+     * @param dependency4 the fourth constraint dependency
+     * @param <T> value type
+     * @param <P1> type of the first dependency
+     * @param <P2> type of the second dependency
+     * @param <P3> type of the third dependency
+     * @param <P4> type of the fourth dependency
+     * @param <D> diagnostic type
+     * @return the new constraint
+     */
+    public static <T, P1, P2, P3, P4, D> Constraint<T, D> validateAsync(
+            ValidationFunction4<T, P1, P2, P3, P4, D> validationFunc,
+            ObservableValue<P1> dependency1,
+            ObservableValue<P2> dependency2,
+            ObservableValue<P3> dependency3,
+            ObservableValue<P4> dependency4) {
+        return validateAsync(validationFunc, dependency1, dependency2, dependency3, dependency4, DEFAULT_EXECUTOR);
+    }
+
     /**
      * Creates a constraint that asynchronously validates a value by applying a validation function,
      * and specifies dependencies on five {@link ObservableValue ObservableValues}.
@@ -936,11 +1047,48 @@ public final class Constraints {
 
             @Override
             public Executor getCompletionExecutor() {
-                return Platform::runLater;
+                return CoalescingCompletionExecutor.INSTANCE;
             }
         };
     }
 
+    /**
+     * Creates a constraint like
+     * {@link #validateAsync(ValidationFunction5, ObservableValue, ObservableValue, ObservableValue, ObservableValue, ObservableValue, Executor) validateAsync},
+     * but invokes the validation function with the {@link ValidationExecutors#getDefault() default executor}.
+     *
+     * @param validationFunc the function that validates the value
+     * @param dependency1 the first constraint dependency
+     * @param dependency2 the second constraint dependency
+     * @param dependency3 the third constraint dependency
+     * @param dependency4 the fourth constraint dependency
+     * @param dependency5 the fifth constraint dependency
+     * @param <T> value type
+     * @param <P1> type of the first dependency
+     * @param <P2> type of the second dependency
+     * @param <P3> type of the third dependency
+     * @param <P4> type of the fourth dependency
+     * @param <P5> type of the fifth dependency
+     * @param <D> diagnostic type
+     * @return the new constraint
+     */
+    public static <T, P1, P2, P3, P4, P5, D> Constraint<T, D> validateAsync(
+            ValidationFunction5<T, P1, P2, P3, P4, P5, D> validationFunc,
+            ObservableValue<P1> dependency1,
+            ObservableValue<P2> dependency2,
+            ObservableValue<P3> dependency3,
+            ObservableValue<P4> dependency4,
+            ObservableValue<P5> dependency5) {
+        return validateAsync(
+            validationFunc,
+            dependency1,
+            dependency2,
+            dependency3,
+            dependency4,
+            dependency5,
+            DEFAULT_EXECUTOR);
+    }
+
     /**
      * Creates a constraint that asynchronously validates a value by applying a validation function,
      * and specifies dependencies on six {@link ObservableValue ObservableValues}.
@@ -1005,11 +1153,52 @@ public final class Constraints {
 
             @Override
             public Executor getCompletionExecutor() {
-                return Platform::runLater;
+                return CoalescingCompletionExecutor.INSTANCE;
             }
         };
     }
 
+    /**
+     * Creates a constraint like
+     * {@link #validateAsync(ValidationFunction6, ObservableValue, ObservableValue, ObservableValue, ObservableValue, ObservableValue, ObservableValue, Executor) validateAsync},
+     * but invokes the validation function with the {@link ValidationExecutors#getDefault() default executor}.
+     *
+     * @param validationFunc the function that validates the value
+     * @param dependency1 the first constraint dependency
+     * @param dependency2 the second constraint dependency
+     * @param dependency3 the third constraint dependency
+     * @param dependency4 the fourth constraint dependency
+     * @param dependency5 the fifth constraint dependency
+     * @param dependency6 the sixth constraint dependency
+     * @param <T> value type
+     * @param <P1> type of the first dependency
+     * @param <P2> type of the second dependency
+     * @param <P3> type of the third dependency
+     * @param <P4> type of the fourth dependency
+     * @param <P5> type of the fifth dependency
+     * @param <P6> type of the sixth dependency
+     * @param <D> diagnostic type
+     * @return the new constraint
+     */
+    public static <T, P1, P2, P3, P4, P5, P6, D> Constraint<T, D> validateAsync(
+            ValidationFunction6<T, P1, P2, P3, P4, P5, P6, D> validationFunc,
+            ObservableValue<P1> dependency1,
+            ObservableValue<P2> dependency2,
+            ObservableValue<P3> dependency3,
+            ObservableValue<P4> dependency4,
+            ObservableValue<P5> dependency5,
+            ObservableValue<P6> dependency6) {
+        return validateAsync(
+            validationFunc,
+            dependency1,
+            dependency2,
+            dependency3,
+            dependency4,
+            dependency5,
+            dependency6,
+            DEFAULT_EXECUTOR);
+    }
+
     /**
      * Creates a constraint that asynchronously validates a value by applying a validation function,
      * and specifies dependencies on seven {@link ObservableValue ObservableValues}.
@@ -1080,11 +1269,56 @@ public final class Constraints {
 
             @Override
             public Executor getCompletionExecutor() {
-                return Platform::runLater;
+                return CoalescingCompletionExecutor.INSTANCE;
             }
         };
     }
 
+    /**
+     * Creates a constraint like
+     * {@link #validateAsync(ValidationFunction7, ObservableValue, ObservableValue, ObservableValue, ObservableValue, ObservableValue, ObservableValue, ObservableValue, Executor) validateAsync},
+     * but invokes the validation function with the {@link ValidationExecutors#getDefault() default executor}.
+     *
+     * @param validationFunc the function that validates the value
+     * @param dependency1 the first constraint dependency
+     * @param dependency2 the second constraint dependency
+     * @param dependency3 the third constraint dependency
+     * @param dependency4 the fourth constraint dependency
+     * @param dependency5 the fifth constraint dependency
+     * @param dependency6 the sixth constraint dependency
+     * @param dependency7 the seventh constraint dependency
+     * @param <T> value type
+     * @param <P1> type of the first dependency
+     * @param <P2> type of the second dependency
+     * @param <P3> type of the third dependency
+     * @param <P4> type of the fourth dependency
+     * @param <P5> type of the fifth dependency
+     * @param <P6> type of the sixth dependency
+     * @param <P7> type of the seventh dependency
+     * @param <D> diagnostic type
+     * @return the new constraint
+     */
+    public static <T, P1, P2, P3, P4, P5, P6, P7, D> Constraint<T, D> validateAsync(
+            ValidationFunction7<T, P1, P2, P3, P4, P5, P6, P7, D> validationFunc,
+            ObservableValue<P1> dependency1,
+            ObservableValue<P2> dependency2,
+            ObservableValue<P3> dependency3,
+            ObservableValue<P4> dependency4,
+            ObservableValue<P5> dependency5,
+            ObservableValue<P6> dependency6,
+            ObservableValue<P7> dependency7) {
+        return validateAsync(
+            validationFunc,
+            dependency1,
+            dependency2,
+            dependency3,
+            dependency4,
+            dependency5,
+            dependency6,
+            dependency7,
+            DEFAULT_EXECUTOR);
+    }
+
     /**
      * Creates a constraint that asynchronously validates a value by applying a validation function,
      * and specifies dependencies on eight {@link ObservableValue ObservableValues}.
@@ -1160,11 +1394,60 @@ public final class Constraints {
 
             @Override
             public Executor getCompletionExecutor() {
-                return Platform::runLater;
+                return CoalescingCompletionExecutor.INSTANCE;
             }
         };
     }
 
+    /**
+     * Creates a constraint like
+     * {@link #validateAsync(ValidationFunction8, ObservableValue, ObservableValue, ObservableValue, ObservableValue, ObservableValue, ObservableValue, ObservableValue, ObservableValue, Executor) validateAsync},
+     * but invokes the validation function with the {@link ValidationExecutors#getDefault() default executor}.
+     *
+     * @param validationFunc the function that validates the value
+     * @param dependency1 the first constraint dependency
+     * @param dependency2 the second constraint dependency
+     * @param dependency3 the third constraint dependency
+     * @param dependency4 the fourth constraint dependency
+     * @param dependency5 the fifth constraint dependency
+     * @param dependency6 the sixth constraint dependency
+     * @param dependency7 the seventh constraint dependency
+     * @param dependency8 the eighth constraint dependency
+     * @param <T> value type
+     * @param <P1> type of the first dependency
+     * @param <P2> type of the second dependency
+     * @param <P3> type of the third dependency
+     * @param <P4> type of the fourth dependency
+     * @param <P5> type of the fifth dependency
+     * @param <P6> type of the sixth dependency
+     * @param <P7> type of the seventh dependency
+     * @param <P8> type of the eighth dependency
+     * @param <D> diagnostic type
+     * @return the new constraint
+     */
+    public static <T, P1, P2, P3, P4, P5, P6, P7, P8, D> Constraint<T, D> validateAsync(
+            ValidationFunction8<T, P1, P2, P3, P4, P5, P6, P7, P8, D> validationFunc,
+            ObservableValue<P1> dependency1,
+            ObservableValue<P2> dependency2,
+            ObservableValue<P3> dependency3,
+            ObservableValue<P4> dependency4,
+            ObservableValue<P5> dependency5,
+            ObservableValue<P6> dependency6,
+            ObservableValue<P7> dependency7,
+            ObservableValue<P8> dependency8) {
+        return validateAsync(
+            validationFunc,
+            dependency1,
+            dependency2,
+            dependency3,
+            dependency4,
+            dependency5,
+            dependency6,
+            dependency7,
+            dependency8,
+            DEFAULT_EXECUTOR);
+    }
+
     /**
      * Creates a constraint that asynchronously validates a value by applying a cooperatively
      * cancellable validation function.
@@ -1235,21 +1518,36 @@ public final class Constraints {
 
             @Override
             public Executor getCompletionExecutor() {
-                return Platform::runLater;
+                return CoalescingCompletionExecutor.INSTANCE;
             }
         };
     }
 
     /**
-     * Creates a constraint that asynchronously validates a value by applying a cooperatively
-     * cancellable validation function, and specifies a dependency on another {@link ObservableValue}.
-     * <p>
-     * Cooperative cancellation works by repeatedly checking the value of a cancellation flag within
-     * the implementation of a long-running algorithm, and is thus best suited for computationally
-     * intensive validation functions. For I/O-bound validation functions that use thread interruption
-     * to cancel a blocking operation, consider using
-     * {@link #validateInterruptibleAsync(ValidationFunction1, ObservableValue, Executor) validateInterruptibleAsync}
-     * instead.
+     * Creates a constraint like
+     * {@link #validateCancellableAsync(CancellableValidationFunction0, Executor) validateCancellableAsync},
+     * but invokes the validation function with the {@link ValidationExecutors#getDefault() default executor}.
+     *
+     * @param validationFunc the function that validates the value
+     * @param <T> value type
+     * @param <D> diagnostic type
+     * @return the new constraint
+     */
+    public static <T, D> Constraint<T, D> validateCancellableAsync(
+            CancellableValidationFunction0<T, D> validationFunc) {
+        return validateCancellableAsync(validationFunc, DEFAULT_EXECUTOR);
+    }
+
+    /**
+     * Creates a constraint that asynchronously validates a value by applying a cooperatively
+     * cancellable validation function, and specifies a dependency on another {@link ObservableValue}.
+     * <p>
+     * Cooperative cancellation works by repeatedly checking the value of a cancellation flag within
+     * the implementation of a long-running algorithm, and is thus best suited for computationally
+     * intensive validation functions. For I/O-bound validation functions that use thread interruption
+     * to cancel a blocking operation, consider using
+     * {@link #validateInterruptibleAsync(ValidationFunction1, ObservableValue, Executor) validateInterruptibleAsync}
+     * instead.
      * <p>
      * When cancellation is requested, the implementation should return from the validation function
      * as soon as possible; in this case, the {@link ValidationResult} returned from the validation
@@ -1334,11 +1632,29 @@ public final class Constraints {
 
             @Override
             public Executor getCompletionExecutor() {
-                return Platform::runLater;
+                return CoalescingCompletionExecutor.INSTANCE;
             }
         };
     }
 
+    /**
+     * Creates a constraint like
+     * {@link #validateCancellableAsync(CancellableValidationFunction1, ObservableValue, Executor) validateCancellableAsync},
+     * but invokes the validation function with the {@link ValidationExecutors#getDefault() default executor}.
+     *
+     * @param validationFunc the function that validates the value
+     * @param dependency the constraint dependency
+     * @param <T> value type
+     * @param <P1> dependency type
+     * @param <D> diagnostic type
+     * @return the new constraint
+     */
+    public static <T, P1, D> Constraint<T, D> validateCancellableAsync(
+            CancellableValidationFunction1<T, P1, D> validationFunc,
+            ObservableValue<P1> dependency) {
+        return validateCancellableAsync(validationFunc, dependency, DEFAULT_EXECUTOR);
+    }
+
     /**
      * Creates a constraint that asynchronously validates a value by applying a cooperatively cancellable
      * validation function, and specifies dependencies on two {@link ObservableValue ObservableValues}.
@@ -1383,11 +1699,32 @@ public final class Constraints {
 
             @Override
             public Executor getCompletionExecutor() {
-                return Platform::runLater;
+                return CoalescingCompletionExecutor.INSTANCE;
             }
         };
     }
 
+    /**
+     * Creates a constraint like
+     * {@link #validateCancellableAsync(CancellableValidationFunction2, ObservableValue, ObservableValue, Executor) validateCancellableAsync},
+     * but invokes the validation function with the {@link ValidationExecutors#getDefault() default executor}.
+     *
+     * @param validationFunc the function that validates the value
+     * @param dependency1 the first constraint dependency
+     * @param dependency2 the second constraint dependency
+     * @param <T> value type
+     * @param <P1> type of the first dependency
+     * @param <P2> type of the second dependency
+     * @param <D> diagnostic type
+     * @return the new constraint
+     */
+    public static <T, P1, P2, D> Constraint<T, D> validateCancellableAsync(
+            CancellableValidationFunction2<T, P1, P2, D> validationFunc,
+            ObservableValue<P1> dependency1,
+            ObservableValue<P2> dependency2) {
+        return validateCancellableAsync(validationFunc, dependency1, dependency2, DEFAULT_EXECUTOR);
+    }
+
     /**
      * Creates a constraint that asynchronously validates a value by applying a cooperatively cancellable
      * validation function, and specifies dependencies on three {@link ObservableValue ObservableValues}.
@@ -1437,11 +1774,35 @@ public final class Constraints {
 
             @Override
             public Executor getCompletionExecutor() {
-                return Platform::runLater;
+                return CoalescingCompletionExecutor.INSTANCE;
             }
         };
     }
 
+    /**
+     * Creates a constraint like
+     * {@link #validateCancellableAsync(CancellableValidationFunction3, ObservableValue, ObservableValue, ObservableValue, Executor) validateCancellableAsync},
+     * but invokes the validation function with the {@link ValidationExecutors#getDefault() default executor}.
+     *
+     * @param validationFunc the function that validates the value
+     * @param dependency1 the first constraint dependency
+     * @param dependency2 the second constraint dependency
+     * @param dependency3 the third constraint dependency
+     * @param <T> value type
+     * @param <P1> type of the first dependency
+     * @param <P2> type of the second dependency
+     * @param <P3> type of the third dependency
+     * @param <D> diagnostic type
+     * @return the new constraint
+     */
+    public static <T, P1, P2, P3, D> Constraint<T, D> validateCancellableAsync(
+            CancellableValidationFunction3<T, P1, P2, P3, D> validationFunc,
+            ObservableValue<P1> dependency1,
+            ObservableValue<P2> dependency2,
+            ObservableValue<P3> dependency3) {
+        return validateCancellableAsync(validationFunc, dependency1, dependency2, dependency3, DEFAULT_EXECUTOR);
+    }
+
     /**
      * Creates a constraint that asynchronously validates a value by applying a cooperatively cancellable
      * validation function, and specifies dependencies on four {@link ObservableValue ObservableValues}.
@@ -1496,11 +1857,44 @@ public final class Constraints {
 
             @Override
             public Executor getCompletionExecutor() {
-                return Platform::runLater;
+                return CoalescingCompletionExecutor.INSTANCE;
             }
         };
     }
 
+    /**
+     * Creates a constraint like
+     * {@link #validateCancellableAsync(CancellableValidationFunction4, ObservableValue, ObservableValue, ObservableValue, ObservableValue, Executor) validateCancellableAsync},
+     * but invokes the validation function with the {@link ValidationExecutors#getDefault() default executor}.
+     *
+     * @param validationFunc the function that validates the value
+     * @param dependency1 the first constraint dependency
+     * @param dependency2 the second constraint dependency
+     * @param dependency3 the third constraint dependency
+     * @param dependency4 the fourth constraint dependency
+     * @param <T> value type
+     * @param <P1> type of the first dependency
+     * @param <P2> type of the second dependency
+     * @param <P3> type of the third dependency
+     * @param <P4> type of the fourth dependency
+     * @param <D> diagnostic type
+     * @return the new constraint
+     */
+    public static <T, P1, P2, P3, P4, D> Constraint<T, D> validateCancellableAsync(
+            CancellableValidationFunction4<T, P1, P2, P3, P4, D> validationFunc,
+            ObservableValue<P1> dependency1,
+            ObservableValue<P2> dependency2,
+            ObservableValue<P3> dependency3,
+            ObservableValue<P4> dependency4) {
+        return validateCancellableAsync(
+            validationFunc,
+            dependency1,
+            dependency2,
+            dependency3,
+            dependency4,
+            DEFAULT_EXECUTOR);
+    }
+
     /**
      * Creates a constraint that asynchronously validates a value by applying a cooperatively cancellable
      * validation function, and specifies dependencies on five {@link ObservableValue ObservableValues}.
@@ -1560,11 +1954,48 @@ public final class Constraints {
 
             @Override
             public Executor getCompletionExecutor() {
-                return Platform::runLater;
+                return CoalescingCompletionExecutor.INSTANCE;
             }
         };
     }
 
+    /**
+     * Creates a constraint like
+     * {@link #validateCancellableAsync(CancellableValidationFunction5, ObservableValue, ObservableValue, ObservableValue, ObservableValue, ObservableValue, Executor) validateCancellableAsync},
+     * but invokes the validation function with the {@link ValidationExecutors#getDefault() default executor}.
+     *
+     * @param validationFunc the function that validates the value
+     * @param dependency1 the first constraint dependency
+     * @param dependency2 the second constraint dependency
+     * @param dependency3 the third constraint dependency
+     * @param dependency4 the fourth constraint dependency
+     * @param dependency5 the fifth constraint dependency
+     * @param <T> value type
+     * @param <P1> type of the first dependency
+     * @param <P2> type of the second dependency
+     * @param <P3> type of the third dependency
+     * @param <P4> type of the fourth dependency
+     * @param <P5> type of the fifth dependency
+     * @param <D> diagnostic type
+     * @return the new constraint
+     */
+    public static <T, P1, P2, P3, P4, P5, D> Constraint<T, D> validateCancellableAsync(
+            CancellableValidationFunction5<T, P1, P2, P3, P4, P5, D> validationFunc,
+            ObservableValue<P1> dependency1,
+            ObservableValue<P2> dependency2,
+            ObservableValue<P3> dependency3,
+            ObservableValue<P4> dependency4,
+            ObservableValue<P5> dependency5) {
+        return validateCancellableAsync(
+            validationFunc,
+            dependency1,
+            dependency2,
+            dependency3,
+            dependency4,
+            dependency5,
+            DEFAULT_EXECUTOR);
+    }
+
     /**
      * Creates a constraint that asynchronously validates a value by applying a cooperatively cancellable
      * validation function, and specifies dependencies on six {@link ObservableValue ObservableValues}.
@@ -1629,11 +2060,52 @@ public final class Constraints {
 
             @Override
             public Executor getCompletionExecutor() {
-                return Platform::runLater;
+                return CoalescingCompletionExecutor.INSTANCE;
             }
         };
     }
 
+    /**
+     * Creates a constraint like
+     * {@link #validateCancellableAsync(CancellableValidationFunction6, ObservableValue, ObservableValue, ObservableValue, ObservableValue, ObservableValue, ObservableValue, Executor) validateCancellableAsync},
+     * but invokes the validation function with the {@link ValidationExecutors#getDefault() default executor}.
+     *
+     * @param validationFunc the function that validates the value
+     * @param dependency1 the first constraint dependency
+     * @param dependency2 the second constraint dependency
+     * @param dependency3 the third constraint dependency
+     * @param dependency4 the fourth constraint dependency
+     * @param dependency5 the fifth constraint dependency
+     * @param dependency6 the sixth constraint dependency
+     * @param <T> value type
+     * @param <P1> type of the first dependency
+     * @param <P2> type of the second dependency
+     * @param <P3> type of the third dependency
+     * @param <P4> type of the fourth dependency
+     * @param <P5> type of the fifth dependency
+     * @param <P6> type of the sixth dependency
+     * @param <D> diagnostic type
+     * @return the new constraint
+     */
+    public static <T, P1, P2, P3, P4, P5, P6, D> Constraint<T, D> validateCancellableAsync(
+            CancellableValidationFunction6<T, P1, P2, P3, P4, P5, P6, D> validationFunc,
+            ObservableValue<P1> dependency1,
+            ObservableValue<P2> dependency2,
+            ObservableValue<P3> dependency3,
+            ObservableValue<P4> dependency4,
+            ObservableValue<P5> dependency5,
+            ObservableValue<P6> dependency6) {
+        return validateCancellableAsync(
+            validationFunc,
+            dependency1,
+            dependency2,
+            dependency3,
+            dependency4,
+            dependency5,
+            dependency6,
+            DEFAULT_EXECUTOR);
+    }
+
     /**
      * Creates a constraint that asynchronously validates a value by applying a cooperatively cancellable
      * validation function, and specifies dependencies on seven {@link ObservableValue ObservableValues}.
@@ -1705,11 +2177,56 @@ public final class Constraints {
 
             @Override
             public Executor getCompletionExecutor() {
-                return Platform::runLater;
+                return CoalescingCompletionExecutor.INSTANCE;
             }
         };
     }
 
+    /**
+     * Creates a constraint like
+     * {@link #validateCancellableAsync(CancellableValidationFunction7, ObservableValue, ObservableValue, ObservableValue, ObservableValue, ObservableValue, ObservableValue, ObservableValue, Executor) validateCancellableAsync},
+     * but invokes the validation function with the {@link ValidationExecutors#getDefault() default executor}.
+     *
+     * @param validationFunc the function that validates the value
+     * @param dependency1 the first constraint dependency
+     * @param dependency2 the second constraint dependency
+     * @param dependency3 the third constraint dependency
+     * @param dependency4 the fourth constraint dependency
+     * @param dependency5 the fifth constraint dependency
+     * @param dependency6 the sixth constraint dependency
+     * @param dependency7 the seventh constraint dependency
+     * @param <T> value type
+     * @param <P1> type of the first dependency
+     * @param <P2> type of the second dependency
+     * @param <P3> type of the third dependency
+     * @param <P4> type of the fourth dependency
+     * @param <P5> type of the fifth dependency
+     * @param <P6> type of the sixth dependency
+     * @param <P7> type of the seventh dependency
+     * @param <D> diagnostic type
+     * @return the new constraint
+     */
+    public static <T, P1, P2, P3, P4, P5, P6, P7, D> Constraint<T, D> validateCancellableAsync(
+            CancellableValidationFunction7<T, P1, P2, P3, P4, P5, P6, P7, D> validationFunc,
+            ObservableValue<P1> dependency1,
+            ObservableValue<P2> dependency2,
+            ObservableValue<P3> dependency3,
+            ObservableValue<P4> dependency4,
+            ObservableValue<P5> dependency5,
+            ObservableValue<P6> dependency6,
+            ObservableValue<P7> dependency7) {
+        return validateCancellableAsync(
+            validationFunc,
+            dependency1,
+            dependency2,
+            dependency3,
+            dependency4,
+            dependency5,
+            dependency6,
+            dependency7,
+            DEFAULT_EXECUTOR);
+    }
+
     /**
      * Creates a constraint that asynchronously validates a value by applying a cooperatively cancellable
      * validation function, and specifies dependencies on eight {@link ObservableValue ObservableValues}.
@@ -1786,11 +2303,60 @@ public final class Constraints {
 
             @Override
             public Executor getCompletionExecutor() {
-                return Platform::runLater;
+                return CoalescingCompletionExecutor.INSTANCE;
             }
         };
     }
 
+    /**
+     * Creates a constraint like
+     * {@link #validateCancellableAsync(CancellableValidationFunction8, ObservableValue, ObservableValue, ObservableValue, ObservableValue, ObservableValue, ObservableValue, ObservableValue, ObservableValue, Executor) validateCancellableAsync},
+     * but invokes the validation function with the {@link ValidationExecutors#getDefault() default executor}.
+     *
+     * @param validationFunc the function that validates the value
+     * @param dependency1 the first constraint dependency
+     * @param dependency2 the second constraint dependency
+     * @param dependency3 the third constraint dependency
+     * @param dependency4 the fourth constraint dependency
+     * @param dependency5 the fifth constraint dependency
+     * @param dependency6 the sixth constraint dependency
+     * @param dependency7 the seventh constraint dependency
+     * @param dependency8 the eighth constraint dependency
+     * @param <T> value type
+     * @param <P1> type of the first dependency
+     * @param <P2> type of the second dependency
+     * @param <P3> type of the third dependency
+     * @param <P4> type of the fourth dependency
+     * @param <P5> type of the fifth dependency
+     * @param <P6> type of the sixth dependency
+     * @param <P7> type of the seventh dependency
+     * @param <P8> type of the eighth dependency
+     * @param <D> diagnostic type
+     * @return the new constraint
+     */
+    public static <T, P1, P2, P3, P4, P5, P6, P7, P8, D> Constraint<T, D> validateCancellableAsync(
+            CancellableValidationFunction8<T, P1, P2, P3, P4, P5, P6, P7, P8, D> validationFunc,
+            ObservableValue<P1> dependency1,
+            ObservableValue<P2> dependency2,
+            ObservableValue<P3> dependency3,
+            ObservableValue<P4> dependency4,
+            ObservableValue<P5> dependency5,
+            ObservableValue<P6> dependency6,
+            ObservableValue<P7> dependency7,
+            ObservableValue<P8> dependency8) {
+        return validateCancellableAsync(
+            validationFunc,
+            dependency1,
+            dependency2,
+            dependency3,
+            dependency4,
+            dependency5,
+            dependency6,
+            dependency7,
+            dependency8,
+            DEFAULT_EXECUTOR);
+    }
+
     /**
      * Creates a constraint that asynchronously validates a value by applying an interruptible
      * validation function.
@@ -1858,11 +2424,25 @@ public final class Constraints {
 
             @Override
             public Executor getCompletionExecutor() {
-                return Platform::runLater;
+                return CoalescingCompletionExecutor.INSTANCE;
             }
         };
     }
 
+    /**
+     * Creates a constraint like
+     * {@link #validateInterruptibleAsync(ValidationFunction0, Executor) validateInterruptibleAsync},
+     * but invokes the validation function with the {@link ValidationExecutors#getDefault() default executor}.
+     *
+     * @param validationFunc the function that validates the value
+     * @param <T> value type
+     * @param <D> diagnostic type
+     * @return the new constraint
+     */
+    public static <T, D> Constraint<T, D> validateInterruptibleAsync(ValidationFunction0<T, D> validationFunc) {
+        return validateInterruptibleAsync(validationFunc, DEFAULT_EXECUTOR);
+    }
+
     /**
      * Creates a constraint that asynchronously validates a value by applying an interruptible
      * validation function, and specifies a dependency on another {@link ObservableValue}.
@@ -1943,11 +2523,27 @@ public final class Constraints {
 
             @Override
             public Executor getCompletionExecutor() {
-                return Platform::runLater;
+                return CoalescingCompletionExecutor.INSTANCE;
             }
         };
     }
 
+    /**
+     * Creates a constraint like
+     * {@link #validateInterruptibleAsync(ValidationFunction1, ObservableValue, Executor) validateInterruptibleAsync},
+     * but invokes the validation function with the {@link ValidationExecutors#getDefault() default executor}.
+     *
+     * @param validationFunc the function that validates the value
+     * @param <T> value type
+     * @param <D> diagnostic type
+     * @return the new constraint
+     */
+    public static <T, P1, D> Constraint<T, D> validateInterruptibleAsync(
+            ValidationFunction1<T, P1, D> validationFunc,
+            ObservableValue<P1> dependency) {
+        return validateInterruptibleAsync(validationFunc, dependency, DEFAULT_EXECUTOR);
+    }
+
     /**
      * Creates a constraint that asynchronously validates a value by applying an interruptible validation
      * function, and specifies dependencies on two {@link ObservableValue ObservableValues}.
@@ -1992,11 +2588,32 @@ public final class Constraints {
 
             @Override
             public Executor getCompletionExecutor() {
-                return Platform::runLater;
+                return CoalescingCompletionExecutor.INSTANCE;
             }
         };
     }
 
+    /**
+     * Creates a constraint like
+     * {@link #validateInterruptibleAsync(ValidationFunction2, ObservableValue, ObservableValue, Executor) validateInterruptibleAsync},
+     * but invokes the validation function with the {@link ValidationExecutors#getDefault() default executor}.
+     *
+     * @param validationFunc the function that validates the value
+     * @param dependency1 the first constraint dependency
+     * @param dependency2 the second constraint dependency
+     * @param <T> value type
+     * @param <P1> type of the first dependency
+     * @param <P2> type of the second dependency
+     * @param <D> diagnostic type
+     * @return the new constraint
+     */
+    public static <T, P1, P2, D> Constraint<T, D> validateInterruptibleAsync(
+            ValidationFunction2<T, P1, P2, D> validationFunc,
+            ObservableValue<P1> dependency1,
+            ObservableValue<P2> dependency2) {
+        return validateInterruptibleAsync(validationFunc, dependency1, dependency2, DEFAULT_EXECUTOR);
+    }
+
     /**
      * Creates a constraint that asynchronously validates a value by applying an interruptible validation
      * function, and specifies dependencies on three {@link ObservableValue ObservableValues}.
@@ -2046,24 +2663,48 @@ public final class Constraints {
 
             @Override
             public Executor getCompletionExecutor() {
-                return Platform::runLater;
+                return CoalescingCompletionExecutor.INSTANCE;
             }
         };
     }
 
     /**
-     * Creates a constraint that asynchronously validates a value by applying an interruptible validation
-     * function, and specifies dependencies on four {@link ObservableValue ObservableValues}.
-     * <p>
-     * See {@link #validateInterruptibleAsync(ValidationFunction1, ObservableValue, Executor) validateInterruptibleAsync}
-     * for additional information.
+     * Creates a constraint like
+     * {@link #validateInterruptibleAsync(ValidationFunction3, ObservableValue, ObservableValue, ObservableValue, Executor) validateInterruptibleAsync},
+     * but invokes the validation function with the {@link ValidationExecutors#getDefault() default executor}.
      *
      * @param validationFunc the function that validates the value
      * @param dependency1 the first constraint dependency
      * @param dependency2 the second constraint dependency
      * @param dependency3 the third constraint dependency
-     * @param dependency4 the fourth constraint dependency
-     * @param executor the executor that invokes the validation function
+     * @param <T> value type
+     * @param <P1> type of the first dependency
+     * @param <P2> type of the second dependency
+     * @param <P3> type of the third dependency
+     * @param <D> diagnostic type
+     * @return the new constraint
+     */
+    public static <T, P1, P2, P3, D> Constraint<T, D> validateInterruptibleAsync(
+            ValidationFunction3<T, P1, P2, P3, D> validationFunc,
+            ObservableValue<P1> dependency1,
+            ObservableValue<P2> dependency2,
+            ObservableValue<P3> dependency3) {
+        return validateInterruptibleAsync(validationFunc, dependency1, dependency2, dependency3, DEFAULT_EXECUTOR);
+    }
+
+    /**
+     * Creates a constraint that asynchronously validates a value by applying an interruptible validation
+     * function, and specifies dependencies on four {@link ObservableValue ObservableValues}.
+     * <p>
+     * See {@link #validateInterruptibleAsync(ValidationFunction1, ObservableValue, Executor) validateInterruptibleAsync}
+     * for additional information.
+     *
+     * @param validationFunc the function that validates the value
+     * @param dependency1 the first constraint dependency
+     * @param dependency2 the second constraint dependency
+     * @param dependency3 the third constraint dependency
+     * @param dependency4 the fourth constraint dependency
+     * @param executor the executor that invokes the validation function
      * @param <T> value type
      * @param <P1> type of the first dependency
      * @param <P2> type of the second dependency
@@ -2105,11 +2746,44 @@ public final class Constraints {
 
             @Override
             public Executor getCompletionExecutor() {
-                return Platform::runLater;
+                return CoalescingCompletionExecutor.INSTANCE;
             }
         };
     }
 
+    /**
+     * Creates a constraint like
+     * {@link #validateInterruptibleAsync(ValidationFunction4, ObservableValue, ObservableValue, ObservableValue, ObservableValue, Executor) validateInterruptibleAsync},
+     * but invokes the validation function with the {@link ValidationExecutors#getDefault() default executor}.
+     *
+     * @param validationFunc the function that validates the value
+     * @param dependency1 the first constraint dependency
+     * @param dependency2 the second constraint dependency
+     * @param dependency3 the third constraint dependency
+     * @param dependency4 the fourth constraint dependency
+     * @param <T> value type
+     * @param <P1> type of the first dependency
+     * @param <P2> type of the second dependency
+     * @param <P3> type of the third dependency
+     * @param <P4> type of the fourth dependency
+     * @param <D> diagnostic type
+     * @return the new constraint
+     */
+    public static <T, P1, P2, P3, P4, D> Constraint<T, D> validateInterruptibleAsync(
+            ValidationFunction4<T, P1, P2, P3, P4, D> validationFunc,
+            ObservableValue<P1> dependency1,
+            ObservableValue<P2> dependency2,
+            ObservableValue<P3> dependency3,
+            ObservableValue<P4> dependency4) {
+        return validateInterruptibleAsync(
+            validationFunc,
+            dependency1,
+            dependency2,
+            dependency3,
+            dependency4,
+            DEFAULT_EXECUTOR);
+    }
+
     /**
      * Creates a constraint that asynchronously validates a value by applying an interruptible validation
      * function, and specifies dependencies on five {@link ObservableValue ObservableValues}.
@@ -2169,11 +2843,48 @@ public final class Constraints {
 
             @Override
             public Executor getCompletionExecutor() {
-                return Platform::runLater;
+                return CoalescingCompletionExecutor.INSTANCE;
             }
         };
     }
 
+    /**
+     * Creates a constraint like
+     * {@link #validateInterruptibleAsync(ValidationFunction5, ObservableValue, ObservableValue, ObservableValue, ObservableValue, ObservableValue, Executor) validateInterruptibleAsync},
+     * but invokes the validation function with the {@link ValidationExecutors#getDefault() default executor}.
+     *
+     * @param validationFunc the function that validates the value
+     * @param dependency1 the first constraint dependency
+     * @param dependency2 the second constraint dependency
+     * @param dependency3 the third constraint dependency
+     * @param dependency4 the fourth constraint dependency
+     * @param dependency5 the fifth constraint dependency
+     * @param <T> value type
+     * @param <P1> type of the first dependency
+     * @param <P2> type of the second dependency
+     * @param <P3> type of the third dependency
+     * @param <P4> type of the fourth dependency
+     * @param <P5> type of the fifth dependency
+     * @param <D> diagnostic type
+     * @return the new constraint
+     */
+    public static <T, P1, P2, P3, P4, P5, D> Constraint<T, D> validateInterruptibleAsync(
+            ValidationFunction5<T, P1, P2, P3, P4, P5, D> validationFunc,
+            ObservableValue<P1> dependency1,
+            ObservableValue<P2> dependency2,
+            ObservableValue<P3> dependency3,
+            ObservableValue<P4> dependency4,
+            ObservableValue<P5> dependency5) {
+        return validateInterruptibleAsync(
+            validationFunc,
+            dependency1,
+            dependency2,
+            dependency3,
+            dependency4,
+            dependency5,
+            DEFAULT_EXECUTOR);
+    }
+
     /**
      * Creates a constraint that asynchronously validates a value by applying an interruptible validation
      * function, and specifies dependencies on six {@link ObservableValue ObservableValues}.
@@ -2238,11 +2949,52 @@ public final class Constraints {
 
             @Override
             public Executor getCompletionExecutor() {
-                return Platform::runLater;
+                return CoalescingCompletionExecutor.INSTANCE;
             }
         };
     }
 
+    /**
+     * Creates a constraint like
+     * {@link #validateInterruptibleAsync(ValidationFunction6, ObservableValue, ObservableValue, ObservableValue, ObservableValue, ObservableValue, ObservableValue, Executor) validateInterruptibleAsync},
+     * but invokes the validation function with the {@link ValidationExecutors#getDefault() default executor}.
+     *
+     * @param validationFunc the function that validates the value
+     * @param dependency1 the first constraint dependency
+     * @param dependency2 the second constraint dependency
+     * @param dependency3 the third constraint dependency
+     * @param dependency4 the fourth constraint dependency
+     * @param dependency5 the fifth constraint dependency
+     * @param dependency6 the sixth constraint dependency
+     * @param <T> value type
+     * @param <P1> type of the first dependency
+     * @param <P2> type of the second dependency
+     * @param <P3> type of the third dependency
+     * @param <P4> type of the fourth dependency
+     * @param <P5> type of the fifth dependency
+     * @param <P6> type of the sixth dependency
+     * @param <D> diagnostic type
+     * @return the new constraint
+     */
+    public static <T, P1, P2, P3, P4, P5, P6, D> Constraint<T, D> validateInterruptibleAsync(
+            ValidationFunction6<T, P1, P2, P3, P4, P5, P6, D> validationFunc,
+            ObservableValue<P1> dependency1,
+            ObservableValue<P2> dependency2,
+            ObservableValue<P3> dependency3,
+            ObservableValue<P4> dependency4,
+            ObservableValue<P5> dependency5,
+            ObservableValue<P6> dependency6) {
+        return validateInterruptibleAsync(
+            validationFunc,
+            dependency1,
+            dependency2,
+            dependency3,
+            dependency4,
+            dependency5,
+            dependency6,
+            DEFAULT_EXECUTOR);
+    }
+
     /**
      * Creates a constraint that asynchronously validates a value by applying an interruptible validation
      * function, and specifies dependencies on seven {@link ObservableValue ObservableValues}.
@@ -2313,11 +3065,56 @@ public final class Constraints {
 
             @Override
             public Executor getCompletionExecutor() {
-                return Platform::runLater;
+                return CoalescingCompletionExecutor.INSTANCE;
             }
         };
     }
 
+    /**
+     * Creates a constraint like
+     * {@link #validateInterruptibleAsync(ValidationFunction7, ObservableValue, ObservableValue, ObservableValue, ObservableValue, ObservableValue, ObservableValue, ObservableValue, Executor) validateInterruptibleAsync},
+     * but invokes the validation function with the {@link ValidationExecutors#getDefault() default executor}.
+     *
+     * @param validationFunc the function that validates the value
+     * @param dependency1 the first constraint dependency
+     * @param dependency2 the second constraint dependency
+     * @param dependency3 the third constraint dependency
+     * @param dependency4 the fourth constraint dependency
+     * @param dependency5 the fifth constraint dependency
+     * @param dependency6 the sixth constraint dependency
+     * @param dependency7 the seventh constraint dependency
+     * @param <T> value type
+     * @param <P1> type of the first dependency
+     * @param <P2> type of the second dependency
+     * @param <P3> type of the third dependency
+     * @param <P4> type of the fourth dependency
+     * @param <P5> type of the fifth dependency
+     * @param <P6> type of the sixth dependency
+     * @param <P7> type of the seventh dependency
+     * @param <D> diagnostic type
+     * @return the new constraint
+     */
+    public static <T, P1, P2, P3, P4, P5, P6, P7, D> Constraint<T, D> validateInterruptibleAsync(
+            ValidationFunction7<T, P1, P2, P3, P4, P5, P6, P7, D> validationFunc,
+            ObservableValue<P1> dependency1,
+            ObservableValue<P2> dependency2,
+            ObservableValue<P3> dependency3,
+            ObservableValue<P4> dependency4,
+            ObservableValue<P5> dependency5,
+            ObservableValue<P6> dependency6,
+            ObservableValue<P7> dependency7) {
+        return validateInterruptibleAsync(
+            validationFunc,
+            dependency1,
+            dependency2,
+            dependency3,
+            dependency4,
+            dependency5,
+            dependency6,
+            dependency7,
+            DEFAULT_EXECUTOR);
+    }
+
     /**
      * Creates a constraint that asynchronously validates a value by applying an interruptible validation
      * function, and specifies dependencies on eight {@link ObservableValue ObservableValues}.
@@ -2393,11 +3190,60 @@ public final class Constraints {
 
             @Override
             public Executor getCompletionExecutor() {
-                return Platform::runLater;
+                return CoalescingCompletionExecutor.INSTANCE;
             }
         };
     }
 
+    /**
+     * Creates a constraint like
+     * {@link #validateInterruptibleAsync(ValidationFunction8, ObservableValue, ObservableValue, ObservableValue, ObservableValue, ObservableValue, ObservableValue, ObservableValue, ObservableValue, Executor) validateInterruptibleAsync},
+     * but invokes the validation function with the {@link ValidationExecutors#getDefault() default executor}.
+     *
+     * @param validationFunc the function that validates the value
+     * @param dependency1 the first constraint dependency
+     * @param dependency2 the second constraint dependency
+     * @param dependency3 the third constraint dependency
+     * @param dependency4 the fourth constraint dependency
+     * @param dependency5 the fifth constraint dependency
+     * @param dependency6 the sixth constraint dependency
+     * @param dependency7 the seventh constraint dependency
+     * @param dependency8 the eighth constraint dependency
+     * @param <T> value type
+     * @param <P1> type of the first dependency
+     * @param <P2> type of the second dependency
+     * @param <P3> type of the third dependency
+     * @param <P4> type of the fourth dependency
+     * @param <P5> type of the fifth dependency
+     * @param <P6> type of the sixth dependency
+     * @param <P7> type of the seventh dependency
+     * @param <P8> type of the eighth dependency
+     * @param <D> diagnostic type
+     * @return the new constraint
+     */
+    public static <T, P1, P2, P3, P4, P5, P6, P7, P8, D> Constraint<T, D> validateInterruptibleAsync(
+            ValidationFunction8<T, P1, P2, P3, P4, P5, P6, P7, P8, D> validationFunc,
+            ObservableValue<P1> dependency1,
+            ObservableValue<P2> dependency2,
+            ObservableValue<P3> dependency3,
+            ObservableValue<P4> dependency4,
+            ObservableValue<P5> dependency5,
+            ObservableValue<P6> dependency6,
+            ObservableValue<P7> dependency7,
+            ObservableValue<P8> dependency8) {
+        return validateInterruptibleAsync(
+            validationFunc,
+            dependency1,
+            dependency2,
+            dependency3,
+            dependency4,
+            dependency5,
+            dependency6,
+            dependency7,
+            dependency8,
+            DEFAULT_EXECUTOR);
+    }
+
     /**
      * Creates a constraint that validates that a number is within a range.
      *
@@ -2421,13 +3267,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> between(int minInclusive, int maxExclusive, Function<Number, D> error) {
-        return new ConstraintImpl<>() {
+        return new ThreadSafeSyncConstraintImpl<>() {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 int v = value != null ? value.intValue() : 0;
                 boolean valid = v >= minInclusive && v < maxExclusive;
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -2455,13 +3300,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> between(long minInclusive, long maxExclusive, Function<Number, D> error) {
-        return new ConstraintImpl<>() {
+        return new ThreadSafeSyncConstraintImpl<>() {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 long v = value != null ? value.longValue() : 0;
                 boolean valid = v >= minInclusive && v < maxExclusive;
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -2489,13 +3333,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> between(float minInclusive, float maxExclusive, Function<Number, D> error) {
-        return new ConstraintImpl<>() {
+        return new ThreadSafeSyncConstraintImpl<>() {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 float v = value != null ? value.floatValue() : 0;
                 boolean valid = v >= minInclusive && v < maxExclusive;
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -2523,13 +3366,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> between(double minInclusive, double maxExclusive, Function<Number, D> error) {
-        return new ConstraintImpl<>() {
+        return new ThreadSafeSyncConstraintImpl<>() {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 double v = value != null ? value.doubleValue() : 0;
                 boolean valid = v >= minInclusive && v < maxExclusive;
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -2563,13 +3405,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> between(ObservableIntegerValue minInclusive, ObservableIntegerValue maxExclusive, Function<Number, D> error) {
-        return new ConstraintImpl<>(minInclusive, maxExclusive) {
+        return new SyncConstraintImpl<>(minInclusive, maxExclusive) {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 int v = value != null ? value.intValue() : 0;
                 boolean valid = v >= minInclusive.get() && v < maxExclusive.get();
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -2603,13 +3444,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> between(ObservableLongValue minInclusive, ObservableLongValue maxExclusive, Function<Number, D> error) {
-        return new ConstraintImpl<>(minInclusive, maxExclusive) {
+        return new SyncConstraintImpl<>(minInclusive, maxExclusive) {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 long v = value != null ? value.longValue() : 0;
                 boolean valid = v >= minInclusive.get() && v < maxExclusive.get();
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -2643,13 +3483,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> between(ObservableFloatValue minInclusive, ObservableFloatValue maxExclusive, Function<Number, D> error) {
-        return new ConstraintImpl<>(minInclusive, maxExclusive) {
+        return new SyncConstraintImpl<>(minInclusive, maxExclusive) {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 float v = value != null ? value.floatValue() : 0;
                 boolean valid = v >= minInclusive.get() && v < maxExclusive.get();
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -2683,13 +3522,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> between(ObservableDoubleValue minInclusive, ObservableDoubleValue maxExclusive, Function<Number, D> error) {
-        return new ConstraintImpl<>(minInclusive, maxExclusive) {
+        return new SyncConstraintImpl<>(minInclusive, maxExclusive) {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 double v = value != null ? value.doubleValue() : 0;
                 boolean valid = v >= minInclusive.get() && v < maxExclusive.get();
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -2715,13 +3553,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> greaterThan(int minimum, Function<Number, D> error) {
-        return new ConstraintImpl<>() {
+        return new ThreadSafeSyncConstraintImpl<>() {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 int v = value != null ? value.intValue() : 0;
                 boolean valid = v > minimum;
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -2747,13 +3584,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> greaterThan(long minimum, Function<Number, D> error) {
-        return new ConstraintImpl<>() {
+        return new ThreadSafeSyncConstraintImpl<>() {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 long v = value != null ? value.longValue() : 0;
                 boolean valid = v > minimum;
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -2779,13 +3615,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> greaterThan(float minimum, Function<Number, D> error) {
-        return new ConstraintImpl<>() {
+        return new ThreadSafeSyncConstraintImpl<>() {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 float v = value != null ? value.floatValue() : 0;
                 boolean valid = v > minimum;
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -2811,13 +3646,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> greaterThan(double minimum, Function<Number, D> error) {
-        return new ConstraintImpl<>() {
+        return new ThreadSafeSyncConstraintImpl<>() {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 double v = value != null ? value.doubleValue() : 0;
                 boolean valid = v > minimum;
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -2849,13 +3683,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> greaterThan(ObservableIntegerValue minimum, Function<Number, D> error) {
-        return new ConstraintImpl<>(minimum) {
+        return new SyncConstraintImpl<>(minimum) {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 int v = value != null ? value.intValue() : 0;
                 boolean valid = v > minimum.get();
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -2887,13 +3720,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> greaterThan(ObservableLongValue minimum, Function<Number, D> error) {
-        return new ConstraintImpl<>(minimum) {
+        return new SyncConstraintImpl<>(minimum) {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 long v = value != null ? value.longValue() : 0;
                 boolean valid = v > minimum.get();
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -2925,13 +3757,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> greaterThan(ObservableFloatValue minimum, Function<Number, D> error) {
-        return new ConstraintImpl<>(minimum) {
+        return new SyncConstraintImpl<>(minimum) {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 float v = value != null ? value.floatValue() : 0;
                 boolean valid = v > minimum.get();
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -2963,13 +3794,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> greaterThan(ObservableDoubleValue minimum, Function<Number, D> error) {
-        return new ConstraintImpl<>(minimum) {
+        return new SyncConstraintImpl<>(minimum) {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 double v = value != null ? value.doubleValue() : 0;
                 boolean valid = v > minimum.get();
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -2995,13 +3825,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> greaterThanOrEqualTo(int minimum, Function<Number, D> error) {
-        return new ConstraintImpl<>() {
+        return new ThreadSafeSyncConstraintImpl<>() {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 int v = value != null ? value.intValue() : 0;
                 boolean valid = v >= minimum;
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -3027,13 +3856,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> greaterThanOrEqualTo(long minimum, Function<Number, D> error) {
-        return new ConstraintImpl<>() {
+        return new ThreadSafeSyncConstraintImpl<>() {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 long v = value != null ? value.longValue() : 0;
                 boolean valid = v >= minimum;
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -3059,13 +3887,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> greaterThanOrEqualTo(float minimum, Function<Number, D> error) {
-        return new ConstraintImpl<>() {
+        return new ThreadSafeSyncConstraintImpl<>() {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 float v = value != null ? value.floatValue() : 0;
                 boolean valid = v >= minimum;
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -3091,13 +3918,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> greaterThanOrEqualTo(double minimum, Function<Number, D> error) {
-        return new ConstraintImpl<>() {
+        return new ThreadSafeSyncConstraintImpl<>() {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 double v = value != null ? value.doubleValue() : 0;
                 boolean valid = v >= minimum;
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -3129,13 +3955,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> greaterThanOrEqualTo(ObservableIntegerValue minimum, Function<Number, D> error) {
-        return new ConstraintImpl<>(minimum) {
+        return new SyncConstraintImpl<>(minimum) {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 int v = value != null ? value.intValue() : 0;
                 boolean valid = v >= minimum.get();
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -3167,13 +3992,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> greaterThanOrEqualTo(ObservableLongValue minimum, Function<Number, D> error) {
-        return new ConstraintImpl<>(minimum) {
+        return new SyncConstraintImpl<>(minimum) {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 long v = value != null ? value.longValue() : 0;
                 boolean valid = v >= minimum.get();
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -3205,13 +4029,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> greaterThanOrEqualTo(ObservableFloatValue minimum, Function<Number, D> error) {
-        return new ConstraintImpl<>(minimum) {
+        return new SyncConstraintImpl<>(minimum) {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 float v = value != null ? value.floatValue() : 0;
                 boolean valid = v >= minimum.get();
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -3243,13 +4066,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> greaterThanOrEqualTo(ObservableDoubleValue minimum, Function<Number, D> error) {
-        return new ConstraintImpl<>(minimum) {
+        return new SyncConstraintImpl<>(minimum) {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 double v = value != null ? value.doubleValue() : 0;
                 boolean valid = v >= minimum.get();
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -3275,13 +4097,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> lessThan(int maximum, Function<Number, D> error) {
-        return new ConstraintImpl<>() {
+        return new ThreadSafeSyncConstraintImpl<>() {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 int v = value != null ? value.intValue() : 0;
                 boolean valid = v < maximum;
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -3307,13 +4128,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> lessThan(long maximum, Function<Number, D> error) {
-        return new ConstraintImpl<>() {
+        return new ThreadSafeSyncConstraintImpl<>() {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 long v = value != null ? value.longValue() : 0;
                 boolean valid = v < maximum;
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -3339,13 +4159,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> lessThan(float maximum, Function<Number, D> error) {
-        return new ConstraintImpl<>() {
+        return new ThreadSafeSyncConstraintImpl<>() {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 float v = value != null ? value.floatValue() : 0;
                 boolean valid = v < maximum;
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -3371,13 +4190,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> lessThan(double maximum, Function<Number, D> error) {
-        return new ConstraintImpl<>() {
+        return new ThreadSafeSyncConstraintImpl<>() {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 double v = value != null ? value.doubleValue() : 0;
                 boolean valid = v < maximum;
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -3409,13 +4227,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> lessThan(ObservableIntegerValue maximum, Function<Number, D> error) {
-        return new ConstraintImpl<>(maximum) {
+        return new SyncConstraintImpl<>(maximum) {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 int v = value != null ? value.intValue() : 0;
                 boolean valid = v < maximum.get();
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -3447,13 +4264,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> lessThan(ObservableLongValue maximum, Function<Number, D> error) {
-        return new ConstraintImpl<>(maximum) {
+        return new SyncConstraintImpl<>(maximum) {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 long v = value != null ? value.longValue() : 0;
                 boolean valid = v < maximum.get();
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -3485,13 +4301,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> lessThan(ObservableFloatValue maximum, Function<Number, D> error) {
-        return new ConstraintImpl<>(maximum) {
+        return new SyncConstraintImpl<>(maximum) {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 float v = value != null ? value.floatValue() : 0;
                 boolean valid = v < maximum.get();
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -3523,13 +4338,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> lessThan(ObservableDoubleValue maximum, Function<Number, D> error) {
-        return new ConstraintImpl<>(maximum) {
+        return new SyncConstraintImpl<>(maximum) {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 double v = value != null ? value.doubleValue() : 0;
                 boolean valid = v < maximum.get();
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -3555,13 +4369,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> lessThanOrEqualTo(int maximum, Function<Number, D> error) {
-        return new ConstraintImpl<>() {
+        return new ThreadSafeSyncConstraintImpl<>() {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 int v = value != null ? value.intValue() : 0;
                 boolean valid = v <= maximum;
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -3587,13 +4400,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> lessThanOrEqualTo(long maximum, Function<Number, D> error) {
-        return new ConstraintImpl<>() {
+        return new ThreadSafeSyncConstraintImpl<>() {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 long v = value != null ? value.longValue() : 0;
                 boolean valid = v <= maximum;
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -3619,13 +4431,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> lessThanOrEqualTo(float maximum, Function<Number, D> error) {
-        return new ConstraintImpl<>() {
+        return new ThreadSafeSyncConstraintImpl<>() {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 float v = value != null ? value.floatValue() : 0;
                 boolean valid = v <= maximum;
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -3651,13 +4462,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> lessThanOrEqualTo(double maximum, Function<Number, D> error) {
-        return new ConstraintImpl<>() {
+        return new ThreadSafeSyncConstraintImpl<>() {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 double v = value != null ? value.doubleValue() : 0;
                 boolean valid = v <= maximum;
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -3689,13 +4499,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> lessThanOrEqualTo(ObservableIntegerValue maximum, Function<Number, D> error) {
-        return new ConstraintImpl<>(maximum) {
+        return new SyncConstraintImpl<>(maximum) {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 int v = value != null ? value.intValue() : 0;
                 boolean valid = v <= maximum.get();
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -3727,13 +4536,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> lessThanOrEqualTo(ObservableLongValue maximum, Function<Number, D> error) {
-        return new ConstraintImpl<>(maximum) {
+        return new SyncConstraintImpl<>(maximum) {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 long v = value != null ? value.longValue() : 0;
                 boolean valid = v <= maximum.get();
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -3765,13 +4573,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> lessThanOrEqualTo(ObservableFloatValue maximum, Function<Number, D> error) {
-        return new ConstraintImpl<>(maximum) {
+        return new SyncConstraintImpl<>(maximum) {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 float v = value != null ? value.floatValue() : 0;
                 boolean valid = v <= maximum.get();
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -3803,13 +4610,12 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<Number, D> lessThanOrEqualTo(ObservableDoubleValue maximum, Function<Number, D> error) {
-        return new ConstraintImpl<>(maximum) {
+        return new SyncConstraintImpl<>(maximum) {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(Number value) {
+            public ValidationResult<D> validateSync(Number value) {
                 double v = value != null ? value.doubleValue() : 0;
                 boolean valid = v <= maximum.get();
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -3834,12 +4640,11 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <T, D> Constraint<T, D> notNull(Supplier<D> error) {
-        return new ConstraintImpl<>() {
+        return new ThreadSafeSyncConstraintImpl<>() {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(T value) {
+            public ValidationResult<D> validateSync(T value) {
                 boolean valid = value != null;
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.get() : null));
+                return result(valid, !valid && error != null ? error.get() : null);
             }
         };
     }
@@ -3862,12 +4667,11 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<String, D> notNullOrEmpty(Supplier<D> error) {
-        return new ConstraintImpl<>() {
+        return new ThreadSafeSyncConstraintImpl<>() {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(String value) {
+            public ValidationResult<D> validateSync(String value) {
                 boolean valid = value != null && !value.isEmpty();
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.get() : null));
+                return result(valid, !valid && error != null ? error.get() : null);
             }
         };
     }
@@ -3890,9 +4694,9 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<String, D> notNullOrBlank(Supplier<D> error) {
-        return new ConstraintImpl<>() {
+        return new ThreadSafeSyncConstraintImpl<>() {
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(String value) {
+            public ValidationResult<D> validateSync(String value) {
                 boolean blank = true;
 
                 if (value != null) {
@@ -3905,8 +4709,7 @@ public final class Constraints {
                 }
 
                 boolean valid = !blank;
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.get() : null));
+                return result(valid, !valid && error != null ? error.get() : null);
             }
         };
     }
@@ -3931,14 +4734,13 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<String, D> matchesPattern(String regex, Function<String, D> error) {
-        return new ConstraintImpl<>() {
+        return new ThreadSafeSyncConstraintImpl<>() {
             final Pattern pattern = Pattern.compile(regex);
 
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(String value) {
+            public ValidationResult<D> validateSync(String value) {
                 boolean valid = pattern.matcher(value != null ? value : "").matches();
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -3992,14 +4794,13 @@ public final class Constraints {
      * @return the new constraint
      */
     public static <D> Constraint<String, D> notMatchesPattern(String regex, Function<String, D> error) {
-        return new ConstraintImpl<>() {
+        return new ThreadSafeSyncConstraintImpl<>() {
             final Pattern pattern = Pattern.compile(regex);
 
             @Override
-            public CompletableFuture<ValidationResult<D>> validate(String value) {
+            public ValidationResult<D> validateSync(String value) {
                 boolean valid = !pattern.matcher(value != null ? value : "").matches();
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+                return result(valid, !valid && error != null ? error.apply(value) : null);
             }
         };
     }
@@ -4033,7 +4834,7 @@ public final class Constraints {
         return new ObservablePatternConstraint<>(regex, error, true);
     }
 
-    private static final class ObservablePatternConstraint<D> implements Constraint<String, D>, InvalidationListener {
+    private static final class ObservablePatternConstraint<D> implements SyncConstraint<String, D>, InvalidationListener {
         private final boolean flip;
         private final ObservableStringValue regex;
         private final Function<String, D> error;
@@ -4056,10 +4857,9 @@ public final class Constraints {
         }
 
         @Override
-        public CompletableFuture<ValidationResult<D>> validate(String value) {
+        public ValidationResult<D> validateSync(String value) {
             boolean valid = (pattern != null && pattern.matcher(value != null ? value : "").matches()) ^ flip;
-            return CompletableFuture.completedFuture(
-                new ValidationResult<>(valid, !valid && error != null ? error.apply(value) : null));
+            return result(valid, !valid && error != null ? error.apply(value) : null);
         }
 
         @Override
@@ -4097,8 +4897,7 @@ public final class Constraints {
             @Override
             public CompletableFuture<ValidationResult<D>> validate(List<? super T> value) {
                 boolean valid = value != null;
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.get() : null));
+                return CompletableFuture.completedFuture(result(valid, !valid && error != null ? error.get() : null));
             }
 
             @Override
@@ -4135,8 +4934,7 @@ public final class Constraints {
             @Override
             public CompletableFuture<ValidationResult<D>> validate(List<? super String> value) {
                 boolean valid = value != null && !value.isEmpty();
-                return CompletableFuture.completedFuture(
-                    new ValidationResult<>(valid, !valid && error != null ? error.get() : null));
+                return CompletableFuture.completedFuture(result(valid, !valid && error != null ? error.get() : null));
             }
 
             @Override
@@ -4177,6 +4975,11 @@ public final class Constraints {
             public Observable[] getDependencies() {
                 return constraint.getDependencies();
             }
+
+            @Override
+            public int getCost() {
+                return constraint.getCost();
+            }
         };
     }
 
@@ -4206,6 +5009,11 @@ public final class Constraints {
             public Observable[] getDependencies() {
                 return constraint.getDependencies();
             }
+
+            @Override
+            public int getCost() {
+                return constraint.getCost();
+            }
         };
     }
 
@@ -4236,7 +5044,638 @@ public final class Constraints {
             public Observable[] getDependencies() {
                 return constraint.getDependencies();
             }
+
+            @Override
+            public int getCost() {
+                return constraint.getCost();
+            }
+        };
+    }
+
+    /**
+     * Converts an {@link IncrementalConstraint} to a {@link ListConstraint}.
+     * <p>
+     * When the list is modified, the accumulator of the constraint is updated with the added and removed
+     * elements, which allows the constraint to be validated without iterating over the entire list.
+     *
+     * @param constraint the incremental constraint
+     * @param <T> value type
+     * @param <D> diagnostic type
+     * @return the new {@code ListConstraint}
+     */
+    public static <T, D> ListConstraint<T, D> forList(IncrementalConstraint<? super T, D> constraint) {
+        return IncrementalConstraintAdapter.forList(constraint);
+    }
+
+    /**
+     * Converts an {@link IncrementalConstraint} to a {@link SetConstraint}.
+     * <p>
+     * When the set is modified, the accumulator of the constraint is updated with the added and removed
+     * elements, which allows the constraint to be validated without iterating over the entire set.
+     *
+     * @param constraint the incremental constraint
+     * @param <T> value type
+     * @param <D> diagnostic type
+     * @return the new {@code SetConstraint}
+     */
+    public static <T, D> SetConstraint<T, D> forSet(IncrementalConstraint<? super T, D> constraint) {
+        return IncrementalConstraintAdapter.forSet(constraint);
+    }
+
+    /**
+     * Converts an {@link IncrementalConstraint} that applies to the values of a map to a {@link MapConstraint}.
+     * <p>
+     * When the map is modified, the accumulator of the constraint is updated with the added and removed
+     * values, which allows the constraint to be validated without iterating over the entire map.
+     *
+     * @param constraint the incremental constraint
+     * @param <K> key type
+     * @param <V> value type
+     * @param <D> diagnostic type
+     * @return the new {@code MapConstraint}
+     */
+    public static <K, V, D> MapConstraint<K, V, D> forMap(IncrementalConstraint<? super V, D> constraint) {
+        return IncrementalConstraintAdapter.forMap(constraint);
+    }
+
+    /**
+     * Creates an incremental constraint that validates that the number of elements of a
+     * collection is between {@code min} and {@code max} (inclusive).
+     *
+     * @param min the minimum number of elements
+     * @param max the maximum number of elements
+     * @param <E> element type
+     * @param <D> diagnostic type
+     * @throws IllegalArgumentException if {@code min} is greater than {@code max}
+     * @return the new constraint
+     */
+    public static <E, D> IncrementalConstraint<E, D> sizeBetween(int min, int max) {
+        return sizeBetween(min, max, null);
+    }
+
+    /**
+     * Creates an incremental constraint that validates that the number of elements of a
+     * collection is between {@code min} and {@code max} (inclusive), and specifies a function
+     * that creates a diagnostic when validation fails.
+     *
+     * @param min the minimum number of elements
+     * @param max the maximum number of elements
+     * @param <E> element type
+     * @param <D> diagnostic type
+     * @throws IllegalArgumentException if {@code min} is greater than {@code max}
+     * @return the new constraint
+     */
+    public static <E, D> IncrementalConstraint<E, D> sizeBetween(int min, int max, Supplier<D> error) {
+        return countBetween(element -> true, min, max, error);
+    }
+
+    /**
+     * Creates an incremental constraint that validates that the number of elements of a collection
+     * that match a predicate is between {@code min} and {@code max} (inclusive).
+     *
+     * @param predicate the predicate
+     * @param min the minimum number of matching elements
+     * @param max the maximum number of matching elements
+     * @param <E> element type
+     * @param <D> diagnostic type
+     * @throws IllegalArgumentException if {@code min} is greater than {@code max}
+     * @return the new constraint
+     */
+    public static <E, D> IncrementalConstraint<E, D> countBetween(Predicate<? super E> predicate, int min, int max) {
+        return countBetween(predicate, min, max, null);
+    }
+
+    /**
+     * Creates an incremental constraint that validates that the number of elements of a collection
+     * that match a predicate is between {@code min} and {@code max} (inclusive), and specifies a
+     * function that creates a diagnostic when validation fails.
+     * <p>
+     * The predicate must return the same result for an element when it is added to and
+     * removed from the collection.
+     *
+     * @param predicate the predicate
+     * @param min the minimum number of matching elements
+     * @param max the maximum number of matching elements
+     * @param <E> element type
+     * @param <D> diagnostic type
+     * @throws IllegalArgumentException if {@code min} is greater than {@code max}
+     * @return the new constraint
+     */
+    public static <E, D> IncrementalConstraint<E, D> countBetween(
+            Predicate<? super E> predicate, int min, int max, Supplier<D> error) {
+        Objects.requireNonNull(predicate, "predicate");
+        checkBounds(min, max);
+
+        return () -> new IncrementalConstraint.Accumulator<>() {
+            int count;
+
+            @Override
+            public void add(E element) {
+                if (predicate.test(element)) {
+                    count++;
+                }
+            }
+
+            @Override
+            public void remove(E element) {
+                if (predicate.test(element)) {
+                    count--;
+                }
+            }
+
+            @Override
+            public ValidationResult<D> getResult() {
+                boolean valid = count >= min && count <= max;
+                return result(valid, !valid && error != null ? error.get() : null);
+            }
+        };
+    }
+
+    /**
+     * Creates an incremental constraint that validates that the sum of a numeric property of the
+     * elements of a collection is between {@code min} and {@code max} (inclusive).
+     *
+     * @param mapper the function that maps an element to a numeric value
+     * @param min the minimum sum
+     * @param max the maximum sum
+     * @param <E> element type
+     * @param <D> diagnostic type
+     * @throws IllegalArgumentException if {@code min} is greater than {@code max}
+     * @return the new constraint
+     */
+    public static <E, D> IncrementalConstraint<E, D> sumBetween(
+            ToDoubleFunction<? super E> mapper, double min, double max) {
+        return sumBetween(mapper, min, max, null);
+    }
+
+    /**
+     * Creates an incremental constraint that validates that the sum of a numeric property of the
+     * elements of a collection is between {@code min} and {@code max} (inclusive), and specifies a
+     * function that creates a diagnostic when validation fails.
+     * <p>
+     * The running sum uses compensated summation, which keeps the rounding error of the sum independent
+     * of the number of added and removed elements. The mapping function must return the same value for
+     * an element when it is added to and removed from the collection.
+     *
+     * @param mapper the function that maps an element to a numeric value
+     * @param min the minimum sum
+     * @param max the maximum sum
+     * @param <E> element type
+     * @param <D> diagnostic type
+     * @throws IllegalArgumentException if {@code min} is greater than {@code max}
+     * @return the new constraint
+     */
+    public static <E, D> IncrementalConstraint<E, D> sumBetween(
+            ToDoubleFunction<? super E> mapper, double min, double max, Supplier<D> error) {
+        Objects.requireNonNull(mapper, "mapper");
+        checkBounds(min, max);
+
+        return () -> new IncrementalConstraint.Accumulator<>() {
+            double sum;
+            double compensation;
+
+            @Override
+            public void add(E element) {
+                accumulate(mapper.applyAsDouble(element));
+            }
+
+            @Override
+            public void remove(E element) {
+                accumulate(-mapper.applyAsDouble(element));
+            }
+
+            // Neumaier's variant of Kahan summation
+            private void accumulate(double value) {
+                double t = sum + value;
+                if (Math.abs(sum) >= Math.abs(value)) {
+                    compensation += (sum - t) + value;
+                } else {
+                    compensation += (value - t) + sum;
+                }
+
+                sum = t;
+            }
+
+            @Override
+            public ValidationResult<D> getResult() {
+                double total = sum + compensation;
+                boolean valid = total >= min && total <= max;
+                return result(valid, !valid && error != null ? error.get() : null);
+            }
+        };
+    }
+
+    /**
+     * Creates an incremental constraint that validates that the smallest value of a numeric property
+     * of the elements of a collection is between {@code min} and {@code max} (inclusive).
+     * An empty collection is valid.
+     *
+     * @param mapper the function that maps an element to a numeric value
+     * @param min the lower bound of the smallest value
+     * @param max the upper bound of the smallest value
+     * @param <E> element type
+     * @param <D> diagnostic type
+     * @throws IllegalArgumentException if {@code min} is greater than {@code max}
+     * @return the new constraint
+     */
+    public static <E, D> IncrementalConstraint<E, D> minBetween(
+            ToDoubleFunction<? super E> mapper, double min, double max) {
+        return minBetween(mapper, min, max, null);
+    }
+
+    /**
+     * Creates an incremental constraint that validates that the smallest value of a numeric property
+     * of the elements of a collection is between {@code min} and {@code max} (inclusive), and specifies
+     * a function that creates a diagnostic when validation fails. An empty collection is valid.
+     * <p>
+     * Adding or removing an element takes O(log n) time. The mapping function must return the same
+     * value for an element when it is added to and removed from the collection.
+     *
+     * @param mapper the function that maps an element to a numeric value
+     * @param min the lower bound of the smallest value
+     * @param max the upper bound of the smallest value
+     * @param <E> element type
+     * @param <D> diagnostic type
+     * @throws IllegalArgumentException if {@code min} is greater than {@code max}
+     * @return the new constraint
+     */
+    public static <E, D> IncrementalConstraint<E, D> minBetween(
+            ToDoubleFunction<? super E> mapper, double min, double max, Supplier<D> error) {
+        Objects.requireNonNull(mapper, "mapper");
+        checkBounds(min, max);
+        return () -> new ExtremumAccumulator<>(mapper, min, max, error, false);
+    }
+
+    /**
+     * Creates an incremental constraint that validates that the largest value of a numeric property
+     * of the elements of a collection is between {@code min} and {@code max} (inclusive).
+     * An empty collection is valid.
+     *
+     * @param mapper the function that maps an element to a numeric value
+     * @param min the lower bound of the largest value
+     * @param max the upper bound of the largest value
+     * @param <E> element type
+     * @param <D> diagnostic type
+     * @throws IllegalArgumentException if {@code min} is greater than {@code max}
+     * @return the new constraint
+     */
+    public static <E, D> IncrementalConstraint<E, D> maxBetween(
+            ToDoubleFunction<? super E> mapper, double min, double max) {
+        return maxBetween(mapper, min, max, null);
+    }
+
+    /**
+     * Creates an incremental constraint that validates that the largest value of a numeric property
+     * of the elements of a collection is between {@code min} and {@code max} (inclusive), and specifies
+     * a function that creates a diagnostic when validation fails. An empty collection is valid.
+     * <p>
+     * Adding or removing an element takes O(log n) time. The mapping function must return the same
+     * value for an element when it is added to and removed from the collection.
+     *
+     * @param mapper the function that maps an element to a numeric value
+     * @param min the lower bound of the largest value
+     * @param max the upper bound of the largest value
+     * @param <E> element type
+     * @param <D> diagnostic type
+     * @throws IllegalArgumentException if {@code min} is greater than {@code max}
+     * @return the new constraint
+     */
+    public static <E, D> IncrementalConstraint<E, D> maxBetween(
+            ToDoubleFunction<? super E> mapper, double min, double max, Supplier<D> error) {
+        Objects.requireNonNull(mapper, "mapper");
+        checkBounds(min, max);
+        return () -> new ExtremumAccumulator<>(mapper, min, max, error, true);
+    }
+
+    private static void checkBounds(double min, double max) {
+        if (!(min <= max)) {
+            throw new IllegalArgumentException("min must not be greater than max");
+        }
+    }
+
+    /**
+     * Keeps the values of all elements in a sorted multiset to find the smallest or largest value.
+     */
+    private static final class ExtremumAccumulator<E, D> implements IncrementalConstraint.Accumulator<E, D> {
+        private final TreeMap<Double, Integer> values = new TreeMap<>();
+        private final ToDoubleFunction<? super E> mapper;
+        private final double min;
+        private final double max;
+        private final Supplier<D> error;
+        private final boolean largest;
+
+        ExtremumAccumulator(ToDoubleFunction<? super E> mapper, double min, double max,
+                            Supplier<D> error, boolean largest) {
+            this.mapper = mapper;
+            this.min = min;
+            this.max = max;
+            this.error = error;
+            this.largest = largest;
+        }
+
+        @Override
+        public void add(E element) {
+            values.merge(mapper.applyAsDouble(element), 1, Integer::sum);
+        }
+
+        @Override
+        public void remove(E element) {
+            values.computeIfPresent(mapper.applyAsDouble(element), (key, count) -> count > 1 ? count - 1 : null);
+        }
+
+        @Override
+        public ValidationResult<D> getResult() {
+            if (values.isEmpty()) {
+                return ValidationResult.valid();
+            }
+
+            double value = largest ? values.lastKey() : values.firstKey();
+            boolean valid = value >= min && value <= max;
+            return result(valid, !valid && error != null ? error.get() : null);
+        }
+    }
+
+    /**
+     * Creates a cross-element constraint that validates that no other element of a collection
+     * has the same key as the validated element. All elements that share a key are invalid.
+     * Elements with a {@code null} key are always valid.
+     *
+     * @param keyExtractor the function that extracts the key of an element
+     * @param <E> element type
+     * @param <K> key type
+     * @param <D> diagnostic type
+     * @return the new constraint
+     */
+    public static <E, K, D> CrossElementConstraint<E, K, D> unique(Function<? super E, ? extends K> keyExtractor) {
+        return unique(keyExtractor, null);
+    }
+
+    /**
+     * Creates a cross-element constraint that validates that no other element of a collection
+     * has the same key as the validated element, and specifies a function that creates a diagnostic
+     * when validation fails. All elements that share a key are invalid. Elements with a {@code null}
+     * key are always valid.
+     * <p>
+     * Since the elements of the collection are kept in a hash index over their keys, adding or removing an
+     * element only validates the elements that have the same key. The keys should be immutable objects with
+     * well-defined {@link Object#equals(Object) equals} and {@link Object#hashCode() hashCode} methods.
+     * <pre>{@code
+     * var rows = new SimpleConstrainedListProperty<Row, String>(
+     *     Constraints.unique(Row::id, () -> "Duplicate ID"));
+     * }</pre>
+     *
+     * @param keyExtractor the function that extracts the key of an element
+     * @param <E> element type
+     * @param <K> key type
+     * @param <D> diagnostic type
+     * @return the new constraint
+     */
+    public static <E, K, D> CrossElementConstraint<E, K, D> unique(
+            Function<? super E, ? extends K> keyExtractor, Supplier<D> error) {
+        Objects.requireNonNull(keyExtractor, "keyExtractor");
+
+        return new CrossElementConstraint<>() {
+            @Override
+            public K getKey(E element) {
+                return keyExtractor.apply(element);
+            }
+
+            @Override
+            public ValidationResult<D> validate(E element, List<? extends E> peers) {
+                boolean valid = peers.size() <= 1;
+                return result(valid, !valid && error != null ? error.get() : null);
+            }
         };
     }
 
+    /**
+     * Creates a constraint that caches the validation results of another constraint.
+     * <p>
+     * The validation results are stored in a least-recently-used cache that holds at most {@code maxEntries}
+     * results. A validation result is keyed by the validated value and the current values of the constraint
+     * dependencies; if a dependency is not an {@link ObservableValue}, the cache is cleared when the dependency
+     * is invalidated. Cached results are returned immediately without invoking the wrapped constraint.
+     * Only valid or invalid results are cached; cancelled or failed validation runs are not cached.
+     * <p>
+     * When an asynchronous validation run for a value is already in progress, subsequent validation
+     * requests for the same value share the in-progress validation run instead of starting a new one.
+     * The in-progress validation run is only cancelled when all requests that share it were cancelled.
+     * <p>
+     * The returned constraint is thread-safe, and can be shared by many properties. Since the validated
+     * values and dependency values are used as cache keys, they should be immutable objects with
+     * well-defined {@link Object#equals(Object) equals} and {@link Object#hashCode() hashCode} methods.
+     * If the wrapped constraint is a {@link SyncConstraint}, the returned constraint is also a
+     * {@code SyncConstraint}.
+     * <pre>{@code
+     * var property = new SimpleConstrainedStringProperty<String>(
+     *     Constraints.memoize(
+     *         Constraints.validateAsync(value -> expensiveLookup(value), threadPool),
+     *         100));
+     * }</pre>
+     *
+     * @param constraint the constraint
+     * @param maxEntries the maximum number of cached validation results
+     * @param <T> value type
+     * @param <D> diagnostic type
+     * @throws IllegalArgumentException if {@code maxEntries} is not positive
+     * @return the new constraint
+     */
+    public static <T, D> Constraint<T, D> memoize(Constraint<T, D> constraint, int maxEntries) {
+        return MemoizingConstraint.create(constraint, maxEntries, 0);
+    }
+
+    /**
+     * Creates a constraint that caches the validation results of another constraint,
+     * where cached results expire after the specified time.
+     * <p>
+     * See {@link #memoize(Constraint, int)} for additional information.
+     *
+     * @param constraint the constraint
+     * @param maxEntries the maximum number of cached validation results
+     * @param timeToLive the time after which a cached validation result expires
+     * @param <T> value type
+     * @param <D> diagnostic type
+     * @throws IllegalArgumentException if {@code maxEntries} or {@code timeToLive} is not positive
+     * @return the new constraint
+     */
+    public static <T, D> Constraint<T, D> memoize(Constraint<T, D> constraint, int maxEntries, Duration timeToLive) {
+        Objects.requireNonNull(timeToLive, "timeToLive");
+
+        if (timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("timeToLive must be positive");
+        }
+
+        return MemoizingConstraint.create(constraint, maxEntries, timeToLive.toNanos());
+    }
+
+    /**
+     * Creates a constraint that only invokes another constraint after the validated value has not
+     * changed for the specified quiet period.
+     * <p>
+     * When the value of a constrained property changes, the property immediately reports the <em>validating</em>
+     * state, but the wrapped constraint is not invoked until the quiet period has elapsed. If the property value
+     * changes again during the quiet period, the quiet period starts over, and the wrapped constraint is only
+     * invoked for the latest value. This is useful for expensive asynchronous constraints that validate text
+     * input, where a burst of keystrokes should result in a single validation run instead of one validation
+     * run for every keystroke.
+     * <pre>{@code
+     * var property = new SimpleConstrainedStringProperty<String>(
+     *     Constraints.debounce(
+     *         Constraints.validateAsync(value -> expensiveLookup(value), threadPool),
+     *         Duration.ofMillis(300)));
+     * }</pre>
+     * After the quiet period has elapsed, the wrapped constraint is invoked on the thread of its
+     * {@link Constraint#getCompletionExecutor() completion executor}, or on the JavaFX application
+     * thread if the wrapped constraint doesn't specify a completion executor.
+     *
+     * @param constraint the constraint
+     * @param quietPeriod the quiet period
+     * @param <T> value type
+     * @param <D> diagnostic type
+     * @throws IllegalArgumentException if {@code quietPeriod} is negative
+     * @return the new constraint
+     */
+    public static <T, D> Constraint<T, D> debounce(Constraint<T, D> constraint, Duration quietPeriod) {
+        Objects.requireNonNull(constraint, "constraint");
+        Objects.requireNonNull(quietPeriod, "quietPeriod");
+
+        if (quietPeriod.isNegative()) {
+            throw new IllegalArgumentException("quietPeriod must not be negative");
+        }
+
+        return new DebouncingConstraint<>(constraint, quietPeriod.toNanos());
+    }
+
+    /**
+     * Creates a constraint that asynchronously validates many values with a single invocation of
+     * a batch validation function.
+     * <p>
+     * This constraint is intended to be used as an element constraint of a constrained collection, where
+     * validating many values at once is often much cheaper than validating them one at a time; for example,
+     * when each value needs to be looked up in a database. Validation requests are gathered into a batch,
+     * which is validated when it contains {@code maxBatchSize} values, or when {@code maxDelay} has elapsed
+     * since the first value was added to the batch. The batch validation function is invoked with the
+     * specified {@link Executor executor}, and must return a list that contains the validation result for
+     * each value at the same index:
+     * <pre>{@code
+     * var invoices = new SimpleConstrainedListProperty<Invoice, String>(
+     *     Constraints.validateBatchAsync(
+     *         invoices -> database.findMissingCustomers(invoices),
+     *         threadPool, 1000, Duration.ofMillis(20)));
+     * }</pre>
+     * If the batch validation function throws an exception or returns a list of the wrong size, the
+     * validation of all values in the batch fails. Validation requests that are cancelled before their
+     * batch is validated are removed from the batch. The returned constraint is thread-safe, and can be
+     * shared by many properties.
+     *
+     * @param validationFunc the function that validates a list of values
+     * @param executor the executor that invokes the validation function
+     * @param maxBatchSize the maximum number of values that are validated in a single invocation
+     * @param maxDelay the maximum time that a value waits for other values to be added to the batch
+     * @param <T> value type
+     * @param <D> diagnostic type
+     * @throws IllegalArgumentException if {@code maxBatchSize} is not positive or {@code maxDelay} is negative
+     * @return the new constraint
+     */
+    public static <T, D> Constraint<T, D> validateBatchAsync(
+            Function<List<T>, List<ValidationResult<D>>> validationFunc,
+            Executor executor,
+            int maxBatchSize,
+            Duration maxDelay) {
+        Objects.requireNonNull(validationFunc, "validationFunc");
+        Objects.requireNonNull(executor, "executor");
+        Objects.requireNonNull(maxDelay, "maxDelay");
+
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+
+        if (maxDelay.isNegative()) {
+            throw new IllegalArgumentException("maxDelay must not be negative");
+        }
+
+        return new BatchingConstraint<>(validationFunc, executor, maxBatchSize, maxDelay.toNanos());
+    }
+
+    /**
+     * Creates a constraint like
+     * {@link #validateBatchAsync(Function, Executor, int, Duration) validateBatchAsync},
+     * but invokes the validation function with the {@link ValidationExecutors#getDefault() default executor}.
+     *
+     * @param validationFunc the function that validates a list of values
+     * @param maxBatchSize the maximum number of values that are validated in a single invocation
+     * @param maxDelay the maximum time that a value waits for other values to be added to the batch
+     * @param <T> value type
+     * @param <D> diagnostic type
+     * @throws IllegalArgumentException if {@code maxBatchSize} is not positive or {@code maxDelay} is negative
+     * @return the new constraint
+     */
+    public static <T, D> Constraint<T, D> validateBatchAsync(
+            Function<List<T>, List<ValidationResult<D>>> validationFunc, int maxBatchSize, Duration maxDelay) {
+        return validateBatchAsync(validationFunc, DEFAULT_EXECUTOR, maxBatchSize, maxDelay);
+    }
+
+    /**
+     * Creates a constraint that completes with a fallback result if another constraint doesn't
+     * complete within the specified timeout.
+     * <p>
+     * If the wrapped constraint doesn't complete its validation run within the timeout, the validation run
+     * completes with the result of the {@code onTimeout} supplier, and the future returned by the wrapped
+     * constraint is cancelled with {@code mayInterruptIfRunning = true}. This interrupts the validation function
+     * of {@link #validateInterruptibleAsync(ValidationFunction0, Executor) interruptible} constraints, and
+     * signals the cancellation of {@link #validateCancellableAsync(CancellableValidationFunction0, Executor)
+     * cancellable} constraints:
+     * <pre>{@code
+     * var property = new SimpleConstrainedStringProperty<String>(
+     *     Constraints.withTimeout(
+     *         Constraints.validateInterruptibleAsync(value -> remoteLookup(value), threadPool),
+     *         Duration.ofSeconds(2),
+     *         () -> ValidationResult.invalid("Lookup timed out")));
+     * }</pre>
+     * The {@code onTimeout} supplier is invoked on a background thread, and should return quickly.
+     * If {@code onTimeout} is {@code null}, a timed-out validation run fails, which means that it is
+     * neither valid nor invalid. The {@link ValidationExecutors#getDefaultTimeout() default timeout}
+     * doesn't apply to the returned constraint. Synchronous constraints can't time out, and are
+     * returned unchanged.
+     *
+     * @param constraint the constraint
+     * @param timeout the timeout
+     * @param onTimeout supplies the result of a timed-out validation run, or {@code null}
+     * @param <T> value type
+     * @param <D> diagnostic type
+     * @throws IllegalArgumentException if {@code timeout} is not positive
+     * @return the new constraint
+     */
+    public static <T, D> Constraint<T, D> withTimeout(
+            Constraint<T, D> constraint, Duration timeout, Supplier<ValidationResult<D>> onTimeout) {
+        Objects.requireNonNull(constraint, "constraint");
+        Objects.requireNonNull(timeout, "timeout");
+
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout must be positive");
+        }
+
+        if (constraint instanceof SyncConstraint<T, D>) {
+            return constraint;
+        }
+
+        return new TimeoutConstraint<>(constraint, timeout.toNanos(), onTimeout);
+    }
+
+    /**
+     * Creates a constraint that fails if another constraint doesn't complete within the specified timeout.
+     * This is equivalent to calling {@link #withTimeout(Constraint, Duration, Supplier) withTimeout}
+     * without a fallback result.
+     *
+     * @param constraint the constraint
+     * @param timeout the timeout
+     * @param <T> value type
+     * @param <D> diagnostic type
+     * @throws IllegalArgumentException if {@code timeout} is not positive
+     * @return the new constraint
+     */
+    public static <T, D> Constraint<T, D> withTimeout(Constraint<T, D> constraint, Duration timeout) {
+        return withTimeout(constraint, timeout, null);
+    }
+
 }
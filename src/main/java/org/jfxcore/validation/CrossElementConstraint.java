@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jfxcore.validation;
+
+import org.jfxcore.validation.property.ConstrainedListProperty;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Defines a data constraint for collection elements that is evaluated for an element together with all
+ * other elements of the collection that have the same key.
+ * <p>
+ * When a {@code CrossElementConstraint} is applied to the elements of a {@link ConstrainedListProperty},
+ * {@code ConstrainedSetProperty} or {@code ConstrainedMapProperty}, the elements of the collection are kept
+ * in a hash index over their keys. The validation result is reported for each {@link ConstrainedElement}
+ * individually; when an element is added to or removed from the collection, only the elements that share
+ * its key are validated again. For example, {@link Constraints#unique(java.util.function.Function)} marks
+ * all elements that have the same key as invalid, and clears the invalid state of the remaining element
+ * when its duplicates are removed.
+ * <p>
+ * When a {@code CrossElementConstraint} is applied to a single value, the value is validated as if
+ * it were the only element of a collection.
+ *
+ * @param <E> element type
+ * @param <K> key type
+ * @param <D> diagnostic type
+ */
+public interface CrossElementConstraint<E, K, D> extends SyncConstraint<E, D> {
+
+    /**
+     * Gets the key of the specified element.
+     * <p>
+     * This method must always return equal keys for the same element. Elements with a {@code null}
+     * key are not indexed, and are validated as if they were the only element of the collection.
+     *
+     * @param element the element
+     * @return the key, or {@code null}
+     */
+    K getKey(E element);
+
+    /**
+     * Validates the specified element.
+     *
+     * @param element the element to be validated
+     * @param peers all elements of the collection that have the same key, including {@code element}
+     * @return the {@code ValidationResult}
+     */
+    ValidationResult<D> validate(E element, List<? extends E> peers);
+
+    /**
+     * Validates the specified value as if it were the only element of a collection.
+     *
+     * @param value the value to be validated
+     * @return the {@code ValidationResult}
+     */
+    @Override
+    default ValidationResult<D> validateSync(E value) {
+        return validate(value, Collections.singletonList(value));
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jfxcore.validation;
+
+import impl.org.jfxcore.validation.PropertyHelper;
+import org.jfxcore.validation.property.ReadOnlyConstrainedProperty;
+import java.util.Objects;
+
+/**
+ * Specifies how the constraints of a constrained property are evaluated in a validation run.
+ * <p>
+ * By default, all constraints of a property are evaluated in every validation run. Since a property
+ * is invalid as soon as one of its constraints has failed, the remaining constraints don't contribute
+ * to its validation state once a constraint has failed. The fail-fast evaluation modes make use of this
+ * to avoid evaluating expensive constraints, for example constraints that query a backend service:
+ *
+ * <pre>{@code
+ * var userName = new SimpleConstrainedStringProperty<String>(
+ *     Constraints.notNullOrBlank(() -> "Value cannot be empty"),
+ *     new UserNameAvailableConstraint(userService));
+ *
+ * // The user service will not be queried if the user name is blank:
+ * EvaluationMode.setEvaluationMode(userName, EvaluationMode.FAIL_FAST);
+ * }</pre>
+ *
+ * The evaluation mode only applies to the constraints of the property itself; the element constraints of
+ * a constrained collection are always evaluated.
+ */
+public enum EvaluationMode {
+
+    /**
+     * All constraints are evaluated in every validation run.
+     */
+    ALL,
+
+    /**
+     * Constraints are evaluated in ascending order of their {@link ConstraintBase#getCost() cost}.
+     * <p>
+     * When a constraint fails, the remaining constraints are not evaluated, and asynchronous constraints
+     * that are still running are cancelled. Constraints that were not evaluated report no validation result
+     * and no diagnostic; they are evaluated in the next validation run of the property.
+     * <p>
+     * Asynchronous constraints only start after all synchronous constraints with a lower cost have succeeded.
+     */
+    FAIL_FAST,
+
+    /**
+     * Constraints are evaluated like in the {@link #FAIL_FAST} mode, but the evaluation order adapts to
+     * the observed behavior of the constraints.
+     * <p>
+     * Synchronous constraints are always evaluated before asynchronous constraints. Within these groups,
+     * constraints that fail often and complete quickly are evaluated first. Constraints that have not
+     * completed an evaluation yet are evaluated before all other constraints of their group, in ascending
+     * order of their {@link ConstraintBase#getCost() cost}.
+     */
+    ADAPTIVE;
+
+    private static volatile EvaluationMode defaultMode = ALL;
+
+    /**
+     * Gets the {@code EvaluationMode} that is used for all properties that don't specify
+     * their own {@code EvaluationMode}.
+     *
+     * @return the default {@code EvaluationMode}
+     */
+    public static EvaluationMode getDefault() {
+        return defaultMode;
+    }
+
+    /**
+     * Sets the {@code EvaluationMode} that is used for all properties that don't specify
+     * their own {@code EvaluationMode}.
+     *
+     * @param mode the default {@code EvaluationMode}, or {@code null} to evaluate all constraints
+     */
+    public static void setDefault(EvaluationMode mode) {
+        defaultMode = mode != null ? mode : ALL;
+    }
+
+    /**
+     * Gets the {@code EvaluationMode} that is used for the specified property.
+     *
+     * @param property the property
+     * @return the {@code EvaluationMode}, or {@code null} if the property uses the default evaluation mode
+     */
+    public static EvaluationMode getEvaluationMode(ReadOnlyConstrainedProperty<?, ?> property) {
+        Objects.requireNonNull(property, "property");
+        return PropertyHelper.getValidationHelper(property).getEvaluationMode();
+    }
+
+    /**
+     * Sets the {@code EvaluationMode} that is used for the specified property.
+     * The new evaluation mode applies to the next validation run of the property.
+     *
+     * @param property the property
+     * @param mode the {@code EvaluationMode}, or {@code null} to use the default evaluation mode
+     */
+    public static void setEvaluationMode(ReadOnlyConstrainedProperty<?, ?> property, EvaluationMode mode) {
+        Objects.requireNonNull(property, "property");
+        PropertyHelper.getValidationHelper(property).setEvaluationMode(mode);
+    }
+
+}
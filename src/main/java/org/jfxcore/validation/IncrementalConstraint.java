@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jfxcore.validation;
+
+import javafx.beans.Observable;
+import org.jfxcore.validation.property.ConstrainedListProperty;
+
+/**
+ * Defines a data constraint for a collection that can be validated incrementally.
+ * <p>
+ * A {@link ListConstraint}, {@link SetConstraint} or {@link MapConstraint} receives the entire collection
+ * in every validation run. An {@code IncrementalConstraint} instead maintains an aggregated state of the
+ * elements in an {@link Accumulator}, which is updated with the elements that are added to or removed from
+ * the collection. This makes it possible to validate constraints like "at most 10,000 elements" or
+ * "the sum of all amounts must not exceed the budget" in constant time when a single element is changed.
+ * <p>
+ * An {@code IncrementalConstraint} is converted to a collection constraint with {@link Constraints#forList(
+ * IncrementalConstraint)}, {@link Constraints#forSet(IncrementalConstraint)} or {@link Constraints#forMap(
+ * IncrementalConstraint)}. For maps, the accumulator receives the values of the map.
+ * <p>
+ * When a constrained collection property is set to a new collection, or when the elements of a
+ * {@link ConstrainedListProperty} report an update, a new accumulator is created and populated with
+ * all elements of the collection.
+ * <p>
+ * For a selection of predefined incremental constraints, see {@link Constraints}.
+ *
+ * @param <E> element type
+ * @param <D> diagnostic type
+ */
+public interface IncrementalConstraint<E, D> {
+
+    /**
+     * Creates a new {@code Accumulator} that maintains the aggregated state of a single collection.
+     *
+     * @return the new {@code Accumulator}
+     */
+    Accumulator<E, D> newAccumulator();
+
+    /**
+     * Returns the constraint dependencies. When a dependency is invalidated, the constraint
+     * is validated by calling {@link Accumulator#getResult()} without rebuilding the accumulator.
+     *
+     * @return the constraint dependencies, or {@code null}
+     */
+    default Observable[] getDependencies() {
+        return null;
+    }
+
+    /**
+     * Maintains the aggregated state of the elements of a collection.
+     * <p>
+     * All methods of an {@code Accumulator} are invoked on the thread that validates the
+     * constrained collection, which is usually the JavaFX application thread.
+     *
+     * @param <E> element type
+     * @param <D> diagnostic type
+     */
+    interface Accumulator<E, D> {
+        /**
+         * Occurs when an element was added to the collection.
+         *
+         * @param element the added element
+         */
+        void add(E element);
+
+        /**
+         * Occurs when an element was removed from the collection.
+         *
+         * @param element the removed element
+         */
+        void remove(E element);
+
+        /**
+         * Validates the aggregated state of the collection.
+         *
+         * @return the {@code ValidationResult}
+         */
+        ValidationResult<D> getResult();
+    }
+
+}
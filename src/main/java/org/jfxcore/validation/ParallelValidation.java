@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jfxcore.validation;
+
+import impl.org.jfxcore.validation.ElementValidationHelper;
+import impl.org.jfxcore.validation.PropertyHelper;
+import impl.org.jfxcore.validation.ValidationHelper;
+import org.jfxcore.validation.property.ReadOnlyConstrainedProperty;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Specifies that the element constraints of a constrained collection are evaluated in parallel
+ * when many elements are validated at once.
+ * <p>
+ * By default, element constraints are evaluated one element at a time on the thread that modifies the
+ * collection. When a large number of elements is added to a {@code ConstrainedListProperty}, or when a
+ * constrained collection property is set to a new collection, this can take a long time. If parallel
+ * validation is enabled for the property, and the number of validated elements is at least the
+ * {@link #getThreshold() threshold}, the {@link SyncConstraint#isThreadSafe() thread-safe} synchronous
+ * element constraints are evaluated in parallel chunks on a {@link ForkJoinPool}. The thread that modified
+ * the collection waits for the evaluation to complete, and then publishes the validation results to the
+ * {@link ConstrainedElement ConstrainedElements} in a single pass:
+ *
+ * <pre>{@code
+ * var rows = new SimpleConstrainedListProperty<String, String>(
+ *     Constraints.notNullOrBlank(() -> "Value cannot be empty"));
+ *
+ * ParallelValidation.setParallelValidation(rows, ParallelValidation.commonPool());
+ * rows.setAll(loadRows());
+ * }</pre>
+ *
+ * All other element constraints, as well as the constraints of the collection itself, are evaluated as usual.
+ * Since thread-safe constraints are evaluated on pool threads, their results are not reported to the
+ * {@link org.jfxcore.validation.metrics.ValidationMetrics ValidationMetrics} of the property.
+ */
+public final class ParallelValidation {
+
+    /**
+     * The default minimum number of elements that are validated in parallel.
+     */
+    public static final int DEFAULT_THRESHOLD = 1024;
+
+    /**
+     * Returns a {@code ParallelValidation} that uses the {@link ForkJoinPool#commonPool() common pool}
+     * and the {@link #DEFAULT_THRESHOLD default threshold}.
+     *
+     * @return the {@code ParallelValidation}
+     */
+    public static ParallelValidation commonPool() {
+        return new ParallelValidation(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Gets the {@code ParallelValidation} that is used for the specified property.
+     *
+     * @param property the property
+     * @return the {@code ParallelValidation}, or {@code null} if parallel validation is not enabled
+     */
+    public static ParallelValidation getParallelValidation(ReadOnlyConstrainedProperty<?, ?> property) {
+        return getElementValidationHelper(property).getParallelValidation();
+    }
+
+    /**
+     * Sets the {@code ParallelValidation} that is used for the specified property.
+     *
+     * @param property the constrained list, set or map property
+     * @param parallelValidation the {@code ParallelValidation}, or {@code null} to disable parallel validation
+     * @throws IllegalArgumentException if {@code property} is not a constrained collection property
+     */
+    public static void setParallelValidation(
+            ReadOnlyConstrainedProperty<?, ?> property, ParallelValidation parallelValidation) {
+        getElementValidationHelper(property).setParallelValidation(parallelValidation);
+    }
+
+    private static ValidationHelper<?, ?> getElementValidationHelper(ReadOnlyConstrainedProperty<?, ?> property) {
+        Objects.requireNonNull(property, "property");
+
+        ValidationHelper<?, ?> helper = PropertyHelper.getValidationHelper(property);
+        if (helper instanceof ElementValidationHelper<?, ?>) {
+            return helper;
+        }
+
+        throw new IllegalArgumentException("property must be a constrained list, set or map property");
+    }
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /**
+     * Creates a new {@code ParallelValidation} instance.
+     *
+     * @param pool the {@code ForkJoinPool} that evaluates the element constraints
+     * @param threshold the minimum number of elements that are validated in parallel
+     * @throws IllegalArgumentException if {@code threshold} is not positive
+     */
+    public ParallelValidation(ForkJoinPool pool, int threshold) {
+        this.pool = Objects.requireNonNull(pool, "pool");
+
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("threshold must be positive");
+        }
+
+        this.threshold = threshold;
+    }
+
+    /**
+     * Gets the {@code ForkJoinPool} that evaluates the element constraints.
+     *
+     * @return the {@code ForkJoinPool}
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Gets the minimum number of elements that are validated in parallel.
+     *
+     * @return the threshold
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+}
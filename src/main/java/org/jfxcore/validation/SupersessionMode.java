@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jfxcore.validation;
+
+import impl.org.jfxcore.validation.PropertyHelper;
+import org.jfxcore.validation.property.ReadOnlyConstrainedProperty;
+import java.util.Objects;
+
+/**
+ * Specifies what happens when an asynchronous constraint is evaluated while a previous evaluation
+ * of the same constraint has not yet completed.
+ * <p>
+ * By default, only one evaluation of a constraint runs at any time: the running evaluation is cancelled, and
+ * the new evaluation starts when the running evaluation has completed. If the running evaluation doesn't support
+ * cancellation, as is the case for {@link Constraints#validateAsync(org.jfxcore.validation.function.ValidationFunction0)
+ * validateAsync} constraints, the validation result for the new value is delayed until the validation function for
+ * the old value has run to completion. {@link #LATEST_VALUE_WINS} starts the new evaluation immediately instead:
+ *
+ * <pre>{@code
+ * var userName = new SimpleConstrainedStringProperty<String>(
+ *     Constraints.validateAsync(value -> userService.isAvailable(value) ?
+ *         ValidationResult.valid() : ValidationResult.invalid("User name is not available")));
+ *
+ * SupersessionMode.setSupersessionMode(userName, SupersessionMode.LATEST_VALUE_WINS);
+ * }</pre>
+ *
+ * The supersession mode of a constrained collection also applies to its element constraints.
+ */
+public enum SupersessionMode {
+
+    /**
+     * A new evaluation of a constraint starts when the previous evaluation has completed.
+     * <p>
+     * If several evaluations are requested while the previous evaluation is still running, only the
+     * evaluation for the latest value is started.
+     */
+    SERIALIZED,
+
+    /**
+     * A new evaluation of a constraint starts immediately, even if the previous evaluation is still running.
+     * <p>
+     * The previous evaluation is cancelled and reported as superseded, and its validation result is discarded
+     * when it completes. Every evaluation is tagged with a sequence number, which ensures that only the result
+     * of the latest evaluation is applied, even if evaluations complete out of order. This reduces the latency
+     * of slow validation functions that can't be cancelled, at the expense of running several evaluations of
+     * the same constraint concurrently.
+     */
+    LATEST_VALUE_WINS;
+
+    private static volatile SupersessionMode defaultMode = SERIALIZED;
+
+    /**
+     * Gets the {@code SupersessionMode} that is used for all properties that don't specify
+     * their own {@code SupersessionMode}.
+     *
+     * @return the default {@code SupersessionMode}
+     */
+    public static SupersessionMode getDefault() {
+        return defaultMode;
+    }
+
+    /**
+     * Sets the {@code SupersessionMode} that is used for all properties that don't specify
+     * their own {@code SupersessionMode}.
+     *
+     * @param mode the default {@code SupersessionMode}, or {@code null} to serialize evaluations
+     */
+    public static void setDefault(SupersessionMode mode) {
+        defaultMode = mode != null ? mode : SERIALIZED;
+    }
+
+    /**
+     * Gets the {@code SupersessionMode} that is used for the specified property.
+     *
+     * @param property the property
+     * @return the {@code SupersessionMode}, or {@code null} if the property uses the default supersession mode
+     */
+    public static SupersessionMode getSupersessionMode(ReadOnlyConstrainedProperty<?, ?> property) {
+        Objects.requireNonNull(property, "property");
+        return PropertyHelper.getValidationHelper(property).getSupersessionMode();
+    }
+
+    /**
+     * Sets the {@code SupersessionMode} that is used for the specified property.
+     * The new supersession mode applies to the next evaluation of each constraint.
+     *
+     * @param property the property
+     * @param mode the {@code SupersessionMode}, or {@code null} to use the default supersession mode
+     */
+    public static void setSupersessionMode(ReadOnlyConstrainedProperty<?, ?> property, SupersessionMode mode) {
+        Objects.requireNonNull(property, "property");
+        PropertyHelper.getValidationHelper(property).setSupersessionMode(mode);
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jfxcore.validation;
+
+import javafx.beans.Observable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Defines a data constraint that always validates values synchronously.
+ * <p>
+ * The data validation system invokes {@link #validateSync(Object)} directly when it evaluates a
+ * {@code SyncConstraint}, which avoids wrapping the {@link ValidationResult} in a {@link CompletableFuture}.
+ * For a constraint that is evaluated on every keystroke of a text field, or for each element of a large
+ * collection, this removes a significant number of short-lived allocations.
+ * <p>
+ * All synchronous constraints that are provided by {@link Constraints} implement this interface.
+ * A synchronous constraint that doesn't have any dependencies can be specified with a lambda expression:
+ * <pre>{@code
+ * var text = new SimpleConstrainedStringProperty<String>(
+ *     (SyncConstraint<String, String>)value -> value != null && value.length() >= 5 ?
+ *         ValidationResult.valid() : ValidationResult.invalid("Value too short"));
+ * }</pre>
+ * Implementations should return the shared {@link ValidationResult#valid()} and {@link ValidationResult#invalid()}
+ * instances when the result doesn't include a diagnostic.
+ *
+ * @param <T> data type
+ * @param <D> diagnostic type
+ */
+@FunctionalInterface
+public interface SyncConstraint<T, D> extends Constraint<T, D> {
+
+    /**
+     * Validates the specified value synchronously.
+     * <p>
+     * If this method throws an exception, the data validation system treats the validation run
+     * as if it didn't produce a result (see {@link ValidationResult#none()}).
+     *
+     * @param value the value to be validated
+     * @return the {@code ValidationResult}
+     */
+    ValidationResult<D> validateSync(T value);
+
+    /**
+     * Indicates whether {@link #validateSync(Object)} can be invoked concurrently on multiple threads.
+     * <p>
+     * Thread-safe constraints don't modify shared state, and only read state that doesn't change
+     * while the constraint is evaluated. They can be evaluated in parallel when a large number of
+     * collection elements is validated (see {@link ParallelValidation}).
+     * The default implementation returns {@code false}.
+     *
+     * @return {@code true} if the constraint is thread-safe, {@code false} otherwise
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
+
+    /**
+     * Validates the specified value by calling {@link #validateSync(Object)}, and returns the
+     * result as a completed future.
+     *
+     * @param value the value to be validated
+     * @return a completed future that produces a {@code ValidationResult}
+     */
+    @Override
+    default CompletableFuture<ValidationResult<D>> validate(T value) {
+        try {
+            return CompletableFuture.completedFuture(validateSync(value));
+        } catch (Throwable ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    /**
+     * Returns {@code null}, since a synchronous constraint doesn't need a completion executor.
+     *
+     * @return {@code null}
+     */
+    @Override
+    default Executor getCompletionExecutor() {
+        return null;
+    }
+
+    /**
+     * Returns the constraint dependencies.
+     * <p>
+     * The default implementation returns {@code null}, which indicates that the constraint
+     * doesn't have any dependencies.
+     *
+     * @return the constraint dependencies
+     */
+    @Override
+    default Observable[] getDependencies() {
+        return null;
+    }
+
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jfxcore.validation;
+
+import impl.org.jfxcore.validation.CoalescingCompletionExecutor;
+import impl.org.jfxcore.validation.Logger;
+import impl.org.jfxcore.validation.SerialExecutor;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Specifies the thread on which constrained properties live, and to which the validation results
+ * of asynchronous constraints are delivered.
+ * <p>
+ * Constrained properties are not thread-safe, and must only be used on the thread of their validation context.
+ * By default, this is the JavaFX application thread. Headless validation contexts allow the same constraints
+ * and constrained properties to be used without initializing the JavaFX toolkit, for example in a server
+ * application or a batch job:
+ * <ul>
+ *     <li>{@link #newEventLoop()} runs actions and completions on a dedicated thread
+ *     <li>{@link #newActor()} runs actions and completions one at a time on virtual threads
+ *     <li>{@link #newCallerThread()} runs actions and completions on the thread that calls
+ *         {@link #runUntil(BooleanSupplier, Duration)}
+ *     <li>{@link #of(Executor)} runs actions and completions with an application-specified executor
+ * </ul>
+ * The completion executor that is returned by {@link ValidationExecutors#getCompletionExecutor()}, and
+ * which is used by all asynchronous constraints in {@link Constraints}, delivers validation results to
+ * the validation context of the thread on which the validation run was started. This is the context that
+ * is running the current action, or the {@link #getDefault() default context} if the current thread is not
+ * running an action of a validation context:
+ * <pre>{@code
+ * var context = ValidationContext.newEventLoop();
+ *
+ * context.execute(() -> {
+ *     var userName = new SimpleConstrainedStringProperty<String>(
+ *         Constraints.validateAsync(value -> backend.isUserNameAvailable(value)));
+ *     userName.set("jdoe");
+ * });
+ * }</pre>
+ * Custom constraints that return a different completion executor from
+ * {@link ConstraintBase#getCompletionExecutor()} are not affected by the validation context.
+ */
+public final class ValidationContext {
+
+    private static final ThreadLocal<ValidationContext> CURRENT = new ThreadLocal<>();
+    private static final AtomicInteger threadCount = new AtomicInteger();
+    private static final ValidationContext FX =
+        new ValidationContext(CoalescingCompletionExecutor.INSTANCE, null, null);
+    private static volatile ValidationContext defaultContext = FX;
+
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final BlockingQueue<Runnable> queue;
+    private final Executor completionExecutor;
+
+    private ValidationContext(Executor executor, ExecutorService ownedExecutor, BlockingQueue<Runnable> queue) {
+        this.executor = executor;
+        this.ownedExecutor = ownedExecutor;
+        this.queue = queue;
+        this.completionExecutor = executor == CoalescingCompletionExecutor.INSTANCE ?
+            executor : new CoalescingCompletionExecutor(this::execute);
+    }
+
+    /**
+     * Returns the validation context of the JavaFX application thread.
+     * <p>
+     * Actions are run with {@link javafx.application.Platform#runLater}, which requires
+     * the JavaFX toolkit to be initialized.
+     *
+     * @return the JavaFX validation context
+     */
+    public static ValidationContext fx() {
+        return FX;
+    }
+
+    /**
+     * Creates a validation context that runs actions on a new daemon thread.
+     * The thread is terminated when {@link #shutdown()} is called.
+     *
+     * @return the new validation context
+     */
+    public static ValidationContext newEventLoop() {
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "validation-context-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        return new ValidationContext(executor, executor, null);
+    }
+
+    /**
+     * Creates a validation context that runs actions one at a time, each on a virtual thread.
+     * <p>
+     * Since the validation context doesn't occupy a thread while it is idle, many actor contexts can be used
+     * concurrently; for example, one context for each request of a server application. Subsequent actions
+     * are not guaranteed to run on the same thread, but every action happens-before the next action.
+     * On versions of Java that don't support virtual threads, actions run on pooled daemon threads.
+     *
+     * @return the new validation context
+     */
+    public static ValidationContext newActor() {
+        ExecutorService executor = ValidationExecutors.newVirtualThreadPerTaskExecutor();
+        return new ValidationContext(new SerialExecutor(executor), executor, null);
+    }
+
+    /**
+     * Creates a validation context that queues actions until they are run by a thread that calls
+     * {@link #runUntil(BooleanSupplier, Duration)}.
+     * <p>
+     * This is useful for batch jobs, where the thread that creates constrained properties waits for
+     * their validation to complete before it continues with the next piece of work.
+     *
+     * @return the new validation context
+     */
+    public static ValidationContext newCallerThread() {
+        var queue = new LinkedBlockingQueue<Runnable>();
+        return new ValidationContext(queue::add, null, queue);
+    }
+
+    /**
+     * Creates a validation context that runs actions with the specified executor.
+     * <p>
+     * The executor must run actions one at a time, and every action must happen-before the next action.
+     *
+     * @param executor the executor
+     * @return the new validation context
+     */
+    public static ValidationContext of(Executor executor) {
+        Objects.requireNonNull(executor, "executor");
+        return new ValidationContext(executor, null, null);
+    }
+
+    /**
+     * Gets the validation context that is running the current action, or the {@link #getDefault() default context}
+     * if the current thread is not running an action of a validation context.
+     *
+     * @return the current validation context
+     */
+    public static ValidationContext getCurrent() {
+        ValidationContext context = CURRENT.get();
+        return context != null ? context : defaultContext;
+    }
+
+    /**
+     * Gets the validation context that is used by threads that are not running an action of a validation context.
+     *
+     * @return the default validation context
+     */
+    public static ValidationContext getDefault() {
+        return defaultContext;
+    }
+
+    /**
+     * Sets the validation context that is used by threads that are not running an action of a validation context.
+     * <p>
+     * Applications that don't use JavaFX can set a headless validation context as the default context,
+     * which allows constrained properties to be used without explicitly running actions in the context.
+     *
+     * @param context the default validation context, or {@code null} to use {@link #fx()}
+     */
+    public static void setDefault(ValidationContext context) {
+        defaultContext = context != null ? context : FX;
+    }
+
+    /**
+     * Gets the executor that delivers the validation results of asynchronous constraints to this context.
+     * <p>
+     * Validation results that are delivered with this executor are coalesced in the same way as the
+     * results that are delivered to the JavaFX application thread.
+     *
+     * @return the completion executor
+     */
+    public Executor getCompletionExecutor() {
+        return completionExecutor;
+    }
+
+    /**
+     * Runs the specified action in this validation context.
+     * <p>
+     * The action runs outside of a validation batch, which means that constrained properties that are changed
+     * by the action are validated immediately. Exceptions thrown by the action are logged.
+     *
+     * @param action the action
+     */
+    public void execute(Runnable action) {
+        Objects.requireNonNull(action, "action");
+
+        if (executor == CoalescingCompletionExecutor.INSTANCE) {
+            executor.execute(action);
+        } else {
+            executor.execute(() -> run(action));
+        }
+    }
+
+    /**
+     * Runs the queued actions of a context that was created with {@link #newCallerThread()} on the
+     * current thread, until the condition is satisfied or the timeout has elapsed.
+     * <p>
+     * The condition is evaluated in this context before the first action is run, and after every action.
+     * The timeout applies to the entire invocation of this method, not to each individual action.
+     *
+     * @param condition the condition
+     * @param timeout the maximum time to run actions and wait for new actions
+     * @throws IllegalStateException if this context was not created with {@link #newCallerThread()}
+     * @throws InterruptedException if the current thread was interrupted while waiting
+     * @return {@code true} if the condition is satisfied, {@code false} if the timeout has elapsed
+     */
+    public boolean runUntil(BooleanSupplier condition, Duration timeout) throws InterruptedException {
+        Objects.requireNonNull(condition, "condition");
+        Objects.requireNonNull(timeout, "timeout");
+
+        if (queue == null) {
+            throw new IllegalStateException("Validation context is not a caller-thread context");
+        }
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        ValidationContext previous = CURRENT.get();
+        CURRENT.set(this);
+
+        try {
+            while (!condition.getAsBoolean()) {
+                Runnable action = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (action == null) {
+                    return false;
+                }
+
+                action.run();
+            }
+
+            return true;
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Shuts down the thread of a context that was created with {@link #newEventLoop()} or {@link #newActor()}.
+     * Actions that were submitted before calling this method are still run, but new actions are rejected.
+     * This method has no effect for other validation contexts.
+     */
+    public void shutdown() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    private void run(Runnable action) {
+        ValidationContext previous = CURRENT.get();
+        CURRENT.set(this);
+
+        try {
+            action.run();
+        } catch (Throwable ex) {
+            Logger.error("Exception in validation context", ex);
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+
+}
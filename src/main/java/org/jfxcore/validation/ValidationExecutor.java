@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jfxcore.validation;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * An {@link ExecutorService} for asynchronous constraints that reports how many tasks are
+ * running and how many tasks are waiting to be executed.
+ * <p>
+ * Instances of this interface are created by {@link ValidationExecutors}.
+ */
+public interface ValidationExecutor extends ExecutorService {
+
+    /**
+     * Gets the number of tasks that are currently running.
+     *
+     * @return the number of running tasks
+     */
+    int getActiveCount();
+
+    /**
+     * Gets the number of tasks that were submitted, but have not started running.
+     *
+     * @return the number of queued tasks
+     */
+    int getQueueSize();
+
+    /**
+     * Gets the maximum number of queued tasks. When the queue is full, new tasks are rejected
+     * with a {@link java.util.concurrent.RejectedExecutionException RejectedExecutionException}.
+     *
+     * @return the maximum number of queued tasks, or {@link Integer#MAX_VALUE} if the queue is unbounded
+     */
+    int getMaxQueueSize();
+
+    /**
+     * Gets the number of tasks that have completed.
+     *
+     * @return the number of completed tasks
+     */
+    long getCompletedCount();
+
+    /**
+     * Gets the number of tasks that were rejected because the queue was full.
+     *
+     * @return the number of rejected tasks
+     */
+    long getRejectedCount();
+
+}
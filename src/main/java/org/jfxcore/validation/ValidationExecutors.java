@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jfxcore.validation;
+
+import impl.org.jfxcore.validation.CoalescingCompletionExecutor;
+import impl.org.jfxcore.validation.MonitoredExecutor;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Contains factory methods for executors that run the validation functions of asynchronous constraints,
+ * and manages the default executor that is used by asynchronous constraints that don't specify an executor.
+ * <p>
+ * All executors created by this class are {@link ValidationExecutor ValidationExecutors}, which report
+ * their number of running and queued tasks. Their threads are daemon threads, so they don't prevent
+ * the application from exiting.
+ */
+public final class ValidationExecutors {
+
+    private static final AtomicInteger threadCount = new AtomicInteger();
+    private static final Object lock = new Object();
+    private static volatile Executor defaultExecutor;
+    private static volatile Duration defaultTimeout;
+
+    private ValidationExecutors() {}
+
+    /**
+     * Creates an executor that runs each task on a new virtual thread.
+     * <p>
+     * Since a virtual thread is never reused, the interrupt-based cancellation of
+     * {@link Constraints#validateInterruptibleAsync(org.jfxcore.validation.function.ValidationFunction0, Executor)
+     * interruptible constraints} can't affect other tasks. This makes the executor well-suited for
+     * validation functions that block on I/O, like queries to a backend service.
+     * <p>
+     * Virtual threads are available on Java 21 and later. On earlier versions of Java, the returned
+     * executor creates daemon threads on demand, and reuses idle threads for subsequent tasks.
+     *
+     * @return the new {@code ValidationExecutor}
+     */
+    public static ValidationExecutor newVirtualThreadPerTaskExecutor() {
+        ExecutorService executor;
+
+        try {
+            executor = (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException ex) {
+            ThreadPoolExecutor threadPool = new ThreadPoolExecutor(
+                0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "validation-thread-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+            return new MonitoredExecutor(threadPool, Integer.MAX_VALUE, true);
+        }
+
+        return new MonitoredExecutor(executor, Integer.MAX_VALUE, false);
+    }
+
+    /**
+     * Creates a work-stealing executor that runs tasks on a fixed number of threads, and rejects
+     * new tasks when the number of queued tasks has reached {@code maxQueueSize}.
+     * <p>
+     * A bounded executor is well-suited for validation functions that are computationally expensive,
+     * since it doesn't run more of them concurrently than there are processors available.
+     * Rejected tasks are not evaluated, and their constraints don't produce a validation result.
+     *
+     * @param parallelism the number of threads
+     * @param maxQueueSize the maximum number of tasks that are waiting to be executed
+     * @throws IllegalArgumentException if {@code parallelism} or {@code maxQueueSize} is not positive
+     * @return the new {@code ValidationExecutor}
+     */
+    public static ValidationExecutor newBoundedPool(int parallelism, int maxQueueSize) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+
+        if (maxQueueSize <= 0) {
+            throw new IllegalArgumentException("maxQueueSize must be positive");
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism, p -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            thread.setName("validation-pool-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, null, true);
+
+        return new MonitoredExecutor(pool, maxQueueSize, true);
+    }
+
+    /**
+     * Gets the completion executor that is used by the asynchronous constraints in {@link Constraints}.
+     * <p>
+     * The completion executor delivers the validation results of asynchronous constraints to the thread of the
+     * {@link ValidationContext} in which the validation run was started, which is the JavaFX application thread
+     * by default. Instead of submitting a separate {@link javafx.application.Platform#runLater runLater}
+     * action for every completed validation run, it delivers all validation results that have completed in the
+     * meantime with a single action. While the validation results are delivered, the change notifications of
+     * constrained properties are deferred, so that every property notifies its listeners only once.
+     * Custom implementations of asynchronous constraints can return this executor from
+     * {@link ConstraintBase#getCompletionExecutor()}.
+     *
+     * @return the completion executor
+     */
+    public static Executor getCompletionExecutor() {
+        return CoalescingCompletionExecutor.INSTANCE;
+    }
+
+    /**
+     * Gets the executor that is used by asynchronous constraints that don't specify an executor.
+     * <p>
+     * Unless another executor was specified with {@link #setDefault(Executor)}, the default executor
+     * is created with {@link #newVirtualThreadPerTaskExecutor()} when it is first used.
+     *
+     * @return the default executor
+     */
+    public static Executor getDefault() {
+        Executor executor = defaultExecutor;
+        if (executor == null) {
+            synchronized (lock) {
+                executor = defaultExecutor;
+                if (executor == null) {
+                    defaultExecutor = executor = newVirtualThreadPerTaskExecutor();
+                }
+            }
+        }
+
+        return executor;
+    }
+
+    /**
+     * Sets the executor that is used by asynchronous constraints that don't specify an executor.
+     * <p>
+     * The new executor is used for all subsequent validation runs, including validation runs of
+     * constraints that were created before the default executor was changed. The previous default
+     * executor is not shut down.
+     *
+     * @param executor the default executor, or {@code null} to use a new executor created by
+     *                 {@link #newVirtualThreadPerTaskExecutor()}
+     */
+    public static void setDefault(Executor executor) {
+        synchronized (lock) {
+            defaultExecutor = executor;
+        }
+    }
+
+    /**
+     * Gets the default timeout of asynchronous validation runs.
+     *
+     * @return the default timeout, or {@code null} if validation runs don't time out by default
+     * @see #setDefaultTimeout(Duration)
+     */
+    public static Duration getDefaultTimeout() {
+        return defaultTimeout;
+    }
+
+    /**
+     * Sets the default timeout of asynchronous validation runs.
+     * <p>
+     * If an asynchronous validation run doesn't complete within the default timeout, the validation run
+     * fails with a {@link java.util.concurrent.TimeoutException TimeoutException}, and the future returned
+     * by the constraint validator is cancelled with {@code mayInterruptIfRunning = true}. Like any other
+     * failed validation run, a timed-out validation run is neither valid nor invalid. The default timeout
+     * applies to all subsequent validation runs, except for validation runs of constraints that specify
+     * their own timeout with {@link Constraints#withTimeout(Constraint, Duration, Supplier) withTimeout}.
+     * If a validation run is deferred by a {@link ConcurrencyLimit}, the timeout starts when the validation
+     * run is started, not when it is deferred.
+     *
+     * @param timeout the default timeout, or {@code null} if validation runs don't time out by default
+     * @throws IllegalArgumentException if {@code timeout} is not positive
+     */
+    public static void setDefaultTimeout(Duration timeout) {
+        if (timeout != null && (timeout.isNegative() || timeout.isZero())) {
+            throw new IllegalArgumentException("timeout must be positive");
+        }
+
+        defaultTimeout = timeout;
+    }
+
+}
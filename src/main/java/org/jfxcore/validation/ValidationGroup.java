@@ -0,0 +1,522 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jfxcore.validation;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanPropertyBase;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerPropertyBase;
+import org.jfxcore.validation.property.ReadOnlyConstrainedProperty;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Aggregates the validation states of a set of {@link ConstrainedValue} instances.
+ * <p>
+ * A {@code ValidationGroup} counts the members that are valid, invalid, validating or user-invalid,
+ * and keeps these counts up to date by observing the validation state transitions of its members.
+ * Querying the aggregated validation state is a constant-time operation that doesn't depend on the
+ * number of members, which makes validation groups suitable for large forms:
+ *
+ * <pre>{@code
+ * var form = new ValidationGroup(firstName, lastName, email);
+ * saveButton.disableProperty().bind(form.validProperty().not());
+ * }</pre>
+ *
+ * Validation groups can be nested, for example to aggregate the pages of a wizard. A nested group counts
+ * as a single member of its parent group, which is valid, invalid, validating or user-invalid if the
+ * nested group is.
+ * <p>
+ * A member is <em>user-invalid</em> if it is a {@link ReadOnlyConstrainedProperty} that is
+ * {@link ReadOnlyConstrainedProperty#isUserInvalid() user-invalid}.
+ * <p>
+ * A {@code ValidationGroup} must only be used on the thread that validates its members,
+ * which is usually the JavaFX application thread. The members of a group hold strong references
+ * to the group until they are {@link #remove(ConstrainedValue) removed}.
+ */
+public class ValidationGroup {
+
+    private static final int VALID = 0;
+    private static final int INVALID = 1;
+    private static final int VALIDATING = 2;
+    private static final int USER_INVALID = 3;
+
+    private final Map<Object, Member> members = new IdentityHashMap<>();
+    private final int[] counts = new int[4];
+    private final boolean[] lastStates = new boolean[] {true, false, false, false};
+    private List<Member> parents;
+    private BooleanPropertyImpl[] stateProperties;
+    private IntegerPropertyImpl[] countProperties;
+
+    /**
+     * Creates a new, empty {@code ValidationGroup}.
+     */
+    public ValidationGroup() {}
+
+    /**
+     * Creates a new {@code ValidationGroup} that contains the specified values.
+     *
+     * @param values the values
+     */
+    public ValidationGroup(ConstrainedValue<?, ?>... values) {
+        for (ConstrainedValue<?, ?> value : values) {
+            add(value);
+        }
+    }
+
+    /**
+     * Adds a {@code ConstrainedValue} to this group.
+     *
+     * @param value the value
+     * @return {@code true} if the value was added, {@code false} if it is already a member of this group
+     */
+    @SuppressWarnings("unchecked")
+    public boolean add(ConstrainedValue<?, ?> value) {
+        Objects.requireNonNull(value, "value");
+        if (members.containsKey(value)) {
+            return false;
+        }
+
+        Member member = new Member(value);
+        ((ConstrainedValue<Object, Object>)value).addListener(member);
+
+        boolean userInvalid = false;
+        if (value instanceof ReadOnlyConstrainedProperty<?, ?> property) {
+            ReadOnlyBooleanProperty userInvalidProperty = property.userInvalidProperty();
+            userInvalidProperty.addListener(member);
+            userInvalid = userInvalidProperty.get();
+        }
+
+        addMember(member, value.isValid(), value.isInvalid(), value.isValidating(), userInvalid);
+        return true;
+    }
+
+    /**
+     * Removes a {@code ConstrainedValue} from this group.
+     *
+     * @param value the value
+     * @return {@code true} if the value was removed, {@code false} if it is not a member of this group
+     */
+    @SuppressWarnings("unchecked")
+    public boolean remove(ConstrainedValue<?, ?> value) {
+        Objects.requireNonNull(value, "value");
+        Member member = members.get(value);
+        if (member == null) {
+            return false;
+        }
+
+        ((ConstrainedValue<Object, Object>)value).removeListener(member);
+
+        if (value instanceof ReadOnlyConstrainedProperty<?, ?> property) {
+            property.userInvalidProperty().removeListener(member);
+        }
+
+        removeMember(member);
+        return true;
+    }
+
+    /**
+     * Adds a nested {@code ValidationGroup} to this group.
+     *
+     * @param group the nested group
+     * @return {@code true} if the group was added, {@code false} if it is already a member of this group
+     * @throws IllegalArgumentException if {@code group} is this group or contains this group
+     */
+    public boolean add(ValidationGroup group) {
+        Objects.requireNonNull(group, "group");
+        if (members.containsKey(group)) {
+            return false;
+        }
+
+        if (group == this || group.containsGroup(this)) {
+            throw new IllegalArgumentException("group");
+        }
+
+        Member member = new Member(group);
+
+        if (group.parents == null) {
+            group.parents = new ArrayList<>(2);
+        }
+
+        group.parents.add(member);
+        addMember(member, group.isValid(), group.isInvalid(), group.isValidating(), group.isUserInvalid());
+        return true;
+    }
+
+    /**
+     * Removes a nested {@code ValidationGroup} from this group.
+     *
+     * @param group the nested group
+     * @return {@code true} if the group was removed, {@code false} if it is not a member of this group
+     */
+    public boolean remove(ValidationGroup group) {
+        Objects.requireNonNull(group, "group");
+        Member member = members.get(group);
+        if (member == null) {
+            return false;
+        }
+
+        group.parents.remove(member);
+        removeMember(member);
+        return true;
+    }
+
+    /**
+     * Indicates whether the specified value or nested group is a member of this group.
+     *
+     * @param member the value or nested group
+     * @return {@code true} if {@code member} is a member of this group, {@code false} otherwise
+     */
+    public boolean contains(Object member) {
+        return members.containsKey(member);
+    }
+
+    /**
+     * Gets the number of members of this group.
+     *
+     * @return the number of members
+     */
+    public int size() {
+        return members.size();
+    }
+
+    /**
+     * Indicates whether all members of this group are valid.
+     * An empty group is valid.
+     *
+     * @return the {@code valid} property
+     */
+    public ReadOnlyBooleanProperty validProperty() {
+        return stateProperty(VALID, "valid");
+    }
+
+    /**
+     * Gets the value of the {@link #validProperty() valid} property.
+     *
+     * @return the value of the {@code valid} property
+     */
+    public boolean isValid() {
+        return counts[VALID] == members.size();
+    }
+
+    /**
+     * Indicates whether at least one member of this group is invalid.
+     *
+     * @return the {@code invalid} property
+     */
+    public ReadOnlyBooleanProperty invalidProperty() {
+        return stateProperty(INVALID, "invalid");
+    }
+
+    /**
+     * Gets the value of the {@link #invalidProperty() invalid} property.
+     *
+     * @return the value of the {@code invalid} property
+     */
+    public boolean isInvalid() {
+        return counts[INVALID] > 0;
+    }
+
+    /**
+     * Indicates whether at least one member of this group is currently validating.
+     *
+     * @return the {@code validating} property
+     */
+    public ReadOnlyBooleanProperty validatingProperty() {
+        return stateProperty(VALIDATING, "validating");
+    }
+
+    /**
+     * Gets the value of the {@link #validatingProperty() validating} property.
+     *
+     * @return the value of the {@code validating} property
+     */
+    public boolean isValidating() {
+        return counts[VALIDATING] > 0;
+    }
+
+    /**
+     * Indicates whether at least one member of this group is user-invalid.
+     *
+     * @return the {@code userInvalid} property
+     */
+    public ReadOnlyBooleanProperty userInvalidProperty() {
+        return stateProperty(USER_INVALID, "userInvalid");
+    }
+
+    /**
+     * Gets the value of the {@link #userInvalidProperty() userInvalid} property.
+     *
+     * @return the value of the {@code userInvalid} property
+     */
+    public boolean isUserInvalid() {
+        return counts[USER_INVALID] > 0;
+    }
+
+    /**
+     * Contains the number of valid members of this group.
+     *
+     * @return the {@code validCount} property
+     */
+    public ReadOnlyIntegerProperty validCountProperty() {
+        return countProperty(VALID, "validCount");
+    }
+
+    /**
+     * Gets the value of the {@link #validCountProperty() validCount} property.
+     *
+     * @return the value of the {@code validCount} property
+     */
+    public int getValidCount() {
+        return counts[VALID];
+    }
+
+    /**
+     * Contains the number of invalid members of this group.
+     *
+     * @return the {@code invalidCount} property
+     */
+    public ReadOnlyIntegerProperty invalidCountProperty() {
+        return countProperty(INVALID, "invalidCount");
+    }
+
+    /**
+     * Gets the value of the {@link #invalidCountProperty() invalidCount} property.
+     *
+     * @return the value of the {@code invalidCount} property
+     */
+    public int getInvalidCount() {
+        return counts[INVALID];
+    }
+
+    /**
+     * Contains the number of members of this group that are currently validating.
+     *
+     * @return the {@code validatingCount} property
+     */
+    public ReadOnlyIntegerProperty validatingCountProperty() {
+        return countProperty(VALIDATING, "validatingCount");
+    }
+
+    /**
+     * Gets the value of the {@link #validatingCountProperty() validatingCount} property.
+     *
+     * @return the value of the {@code validatingCount} property
+     */
+    public int getValidatingCount() {
+        return counts[VALIDATING];
+    }
+
+    /**
+     * Contains the number of user-invalid members of this group.
+     *
+     * @return the {@code userInvalidCount} property
+     */
+    public ReadOnlyIntegerProperty userInvalidCountProperty() {
+        return countProperty(USER_INVALID, "userInvalidCount");
+    }
+
+    /**
+     * Gets the value of the {@link #userInvalidCountProperty() userInvalidCount} property.
+     *
+     * @return the value of the {@code userInvalidCount} property
+     */
+    public int getUserInvalidCount() {
+        return counts[USER_INVALID];
+    }
+
+    private boolean containsGroup(ValidationGroup group) {
+        for (Object member : members.keySet()) {
+            if (member instanceof ValidationGroup nestedGroup
+                    && (nestedGroup == group || nestedGroup.containsGroup(group))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void addMember(Member member, boolean valid, boolean invalid, boolean validating, boolean userInvalid) {
+        members.put(member.source, member);
+        member.states[VALID] = valid;
+        member.states[INVALID] = invalid;
+        member.states[VALIDATING] = validating;
+        member.states[USER_INVALID] = userInvalid;
+
+        for (int state = 0; state < counts.length; ++state) {
+            if (member.states[state]) {
+                updateCount(state, 1);
+            }
+        }
+
+        stateChanged();
+    }
+
+    private void removeMember(Member member) {
+        members.remove(member.source);
+
+        for (int state = 0; state < counts.length; ++state) {
+            if (member.states[state]) {
+                updateCount(state, -1);
+            }
+        }
+
+        stateChanged();
+    }
+
+    private void updateCount(int state, int delta) {
+        counts[state] += delta;
+
+        if (countProperties != null && countProperties[state] != null) {
+            countProperties[state].fireValueChangedEvent();
+        }
+    }
+
+    /**
+     * Fires change notifications for the aggregated validation states that have changed,
+     * and propagates the new states to the parent groups.
+     */
+    private void stateChanged() {
+        for (int state = 0; state < lastStates.length; ++state) {
+            boolean value = getState(state);
+            if (lastStates[state] == value) {
+                continue;
+            }
+
+            lastStates[state] = value;
+
+            if (stateProperties != null && stateProperties[state] != null) {
+                stateProperties[state].fireValueChangedEvent();
+            }
+
+            if (parents != null) {
+                for (Member parent : List.copyOf(parents)) {
+                    parent.setState(state, value);
+                }
+            }
+        }
+    }
+
+    private boolean getState(int state) {
+        return switch (state) {
+            case VALID -> isValid();
+            case INVALID -> isInvalid();
+            case VALIDATING -> isValidating();
+            default -> isUserInvalid();
+        };
+    }
+
+    private ReadOnlyBooleanProperty stateProperty(int state, String name) {
+        if (stateProperties == null) {
+            stateProperties = new BooleanPropertyImpl[4];
+        }
+
+        if (stateProperties[state] == null) {
+            stateProperties[state] = new BooleanPropertyImpl(state, name);
+        }
+
+        return stateProperties[state];
+    }
+
+    private ReadOnlyIntegerProperty countProperty(int state, String name) {
+        if (countProperties == null) {
+            countProperties = new IntegerPropertyImpl[4];
+        }
+
+        if (countProperties[state] == null) {
+            countProperties[state] = new IntegerPropertyImpl(state, name);
+        }
+
+        return countProperties[state];
+    }
+
+    /**
+     * Tracks the validation state of a single member of the group.
+     */
+    private final class Member implements ValidationListener<Object, Object>, InvalidationListener {
+        final Object source;
+        final boolean[] states = new boolean[4];
+
+        Member(Object source) {
+            this.source = source;
+        }
+
+        @Override
+        public void changed(
+                ConstrainedValue<?, Object> value, ChangeType changeType, boolean oldValue, boolean newValue) {
+            switch (changeType) {
+                case VALID -> setState(VALID, newValue);
+                case INVALID -> setState(INVALID, newValue);
+                case VALIDATING -> setState(VALIDATING, newValue);
+            }
+        }
+
+        @Override
+        public void invalidated(Observable observable) {
+            setState(USER_INVALID, ((ReadOnlyBooleanProperty)observable).get());
+        }
+
+        void setState(int state, boolean value) {
+            if (states[state] != value && members.get(source) == this) {
+                states[state] = value;
+                updateCount(state, value ? 1 : -1);
+                stateChanged();
+            }
+        }
+    }
+
+    private final class BooleanPropertyImpl extends ReadOnlyBooleanPropertyBase {
+        private final int state;
+        private final String name;
+
+        BooleanPropertyImpl(int state, String name) {
+            this.state = state;
+            this.name = name;
+        }
+
+        @Override public Object getBean() { return ValidationGroup.this; }
+        @Override public String getName() { return name; }
+        @Override public boolean get() { return lastStates[state]; }
+        @Override protected void fireValueChangedEvent() { super.fireValueChangedEvent(); }
+    }
+
+    private final class IntegerPropertyImpl extends ReadOnlyIntegerPropertyBase {
+        private final int state;
+        private final String name;
+
+        IntegerPropertyImpl(int state, String name) {
+            this.state = state;
+            this.name = name;
+        }
+
+        @Override public Object getBean() { return ValidationGroup.this; }
+        @Override public String getName() { return name; }
+        @Override public int get() { return counts[state]; }
+        @Override protected void fireValueChangedEvent() { super.fireValueChangedEvent(); }
+    }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jfxcore.validation;
+
+import impl.org.jfxcore.validation.PropertyHelper;
+import impl.org.jfxcore.validation.SchedulerHelper;
+import impl.org.jfxcore.validation.ValidationBatch;
+import javafx.scene.Scene;
+import org.jfxcore.validation.property.ReadOnlyConstrainedProperty;
+import java.util.Objects;
+
+/**
+ * Determines when a constrained property is validated after its value or one of its
+ * constraint dependencies has changed.
+ * <p>
+ * By default, a constrained property is validated immediately when it is invalidated. For properties
+ * that change many times in quick succession (for example, when a large form is populated, or when
+ * a property is bound to a rapidly changing value), running all constraint validators for every
+ * intermediate value can be wasteful. A deferring {@code ValidationScheduler} like {@link #pulse()}
+ * coalesces all invalidations that happen until the scheduled validation runs into a single
+ * validation run, which validates the most recent value of the property; intermediate values
+ * are never validated.
+ * <p>
+ * While a deferred validation is pending, the validation state properties, the diagnostics and the
+ * constrained value of the property retain the state of the last validation run.
+ * <p>
+ * A {@code ValidationScheduler} can be installed globally with {@link #setDefault}, or for a single
+ * property with {@link #setScheduler}:
+ * <pre>{@code
+ * ValidationScheduler.setScheduler(firstName, ValidationScheduler.pulse(scene));
+ * }</pre>
+ * Custom schedulers can be implemented by implementing the {@link #schedule(Runnable)} method.
+ * <p>
+ * Deferring schedulers only affect the constraints of a property. Element constraints of
+ * constrained collections are always evaluated immediately when an element is added or changed.
+ */
+@FunctionalInterface
+public interface ValidationScheduler {
+
+    /**
+     * Gets a {@code ValidationScheduler} that validates properties immediately when they are invalidated.
+     *
+     * @return the immediate {@code ValidationScheduler}
+     */
+    static ValidationScheduler immediate() {
+        return SchedulerHelper.IMMEDIATE;
+    }
+
+    /**
+     * Gets a {@code ValidationScheduler} that validates invalidated properties lazily.
+     * <p>
+     * When a property that uses lazy validation is invalidated, it is only marked as stale; neither its
+     * value nor the values of its dependencies are evaluated. The stale property is validated when its
+     * validation state, diagnostics or constrained value is queried, for example by calling
+     * {@link ConstrainedValue#isValid()} or {@link ReadOnlyConstrainedProperty#getConstrainedValue()}.
+     * <p>
+     * While a property is observed, it is validated immediately when it is invalidated. A property is observed
+     * if a listener was added to one of its validation state properties or to its constrained value property,
+     * if a {@link ValidationListener} was added to the property, or if its diagnostics list was retrieved.
+     * Listeners should be added to the constrained value property, and not to the collection that is
+     * returned by the constrained value property of a constrained collection.
+     * Weak listeners that are discarded by JavaFX after they were garbage-collected, like the listeners that
+     * are added by {@link javafx.beans.binding.Bindings Bindings}, are not detected as removed, so a property
+     * that was once observed by such a listener continues to be validated immediately.
+     * <p>
+     * A constrained property that is created with the {@link ValidationState#UNKNOWN} initial validation
+     * state is validated when it is created. If the default scheduler is the lazy scheduler, this initial
+     * validation is also deferred until the validation state of the property is queried.
+     *
+     * @return the lazy {@code ValidationScheduler}
+     */
+    static ValidationScheduler lazy() {
+        return SchedulerHelper.LAZY;
+    }
+
+    /**
+     * Gets a {@code ValidationScheduler} that validates invalidated properties once in the next
+     * JavaFX pulse. This scheduler must only be used on the JavaFX application thread.
+     *
+     * @return the global pulse {@code ValidationScheduler}
+     */
+    static ValidationScheduler pulse() {
+        return SchedulerHelper.getGlobalPulseScheduler();
+    }
+
+    /**
+     * Gets a {@code ValidationScheduler} that validates invalidated properties once before the
+     * layout pass of the next pulse of the specified scene. This scheduler must only be used on
+     * the JavaFX application thread.
+     *
+     * @param scene the scene
+     * @return the pulse {@code ValidationScheduler} of the scene
+     */
+    static ValidationScheduler pulse(Scene scene) {
+        Objects.requireNonNull(scene, "scene");
+        return SchedulerHelper.getScenePulseScheduler(scene);
+    }
+
+    /**
+     * Runs the specified action, and suspends the validation of all properties that are changed by
+     * the action until the action has completed.
+     * <p>
+     * When the action has completed, every affected property is validated exactly once with its final
+     * value, even if the property or one of its dependencies was changed several times. Change notifications
+     * for the validation state properties, the diagnostics and the constrained values of the affected
+     * properties are only fired after all affected properties have started their validation run.
+     * This is useful when many properties are changed at once, for example when a record is loaded into a form:
+     * <pre>{@code
+     * ValidationScheduler.batch(() -> {
+     *     firstName.set(person.getFirstName());
+     *     lastName.set(person.getLastName());
+     *     ...
+     * });
+     * }</pre>
+     * Properties that use a deferring {@code ValidationScheduler} are validated by their scheduler as usual.
+     * If this method is called while another batch action is running on the current thread, the action joins
+     * the running batch, and affected properties are validated when the outermost batch action has completed.
+     * Affected properties are also validated if the action throws an exception.
+     *
+     * @param action the action
+     */
+    static void batch(Runnable action) {
+        Objects.requireNonNull(action, "action");
+        ValidationBatch.run(action);
+    }
+
+    /**
+     * Gets the {@code ValidationScheduler} that is used for all properties that don't specify
+     * their own {@code ValidationScheduler}.
+     *
+     * @return the default {@code ValidationScheduler}
+     */
+    static ValidationScheduler getDefault() {
+        return SchedulerHelper.getDefault();
+    }
+
+    /**
+     * Sets the {@code ValidationScheduler} that is used for all properties that don't specify
+     * their own {@code ValidationScheduler}.
+     *
+     * @param scheduler the default {@code ValidationScheduler}, or {@code null} to validate
+     *                  properties immediately
+     */
+    static void setDefault(ValidationScheduler scheduler) {
+        SchedulerHelper.setDefault(scheduler);
+    }
+
+    /**
+     * Gets the {@code ValidationScheduler} that is used for the specified property.
+     *
+     * @param property the property
+     * @return the {@code ValidationScheduler}, or {@code null} if the property uses the default scheduler
+     */
+    static ValidationScheduler getScheduler(ReadOnlyConstrainedProperty<?, ?> property) {
+        Objects.requireNonNull(property, "property");
+        return PropertyHelper.getValidationHelper(property).getScheduler();
+    }
+
+    /**
+     * Sets the {@code ValidationScheduler} that is used for the specified property.
+     * <p>
+     * If a deferred validation of the property is pending, the pending validation runs before
+     * this method returns.
+     * This method must be called on the thread that validates the property, which is usually
+     * the JavaFX application thread.
+     *
+     * @param property the property
+     * @param scheduler the {@code ValidationScheduler}, or {@code null} to use the default scheduler
+     */
+    static void setScheduler(ReadOnlyConstrainedProperty<?, ?> property, ValidationScheduler scheduler) {
+        Objects.requireNonNull(property, "property");
+        PropertyHelper.getValidationHelper(property).setScheduler(scheduler);
+    }
+
+    /**
+     * Schedules a deferred validation.
+     * <p>
+     * The validation system calls this method when a property is invalidated and no deferred
+     * validation of the property is pending. Further invalidations are coalesced into the pending
+     * validation until the scheduled validation has run. The validation must run on the thread that
+     * validates the property, which is usually the JavaFX application thread.
+     *
+     * @param validation the deferred validation
+     */
+    void schedule(Runnable validation);
+
+}
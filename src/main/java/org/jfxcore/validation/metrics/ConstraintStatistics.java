@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jfxcore.validation.metrics;
+
+/**
+ * Contains a snapshot of the statistics of a constraint that is used by a property,
+ * as collected by {@link HistogramValidationMetrics}.
+ * <p>
+ * Constraints are identified by the class of the constraint, the class of the bean that contains
+ * the property, and the name of the property. All time values are specified in nanoseconds.
+ */
+public final class ConstraintStatistics {
+
+    private final String constraintClass;
+    private final String beanClass;
+    private final String propertyName;
+    private final long startedCount;
+    private final long validCount;
+    private final long invalidCount;
+    private final long cancelledCount;
+    private final long supersededCount;
+    private final long failedCount;
+    private final long queueTimeMean;
+    private final long queueTimeMedian;
+    private final long queueTime99thPercentile;
+    private final long queueTimeMax;
+    private final long executionTimeMean;
+    private final long executionTimeMedian;
+    private final long executionTime99thPercentile;
+    private final long executionTimeMax;
+
+    ConstraintStatistics(
+            String constraintClass,
+            String beanClass,
+            String propertyName,
+            long startedCount,
+            long validCount,
+            long invalidCount,
+            long cancelledCount,
+            long supersededCount,
+            long failedCount,
+            long queueTimeMean,
+            long queueTimeMedian,
+            long queueTime99thPercentile,
+            long queueTimeMax,
+            long executionTimeMean,
+            long executionTimeMedian,
+            long executionTime99thPercentile,
+            long executionTimeMax) {
+        this.constraintClass = constraintClass;
+        this.beanClass = beanClass;
+        this.propertyName = propertyName;
+        this.startedCount = startedCount;
+        this.validCount = validCount;
+        this.invalidCount = invalidCount;
+        this.cancelledCount = cancelledCount;
+        this.supersededCount = supersededCount;
+        this.failedCount = failedCount;
+        this.queueTimeMean = queueTimeMean;
+        this.queueTimeMedian = queueTimeMedian;
+        this.queueTime99thPercentile = queueTime99thPercentile;
+        this.queueTimeMax = queueTimeMax;
+        this.executionTimeMean = executionTimeMean;
+        this.executionTimeMedian = executionTimeMedian;
+        this.executionTime99thPercentile = executionTime99thPercentile;
+        this.executionTimeMax = executionTimeMax;
+    }
+
+    /**
+     * Gets the name of the constraint class.
+     *
+     * @return the class name
+     */
+    public String getConstraintClass() {
+        return constraintClass;
+    }
+
+    /**
+     * Gets the name of the class of the bean that contains the property,
+     * or {@code null} if the property has no bean.
+     *
+     * @return the class name or {@code null}
+     */
+    public String getBeanClass() {
+        return beanClass;
+    }
+
+    /**
+     * Gets the name of the property, or {@code null} if the property has no name.
+     *
+     * @return the property name or {@code null}
+     */
+    public String getPropertyName() {
+        return propertyName;
+    }
+
+    /**
+     * Gets the number of validation runs that were started.
+     *
+     * @return the number of validation runs
+     */
+    public long getStartedCount() {
+        return startedCount;
+    }
+
+    /**
+     * Gets the number of validation runs that have completed with a valid result.
+     *
+     * @return the number of validation runs
+     */
+    public long getValidCount() {
+        return validCount;
+    }
+
+    /**
+     * Gets the number of validation runs that have completed with an invalid result.
+     *
+     * @return the number of validation runs
+     */
+    public long getInvalidCount() {
+        return invalidCount;
+    }
+
+    /**
+     * Gets the number of validation runs that were cancelled or have completed without a result.
+     *
+     * @return the number of validation runs
+     */
+    public long getCancelledCount() {
+        return cancelledCount;
+    }
+
+    /**
+     * Gets the number of validation runs that were superseded by a newer validation run.
+     *
+     * @return the number of validation runs
+     */
+    public long getSupersededCount() {
+        return supersededCount;
+    }
+
+    /**
+     * Gets the number of validation runs that have failed with an exception.
+     *
+     * @return the number of validation runs
+     */
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * Gets the mean queue time.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getQueueTimeMean() {
+        return queueTimeMean;
+    }
+
+    /**
+     * Gets the median queue time.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getQueueTimeMedian() {
+        return queueTimeMedian;
+    }
+
+    /**
+     * Gets the 99th percentile of the queue time.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getQueueTime99thPercentile() {
+        return queueTime99thPercentile;
+    }
+
+    /**
+     * Gets the maximum queue time.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getQueueTimeMax() {
+        return queueTimeMax;
+    }
+
+    /**
+     * Gets the mean execution time.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getExecutionTimeMean() {
+        return executionTimeMean;
+    }
+
+    /**
+     * Gets the median execution time.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getExecutionTimeMedian() {
+        return executionTimeMedian;
+    }
+
+    /**
+     * Gets the 99th percentile of the execution time.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getExecutionTime99thPercentile() {
+        return executionTime99thPercentile;
+    }
+
+    /**
+     * Gets the maximum execution time.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getExecutionTimeMax() {
+        return executionTimeMax;
+    }
+
+    @Override
+    public String toString() {
+        return "ConstraintStatistics[constraint=" + constraintClass
+            + ", bean=" + beanClass
+            + ", property=" + propertyName
+            + ", started=" + startedCount
+            + ", valid=" + validCount
+            + ", invalid=" + invalidCount
+            + ", cancelled=" + cancelledCount
+            + ", superseded=" + supersededCount
+            + ", failed=" + failedCount
+            + ", queueTimeMedian=" + queueTimeMedian
+            + ", queueTime99=" + queueTime99thPercentile
+            + ", executionTimeMedian=" + executionTimeMedian
+            + ", executionTime99=" + executionTime99thPercentile + "]";
+    }
+
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jfxcore.validation.metrics;
+
+import impl.org.jfxcore.validation.ConcurrentHistogram;
+import impl.org.jfxcore.validation.ManagementHelper;
+import org.jfxcore.validation.ConstraintBase;
+import org.jfxcore.validation.property.ReadOnlyConstrainedProperty;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process {@link ValidationMetrics} implementation that records counters and histograms
+ * of queue times and execution times for every constraint.
+ * <p>
+ * Statistics are collected separately for each combination of constraint class, bean class and
+ * property name, and can be inspected with {@link #getStatistics()} or with a JMX client after the
+ * metrics were registered with {@link #registerMBean(ObjectName)}. Recording is lock-free, which allows
+ * the metrics to be shared by all properties.
+ * <pre>{@code
+ * var metrics = new HistogramValidationMetrics();
+ * metrics.registerMBean(new ObjectName(HistogramValidationMetrics.DEFAULT_OBJECT_NAME));
+ * ValidationMetrics.setDefault(metrics);
+ * }</pre>
+ * The {@code java.management} module is an optional dependency of this library. Modular applications that
+ * register the metrics with JMX need to require it (or launch with {@code --add-modules java.management}).
+ */
+public class HistogramValidationMetrics implements ValidationMetrics, ValidationMetricsMXBean {
+
+    /**
+     * The default JMX object name of {@code HistogramValidationMetrics}.
+     */
+    public static final String DEFAULT_OBJECT_NAME = "org.jfxcore.validation:type=ValidationMetrics";
+
+    // Used in place of a null bean class or property name, which are not supported by ConcurrentHashMap
+    private static final Class<?> NO_BEAN = Void.class;
+    private static final Object NO_PROPERTY = new Object();
+
+    private static final class Statistics {
+        final Class<?> constraintClass;
+        final Class<?> beanClass;
+        final String propertyName;
+        final LongAdder started = new LongAdder();
+        final LongAdder valid = new LongAdder();
+        final LongAdder invalid = new LongAdder();
+        final LongAdder cancelled = new LongAdder();
+        final LongAdder superseded = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        final ConcurrentHistogram queueTime = new ConcurrentHistogram();
+        final ConcurrentHistogram executionTime = new ConcurrentHistogram();
+
+        Statistics(Class<?> constraintClass, Class<?> beanClass, String propertyName) {
+            this.constraintClass = constraintClass;
+            this.beanClass = beanClass;
+            this.propertyName = propertyName;
+        }
+    }
+
+    // Statistics are keyed by constraint class, bean class and property name in nested maps,
+    // which allows us to look up the statistics of a validation run without allocating a key.
+    private final Map<Class<?>, Map<Class<?>, Map<Object, Statistics>>> statistics = new ConcurrentHashMap<>();
+    private ObjectName objectName;
+
+    /**
+     * Creates a new {@code HistogramValidationMetrics} instance.
+     */
+    public HistogramValidationMetrics() {}
+
+    /**
+     * Registers this instance with the platform MBean server.
+     *
+     * @param name the JMX object name
+     * @throws JMException if the MBean could not be registered
+     * @throws IllegalStateException if this instance is already registered
+     */
+    public synchronized void registerMBean(ObjectName name) throws JMException {
+        Objects.requireNonNull(name, "name");
+
+        if (objectName != null) {
+            throw new IllegalStateException("MBean is already registered");
+        }
+
+        ManagementHelper.registerMBean(this, name);
+        objectName = name;
+    }
+
+    /**
+     * Unregisters this instance from the platform MBean server.
+     * If this instance is not registered, calling this method has no effect.
+     *
+     * @throws JMException if the MBean could not be unregistered
+     */
+    public synchronized void unregisterMBean() throws JMException {
+        if (objectName != null) {
+            ManagementHelper.unregisterMBean(objectName);
+            objectName = null;
+        }
+    }
+
+    @Override
+    public List<ConstraintStatistics> getStatistics() {
+        List<ConstraintStatistics> result = new ArrayList<>();
+
+        for (Statistics stats : getAllStatistics()) {
+            result.add(new ConstraintStatistics(
+                stats.constraintClass.getName(),
+                stats.beanClass != null ? stats.beanClass.getName() : null,
+                stats.propertyName,
+                stats.started.sum(),
+                stats.valid.sum(),
+                stats.invalid.sum(),
+                stats.cancelled.sum(),
+                stats.superseded.sum(),
+                stats.failed.sum(),
+                stats.queueTime.getMean(),
+                stats.queueTime.getValueAtPercentile(50),
+                stats.queueTime.getValueAtPercentile(99),
+                stats.queueTime.getMax(),
+                stats.executionTime.getMean(),
+                stats.executionTime.getValueAtPercentile(50),
+                stats.executionTime.getValueAtPercentile(99),
+                stats.executionTime.getMax()));
+        }
+
+        result.sort(Comparator.comparingLong(ConstraintStatistics::getExecutionTime99thPercentile).reversed());
+        return result;
+    }
+
+    @Override
+    public long getStartedCount() {
+        long count = 0;
+
+        for (Statistics stats : getAllStatistics()) {
+            count += stats.started.sum();
+        }
+
+        return count;
+    }
+
+    @Override
+    public long getFailedCount() {
+        long count = 0;
+
+        for (Statistics stats : getAllStatistics()) {
+            count += stats.failed.sum();
+        }
+
+        return count;
+    }
+
+    @Override
+    public void reset() {
+        statistics.clear();
+    }
+
+    @Override
+    public void validationStarted(ConstraintBase<?, ?> constraint, ReadOnlyConstrainedProperty<?, ?> property) {
+        getStatistics(constraint, property).started.increment();
+    }
+
+    @Override
+    public void validationCompleted(
+            ConstraintBase<?, ?> constraint,
+            ReadOnlyConstrainedProperty<?, ?> property,
+            boolean valid,
+            long queueTime,
+            long executionTime) {
+        Statistics stats = record(constraint, property, queueTime, executionTime);
+        (valid ? stats.valid : stats.invalid).increment();
+    }
+
+    @Override
+    public void validationCancelled(
+            ConstraintBase<?, ?> constraint,
+            ReadOnlyConstrainedProperty<?, ?> property,
+            long queueTime,
+            long executionTime) {
+        record(constraint, property, queueTime, executionTime).cancelled.increment();
+    }
+
+    @Override
+    public void validationSuperseded(
+            ConstraintBase<?, ?> constraint,
+            ReadOnlyConstrainedProperty<?, ?> property,
+            long queueTime,
+            long executionTime) {
+        record(constraint, property, queueTime, executionTime).superseded.increment();
+    }
+
+    @Override
+    public void validationFailed(
+            ConstraintBase<?, ?> constraint,
+            ReadOnlyConstrainedProperty<?, ?> property,
+            Throwable exception,
+            long queueTime,
+            long executionTime) {
+        record(constraint, property, queueTime, executionTime).failed.increment();
+    }
+
+    private Statistics record(
+            ConstraintBase<?, ?> constraint,
+            ReadOnlyConstrainedProperty<?, ?> property,
+            long queueTime,
+            long executionTime) {
+        Statistics stats = getStatistics(constraint, property);
+        stats.queueTime.record(queueTime);
+        stats.executionTime.record(executionTime);
+        return stats;
+    }
+
+    private Statistics getStatistics(ConstraintBase<?, ?> constraint, ReadOnlyConstrainedProperty<?, ?> property) {
+        Class<?> constraintClass = constraint.getClass();
+        Object bean = property != null ? property.getBean() : null;
+        Class<?> beanClass = bean != null ? bean.getClass() : NO_BEAN;
+        String name = property != null ? property.getName() : null;
+        Object propertyName = name != null ? name : NO_PROPERTY;
+
+        Map<Class<?>, Map<Object, Statistics>> beanMap = statistics.get(constraintClass);
+        if (beanMap == null) {
+            beanMap = statistics.computeIfAbsent(constraintClass, k -> new ConcurrentHashMap<>());
+        }
+
+        Map<Object, Statistics> propertyMap = beanMap.get(beanClass);
+        if (propertyMap == null) {
+            propertyMap = beanMap.computeIfAbsent(beanClass, k -> new ConcurrentHashMap<>());
+        }
+
+        Statistics stats = propertyMap.get(propertyName);
+        return stats != null ? stats : propertyMap.computeIfAbsent(propertyName, k -> new Statistics(
+            constraintClass,
+            beanClass != NO_BEAN ? beanClass : null,
+            name));
+    }
+
+    private List<Statistics> getAllStatistics() {
+        List<Statistics> result = new ArrayList<>();
+
+        for (Map<Class<?>, Map<Object, Statistics>> beanMap : statistics.values()) {
+            for (Map<Object, Statistics> propertyMap : beanMap.values()) {
+                result.addAll(propertyMap.values());
+            }
+        }
+
+        return result;
+    }
+
+}
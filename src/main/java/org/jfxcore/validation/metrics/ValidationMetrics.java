@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jfxcore.validation.metrics;
+
+import impl.org.jfxcore.validation.MetricsHelper;
+import impl.org.jfxcore.validation.PropertyHelper;
+import org.jfxcore.validation.ConstraintBase;
+import org.jfxcore.validation.property.ReadOnlyConstrainedProperty;
+import java.util.Objects;
+
+/**
+ * Receives timing information and outcomes of constraint validation runs.
+ * <p>
+ * A {@code ValidationMetrics} implementation can be installed globally with {@link #setDefault}, or for
+ * a single property with {@link #setMetrics}. When no metrics are installed, the validation system does
+ * not collect any timing information.
+ * <p>
+ * Every validation run is reported with exactly two method calls: {@link #validationStarted} is invoked
+ * when the constraint validator is invoked, followed by one of {@link #validationCompleted},
+ * {@link #validationCancelled}, {@link #validationSuperseded} or {@link #validationFailed} when the
+ * validation run has ended. All methods are invoked on the thread that runs the validation system,
+ * which is usually the JavaFX application thread, and should return quickly.
+ * <p>
+ * For asynchronous constraints that were created with one of the {@code validateAsync},
+ * {@code validateCancellableAsync} or {@code validateInterruptibleAsync} methods of {@link
+ * org.jfxcore.validation.Constraints Constraints}, the <em>queue time</em> is the time the validation
+ * task was waiting in the queue of its executor, and the <em>execution time</em> is the time the
+ * validation function was running. For all other constraints, the queue time is 0 and the execution
+ * time is the time between the start and the end of the validation run.
+ *
+ * @see HistogramValidationMetrics
+ */
+public interface ValidationMetrics {
+
+    /**
+     * Gets the {@code ValidationMetrics} that are used for all properties that don't specify
+     * their own {@code ValidationMetrics}.
+     *
+     * @return the default {@code ValidationMetrics}, or {@code null}
+     */
+    static ValidationMetrics getDefault() {
+        return MetricsHelper.getDefault();
+    }
+
+    /**
+     * Sets the {@code ValidationMetrics} that are used for all properties that don't specify
+     * their own {@code ValidationMetrics}.
+     *
+     * @param metrics the default {@code ValidationMetrics}, or {@code null}
+     */
+    static void setDefault(ValidationMetrics metrics) {
+        MetricsHelper.setDefault(metrics);
+    }
+
+    /**
+     * Gets the {@code ValidationMetrics} that are used for the specified property.
+     *
+     * @param property the property
+     * @return the {@code ValidationMetrics}, or {@code null} if the property uses the default metrics
+     */
+    static ValidationMetrics getMetrics(ReadOnlyConstrainedProperty<?, ?> property) {
+        Objects.requireNonNull(property, "property");
+        return PropertyHelper.getValidationHelper(property).getMetrics();
+    }
+
+    /**
+     * Sets the {@code ValidationMetrics} that are used for the specified property.
+     * <p>
+     * This method must be called on the thread that validates the property, which is usually
+     * the JavaFX application thread.
+     *
+     * @param property the property
+     * @param metrics the {@code ValidationMetrics}, or {@code null} to use the default metrics
+     */
+    static void setMetrics(ReadOnlyConstrainedProperty<?, ?> property, ValidationMetrics metrics) {
+        Objects.requireNonNull(property, "property");
+        PropertyHelper.getValidationHelper(property).setMetrics(metrics);
+    }
+
+    /**
+     * Occurs when a validation run is started.
+     *
+     * @param constraint the constraint
+     * @param property the property that is validated by the constraint
+     */
+    default void validationStarted(ConstraintBase<?, ?> constraint, ReadOnlyConstrainedProperty<?, ?> property) {}
+
+    /**
+     * Occurs when a validation run has completed with a result.
+     *
+     * @param constraint the constraint
+     * @param property the property that is validated by the constraint
+     * @param valid {@code true} if the value is valid, {@code false} otherwise
+     * @param queueTime the queue time in nanoseconds
+     * @param executionTime the execution time in nanoseconds
+     */
+    default void validationCompleted(
+            ConstraintBase<?, ?> constraint,
+            ReadOnlyConstrainedProperty<?, ?> property,
+            boolean valid,
+            long queueTime,
+            long executionTime) {}
+
+    /**
+     * Occurs when a validation run was cancelled or has completed without a result.
+     *
+     * @param constraint the constraint
+     * @param property the property that is validated by the constraint
+     * @param queueTime the queue time in nanoseconds
+     * @param executionTime the execution time in nanoseconds
+     */
+    default void validationCancelled(
+            ConstraintBase<?, ?> constraint,
+            ReadOnlyConstrainedProperty<?, ?> property,
+            long queueTime,
+            long executionTime) {}
+
+    /**
+     * Occurs when the result of a validation run was discarded because a new validation run
+     * was requested before the validation run completed.
+     *
+     * @param constraint the constraint
+     * @param property the property that is validated by the constraint
+     * @param queueTime the queue time in nanoseconds
+     * @param executionTime the execution time in nanoseconds
+     */
+    default void validationSuperseded(
+            ConstraintBase<?, ?> constraint,
+            ReadOnlyConstrainedProperty<?, ?> property,
+            long queueTime,
+            long executionTime) {}
+
+    /**
+     * Occurs when a validation run has failed with an exception.
+     *
+     * @param constraint the constraint
+     * @param property the property that is validated by the constraint
+     * @param exception the exception
+     * @param queueTime the queue time in nanoseconds
+     * @param executionTime the execution time in nanoseconds
+     */
+    default void validationFailed(
+            ConstraintBase<?, ?> constraint,
+            ReadOnlyConstrainedProperty<?, ?> property,
+            Throwable exception,
+            long queueTime,
+            long executionTime) {}
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jfxcore.validation.metrics;
+
+import java.util.List;
+
+/**
+ * Management interface of {@link HistogramValidationMetrics}.
+ */
+public interface ValidationMetricsMXBean {
+
+    /**
+     * Gets the statistics of all constraints that have been validated since the metrics were
+     * created or last reset, ordered by the 99th percentile of their execution time in
+     * descending order.
+     *
+     * @return a list of {@code ConstraintStatistics}
+     */
+    List<ConstraintStatistics> getStatistics();
+
+    /**
+     * Gets the total number of validation runs that were started.
+     *
+     * @return the number of validation runs
+     */
+    long getStartedCount();
+
+    /**
+     * Gets the total number of validation runs that have failed with an exception.
+     *
+     * @return the number of failed validation runs
+     */
+    long getFailedCount();
+
+    /**
+     * Removes all statistics.
+     */
+    void reset();
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains APIs to collect timing information and outcomes of constraint validation runs.
+ */
+package org.jfxcore.validation.metrics;
@@ -163,6 +163,10 @@
  *     </tr>
  * </table>
  * <p>
+ * Synchronous constraints can instead implement {@link SyncConstraint}, which only requires a single
+ * {@link SyncConstraint#validateSync validateSync(T)} method that returns the {@link ValidationResult} directly.
+ * The data validation system evaluates this type of constraint without wrapping its result in a future.
+ * <p>
  * For ease of use, the {@link Constraints} class contains several predefined constraint factories that
  * cover a wide variety of use cases.
  * In the following example, the general-purpose {@link Constraints#validate(ValidationFunction0)}
@@ -264,10 +268,12 @@
  * The difference between the three factory types is how cancellation is implemented:
  * <ul>
  *     <li>{@link Constraints#validateAsync(ValidationFunction0, Executor)}<br>
- *         This is the simplest asynchronous constraint, since it does not support cancellation.
- *         When the data validation system cancels a future that was produced by this constraint,
- *         the future does not transition into the {@link CompletableFuture#isCancelled() cancelled}
- *         state before the validation function has run to completion or throws an exception.
+ *         This is the simplest asynchronous constraint, since it does not support cancellation
+ *         of a running validation function.
+ *         When the data validation system cancels a future that was produced by this constraint after
+ *         the validation function has started, the future does not transition into the
+ *         {@link CompletableFuture#isCancelled() cancelled} state before the validation function has
+ *         run to completion or throws an exception.
  *     <li>{@link Constraints#validateCancellableAsync(CancellableValidationFunction1, ObservableValue, Executor)}<br>
  *         This constraint implements a cooperative cancellation strategy.
  *         The validation function receives a token that it can use to periodically check whether
@@ -281,6 +287,10 @@
  *         When the data validation system cancels a future that was produced by this factory,
  *         the thread that is executing the validation function is interrupted.
  * </ul>
+ * All three types of constraints support cancellation of validation runs that are still waiting in
+ * the queue of their executor: when a validation run is superseded by a newer validation run before
+ * the executor has started it, the validation function is not invoked.
+ * <p>
  * It is recommended to use the built-in factories instead of implementing the {@link Constraint}
  * interface directly for asynchronous constraints.
  *
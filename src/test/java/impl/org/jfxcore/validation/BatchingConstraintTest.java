@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import org.jfxcore.validation.Constraints;
+import org.jfxcore.validation.ValidationResult;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchingConstraintTest {
+
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+    private List<ValidationResult<String>> validateBatch(List<String> values) {
+        batches.add(values);
+        return values.stream()
+            .map(value -> value.isEmpty() ? ValidationResult.<String>invalid() : ValidationResult.<String>valid())
+            .collect(Collectors.toList());
+    }
+
+    @Test
+    public void testFullBatchIsValidatedImmediately() throws Exception {
+        var constraint = Constraints.validateBatchAsync(this::validateBatch, Runnable::run, 3, Duration.ofDays(1));
+        var future1 = constraint.validate("a");
+        var future2 = constraint.validate("");
+        assertTrue(batches.isEmpty());
+
+        var future3 = constraint.validate("c");
+        assertEquals(List.of(List.of("a", "", "c")), batches);
+        assertTrue(future1.get().isValid());
+        assertFalse(future2.get().isValid());
+        assertTrue(future3.get().isValid());
+    }
+
+    @Test
+    public void testPendingBatchIsValidatedAfterMaxDelay() throws Exception {
+        var constraint = Constraints.validateBatchAsync(this::validateBatch, Runnable::run, 100, Duration.ofMillis(10));
+        var future1 = constraint.validate("a");
+        var future2 = constraint.validate("b");
+
+        assertTrue(future1.get(5, TimeUnit.SECONDS).isValid());
+        assertTrue(future2.get(5, TimeUnit.SECONDS).isValid());
+        assertEquals(List.of(List.of("a", "b")), batches);
+    }
+
+    @Test
+    public void testCancelledRequestsAreRemovedFromBatch() throws Exception {
+        var constraint = Constraints.validateBatchAsync(this::validateBatch, Runnable::run, 3, Duration.ofDays(1));
+        var future1 = constraint.validate("a");
+        constraint.validate("b").cancel(false);
+        var future3 = constraint.validate("c");
+
+        // The cancelled request doesn't count towards the maximum batch size.
+        assertTrue(batches.isEmpty());
+
+        var future4 = constraint.validate("d");
+        assertEquals(List.of(List.of("a", "c", "d")), batches);
+        assertTrue(future1.get().isValid());
+        assertTrue(future3.get().isValid());
+        assertTrue(future4.get().isValid());
+    }
+
+    @Test
+    public void testBatchIsNotSubmittedWhenAllRequestsAreCancelled() throws Exception {
+        var constraint = Constraints.validateBatchAsync(this::validateBatch, Runnable::run, 2, Duration.ofMillis(10));
+        constraint.validate("a").cancel(false);
+        constraint.validate("b").cancel(false);
+        assertTrue(batches.isEmpty());
+
+        // A new request starts a new batch, which is validated when its delay has elapsed.
+        var future3 = constraint.validate("c");
+        assertTrue(future3.get(5, TimeUnit.SECONDS).isValid());
+        assertEquals(List.of(List.of("c")), batches);
+    }
+
+    @Test
+    public void testWrongNumberOfResultsFailsBatch() {
+        var constraint = Constraints.<String, String>validateBatchAsync(
+            values -> new ArrayList<>(), Runnable::run, 2, Duration.ofDays(1));
+        var future1 = constraint.validate("a");
+        var future2 = constraint.validate("b");
+
+        assertTrue(future1.isCompletedExceptionally());
+        assertTrue(future2.isCompletedExceptionally());
+    }
+
+    @Test
+    public void testIllegalArguments() {
+        assertThrows(IllegalArgumentException.class,
+            () -> Constraints.validateBatchAsync(this::validateBatch, Runnable::run, 0, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class,
+            () -> Constraints.validateBatchAsync(this::validateBatch, Runnable::run, 1, Duration.ofMillis(-1)));
+    }
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import org.jfxcore.validation.ValidationResult;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrencyLimiterTest {
+
+    private final List<Runnable> completions = new ArrayList<>();
+    private final Executor completionExecutor = completions::add;
+    private final List<CompletableFuture<ValidationResult<String>>> started = new ArrayList<>();
+
+    private CompletableFuture<ValidationResult<String>> submit(ConcurrencyLimiter limiter) {
+        return limiter.submit(() -> {
+            var future = new CompletableFuture<ValidationResult<String>>();
+            started.add(future);
+            return future;
+        }, completionExecutor);
+    }
+
+    private void runCompletions() {
+        List<Runnable> runnables = new ArrayList<>(completions);
+        completions.clear();
+        runnables.forEach(Runnable::run);
+    }
+
+    @Test
+    public void testValidationRunsExceedingLimitAreDeferred() {
+        var limiter = new ConcurrencyLimiter(2);
+        var first = submit(limiter);
+        submit(limiter);
+        var third = submit(limiter);
+
+        assertEquals(2, started.size());
+        assertEquals(2, limiter.getRunningCount());
+        assertEquals(1, limiter.getQueueSize());
+        assertFalse(third.isDone());
+
+        started.get(0).complete(ValidationResult.valid());
+        assertTrue(first.isDone());
+        assertEquals(2, started.size());
+
+        runCompletions();
+        assertEquals(3, started.size());
+        assertEquals(0, limiter.getQueueSize());
+
+        started.get(2).complete(ValidationResult.invalid());
+        assertSame(ValidationResult.invalid(), third.join());
+    }
+
+    @Test
+    public void testCancelledDeferredValidationRunIsDropped() {
+        var limiter = new ConcurrencyLimiter(1);
+        submit(limiter);
+        var second = submit(limiter);
+        var third = submit(limiter);
+
+        assertTrue(second.cancel(false));
+        assertTrue(second.isCancelled());
+        assertEquals(1, limiter.getQueueSize());
+
+        started.get(0).complete(ValidationResult.valid());
+        runCompletions();
+        assertEquals(2, started.size());
+        assertEquals(0, limiter.getQueueSize());
+
+        started.get(1).complete(ValidationResult.valid());
+        assertTrue(third.isDone());
+    }
+
+    @Test
+    public void testCancellationOfStartedValidationRunIsDelegated() {
+        var limiter = new ConcurrencyLimiter(1);
+        submit(limiter);
+        var second = submit(limiter);
+
+        started.get(0).complete(ValidationResult.valid());
+        runCompletions();
+        assertTrue(second.cancel(false));
+        assertTrue(started.get(1).isCancelled());
+        assertTrue(second.isCancelled());
+
+        runCompletions();
+        assertEquals(0, limiter.getRunningCount());
+    }
+
+    @Test
+    public void testIncreasingLimitStartsDeferredValidationRuns() {
+        var limiter = new ConcurrencyLimiter(1);
+        for (int i = 0; i < 5; ++i) {
+            submit(limiter);
+        }
+
+        assertEquals(1, started.size());
+        limiter.setMaxConcurrency(3);
+        assertEquals(3, started.size());
+        limiter.setMaxConcurrency(Integer.MAX_VALUE);
+        assertEquals(5, started.size());
+        assertEquals(5, limiter.getRunningCount());
+    }
+
+    @Test
+    public void testImmediatelyCompletedValidationRunsReleaseTheirSlot() {
+        var limiter = new ConcurrencyLimiter(1);
+        var blocker = submit(limiter);
+        List<CompletableFuture<ValidationResult<String>>> futures = new ArrayList<>();
+        for (int i = 0; i < 10000; ++i) {
+            futures.add(limiter.submit(
+                () -> CompletableFuture.completedFuture(ValidationResult.valid()), completionExecutor));
+        }
+
+        started.get(0).complete(ValidationResult.valid());
+        runCompletions();
+
+        assertTrue(blocker.isDone());
+        assertTrue(futures.stream().allMatch(CompletableFuture::isDone));
+        assertEquals(0, limiter.getRunningCount());
+        assertEquals(0, limiter.getQueueSize());
+    }
+
+    @Test
+    public void testUnwrapReturnsFutureOfStartedValidationRun() {
+        var limiter = new ConcurrencyLimiter(1);
+        var first = submit(limiter);
+        var second = submit(limiter);
+        assertSame(first, ConcurrencyLimiter.unwrap(first));
+        assertSame(second, ConcurrencyLimiter.unwrap(second));
+
+        started.get(0).complete(ValidationResult.valid());
+        runCompletions();
+        assertSame(started.get(1), ConcurrencyLimiter.unwrap(second));
+    }
+
+    @Test
+    public void testCancelledRunningTaskKeepsItsSlotUntilItHasFinished() {
+        var limiter = new ConcurrencyLimiter(1);
+        List<CompletableFuture<ValidationResult<String>>> futures = new ArrayList<>();
+        List<ValidateTask<String, String>> tasks = new ArrayList<>();
+        List<Boolean> cancelled = new ArrayList<>();
+
+        futures.add(limiter.submit(() -> {
+            var task = new ValidateTask<String, String>("foo") {
+                @Override
+                protected ValidationResult<String> apply(String value) {
+                    // The task is running, so cancellation doesn't complete its future
+                    cancelled.add(futures.get(0).cancel(false));
+                    assertEquals(1, limiter.getRunningCount());
+                    return ValidationResult.valid();
+                }
+            };
+
+            tasks.add(task);
+            return task;
+        }, completionExecutor));
+
+        var second = submit(limiter);
+        tasks.get(0).run();
+        assertEquals(List.of(false), cancelled);
+        assertTrue(futures.get(0).isDone());
+        assertTrue(started.isEmpty());
+
+        runCompletions();
+        assertEquals(1, started.size());
+        assertEquals(1, limiter.getRunningCount());
+        assertFalse(second.isDone());
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentHistogramTest {
+
+    @Test
+    public void testSmallValuesAreRecordedExactly() {
+        var histogram = new ConcurrentHistogram();
+        for (int i = 0; i < 10; ++i) {
+            histogram.record(i);
+        }
+
+        assertEquals(10, histogram.getCount());
+        assertEquals(4, histogram.getMean());
+        assertEquals(9, histogram.getMax());
+        assertEquals(4, histogram.getValueAtPercentile(50));
+        assertEquals(9, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testRelativeErrorIsBounded() {
+        for (long value = 1; value > 0 && value < Long.MAX_VALUE / 3; value = value * 3 + 1) {
+            long highest = ConcurrentHistogram.highestEquivalentValue(ConcurrentHistogram.indexOf(value));
+            assertTrue(highest >= value);
+            assertTrue(highest - value <= value / 16, "value=" + value + ", highest=" + highest);
+        }
+    }
+
+    @Test
+    public void testBucketIndexIsMonotonic() {
+        int lastIndex = -1;
+        for (long value = 0; value < 100_000; ++value) {
+            int index = ConcurrentHistogram.indexOf(value);
+            assertTrue(index >= lastIndex);
+            lastIndex = index;
+        }
+
+        assertTrue(ConcurrentHistogram.indexOf(Long.MAX_VALUE) > lastIndex);
+    }
+
+    @Test
+    public void testPercentiles() {
+        var histogram = new ConcurrentHistogram();
+        for (int i = 1; i <= 1000; ++i) {
+            histogram.record(i * 1000L);
+        }
+
+        assertEquals(500_000, histogram.getValueAtPercentile(50), 500_000 / 16.0);
+        assertEquals(990_000, histogram.getValueAtPercentile(99), 990_000 / 16.0);
+        assertEquals(1_000_000, histogram.getMax());
+        assertEquals(1_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testReset() {
+        var histogram = new ConcurrentHistogram();
+        histogram.record(100);
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import org.jfxcore.validation.ConstrainedElement;
+import org.jfxcore.validation.Constraint;
+import org.jfxcore.validation.Constraints;
+import org.jfxcore.validation.ParallelValidation;
+import org.jfxcore.validation.SupersessionMode;
+import org.jfxcore.validation.ValidationState;
+import org.jfxcore.validation.metrics.ValidationMetrics;
+import org.jfxcore.validation.property.ReadOnlyConstrainedProperty;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CrossElementIndexTest {
+
+    private static class TestHelper implements ElementValidationHelper<String, String> {
+        final Constraint<? super String, String>[] constraints;
+        final CrossElementIndex<String, String>[] indices;
+        final List<String> keys = new ArrayList<>();
+
+        @SuppressWarnings("unchecked")
+        TestHelper() {
+            constraints = new Constraint[] {
+                Constraints.notNull(),
+                Constraints.<String, String, String>unique(value -> {
+                    String key = value.isEmpty() ? null : value.substring(0, 1);
+                    keys.add(key);
+                    return key;
+                }, () -> "duplicate")
+            };
+
+            indices = CrossElementIndex.of(constraints);
+        }
+
+        @Override public ReadOnlyConstrainedProperty<?, String> getObservable() { return null; }
+        @Override public ValidationMetrics getMetrics() { return null; }
+        @Override public Constraint<? super String, String>[] getElementConstraints() { return constraints; }
+        @Override public CrossElementIndex<String, String> getCrossElementIndex(int i) { return indices[i]; }
+        @Override public ParallelValidation getParallelValidation() { return null; }
+        @Override public ConcurrencyLimiter getConcurrencyLimiter() { return null; }
+        @Override public SupersessionMode getSupersessionMode() { return null; }
+        @Override public void notifyValidatorStateChanged(ValidatorState state, boolean intermediate) {}
+        @Override public void notifyElementStateChanged(ValidationState oldState, ValidationState newState) {}
+    }
+
+    private static ConstrainedElement<String, String> newElement(TestHelper helper, String value) {
+        var element = ConstrainedElementHelper.newInstance(value, helper);
+        ConstrainedElementHelper.validate(element);
+        return element;
+    }
+
+    @Test
+    public void testIndexIsOnlyCreatedForCrossElementConstraints() {
+        var helper = new TestHelper();
+        assertNull(helper.indices[0]);
+        assertNotNull(helper.indices[1]);
+        assertNull(CrossElementIndex.of(new Constraint[] {Constraints.notNull()}));
+    }
+
+    @Test
+    public void testDuplicateElementsAreInvalid() {
+        var helper = new TestHelper();
+        var foo = newElement(helper, "foo");
+        var bar = newElement(helper, "bar");
+        assertTrue(foo.isValid());
+        assertTrue(bar.isValid());
+
+        var fizz = newElement(helper, "fizz");
+        assertTrue(foo.isInvalid());
+        assertTrue(fizz.isInvalid());
+        assertTrue(bar.isValid());
+        assertEquals(List.of("duplicate"), fizz.getDiagnostics());
+
+        ConstrainedElementHelper.dispose(fizz);
+        assertTrue(foo.isValid());
+        assertTrue(foo.getDiagnostics().isEmpty());
+    }
+
+    @Test
+    public void testAddingElementOnlyValidatesElementsWithSameKey() {
+        var helper = new TestHelper();
+        var elements = new ArrayList<ConstrainedElement<String, String>>();
+        for (int i = 0; i < 10; ++i) {
+            elements.add(newElement(helper, Character.toString('a' + i)));
+        }
+
+        helper.keys.clear();
+        var duplicate = newElement(helper, "b2");
+        assertTrue(duplicate.isInvalid());
+        assertTrue(elements.get(1).isInvalid());
+        assertEquals(1, elements.stream().filter(ConstrainedElement::isInvalid).count());
+        assertEquals(List.of("b"), helper.keys);
+    }
+
+    @Test
+    public void testElementsWithNullKeyAreNotIndexed() {
+        var helper = new TestHelper();
+        var first = newElement(helper, "");
+        var second = newElement(helper, "");
+        assertTrue(first.isValid());
+        assertTrue(second.isValid());
+        ConstrainedElementHelper.dispose(first);
+        assertTrue(second.isValid());
+    }
+
+    @Test
+    public void testClearDiscardsAllElements() {
+        var helper = new TestHelper();
+        var foo = newElement(helper, "foo");
+        var fizz = newElement(helper, "fizz");
+        assertTrue(foo.isInvalid());
+
+        CrossElementIndex.clear(helper.indices);
+        assertFalse(helper.indices[1].contains(foo));
+        assertFalse(helper.indices[1].contains(fizz));
+        assertTrue(helper.indices[1].remove(foo).isEmpty());
+    }
+
+}
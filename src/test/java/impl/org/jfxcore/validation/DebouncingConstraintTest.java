@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import javafx.beans.Observable;
+import org.jfxcore.validation.Constraint;
+import org.jfxcore.validation.Constraints;
+import org.jfxcore.validation.ValidationResult;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DebouncingConstraintTest {
+
+    private static class RecordingConstraint implements Constraint<String, Object> {
+        final List<String> values = new CopyOnWriteArrayList<>();
+        final List<CompletableFuture<ValidationResult<Object>>> futures = new CopyOnWriteArrayList<>();
+
+        @Override
+        public CompletableFuture<ValidationResult<Object>> validate(String value) {
+            var future = new CompletableFuture<ValidationResult<Object>>();
+            values.add(value);
+            futures.add(future);
+            return future;
+        }
+
+        @Override
+        public Executor getCompletionExecutor() {
+            return Runnable::run;
+        }
+
+        @Override
+        public Observable[] getDependencies() {
+            return null;
+        }
+    }
+
+    @Test
+    public void testCancelledRequestsDoNotInvokeConstraint() throws Exception {
+        var constraint = new RecordingConstraint();
+        var debounced = Constraints.debounce(constraint, Duration.ofMillis(100));
+
+        var future1 = debounced.validate("a");
+        var future2 = debounced.validate("ab");
+        future1.cancel(false);
+        var future3 = debounced.validate("abc");
+        future2.cancel(false);
+
+        assertTrue(future1.isCancelled());
+        assertTrue(future2.isCancelled());
+        assertFalse(future3.isDone());
+
+        while (constraint.futures.isEmpty()) {
+            Thread.sleep(10);
+        }
+
+        constraint.futures.get(0).complete(ValidationResult.valid());
+        assertSame(ValidationResult.valid(), future3.get(1, TimeUnit.SECONDS));
+        assertEquals(List.of("abc"), constraint.values);
+    }
+
+    @Test
+    public void testCancellationIsForwardedAfterQuietPeriod() throws Exception {
+        var constraint = new RecordingConstraint();
+        var debounced = Constraints.debounce(constraint, Duration.ZERO);
+        var future = debounced.validate("a");
+
+        while (constraint.futures.isEmpty()) {
+            Thread.sleep(10);
+        }
+
+        future.cancel(false);
+        assertTrue(constraint.futures.get(0).isCancelled());
+        assertTrue(future.isCancelled());
+    }
+
+    @Test
+    public void testExceptionInConstraintCompletesFuture() {
+        var debounced = Constraints.debounce(new RecordingConstraint() {
+            @Override
+            public CompletableFuture<ValidationResult<Object>> validate(String value) {
+                throw new RuntimeException("Expected exception");
+            }
+        }, Duration.ZERO);
+
+        var future = debounced.validate("a");
+        assertThrows(Exception.class, () -> future.get(1, TimeUnit.SECONDS));
+        assertTrue(future.isCompletedExceptionally());
+    }
+
+    @Test
+    public void testCompletionExecutorIsRetained() {
+        var constraint = new RecordingConstraint();
+        var debounced = Constraints.debounce(constraint, Duration.ofMillis(1));
+        assertNotNull(debounced.getCompletionExecutor());
+        assertThrows(IllegalArgumentException.class, () -> Constraints.debounce(constraint, Duration.ofMillis(-1)));
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import org.jfxcore.validation.ConstraintBase;
+import org.jfxcore.validation.SyncConstraint;
+import org.jfxcore.validation.ValidationResult;
+import org.junit.jupiter.api.Test;
+import javafx.beans.Observable;
+import javafx.beans.property.SimpleIntegerProperty;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DependencyIndexTest {
+
+    private static ConstraintBase<?, ?> constraint(Observable... dependencies) {
+        return new SyncConstraint<Object, Object>() {
+            @Override
+            public ValidationResult<Object> validateSync(Object value) {
+                return ValidationResult.valid();
+            }
+
+            @Override
+            public Observable[] getDependencies() {
+                return dependencies;
+            }
+        };
+    }
+
+    @Test
+    public void testConstraintsWithoutDependencies() {
+        var index = DependencyIndex.of(new ConstraintBase<?, ?>[] { constraint(), constraint((Observable[])null) });
+        assertSame(DependencyIndex.EMPTY, index);
+        assertTrue(index.dependencies().isEmpty());
+        assertNull(index.get(new SimpleIntegerProperty()));
+    }
+
+    @Test
+    public void testDependencyIsMappedToDependentConstraints() {
+        var dep1 = new SimpleIntegerProperty();
+        var dep2 = new SimpleIntegerProperty();
+        var index = DependencyIndex.of(new ConstraintBase<?, ?>[] {
+            constraint(dep1), constraint(), constraint(dep1, dep2), constraint(dep2, dep2)
+        });
+
+        assertEquals(Set.of(dep1, dep2), index.dependencies());
+        assertArrayEquals(new int[] {0, 2}, index.get(dep1));
+        assertArrayEquals(new int[] {2, 3}, index.get(dep2));
+        assertTrue(index.contains(dep1));
+        assertFalse(index.contains(new SimpleIntegerProperty()));
+    }
+
+}
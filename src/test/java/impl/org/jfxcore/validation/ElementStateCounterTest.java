@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import org.jfxcore.validation.ValidationState;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ElementStateCounterTest {
+
+    @Test
+    public void testNoElementsIsValid() {
+        var counter = new ElementStateCounter();
+        assertEquals(ValidationState.VALID, counter.getValidationState());
+    }
+
+    @Test
+    public void testAddedElementIsUnknown() {
+        var counter = new ElementStateCounter();
+        counter.update(null, ValidationState.UNKNOWN);
+        assertEquals(ValidationState.UNKNOWN, counter.getValidationState());
+
+        counter.update(ValidationState.UNKNOWN, ValidationState.VALID);
+        assertEquals(ValidationState.VALID, counter.getValidationState());
+    }
+
+    @Test
+    public void testInvalidElementTakesPrecedenceOverUnknownElement() {
+        var counter = new ElementStateCounter();
+        counter.update(null, ValidationState.UNKNOWN);
+        counter.update(null, ValidationState.UNKNOWN);
+        counter.update(ValidationState.UNKNOWN, ValidationState.INVALID);
+        assertEquals(ValidationState.INVALID, counter.getValidationState());
+
+        counter.update(ValidationState.INVALID, ValidationState.UNKNOWN);
+        assertEquals(ValidationState.UNKNOWN, counter.getValidationState());
+    }
+
+    @Test
+    public void testRemovedElementsAreNotCounted() {
+        var counter = new ElementStateCounter();
+        counter.update(null, ValidationState.UNKNOWN);
+        counter.update(ValidationState.UNKNOWN, ValidationState.INVALID);
+        counter.update(null, ValidationState.UNKNOWN);
+        counter.update(ValidationState.UNKNOWN, ValidationState.VALID);
+        assertEquals(ValidationState.INVALID, counter.getValidationState());
+
+        counter.update(ValidationState.INVALID, null);
+        assertEquals(ValidationState.VALID, counter.getValidationState());
+
+        counter.update(ValidationState.VALID, null);
+        assertEquals(ValidationState.VALID, counter.getValidationState());
+    }
+
+}
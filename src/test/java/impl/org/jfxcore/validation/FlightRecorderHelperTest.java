@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import org.junit.jupiter.api.Test;
+import org.jfxcore.validation.SyncConstraint;
+import org.jfxcore.validation.ValidationResult;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlightRecorderHelperTest {
+
+    @Test
+    public void testEventsAreDisabledByDefault() {
+        assertNull(FlightRecorderHelper.beginValidationRun());
+        assertNull(FlightRecorderHelper.beginConstraintEvaluation());
+        assertNull(FlightRecorderHelper.beginPseudoClassUpdate());
+    }
+
+    @Test
+    public void testConstraintEvaluatedEventIsRecorded() throws Exception {
+        SyncConstraint<String, Object> constraint = value -> ValidationResult.invalid();
+        Path file = Files.createTempFile("validation", ".jfr");
+
+        try (var recording = new Recording()) {
+            recording.enable("org.jfxcore.validation.ConstraintEvaluated");
+            recording.start();
+
+            Object event = FlightRecorderHelper.beginConstraintEvaluation();
+            assertNotNull(event);
+            FlightRecorderHelper.commitConstraintEvaluation(
+                event, constraint, null, null, constraint.validateSync("foo"), null, false);
+
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertEquals(1, events.size());
+            assertEquals("INVALID", events.get(0).getString("outcome"));
+            assertFalse(events.get(0).getBoolean("async"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+}
@@ -284,4 +284,24 @@ public class ListChangeAggregatorTest {
         assertAppliedChange(aggregator, source, list("0 1 2 3 4 5"));
     }
 
+    @Test
+    public void testReplaceChange() {
+        var source = listProperty("0 1 2 3 4 5");
+        var aggregator = new ListChangeAggregator<>(source);
+
+        // 0 1 +[a] 2 3 4 5
+        aggregator.add(new ListChange.AddedRange<>(2, "a"));
+        assertState(aggregator, 2, 0, list("a"));
+
+        // 0 1 [a -> b] 2 3 4 5
+        aggregator.add(new ListChange.ReplacedRange<>(2, 1, "b"));
+        assertState(aggregator, 2, 0, list("b"));
+        assertAppliedChange(aggregator, source, list("0 1 b 2 3 4 5"));
+
+        // 0 1 b 2 [3 4 -> x] 5
+        aggregator.add(new ListChange.ReplacedRange<>(4, 2, list("x")));
+        assertState(aggregator, 2, 3, list("b 2 x"));
+        assertAppliedChange(aggregator, source, list("0 1 b 2 x 5"));
+    }
+
 }
@@ -26,12 +26,14 @@ import org.junit.jupiter.api.Test;
 import javafx.beans.Observable;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.ReadOnlyListProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import org.jfxcore.validation.ConstrainedElement;
 import org.jfxcore.validation.Constraint;
 import org.jfxcore.validation.ConstraintBase;
 import org.jfxcore.validation.Constraints;
+import org.jfxcore.validation.IncrementalConstraint;
 import org.jfxcore.validation.ListConstraint;
 import org.jfxcore.validation.ValidationResult;
 import org.jfxcore.validation.property.ConstrainedListProperty;
@@ -311,6 +313,157 @@ public class ListValidationHelperTest {
         assertTrue(value.isValid());
     }
 
+    @Test
+    public void testListIsValidWhenInvalidElementIsRemoved() {
+        initialize(FXCollections.observableArrayList("foo", " ", "bar", " "), Constraints.notNullOrBlank());
+        assertValidationState(helper, false, false, true);
+
+        value.remove(1);
+        assertValidationState(helper, false, false, true);
+
+        value.remove(2);
+        assertValidationState(helper, false, true, false);
+        assertEquals(List.of("foo", "bar"), constrainedValue);
+
+        value.add(" ");
+        assertValidationState(helper, false, false, true);
+
+        value.set(2, "baz");
+        assertValidationState(helper, false, true, false);
+        assertEquals(List.of("foo", "bar", "baz"), constrainedValue);
+    }
+
+    @Test
+    public void testOnlyDependentElementConstraintIsEvaluatedWhenDependencyIsInvalidated() {
+        var dependency = new SimpleIntegerProperty(3);
+        var validator1Invocations = new int[1];
+        var validator2Invocations = new int[1];
+
+        initialize(
+            FXCollections.observableArrayList("foo", "bar", "bazqux"),
+            new Constraint<>() {
+                @Override
+                public CompletableFuture<ValidationResult<String>> validate(String value) {
+                    validator1Invocations[0]++;
+                    return CompletableFuture.completedFuture(new ValidationResult<>(value.length() <= dependency.get()));
+                }
+
+                @Override public Executor getCompletionExecutor() { return null; }
+                @Override public Observable[] getDependencies() { return new Observable[] {dependency}; }
+            },
+            new Constraint<>() {
+                @Override
+                public CompletableFuture<ValidationResult<String>> validate(String value) {
+                    validator2Invocations[0]++;
+                    return CompletableFuture.completedFuture(ValidationResult.valid());
+                }
+
+                @Override public Executor getCompletionExecutor() { return null; }
+                @Override public Observable[] getDependencies() { return null; }
+            });
+
+        assertEquals(3, validator1Invocations[0]);
+        assertEquals(3, validator2Invocations[0]);
+        assertValidationState(helper, false, false, true);
+        assertValidationState(value.getConstrainedElements().get(2), false, false, true);
+
+        dependency.set(6);
+        assertEquals(6, validator1Invocations[0]);
+        assertEquals(3, validator2Invocations[0]);
+        assertValidationState(helper, false, true, false);
+        assertValidationState(value.getConstrainedElements().get(2), false, true, false);
+
+        dependency.set(2);
+        assertEquals(9, validator1Invocations[0]);
+        assertEquals(3, validator2Invocations[0]);
+        assertValidationState(helper, false, false, true);
+        assertValidationState(value.getConstrainedElements().get(0), false, false, true);
+    }
+
+    @Test
+    public void testDependencyOfListConstraintDoesNotEvaluateElementConstraints() {
+        var dependency = new SimpleIntegerProperty(3);
+        var listValidatorInvocations = new int[1];
+        var elementValidatorInvocations = new int[1];
+
+        initialize(
+            FXCollections.observableArrayList("foo", "bar"),
+            new ListConstraint<>() {
+                @Override
+                public CompletableFuture<ValidationResult<String>> validate(List<? super String> value) {
+                    listValidatorInvocations[0]++;
+                    return CompletableFuture.completedFuture(new ValidationResult<>(value.size() <= dependency.get()));
+                }
+
+                @Override public Executor getCompletionExecutor() { return null; }
+                @Override public Observable[] getDependencies() { return new Observable[] {dependency}; }
+            },
+            Constraints.validate(value -> {
+                elementValidatorInvocations[0]++;
+                return ValidationResult.valid();
+            }));
+
+        assertEquals(1, listValidatorInvocations[0]);
+        assertEquals(2, elementValidatorInvocations[0]);
+
+        dependency.set(1);
+        assertEquals(2, listValidatorInvocations[0]);
+        assertEquals(2, elementValidatorInvocations[0]);
+        assertValidationState(helper, false, false, true);
+    }
+
+    @Test
+    public void testIncrementalConstraintReceivesAddedAndRemovedElements() {
+        var added = new ArrayList<String>();
+        var removed = new ArrayList<String>();
+        var accumulators = new int[1];
+
+        IncrementalConstraint<String, String> constraint = () -> {
+            accumulators[0]++;
+            var delegate = Constraints.<String, String>sizeBetween(0, 3).newAccumulator();
+
+            return new IncrementalConstraint.Accumulator<>() {
+                @Override
+                public void add(String element) {
+                    added.add(element);
+                    delegate.add(element);
+                }
+
+                @Override
+                public void remove(String element) {
+                    removed.add(element);
+                    delegate.remove(element);
+                }
+
+                @Override
+                public ValidationResult<String> getResult() {
+                    return delegate.getResult();
+                }
+            };
+        };
+
+        initialize(FXCollections.observableArrayList("foo", "bar"), Constraints.forList(constraint));
+        assertEquals(1, accumulators[0]);
+        assertEquals(List.of("foo", "bar"), added);
+        assertValidationState(helper, false, true, false);
+
+        added.clear();
+        value.addAll("baz", "qux");
+        assertEquals(1, accumulators[0]);
+        assertEquals(List.of("baz", "qux"), added);
+        assertValidationState(helper, false, false, true);
+
+        value.set(0, "quux");
+        value.remove("bar");
+        assertEquals(1, accumulators[0]);
+        assertEquals(List.of("foo", "bar"), removed);
+        assertValidationState(helper, false, true, false);
+
+        value.set(FXCollections.observableArrayList("foo"));
+        assertEquals(2, accumulators[0]);
+        assertValidationState(helper, false, true, false);
+    }
+
     @Nested
     class AsynchronousTests extends ConcurrentTestBase {
         @Test
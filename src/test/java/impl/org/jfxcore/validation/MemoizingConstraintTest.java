@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import javafx.beans.Observable;
+import javafx.beans.property.SimpleIntegerProperty;
+import org.jfxcore.validation.Constraint;
+import org.jfxcore.validation.Constraints;
+import org.jfxcore.validation.SyncConstraint;
+import org.jfxcore.validation.ValidationResult;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MemoizingConstraintTest {
+
+    private static class PendingConstraint implements Constraint<String, Object> {
+        final List<CompletableFuture<ValidationResult<Object>>> futures = new ArrayList<>();
+
+        @Override
+        public CompletableFuture<ValidationResult<Object>> validate(String value) {
+            var future = new CompletableFuture<ValidationResult<Object>>() {
+                @Override
+                public boolean cancel(boolean mayInterruptIfRunning) {
+                    // Like a non-cancellable task: the request has no immediate effect
+                    return false;
+                }
+            };
+
+            futures.add(future);
+            return future;
+        }
+
+        @Override
+        public Executor getCompletionExecutor() {
+            return null;
+        }
+
+        @Override
+        public Observable[] getDependencies() {
+            return null;
+        }
+    }
+
+    @Test
+    public void testSyncConstraintIsMemoized() {
+        var calls = new AtomicInteger();
+        SyncConstraint<String, Object> constraint = value -> {
+            calls.incrementAndGet();
+            return value.isEmpty() ? ValidationResult.invalid() : ValidationResult.valid();
+        };
+
+        var memoized = (SyncConstraint<String, Object>)Constraints.memoize(constraint, 2);
+        assertSame(ValidationResult.valid(), memoized.validateSync("a"));
+        assertSame(ValidationResult.valid(), memoized.validateSync("a"));
+        assertSame(ValidationResult.invalid(), memoized.validateSync(""));
+        assertSame(ValidationResult.invalid(), memoized.validateSync(""));
+        assertEquals(2, calls.get());
+
+        // "b" evicts "a", which is the least recently used entry
+        memoized.validateSync("b");
+        memoized.validateSync("");
+        memoized.validateSync("a");
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    public void testNoneResultIsNotMemoized() {
+        var calls = new AtomicInteger();
+        SyncConstraint<String, Object> constraint = value -> {
+            calls.incrementAndGet();
+            return ValidationResult.none();
+        };
+
+        var memoized = (SyncConstraint<String, Object>)Constraints.memoize(constraint, 10);
+        memoized.validateSync("a");
+        memoized.validateSync("a");
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testDependencyValuesArePartOfKey() {
+        var calls = new AtomicInteger();
+        var maxLength = new SimpleIntegerProperty(3);
+        var memoized = (SyncConstraint<String, Object>)Constraints.memoize(
+            Constraints.<String, Number, Object>validate((value, max) -> {
+                calls.incrementAndGet();
+                return value.length() <= max.intValue() ? ValidationResult.valid() : ValidationResult.invalid();
+            }, maxLength), 10);
+
+        assertFalse(memoized.validateSync("abcd").isValid());
+        maxLength.set(4);
+        assertTrue(memoized.validateSync("abcd").isValid());
+        maxLength.set(3);
+        assertFalse(memoized.validateSync("abcd").isValid());
+        assertEquals(2, calls.get());
+        assertArrayEquals(new Observable[] {maxLength}, memoized.getDependencies());
+    }
+
+    @Test
+    public void testExpiredResultIsNotReturned() {
+        var calls = new AtomicInteger();
+        SyncConstraint<String, Object> constraint = value -> {
+            calls.incrementAndGet();
+            return ValidationResult.valid();
+        };
+
+        var memoized = (SyncConstraint<String, Object>)Constraints.memoize(constraint, 10, Duration.ofNanos(1));
+        memoized.validateSync("a");
+        memoized.validateSync("a");
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testConcurrentRequestsShareValidationRun() throws Exception {
+        var constraint = new PendingConstraint();
+        var memoized = Constraints.memoize(constraint, 10);
+
+        var future1 = memoized.validate("a");
+        var future2 = memoized.validate("a");
+        var future3 = memoized.validate("b");
+        assertEquals(2, constraint.futures.size());
+        assertNotSame(future1, future2);
+
+        constraint.futures.get(0).complete(ValidationResult.valid());
+        assertSame(ValidationResult.valid(), future1.get());
+        assertSame(ValidationResult.valid(), future2.get());
+        assertFalse(future3.isDone());
+
+        // The result is now cached
+        assertTrue(memoized.validate("a").isDone());
+        assertEquals(2, constraint.futures.size());
+    }
+
+    @Test
+    public void testConcurrentRequestDuringInvocationSharesValidationRun() throws Exception {
+        var invoked = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var invocations = new AtomicInteger();
+        var constraint = new PendingConstraint() {
+            @Override
+            public CompletableFuture<ValidationResult<Object>> validate(String value) {
+                invocations.incrementAndGet();
+                invoked.countDown();
+
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    throw new RuntimeException(ex);
+                }
+
+                return CompletableFuture.completedFuture(ValidationResult.valid());
+            }
+        };
+
+        var memoized = Constraints.memoize(constraint, 10);
+        var future1 = new CompletableFuture<CompletableFuture<ValidationResult<Object>>>();
+        var thread = new Thread(() -> future1.complete(memoized.validate("a")));
+        thread.start();
+
+        // The second request arrives while the wrapped constraint is still being invoked for the first request
+        assertTrue(invoked.await(5, TimeUnit.SECONDS));
+        var future2 = memoized.validate("a");
+        release.countDown();
+        thread.join();
+
+        assertEquals(1, invocations.get());
+        assertSame(ValidationResult.valid(), future1.get().get(5, TimeUnit.SECONDS));
+        assertSame(ValidationResult.valid(), future2.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testSharedValidationRunIsCancelledByLastSubscriber() throws Exception {
+        var cancelled = new AtomicInteger();
+        var constraint = new PendingConstraint() {
+            @Override
+            public CompletableFuture<ValidationResult<Object>> validate(String value) {
+                var future = new CompletableFuture<ValidationResult<Object>>() {
+                    @Override
+                    public boolean cancel(boolean mayInterruptIfRunning) {
+                        cancelled.incrementAndGet();
+                        return false;
+                    }
+                };
+
+                futures.add(future);
+                return future;
+            }
+        };
+
+        var memoized = Constraints.memoize(constraint, 10);
+        var future1 = memoized.validate("a");
+        var future2 = memoized.validate("a");
+
+        // The first subscriber detaches without affecting the shared validation run
+        future1.cancel(false);
+        assertTrue(future1.isCancelled());
+        assertEquals(0, cancelled.get());
+
+        // The last subscriber forwards the cancellation request, and completes with the validation run
+        future2.cancel(false);
+        assertEquals(1, cancelled.get());
+        assertFalse(future2.isDone());
+
+        constraint.futures.get(0).complete(ValidationResult.invalid());
+        assertSame(ValidationResult.invalid(), future2.get());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        SyncConstraint<String, Object> constraint = value -> ValidationResult.valid();
+        assertThrows(IllegalArgumentException.class, () -> Constraints.memoize(constraint, 0));
+        assertThrows(IllegalArgumentException.class, () -> Constraints.memoize(constraint, 1, Duration.ZERO));
+        assertThrows(NullPointerException.class, () -> Constraints.memoize(null, 1));
+    }
+
+}
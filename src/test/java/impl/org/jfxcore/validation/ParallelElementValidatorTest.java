@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import org.jfxcore.validation.ConstrainedElement;
+import org.jfxcore.validation.Constraint;
+import org.jfxcore.validation.ParallelValidation;
+import org.jfxcore.validation.SupersessionMode;
+import org.jfxcore.validation.SyncConstraint;
+import org.jfxcore.validation.ValidationResult;
+import org.jfxcore.validation.ValidationState;
+import org.jfxcore.validation.metrics.ValidationMetrics;
+import org.jfxcore.validation.property.ReadOnlyConstrainedProperty;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelElementValidatorTest {
+
+    private static class TestHelper implements ElementValidationHelper<Integer, String> {
+        final Set<Thread> threadSafeThreads = ConcurrentHashMap.newKeySet();
+        final Set<Thread> otherThreads = ConcurrentHashMap.newKeySet();
+        final Constraint<? super Integer, String>[] constraints;
+        ParallelValidation parallelValidation;
+
+        @SuppressWarnings("unchecked")
+        TestHelper() {
+            constraints = new Constraint[] {
+                new SyncConstraint<Integer, String>() {
+                    @Override
+                    public ValidationResult<String> validateSync(Integer value) {
+                        threadSafeThreads.add(Thread.currentThread());
+                        return value % 2 == 0 ? ValidationResult.valid() : ValidationResult.invalid("odd");
+                    }
+
+                    @Override
+                    public boolean isThreadSafe() {
+                        return true;
+                    }
+                },
+                (SyncConstraint<Integer, String>)value -> {
+                    otherThreads.add(Thread.currentThread());
+                    return ValidationResult.valid();
+                }
+            };
+        }
+
+        @Override public ReadOnlyConstrainedProperty<?, String> getObservable() { return null; }
+        @Override public ValidationMetrics getMetrics() { return null; }
+        @Override public Constraint<? super Integer, String>[] getElementConstraints() { return constraints; }
+        @Override public CrossElementIndex<Integer, String> getCrossElementIndex(int i) { return null; }
+        @Override public ParallelValidation getParallelValidation() { return parallelValidation; }
+        @Override public ConcurrencyLimiter getConcurrencyLimiter() { return null; }
+        @Override public SupersessionMode getSupersessionMode() { return null; }
+        @Override public void notifyValidatorStateChanged(ValidatorState state, boolean intermediate) {}
+        @Override public void notifyElementStateChanged(ValidationState oldState, ValidationState newState) {}
+    }
+
+    private static List<ConstrainedElement<Integer, String>> newElements(TestHelper helper, int count) {
+        var elements = new ArrayList<ConstrainedElement<Integer, String>>(count);
+        for (int i = 0; i < count; ++i) {
+            elements.add(ConstrainedElementHelper.newInstance(i, helper));
+        }
+
+        return elements;
+    }
+
+    @Test
+    public void testThreadSafeConstraintsAreEvaluatedInParallel() {
+        var pool = new ForkJoinPool(4);
+        var helper = new TestHelper();
+        helper.parallelValidation = new ParallelValidation(pool, 100);
+        var elements = newElements(helper, 5000);
+
+        ParallelElementValidator.validate(helper, elements);
+
+        for (var element : elements) {
+            boolean even = element.getValue() % 2 == 0;
+            assertEquals(even, element.isValid());
+            assertEquals(!even, element.isInvalid());
+            assertEquals(even ? List.of() : List.of("odd"), element.getDiagnostics());
+        }
+
+        assertFalse(helper.threadSafeThreads.contains(Thread.currentThread()));
+        assertEquals(Set.of(Thread.currentThread()), helper.otherThreads);
+        pool.shutdown();
+    }
+
+    @Test
+    public void testElementsAreValidatedSeriallyBelowThreshold() {
+        var pool = new ForkJoinPool(4);
+        var helper = new TestHelper();
+        helper.parallelValidation = new ParallelValidation(pool, 100);
+        var elements = newElements(helper, 99);
+
+        ParallelElementValidator.validate(helper, elements);
+
+        assertTrue(elements.get(0).isValid());
+        assertTrue(elements.get(1).isInvalid());
+        assertEquals(Set.of(Thread.currentThread()), helper.threadSafeThreads);
+        pool.shutdown();
+    }
+
+    @Test
+    public void testElementsAreValidatedSeriallyWhenParallelValidationIsNotEnabled() {
+        var helper = new TestHelper();
+        var elements = newElements(helper, 5000);
+
+        ParallelElementValidator.validate(helper, elements);
+
+        assertTrue(elements.get(4998).isValid());
+        assertTrue(elements.get(4999).isInvalid());
+        assertEquals(Set.of(Thread.currentThread()), helper.threadSafeThreads);
+    }
+
+    @Test
+    public void testThresholdMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelValidation(ForkJoinPool.commonPool(), 0));
+        assertThrows(NullPointerException.class, () -> new ParallelValidation(null, 1));
+    }
+
+}
@@ -21,14 +21,26 @@
 
 package impl.org.jfxcore.validation;
 
+import javafx.beans.Observable;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.jfxcore.validation.Constraint;
+import org.jfxcore.validation.ConstraintBase;
 import org.jfxcore.validation.Constraints;
+import org.jfxcore.validation.SyncConstraint;
+import org.jfxcore.validation.ValidationExecutors;
 import org.jfxcore.validation.ValidationResult;
+import org.jfxcore.validation.metrics.ConstraintStatistics;
+import org.jfxcore.validation.metrics.HistogramValidationMetrics;
+import org.jfxcore.validation.metrics.ValidationMetrics;
+import org.jfxcore.validation.property.ReadOnlyConstrainedProperty;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -101,4 +113,318 @@ public class SerializedValidatorTest extends ConcurrentTestBase {
         });
     }); }
 
+    private static class TestValidator<T> extends SerializedValidator<T, Object> {
+        final List<ValidationResult<Object>> results = new ArrayList<>();
+        ValidationMetrics metrics;
+        int startedCount;
+
+        TestValidator(SyncConstraint<T, Object> constraint) {
+            super(constraint);
+        }
+
+        @Override
+        public ValidationResult<Object> getValidationResult() {
+            return results.isEmpty() ? null : results.get(results.size() - 1);
+        }
+
+        @Override
+        protected ValidationMetrics getMetrics() {
+            return metrics;
+        }
+
+        @Override
+        protected CompletableFuture<ValidationResult<Object>> newValidationRun(T value) {
+            throw new AssertionError("Synchronous constraint must not be invoked with a future");
+        }
+
+        @Override
+        protected void onValidationStarted() {
+            startedCount++;
+        }
+
+        @Override
+        protected void onValidationCompleted(T value, ValidationResult<Object> result, boolean intermediateCompletion) {
+            assertFalse(intermediateCompletion);
+            results.add(result);
+        }
+    }
+
+    private static class AsyncTestValidator extends SerializedValidator<String, Object> {
+        final List<CompletableFuture<ValidationResult<Object>>> futures = new ArrayList<>();
+        final List<String> completedValues = new ArrayList<>();
+        final List<ValidationResult<Object>> results = new ArrayList<>();
+        final List<Boolean> intermediate = new ArrayList<>();
+        ValidationMetrics metrics;
+        boolean latestValueWins;
+        int startedCount;
+
+        AsyncTestValidator() {
+            super(new Constraint<String, Object>() {
+                @Override
+                public CompletableFuture<ValidationResult<Object>> validate(String value) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public Executor getCompletionExecutor() {
+                    return Runnable::run;
+                }
+
+                @Override
+                public Observable[] getDependencies() {
+                    return null;
+                }
+            });
+        }
+
+        @Override
+        public ValidationResult<Object> getValidationResult() {
+            return results.isEmpty() ? null : results.get(results.size() - 1);
+        }
+
+        @Override
+        protected ValidationMetrics getMetrics() {
+            return metrics;
+        }
+
+        @Override
+        protected boolean isLatestValueWins() {
+            return latestValueWins;
+        }
+
+        @Override
+        protected CompletableFuture<ValidationResult<Object>> newValidationRun(String value) {
+            var future = new CompletableFuture<ValidationResult<Object>>() {
+                @Override
+                public boolean cancel(boolean mayInterruptIfRunning) {
+                    // Simulates a validation function that doesn't support cancellation
+                    return false;
+                }
+            };
+
+            futures.add(future);
+            return future;
+        }
+
+        @Override
+        protected void onValidationStarted() {
+            startedCount++;
+        }
+
+        @Override
+        protected void onValidationCompleted(String value, ValidationResult<Object> result, boolean intermediateCompletion) {
+            completedValues.add(value);
+            results.add(result);
+            intermediate.add(intermediateCompletion);
+        }
+    }
+
+    @Test
+    public void testSerializedValidatorWaitsForRunningValidation() {
+        var validator = new AsyncTestValidator();
+        validator.validate("a");
+        validator.validate("b");
+        assertEquals(1, validator.futures.size());
+
+        validator.futures.get(0).complete(ValidationResult.invalid());
+        assertEquals(2, validator.futures.size());
+        assertEquals(List.of(true), validator.intermediate);
+        assertEquals(1, validator.results.size());
+        assertNull(validator.results.get(0));
+
+        validator.futures.get(1).complete(ValidationResult.valid());
+        assertEquals(List.of("a", "b"), validator.completedValues);
+        assertSame(ValidationResult.valid(), validator.getValidationResult());
+    }
+
+    @Test
+    public void testLatestValueWinsStartsNewValidationImmediately() {
+        var metrics = new HistogramValidationMetrics();
+        var validator = new AsyncTestValidator();
+        validator.latestValueWins = true;
+        validator.metrics = metrics;
+        validator.validate("a");
+        validator.validate("b");
+        validator.validate("c");
+
+        assertEquals(3, validator.futures.size());
+        assertEquals(3, validator.startedCount);
+        assertEquals(List.of("a", "b"), validator.completedValues);
+        assertEquals(List.of(true, true), validator.intermediate);
+
+        // The results of superseded validation runs are discarded, even if they complete out of order.
+        validator.futures.get(2).complete(ValidationResult.valid());
+        validator.futures.get(0).complete(ValidationResult.invalid());
+        validator.futures.get(1).complete(ValidationResult.invalid());
+
+        assertEquals(List.of("a", "b", "c"), validator.completedValues);
+        assertEquals(List.of(true, true, false), validator.intermediate);
+        assertSame(ValidationResult.valid(), validator.getValidationResult());
+
+        ConstraintStatistics stats = metrics.getStatistics().get(0);
+        assertEquals(3, stats.getStartedCount());
+        assertEquals(1, stats.getValidCount());
+        assertEquals(2, stats.getSupersededCount());
+    }
+
+    @Test
+    public void testSyncConstraintIsInvokedWithoutFuture() {
+        var validator = new TestValidator<String>(value -> value != null ?
+            ValidationResult.valid() : ValidationResult.invalid("error"));
+
+        validator.validate("test");
+        validator.validate(null);
+
+        assertEquals(2, validator.startedCount);
+        assertEquals(2, validator.results.size());
+        assertSame(ValidationResult.valid(), validator.results.get(0));
+        assertEquals("error", validator.results.get(1).getDiagnostic());
+    }
+
+    @Test
+    public void testSyncConstraintWithoutResultCompletesWithNull() {
+        var validator = new TestValidator<String>(value -> {
+            if (value == null) {
+                throw new RuntimeException("Expected exception");
+            }
+
+            return ValidationResult.none();
+        });
+
+        validator.validate("test");
+        validator.validate(null);
+
+        assertEquals(2, validator.startedCount);
+        assertEquals(2, validator.results.size());
+        assertNull(validator.results.get(0));
+        assertNull(validator.results.get(1));
+    }
+
+    @Test
+    public void testSyncConstraintReportsMetrics() {
+        var metrics = new HistogramValidationMetrics();
+        var validator = new TestValidator<String>(value -> {
+            if (value == null) {
+                throw new RuntimeException("Expected exception");
+            }
+
+            return value.isEmpty() ? ValidationResult.none() :
+                value.equals("valid") ? ValidationResult.valid() : ValidationResult.invalid();
+        });
+
+        validator.metrics = metrics;
+        validator.validate("valid");
+        validator.validate("invalid");
+        validator.validate("");
+        validator.validate(null);
+
+        List<ConstraintStatistics> statistics = metrics.getStatistics();
+        assertEquals(1, statistics.size());
+
+        ConstraintStatistics stats = statistics.get(0);
+        assertNull(stats.getBeanClass());
+        assertNull(stats.getPropertyName());
+        assertEquals(4, stats.getStartedCount());
+        assertEquals(1, stats.getValidCount());
+        assertEquals(1, stats.getInvalidCount());
+        assertEquals(1, stats.getCancelledCount());
+        assertEquals(1, stats.getFailedCount());
+        assertEquals(0, stats.getSupersededCount());
+        assertEquals(0, stats.getQueueTimeMax());
+        assertEquals(4, metrics.getStartedCount());
+        assertEquals(1, metrics.getFailedCount());
+
+        metrics.reset();
+        assertEquals(0, metrics.getStatistics().size());
+    }
+
+    @Test
+    public void testExceptionInMetricsDoesNotAffectValidation() {
+        var validator = new TestValidator<String>(value -> ValidationResult.valid());
+        validator.metrics = new ValidationMetrics() {
+            @Override
+            public void validationStarted(ConstraintBase<?, ?> constraint, ReadOnlyConstrainedProperty<?, ?> property) {
+                throw new RuntimeException("Expected exception");
+            }
+        };
+
+        validator.validate("test");
+
+        assertEquals(1, validator.startedCount);
+        assertSame(ValidationResult.valid(), validator.results.get(0));
+    }
+
+    @Test
+    public void testDefaultTimeoutStartsWhenDeferredValidationRunIsStarted() throws Exception {
+        var limiter = new ConcurrencyLimiter(1);
+        var blocker = limiter.<Object>submit(CompletableFuture::new, Runnable::run);
+        var started = new CompletableFuture<CompletableFuture<ValidationResult<Object>>>();
+        var results = new ArrayList<ValidationResult<Object>>();
+        var completed = new CountDownLatch(1);
+
+        Constraint<String, Object> constraint = new Constraint<>() {
+            @Override
+            public CompletableFuture<ValidationResult<Object>> validate(String value) {
+                var future = new CompletableFuture<ValidationResult<Object>>();
+                started.complete(future);
+                return future;
+            }
+
+            @Override
+            public Executor getCompletionExecutor() {
+                return Runnable::run;
+            }
+
+            @Override
+            public Observable[] getDependencies() {
+                return null;
+            }
+        };
+
+        var validator = new SerializedValidator<String, Object>(constraint) {
+            @Override
+            protected CompletableFuture<ValidationResult<Object>> newValidationRun(String value) {
+                return limiter.submit(() -> constraint.validate(value), Runnable::run);
+            }
+
+            @Override
+            public ValidationResult<Object> getValidationResult() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            protected void onValidationStarted() {}
+
+            @Override
+            protected void onValidationCompleted(
+                    String value, ValidationResult<Object> result, boolean intermediateCompletion) {
+                results.add(result);
+                completed.countDown();
+            }
+        };
+
+        ValidationExecutors.setDefaultTimeout(Duration.ofMillis(1000));
+
+        try {
+            validator.validate("foo");
+            assertFalse(started.isDone());
+
+            // The deferred validation run spends more time in the queue than the default timeout allows.
+            sleep(1500);
+            assertEquals(1, completed.getCount());
+
+            blocker.cancel(false);
+            assertTrue(started.isDone());
+            assertFalse(started.get().isDone());
+            assertEquals(1, completed.getCount());
+
+            // The deadline has started with the validation run, so it times out when it doesn't complete.
+            assertTrue(completed.await(5, TimeUnit.SECONDS));
+            assertEquals(1, results.size());
+            assertNull(results.get(0));
+        } finally {
+            ValidationExecutors.setDefaultTimeout(null);
+        }
+    }
+
 }
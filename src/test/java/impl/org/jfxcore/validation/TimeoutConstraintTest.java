@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import javafx.beans.Observable;
+import org.jfxcore.validation.Constraint;
+import org.jfxcore.validation.Constraints;
+import org.jfxcore.validation.ValidationResult;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimeoutConstraintTest {
+
+    private static class FutureConstraint implements Constraint<String, String> {
+        final CompletableFuture<ValidationResult<String>> future;
+
+        FutureConstraint(CompletableFuture<ValidationResult<String>> future) {
+            this.future = future;
+        }
+
+        @Override
+        public CompletableFuture<ValidationResult<String>> validate(String value) {
+            return future;
+        }
+
+        @Override
+        public Executor getCompletionExecutor() {
+            return Runnable::run;
+        }
+
+        @Override
+        public Observable[] getDependencies() {
+            return null;
+        }
+    }
+
+    private static Constraint<String, String> pending() {
+        return new FutureConstraint(new CompletableFuture<>());
+    }
+
+    @Test
+    public void testCompletedValidationRunIsNotAffectedByTimeout() throws Exception {
+        var constraint = Constraints.withTimeout(
+            new FutureConstraint(CompletableFuture.completedFuture(ValidationResult.valid())),
+            Duration.ofMillis(1), ValidationResult::invalid);
+
+        assertTrue(constraint.validate("foo").get().isValid());
+    }
+
+    @Test
+    public void testTimedOutValidationRunCompletesWithFallbackResult() throws Exception {
+        var constraint = Constraints.withTimeout(
+            pending(), Duration.ofMillis(10), () -> ValidationResult.invalid("timeout"));
+        var result = constraint.validate("foo").get(5, TimeUnit.SECONDS);
+        assertFalse(result.isValid());
+        assertEquals("timeout", result.getDiagnostic());
+    }
+
+    @Test
+    public void testTimedOutValidationRunFailsWithoutFallbackResult() {
+        var constraint = Constraints.withTimeout(pending(), Duration.ofMillis(10));
+        var ex = assertThrows(ExecutionException.class, () -> constraint.validate("foo").get(5, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, ex.getCause());
+    }
+
+    @Test
+    public void testTimedOutValidationFunctionIsInterrupted() throws Exception {
+        var executor = Executors.newSingleThreadExecutor();
+        var interrupted = new CountDownLatch(1);
+
+        try {
+            var constraint = Constraints.withTimeout(
+                Constraints.<String, String>validateInterruptibleAsync(value -> {
+                    try {
+                        Thread.sleep(Long.MAX_VALUE);
+                    } catch (InterruptedException ex) {
+                        interrupted.countDown();
+                    }
+
+                    return ValidationResult.valid();
+                }, executor),
+                Duration.ofMillis(10), ValidationResult::invalid);
+
+            assertFalse(constraint.validate("foo").get(5, TimeUnit.SECONDS).isValid());
+            assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCancellationIsForwardedToWrappedFuture() {
+        var wrappedFuture = new CompletableFuture<ValidationResult<String>>();
+        var constraint = Constraints.withTimeout(new FutureConstraint(wrappedFuture), Duration.ofDays(1));
+        constraint.validate("foo").cancel(false);
+        assertTrue(wrappedFuture.isCancelled());
+    }
+
+    @Test
+    public void testSyncConstraintIsNotWrapped() {
+        var constraint = Constraints.<String, String>notNull();
+        assertSame(constraint, Constraints.withTimeout(constraint, Duration.ofMillis(10)));
+    }
+
+    @Test
+    public void testTimeoutMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> Constraints.withTimeout(pending(), Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> Constraints.withTimeout(pending(), Duration.ofMillis(-1)));
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import org.jfxcore.validation.ValidationResult;
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValidateTaskTest {
+
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    private ValidateTask<String, String> newTask() {
+        return new ValidateTask<>("foo") {
+            @Override
+            protected ValidationResult<String> apply(String value) {
+                invocations.incrementAndGet();
+                return ValidationResult.valid();
+            }
+        };
+    }
+
+    @Test
+    public void testTaskCancelledBeforeStartIsDropped() {
+        var task = newTask();
+        assertTrue(task.cancel(false));
+        assertTrue(task.isCancelled());
+
+        task.run();
+        assertEquals(0, invocations.get());
+        assertEquals(0, task.getQueueTime());
+    }
+
+    @Test
+    public void testRunningTaskIsNotCancelled() {
+        var cancelled = new AtomicBoolean();
+        var task = new ValidateTask<String, String>("foo") {
+            @Override
+            protected ValidationResult<String> apply(String value) {
+                cancelled.set(cancel(false));
+                return ValidationResult.valid();
+            }
+        };
+
+        task.run();
+        assertFalse(cancelled.get());
+        assertFalse(task.isCancelled());
+        assertSame(ValidationResult.valid(), task.join());
+    }
+
+    @Test
+    public void testTaskRunsOnlyOnce() {
+        var task = newTask();
+        task.run();
+        task.run();
+        assertEquals(1, invocations.get());
+        assertFalse(task.cancel(false));
+    }
+
+    @Test
+    public void testCancellableTaskCancelledBeforeStartIsDropped() {
+        var task = new ValidateCancellableTask<String, String>("foo") {
+            @Override
+            protected ValidationResult<String> apply(String value, AtomicBoolean cancellationRequested) {
+                invocations.incrementAndGet();
+                return ValidationResult.valid();
+            }
+        };
+
+        assertTrue(task.cancel(false));
+        task.run();
+        assertEquals(0, invocations.get());
+        assertTrue(task.isCancelled());
+    }
+
+    @Test
+    public void testCancellableTaskRequestsCancellationWhileRunning() {
+        var task = new ValidateCancellableTask<String, String>("foo") {
+            @Override
+            protected ValidationResult<String> apply(String value, AtomicBoolean cancellationRequested) {
+                assertFalse(cancel(false));
+                assertTrue(cancellationRequested.get());
+                return ValidationResult.valid();
+            }
+        };
+
+        task.run();
+        assertTrue(task.isCancelled());
+    }
+
+    @Test
+    public void testInterruptibleTaskCancelledBeforeStartIsDropped() {
+        var task = new ValidateInterruptibleTask<String, String>("foo") {
+            @Override
+            protected ValidationResult<String> apply(String value) {
+                invocations.incrementAndGet();
+                return ValidationResult.valid();
+            }
+        };
+
+        assertTrue(task.cancel(false));
+        task.run();
+        assertEquals(0, invocations.get());
+        assertTrue(task.isCancelled());
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package impl.org.jfxcore.validation;
+
+import org.jfxcore.validation.Constraint;
+import org.jfxcore.validation.ValidationListener;
+import org.jfxcore.validation.ValidationResult;
+import org.jfxcore.validation.property.ConstrainedStringProperty;
+import org.jfxcore.validation.property.SimpleConstrainedStringProperty;
+import org.junit.jupiter.api.Test;
+import javafx.beans.Observable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValidationBatchTest {
+
+    private final List<CompletableFuture<ValidationResult<String>>> futures = new ArrayList<>();
+    private final List<ValidationListener.ChangeType> changes = new ArrayList<>();
+
+    private final Constraint<String, String> constraint = new Constraint<>() {
+        @Override
+        public CompletableFuture<ValidationResult<String>> validate(String value) {
+            var future = new CompletableFuture<ValidationResult<String>>();
+            futures.add(future);
+            return future;
+        }
+
+        @Override
+        public Executor getCompletionExecutor() {
+            return Runnable::run;
+        }
+
+        @Override
+        public Observable[] getDependencies() {
+            return null;
+        }
+    };
+
+    private ConstrainedStringProperty<String> newProperty() {
+        var property = new SimpleConstrainedStringProperty<>(constraint, constraint);
+        property.addListener((ValidationListener<String, String>)(value, changeType, oldValue, newValue) ->
+            changes.add(changeType));
+        futures.clear();
+        return property;
+    }
+
+    @Test
+    public void testCompletionsFireImmediatelyWithoutBatch() {
+        var property = newProperty();
+        property.set("foo");
+        changes.clear();
+
+        futures.get(0).complete(ValidationResult.invalid());
+        assertEquals(List.of(ValidationListener.ChangeType.INVALID), changes);
+
+        futures.get(1).complete(ValidationResult.valid());
+        assertEquals(List.of(ValidationListener.ChangeType.INVALID, ValidationListener.ChangeType.VALIDATING), changes);
+    }
+
+    @Test
+    public void testCompletionsAreCoalescedInBatch() {
+        var property = newProperty();
+        property.set("foo");
+        changes.clear();
+
+        ValidationBatch.runCompletions(() -> {
+            futures.get(0).complete(ValidationResult.invalid());
+            futures.get(1).complete(ValidationResult.valid());
+            assertTrue(changes.isEmpty());
+        });
+
+        assertEquals(List.of(ValidationListener.ChangeType.INVALID, ValidationListener.ChangeType.VALIDATING), changes);
+        assertTrue(property.isInvalid());
+        assertFalse(property.isValidating());
+    }
+
+    @Test
+    public void testInvalidationDuringCompletionBatchIsNotDeferred() {
+        var property = newProperty();
+        property.set("foo");
+
+        ValidationBatch.runCompletions(() -> {
+            futures.get(0).complete(ValidationResult.valid());
+            property.set("bar");
+
+            // Both validators are started again for the new value without waiting for the batch to complete.
+            assertEquals(4, futures.size());
+            assertTrue(futures.get(1).isCancelled());
+        });
+
+        assertEquals(4, futures.size());
+        assertTrue(property.isValidating());
+    }
+
+    @Test
+    public void testInvalidationInNestedBatchIsDeferred() {
+        var property = newProperty();
+        property.set("foo");
+
+        ValidationBatch.runCompletions(() -> {
+            ValidationBatch.run(() -> {
+                property.set("bar");
+                assertEquals(2, futures.size());
+            });
+
+            assertEquals(4, futures.size());
+        });
+    }
+
+    @Test
+    public void testListenerObservesValidityOfPropertyChangedInCompletionBatch() {
+        var property = newProperty();
+        var other = new SimpleConstrainedStringProperty<String>(new Constraint<>() {
+            @Override
+            public CompletableFuture<ValidationResult<String>> validate(String value) {
+                return CompletableFuture.completedFuture(new ValidationResult<>("bar".equals(value)));
+            }
+
+            @Override
+            public Executor getCompletionExecutor() {
+                return Runnable::run;
+            }
+
+            @Override
+            public Observable[] getDependencies() {
+                return null;
+            }
+        });
+
+        List<Boolean> otherValid = new ArrayList<>();
+        property.validProperty().addListener((observable, oldValue, newValue) -> {
+            other.set("bar");
+            otherValid.add(other.isValid());
+        });
+
+        property.set("foo");
+        assertTrue(other.isInvalid());
+
+        ValidationBatch.runCompletions(() -> {
+            futures.get(0).complete(ValidationResult.valid());
+            futures.get(1).complete(ValidationResult.valid());
+        });
+
+        assertEquals(List.of(true), otherValid);
+        assertTrue(other.isValid());
+    }
+
+}
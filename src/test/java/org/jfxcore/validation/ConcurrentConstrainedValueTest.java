@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jfxcore.validation;
+
+import javafx.beans.Observable;
+import javafx.beans.property.SimpleIntegerProperty;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentConstrainedValueTest {
+
+    private static class PendingConstraint implements Constraint<Integer, String> {
+        final List<CompletableFuture<ValidationResult<String>>> futures = new ArrayList<>();
+
+        @Override
+        public CompletableFuture<ValidationResult<String>> validate(Integer value) {
+            var future = new CompletableFuture<ValidationResult<String>>();
+            futures.add(future);
+            return future;
+        }
+
+        @Override
+        public Executor getCompletionExecutor() {
+            return Runnable::run;
+        }
+
+        @Override
+        public Observable[] getDependencies() {
+            return null;
+        }
+    }
+
+    private static final Constraint<Number, String> POSITIVE = Constraints.greaterThan(0, value -> "not positive");
+
+    @Test
+    public void testSyncConstraintIsEvaluatedOnCallingThread() {
+        var value = new ConcurrentConstrainedValue<Integer, String>(null, Runnable::run, POSITIVE);
+        value.setValue(1);
+        assertTrue(value.isValid());
+        assertFalse(value.isInvalid());
+        assertFalse(value.isValidating());
+
+        value.setValue(-1);
+        assertFalse(value.isValid());
+        assertTrue(value.isInvalid());
+        assertEquals(List.of("not positive"), value.getDiagnostics());
+    }
+
+    @Test
+    public void testListenersAreNotifiedWithNotificationExecutor() {
+        var tasks = new ArrayList<Runnable>();
+        var value = new ConcurrentConstrainedValue<Integer, String>(1, tasks::add, POSITIVE);
+        var trace = new ArrayList<String>();
+        value.addListener((v, changeType, oldValue, newValue) -> trace.add(changeType + ":" + newValue));
+
+        assertEquals(1, tasks.size());
+        tasks.remove(0).run();
+        assertEquals(List.of("VALID:true"), trace);
+
+        trace.clear();
+        value.setValue(-1);
+        value.setValue(-2);
+        assertEquals(1, tasks.size());
+        tasks.remove(0).run();
+        assertEquals(List.of("INVALID:true", "VALID:false"), trace);
+        assertEquals(List.of("not positive"), value.getDiagnostics());
+
+        // Changes that cancel each other out before the notification runs are not published.
+        trace.clear();
+        value.setValue(1);
+        value.setValue(-3);
+        tasks.remove(0).run();
+        assertEquals(List.of(), trace);
+    }
+
+    @Test
+    public void testSupersededValidationRunIsCancelledAndDiscarded() {
+        var constraint = new PendingConstraint();
+        var value = new ConcurrentConstrainedValue<Integer, String>(null, Runnable::run, constraint);
+        value.setValue(1);
+        value.setValue(2);
+        assertTrue(value.isValidating());
+        assertTrue(constraint.futures.get(1).isCancelled());
+
+        constraint.futures.get(2).complete(ValidationResult.invalid("invalid"));
+        assertTrue(value.isInvalid());
+        assertFalse(value.isValidating());
+        assertEquals(Integer.valueOf(2), value.getValue());
+    }
+
+    @Test
+    public void testFailedValidationRunIsNeitherValidNorInvalid() {
+        var constraint = new PendingConstraint();
+        var value = new ConcurrentConstrainedValue<Integer, String>(1, Runnable::run, constraint);
+        constraint.futures.get(0).completeExceptionally(new RuntimeException("expected"));
+        assertFalse(value.isValid());
+        assertFalse(value.isInvalid());
+        assertFalse(value.isValidating());
+    }
+
+    @Test
+    public void testConstraintWithDependenciesIsRejected() {
+        var dependency = new SimpleIntegerProperty();
+        var constraint = Constraints.<Integer, Number, String>validate(
+            (value, dependencyValue) -> ValidationResult.valid(), dependency);
+        assertThrows(IllegalArgumentException.class,
+            () -> new ConcurrentConstrainedValue<Integer, String>(null, Runnable::run, constraint));
+    }
+
+    @Test
+    public void testSyncConstraintMustBeThreadSafe() {
+        SyncConstraint<Integer, String> constraint = value -> ValidationResult.valid();
+        assertThrows(IllegalArgumentException.class,
+            () -> new ConcurrentConstrainedValue<Integer, String>(null, Runnable::run, constraint));
+
+        SyncConstraint<Integer, String> threadSafeConstraint = new SyncConstraint<>() {
+            @Override
+            public ValidationResult<String> validateSync(Integer value) {
+                return ValidationResult.valid();
+            }
+
+            @Override
+            public boolean isThreadSafe() {
+                return true;
+            }
+        };
+
+        var value = new ConcurrentConstrainedValue<Integer, String>(1, Runnable::run, threadSafeConstraint);
+        assertTrue(value.isValid());
+    }
+
+    @Test
+    public void testConcurrentProducersPublishConsistentState() throws InterruptedException {
+        var value = new ConcurrentConstrainedValue<Integer, String>(null, command -> {}, POSITIVE);
+        var threads = new ArrayList<Thread>();
+        var start = new CountDownLatch(1);
+        var inconsistentStates = new AtomicInteger();
+
+        for (int t = 0; t < 8; ++t) {
+            int sign = t % 2 == 0 ? 1 : -1;
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ex) {
+                    return;
+                }
+
+                for (int i = 1; i <= 10000; ++i) {
+                    value.setValue(sign * i);
+                    if (value.getValidationState() == ValidationState.UNKNOWN) {
+                        inconsistentStates.incrementAndGet();
+                    }
+                }
+            }));
+        }
+
+        threads.forEach(Thread::start);
+        start.countDown();
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, inconsistentStates.get());
+        assertEquals(value.getValue() > 0, value.isValid());
+        assertEquals(value.getValue() < 0, value.isInvalid());
+    }
+
+}
@@ -181,6 +181,25 @@ public class ConstraintsTest {
         }), calls, true);
     }
 
+    @Test
+    public void testSynchronousConstraintsReuseSharedResults() {
+        var notNull = (SyncConstraint<String, Object>)Constraints.<String, Object>notNull();
+        assertSame(ValidationResult.valid(), notNull.validateSync("test"));
+        assertSame(ValidationResult.invalid(), notNull.validateSync(null));
+
+        var between = (SyncConstraint<Number, String>)Constraints.between(0, 10, value -> "error");
+        assertSame(ValidationResult.valid(), between.validateSync(5));
+        assertEquals("error", between.validateSync(10).getDiagnostic());
+        assertFalse(between.validateSync(10).isValid());
+    }
+
+    @Test
+    public void testValidateIsSynchronousConstraint() {
+        var constraint = Constraints.validate((Number value) -> ValidationResult.valid());
+        assertTrue(constraint instanceof SyncConstraint);
+        assertNull(constraint.getCompletionExecutor());
+    }
+
     @Test
     public void testNotNull() throws ExecutionException, InterruptedException {
         var constraint = Constraints.<String, Object>notNull();
@@ -653,4 +672,76 @@ public class ConstraintsTest {
         assertTrue(constraint.validate(11).get().isValid());
     }
 
+    @Test
+    public void testSizeBetween() throws ExecutionException, InterruptedException {
+        var constraint = Constraints.<String, Object>forList(Constraints.sizeBetween(1, 2));
+        assertFalse(constraint.validate(List.of()).get().isValid());
+        assertTrue(constraint.validate(List.of("foo")).get().isValid());
+        assertTrue(constraint.validate(List.of("foo", "bar")).get().isValid());
+        assertFalse(constraint.validate(List.of("foo", "bar", "baz")).get().isValid());
+        assertThrows(IllegalArgumentException.class, () -> Constraints.sizeBetween(2, 1));
+    }
+
+    @Test
+    public void testCountBetween() {
+        var accumulator = Constraints.<String, Object>countBetween(String::isEmpty, 1, 1).newAccumulator();
+        assertFalse(accumulator.getResult().isValid());
+        accumulator.add("foo");
+        assertFalse(accumulator.getResult().isValid());
+        accumulator.add("");
+        assertTrue(accumulator.getResult().isValid());
+        accumulator.add("");
+        assertFalse(accumulator.getResult().isValid());
+        accumulator.remove("");
+        assertTrue(accumulator.getResult().isValid());
+    }
+
+    @Test
+    public void testSumBetween() {
+        var accumulator = Constraints.<Double, String>sumBetween(x -> x, 0, 1, () -> "error").newAccumulator();
+        assertTrue(accumulator.getResult().isValid());
+        accumulator.add(1e16);
+        assertEquals("error", accumulator.getResult().getDiagnostic());
+
+        for (int i = 0; i < 10; ++i) {
+            accumulator.add(0.1);
+        }
+
+        accumulator.remove(1e16);
+        assertTrue(accumulator.getResult().isValid());
+        accumulator.add(0.01);
+        assertFalse(accumulator.getResult().isValid());
+    }
+
+    @Test
+    public void testMinAndMaxBetween() {
+        var min = Constraints.<Integer, Object>minBetween(x -> x, 0, 10).newAccumulator();
+        var max = Constraints.<Integer, Object>maxBetween(x -> x, 0, 10).newAccumulator();
+        assertTrue(min.getResult().isValid());
+        assertTrue(max.getResult().isValid());
+
+        for (int value : new int[] {-1, 5, 11, 11}) {
+            min.add(value);
+            max.add(value);
+        }
+
+        assertFalse(min.getResult().isValid());
+        assertFalse(max.getResult().isValid());
+        min.remove(-1);
+        max.remove(11);
+        assertTrue(min.getResult().isValid());
+        assertFalse(max.getResult().isValid());
+        max.remove(11);
+        assertTrue(max.getResult().isValid());
+    }
+
+    @Test
+    public void testUnique() {
+        var constraint = Constraints.<String, Integer, String>unique(String::length, () -> "error");
+        assertEquals(Integer.valueOf(3), constraint.getKey("foo"));
+        assertTrue(constraint.validateSync("foo").isValid());
+        assertTrue(constraint.validate("foo", List.of("foo")).isValid());
+        assertEquals("error", constraint.validate("foo", List.of("foo", "bar")).getDiagnostic());
+    }
+
 }
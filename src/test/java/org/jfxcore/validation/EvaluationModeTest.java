@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jfxcore.validation;
+
+import org.jfxcore.validation.mocks.ObservableStringValueStub;
+import org.jfxcore.validation.property.SimpleConstrainedStringProperty;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import javafx.beans.Observable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EvaluationModeTest {
+
+    private final List<String> evaluatedConstraints = new ArrayList<>();
+
+    @AfterEach
+    public void restoreDefault() {
+        EvaluationMode.setDefault(null);
+    }
+
+    private SyncConstraint<String, String> notEmpty(String name) {
+        return value -> {
+            evaluatedConstraints.add(name);
+            return value != null && !value.isEmpty() ? ValidationResult.valid() : ValidationResult.invalid();
+        };
+    }
+
+    private class AsyncConstraint implements Constraint<String, String> {
+        final String name;
+        final List<CompletableFuture<ValidationResult<String>>> futures = new ArrayList<>();
+
+        AsyncConstraint(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public CompletableFuture<ValidationResult<String>> validate(String value) {
+            evaluatedConstraints.add(name);
+            var future = new CompletableFuture<ValidationResult<String>>();
+            futures.add(future);
+            return future;
+        }
+
+        CompletableFuture<ValidationResult<String>> lastFuture() {
+            return futures.get(futures.size() - 1);
+        }
+
+        @Override
+        public Executor getCompletionExecutor() {
+            return Runnable::run;
+        }
+
+        @Override
+        public Observable[] getDependencies() {
+            return null;
+        }
+    }
+
+    @Test
+    public void testAllConstraintsAreEvaluatedByDefault() {
+        assertSame(EvaluationMode.ALL, EvaluationMode.getDefault());
+
+        var lookup = new AsyncConstraint("lookup");
+        var property = new SimpleConstrainedStringProperty<>(notEmpty("notEmpty"), lookup);
+        assertNull(EvaluationMode.getEvaluationMode(property));
+        lookup.lastFuture().complete(ValidationResult.valid());
+        evaluatedConstraints.clear();
+
+        property.set("");
+        assertEquals(List.of("notEmpty", "lookup"), evaluatedConstraints);
+
+        lookup.lastFuture().complete(ValidationResult.valid());
+        assertTrue(property.isInvalid());
+    }
+
+    @Test
+    public void testAsyncConstraintIsNotEvaluatedWhenSyncConstraintFails() {
+        var lookup = new AsyncConstraint("lookup");
+        var property = new SimpleConstrainedStringProperty<>(lookup, notEmpty("notEmpty"));
+        EvaluationMode.setEvaluationMode(property, EvaluationMode.FAIL_FAST);
+        assertSame(EvaluationMode.FAIL_FAST, EvaluationMode.getEvaluationMode(property));
+        lookup.futures.forEach(future -> future.complete(ValidationResult.valid()));
+        evaluatedConstraints.clear();
+
+        property.set("");
+        assertEquals(List.of("notEmpty"), evaluatedConstraints);
+        assertTrue(property.isInvalid());
+        assertFalse(property.isValidating());
+
+        evaluatedConstraints.clear();
+        property.set("foo");
+        assertEquals(List.of("notEmpty", "lookup"), evaluatedConstraints);
+        assertTrue(property.isValidating());
+
+        lookup.lastFuture().complete(ValidationResult.valid());
+        assertTrue(property.isValid());
+        assertEquals("foo", property.getConstrainedValue());
+    }
+
+    @Test
+    public void testConstraintsAreEvaluatedInCostOrder() {
+        var expensive = new SyncConstraint<String, String>() {
+            @Override
+            public ValidationResult<String> validateSync(String value) {
+                evaluatedConstraints.add("expensive");
+                return ValidationResult.valid();
+            }
+
+            @Override
+            public int getCost() {
+                return 10;
+            }
+        };
+
+        var property = new SimpleConstrainedStringProperty<>(expensive, notEmpty("notEmpty"));
+        EvaluationMode.setDefault(EvaluationMode.FAIL_FAST);
+        evaluatedConstraints.clear();
+
+        property.set("foo");
+        assertEquals(List.of("notEmpty", "expensive"), evaluatedConstraints);
+        assertTrue(property.isValid());
+
+        evaluatedConstraints.clear();
+        property.set("");
+        assertEquals(List.of("notEmpty"), evaluatedConstraints);
+        assertTrue(property.isInvalid());
+    }
+
+    @Test
+    public void testRunningConstraintsAreCancelledWhenAsyncConstraintFails() {
+        var lookup1 = new AsyncConstraint("lookup1");
+        var lookup2 = new AsyncConstraint("lookup2");
+        var property = new SimpleConstrainedStringProperty<>(lookup1, lookup2);
+        EvaluationMode.setEvaluationMode(property, EvaluationMode.FAIL_FAST);
+
+        lookup1.lastFuture().complete(ValidationResult.invalid());
+        assertTrue(lookup2.lastFuture().isCancelled());
+        assertTrue(property.isInvalid());
+        assertFalse(property.isValidating());
+    }
+
+    @Test
+    public void testResultOfSkippedNonCancellableConstraintIsDiscarded() {
+        var lookup = new AsyncConstraint("lookup");
+        var nonCancellable = new AsyncConstraint("nonCancellable") {
+            @Override
+            public CompletableFuture<ValidationResult<String>> validate(String value) {
+                var future = new CompletableFuture<ValidationResult<String>>() {
+                    @Override
+                    public boolean cancel(boolean mayInterruptIfRunning) {
+                        // Like a running validateAsync task: the request has no effect
+                        return false;
+                    }
+                };
+
+                futures.add(future);
+                return future;
+            }
+        };
+
+        var property = new SimpleConstrainedStringProperty<>(lookup, nonCancellable);
+        EvaluationMode.setEvaluationMode(property, EvaluationMode.FAIL_FAST);
+        lookup.lastFuture().complete(ValidationResult.valid());
+        nonCancellable.lastFuture().complete(ValidationResult.valid());
+
+        property.set("foo");
+        lookup.lastFuture().complete(ValidationResult.invalid());
+        assertTrue(property.isInvalid());
+
+        // The skipped validation run completes late, and its result is discarded
+        nonCancellable.lastFuture().complete(ValidationResult.valid("diagnostic"));
+        assertTrue(property.isInvalid());
+        assertFalse(property.isValidating());
+        assertTrue(property.getDiagnostics().isEmpty());
+        assertNull(property.getConstrainedValue());
+
+        // The skipped constraint is evaluated in the next validation run
+        property.set("bar");
+        lookup.lastFuture().complete(ValidationResult.valid());
+        nonCancellable.lastFuture().complete(ValidationResult.valid());
+        assertTrue(property.isValid());
+        assertEquals("bar", property.getConstrainedValue());
+    }
+
+    @Test
+    public void testSkippedConstraintIsEvaluatedInNextValidationRun() {
+        var dependency = new ObservableStringValueStub("x");
+        var constraint = new SyncConstraint<String, String>() {
+            @Override
+            public ValidationResult<String> validateSync(String value) {
+                evaluatedConstraints.add("dependent");
+                return ValidationResult.valid();
+            }
+
+            @Override
+            public Observable[] getDependencies() {
+                return new Observable[] {dependency};
+            }
+        };
+
+        var property = new SimpleConstrainedStringProperty<>(notEmpty("notEmpty"), constraint);
+        EvaluationMode.setEvaluationMode(property, EvaluationMode.FAIL_FAST);
+        property.set("");
+        evaluatedConstraints.clear();
+
+        // The property is already invalid, so the dependent constraint doesn't need to be evaluated.
+        dependency.set("y");
+        assertTrue(evaluatedConstraints.isEmpty());
+        assertTrue(property.isInvalid());
+
+        property.set("foo");
+        assertEquals(List.of("notEmpty", "dependent"), evaluatedConstraints);
+        assertTrue(property.isValid());
+        assertEquals("foo", property.getConstrainedValue());
+    }
+
+    @Test
+    public void testSkippedConstraintIsEvaluatedWhenEvaluationModeIsReset() {
+        var property = new SimpleConstrainedStringProperty<>(notEmpty("first"), notEmpty("second"));
+        EvaluationMode.setEvaluationMode(property, EvaluationMode.FAIL_FAST);
+        property.set("");
+        EvaluationMode.setEvaluationMode(property, null);
+        evaluatedConstraints.clear();
+
+        property.set("foo");
+        assertEquals(List.of("first", "second"), evaluatedConstraints);
+        assertTrue(property.isValid());
+    }
+
+    @Test
+    public void testAdaptiveModeEvaluatesFrequentlyFailingConstraintFirst() {
+        SyncConstraint<String, String> slow = value -> {
+            evaluatedConstraints.add("slow");
+
+            try {
+                Thread.sleep(2);
+            } catch (InterruptedException ex) {
+                throw new RuntimeException(ex);
+            }
+
+            return ValidationResult.valid();
+        };
+
+        var property = new SimpleConstrainedStringProperty<>(slow, notEmpty("notEmpty"));
+        EvaluationMode.setEvaluationMode(property, EvaluationMode.ADAPTIVE);
+
+        for (int i = 0; i < 3; ++i) {
+            property.set("foo" + i);
+            property.set("");
+        }
+
+        evaluatedConstraints.clear();
+        property.set("bar");
+        property.set("");
+        assertEquals(List.of("notEmpty", "slow", "notEmpty"), evaluatedConstraints);
+        assertTrue(property.isInvalid());
+    }
+
+}
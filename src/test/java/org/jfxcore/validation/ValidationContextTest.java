@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jfxcore.validation;
+
+import org.jfxcore.validation.property.SimpleConstrainedStringProperty;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValidationContextTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    public void cleanup() {
+        executor.shutdownNow();
+        ValidationContext.setDefault(null);
+    }
+
+    private Constraint<String, String> notEmptyAsync() {
+        return Constraints.validateAsync(
+            value -> value != null && !value.isEmpty() ? ValidationResult.valid() : ValidationResult.invalid(),
+            executor);
+    }
+
+    @Test
+    public void testCallerThreadContextDeliversCompletionsToCallingThread() throws InterruptedException {
+        var context = ValidationContext.newCallerThread();
+        var properties = new ArrayList<SimpleConstrainedStringProperty<String>>();
+        var completionThreads = new ArrayList<Thread>();
+
+        context.execute(() -> {
+            var property = new SimpleConstrainedStringProperty<String>(notEmptyAsync());
+            property.validProperty().addListener((observable, oldValue, newValue) ->
+                completionThreads.add(Thread.currentThread()));
+            property.set("foo");
+            properties.add(property);
+        });
+
+        assertTrue(context.runUntil(() -> !properties.isEmpty() && properties.get(0).isValid(), Duration.ofSeconds(5)));
+        assertEquals(List.of(Thread.currentThread()), completionThreads);
+
+        context.execute(() -> properties.get(0).set(""));
+        assertTrue(context.runUntil(() -> properties.get(0).isInvalid(), Duration.ofSeconds(5)));
+    }
+
+    @Test
+    public void testValueThatIsSetInActionIsValidatedImmediately() throws InterruptedException {
+        var context = ValidationContext.newCallerThread();
+        var validity = new ArrayList<Boolean>();
+
+        context.execute(() -> {
+            var property = new SimpleConstrainedStringProperty<String>(Constraints.validate(
+                value -> "foo".equals(value) ? ValidationResult.valid() : ValidationResult.invalid()));
+            validity.add(property.isValid());
+            property.set("foo");
+            validity.add(property.isValid());
+        });
+
+        assertTrue(context.runUntil(() -> !validity.isEmpty(), Duration.ofSeconds(5)));
+        assertEquals(List.of(false, true), validity);
+    }
+
+    @Test
+    public void testEventLoopContextDeliversCompletionsToLoopThread() throws Exception {
+        var context = ValidationContext.newEventLoop();
+        var loopThread = new CompletableFuture<Thread>();
+        var completionThread = new CompletableFuture<Thread>();
+
+        try {
+            context.execute(() -> {
+                loopThread.complete(Thread.currentThread());
+                var property = new SimpleConstrainedStringProperty<String>(notEmptyAsync());
+                property.validProperty().addListener((observable, oldValue, newValue) ->
+                    completionThread.complete(Thread.currentThread()));
+                property.set("foo");
+            });
+
+            assertSame(loopThread.get(5, TimeUnit.SECONDS), completionThread.get(5, TimeUnit.SECONDS));
+            assertTrue(loopThread.get().isDaemon());
+        } finally {
+            context.shutdown();
+        }
+    }
+
+    @Test
+    public void testActorContextRunsActionsInOrder() throws Exception {
+        var context = ValidationContext.newActor();
+        var values = new ArrayList<Integer>();
+        var done = new CompletableFuture<List<Integer>>();
+
+        for (int i = 0; i < 1000; ++i) {
+            int value = i;
+            context.execute(() -> values.add(value));
+        }
+
+        context.execute(() -> done.complete(values));
+
+        assertEquals(IntStream.range(0, 1000).boxed().toList(), done.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testCurrentContextIsBoundWhileActionIsRunning() throws Exception {
+        var context = ValidationContext.newEventLoop();
+        var current = new CompletableFuture<ValidationContext>();
+
+        try {
+            context.execute(() -> current.complete(ValidationContext.getCurrent()));
+            assertSame(context, current.get(5, TimeUnit.SECONDS));
+            assertSame(ValidationContext.fx(), ValidationContext.getCurrent());
+        } finally {
+            context.shutdown();
+        }
+    }
+
+    @Test
+    public void testDefaultContextIsUsedOutsideOfActions() {
+        var context = ValidationContext.newCallerThread();
+        ValidationContext.setDefault(context);
+        assertSame(context, ValidationContext.getCurrent());
+
+        ValidationContext.setDefault(null);
+        assertSame(ValidationContext.fx(), ValidationContext.getCurrent());
+    }
+
+    @Test
+    public void testRunUntilRequiresCallerThreadContext() {
+        var context = ValidationContext.newEventLoop();
+
+        try {
+            assertThrows(IllegalStateException.class, () -> context.runUntil(() -> true, Duration.ZERO));
+        } finally {
+            context.shutdown();
+        }
+    }
+
+}
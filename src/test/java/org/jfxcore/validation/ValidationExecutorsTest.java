@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jfxcore.validation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValidationExecutorsTest {
+
+    @AfterEach
+    public void restoreDefault() {
+        ValidationExecutors.setDefault(null);
+    }
+
+    @Test
+    public void testBoundedPoolRejectsTasksWhenQueueIsFull() throws InterruptedException {
+        var executor = ValidationExecutors.newBoundedPool(1, 1);
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        try {
+            executor.execute(() -> {
+                started.countDown();
+                await(release);
+            });
+
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            assertEquals(1, executor.getActiveCount());
+
+            executor.execute(() -> {});
+            assertEquals(1, executor.getQueueSize());
+            assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {}));
+            assertEquals(1, executor.getRejectedCount());
+
+            release.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+            assertEquals(0, executor.getActiveCount());
+            assertEquals(0, executor.getQueueSize());
+            assertEquals(2, executor.getCompletedCount());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testPooledThreadIsNotInterruptedByPreviousTask() throws InterruptedException {
+        var executor = ValidationExecutors.newBoundedPool(1, 10);
+        var interrupted = new AtomicBoolean(true);
+        var done = new CountDownLatch(1);
+
+        try {
+            executor.execute(() -> Thread.currentThread().interrupt());
+            executor.execute(() -> {
+                interrupted.set(Thread.currentThread().isInterrupted());
+                done.countDown();
+            });
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertFalse(interrupted.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testVirtualThreadPerTaskExecutorRunsTasksConcurrently() throws InterruptedException {
+        var executor = ValidationExecutors.newVirtualThreadPerTaskExecutor();
+        var started = new CountDownLatch(2);
+        var release = new CountDownLatch(1);
+
+        try {
+            executor.execute(() -> { started.countDown(); await(release); });
+            executor.execute(() -> { started.countDown(); await(release); });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            assertEquals(2, executor.getActiveCount());
+            assertEquals(Integer.MAX_VALUE, executor.getMaxQueueSize());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testSetDefault() {
+        Executor executor = Runnable::run;
+        Executor builtIn = ValidationExecutors.getDefault();
+        assertTrue(builtIn instanceof ValidationExecutor);
+        assertSame(builtIn, ValidationExecutors.getDefault());
+
+        ValidationExecutors.setDefault(executor);
+        assertSame(executor, ValidationExecutors.getDefault());
+
+        ValidationExecutors.setDefault(null);
+        assertNotSame(executor, ValidationExecutors.getDefault());
+    }
+
+    @Test
+    public void testIllegalArguments() {
+        assertThrows(IllegalArgumentException.class, () -> ValidationExecutors.newBoundedPool(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> ValidationExecutors.newBoundedPool(1, 0));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jfxcore.validation;
+
+import impl.org.jfxcore.validation.PropertyHelper;
+import org.jfxcore.validation.property.SimpleConstrainedStringProperty;
+import org.junit.jupiter.api.Test;
+import javafx.beans.Observable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValidationGroupTest {
+
+    private final SyncConstraint<String, String> notEmpty =
+        value -> value != null && !value.isEmpty() ? ValidationResult.valid() : ValidationResult.invalid();
+
+    private void assertGroupState(
+            ValidationGroup group, boolean valid, boolean invalid, boolean validating, boolean userInvalid) {
+        assertEquals(valid, group.isValid(), "valid");
+        assertEquals(valid, group.validProperty().get(), "validProperty");
+        assertEquals(invalid, group.isInvalid(), "invalid");
+        assertEquals(invalid, group.invalidProperty().get(), "invalidProperty");
+        assertEquals(validating, group.isValidating(), "validating");
+        assertEquals(validating, group.validatingProperty().get(), "validatingProperty");
+        assertEquals(userInvalid, group.isUserInvalid(), "userInvalid");
+        assertEquals(userInvalid, group.userInvalidProperty().get(), "userInvalidProperty");
+    }
+
+    @Test
+    public void testEmptyGroupIsValid() {
+        var group = new ValidationGroup();
+        assertEquals(0, group.size());
+        assertGroupState(group, true, false, false, false);
+    }
+
+    @Test
+    public void testGroupStateIsUpdatedWhenMemberStateChanges() {
+        var first = new SimpleConstrainedStringProperty<>("foo", notEmpty);
+        var second = new SimpleConstrainedStringProperty<>("bar", notEmpty);
+        var group = new ValidationGroup(first, second);
+        assertEquals(2, group.size());
+        assertEquals(2, group.getValidCount());
+        assertGroupState(group, true, false, false, false);
+
+        first.set("");
+        assertEquals(1, group.getValidCount());
+        assertEquals(1, group.getInvalidCount());
+        assertGroupState(group, false, true, false, false);
+
+        second.set("");
+        assertEquals(0, group.getValidCount());
+        assertEquals(2, group.invalidCountProperty().get());
+        assertGroupState(group, false, true, false, false);
+
+        first.set("foo");
+        second.set("bar");
+        assertEquals(2, group.validCountProperty().get());
+        assertEquals(0, group.getInvalidCount());
+        assertGroupState(group, true, false, false, false);
+    }
+
+    @Test
+    public void testGroupPropertiesFireChangeNotifications() {
+        var property = new SimpleConstrainedStringProperty<>("foo", notEmpty);
+        var group = new ValidationGroup(property);
+        List<Boolean> validValues = new ArrayList<>();
+        List<Number> invalidCounts = new ArrayList<>();
+        group.validProperty().addListener((obs, oldValue, newValue) -> validValues.add(newValue));
+        group.invalidCountProperty().addListener((obs, oldValue, newValue) -> invalidCounts.add(newValue));
+
+        property.set("");
+        property.set("bar");
+        assertEquals(List.of(false, true), validValues);
+        assertEquals(List.of(1, 0), invalidCounts);
+    }
+
+    @Test
+    public void testValidatingCountIsUpdatedByAsyncConstraint() {
+        List<CompletableFuture<ValidationResult<String>>> futures = new ArrayList<>();
+        var property = new SimpleConstrainedStringProperty<>(new Constraint<String, String>() {
+            @Override
+            public CompletableFuture<ValidationResult<String>> validate(String value) {
+                var future = new CompletableFuture<ValidationResult<String>>();
+                futures.add(future);
+                return future;
+            }
+
+            @Override
+            public Executor getCompletionExecutor() {
+                return Runnable::run;
+            }
+
+            @Override
+            public Observable[] getDependencies() {
+                return null;
+            }
+        });
+
+        var group = new ValidationGroup(property);
+        assertEquals(1, group.getValidatingCount());
+        assertGroupState(group, false, false, true, false);
+
+        futures.get(0).complete(ValidationResult.valid());
+        assertEquals(0, group.getValidatingCount());
+        assertGroupState(group, true, false, false, false);
+    }
+
+    @Test
+    public void testUserInvalidIsTracked() {
+        var property = new SimpleConstrainedStringProperty<>("", notEmpty);
+        var group = new ValidationGroup(property);
+        assertGroupState(group, false, true, false, false);
+
+        PropertyHelper.getValidationHelper(property).updateUserModified(true);
+        assertEquals(1, group.getUserInvalidCount());
+        assertGroupState(group, false, true, false, true);
+
+        property.set("foo");
+        assertEquals(0, group.userInvalidCountProperty().get());
+        assertGroupState(group, true, false, false, false);
+    }
+
+    @Test
+    public void testRemovedMemberDoesNotAffectGroup() {
+        var first = new SimpleConstrainedStringProperty<>("foo", notEmpty);
+        var second = new SimpleConstrainedStringProperty<>("", notEmpty);
+        var group = new ValidationGroup(first, second);
+        assertGroupState(group, false, true, false, false);
+
+        assertTrue(group.remove(second));
+        assertFalse(group.remove(second));
+        assertFalse(group.contains(second));
+        assertGroupState(group, true, false, false, false);
+
+        second.set("bar");
+        second.set("");
+        assertEquals(1, group.size());
+        assertEquals(0, group.getInvalidCount());
+        assertGroupState(group, true, false, false, false);
+    }
+
+    @Test
+    public void testMemberIsOnlyAddedOnce() {
+        var property = new SimpleConstrainedStringProperty<>("", notEmpty);
+        var group = new ValidationGroup();
+        assertTrue(group.add(property));
+        assertFalse(group.add(property));
+        assertEquals(1, group.getInvalidCount());
+    }
+
+    @Test
+    public void testNestedGroups() {
+        var first = new SimpleConstrainedStringProperty<>("foo", notEmpty);
+        var second = new SimpleConstrainedStringProperty<>("bar", notEmpty);
+        var page1 = new ValidationGroup(first);
+        var page2 = new ValidationGroup(second);
+        var wizard = new ValidationGroup();
+        wizard.add(page1);
+        wizard.add(page2);
+        assertEquals(2, wizard.size());
+        assertGroupState(wizard, true, false, false, false);
+
+        first.set("");
+        assertGroupState(page1, false, true, false, false);
+        assertEquals(1, wizard.getInvalidCount());
+        assertGroupState(wizard, false, true, false, false);
+
+        second.set("");
+        assertEquals(2, wizard.getInvalidCount());
+
+        first.set("foo");
+        second.set("bar");
+        assertGroupState(wizard, true, false, false, false);
+
+        assertTrue(wizard.remove(page1));
+        first.set("");
+        assertGroupState(wizard, true, false, false, false);
+    }
+
+    @Test
+    public void testGroupCannotContainItself() {
+        var group = new ValidationGroup();
+        var nested = new ValidationGroup();
+        group.add(nested);
+        assertThrows(IllegalArgumentException.class, () -> group.add(group));
+        assertThrows(IllegalArgumentException.class, () -> nested.add(group));
+    }
+
+}
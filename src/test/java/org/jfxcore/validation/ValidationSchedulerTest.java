@@ -0,0 +1,409 @@
+/*
+ * Copyright (c) 2022, 2023, JFXcore. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  JFXcore designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jfxcore.validation;
+
+import org.jfxcore.validation.mocks.ObservableStringValueStub;
+import org.jfxcore.validation.property.ConstrainedStringProperty;
+import org.jfxcore.validation.property.SimpleConstrainedStringProperty;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValidationSchedulerTest {
+
+    private final List<Runnable> scheduledValidations = new ArrayList<>();
+    private final ValidationScheduler scheduler = scheduledValidations::add;
+    private final List<String> validatedValues = new ArrayList<>();
+
+    private final SyncConstraint<String, String> maxLength3 = value -> {
+        validatedValues.add(value);
+        return value == null || value.length() <= 3 ? ValidationResult.valid() : ValidationResult.invalid();
+    };
+
+    @AfterEach
+    public void restoreDefault() {
+        ValidationScheduler.setDefault(null);
+    }
+
+    private void runScheduledValidations() {
+        List<Runnable> validations = new ArrayList<>(scheduledValidations);
+        scheduledValidations.clear();
+        validations.forEach(Runnable::run);
+    }
+
+    @Test
+    public void testImmediateSchedulerIsDefault() {
+        assertSame(ValidationScheduler.immediate(), ValidationScheduler.getDefault());
+
+        var property = new SimpleConstrainedStringProperty<>(maxLength3);
+        assertNull(ValidationScheduler.getScheduler(property));
+        property.set("foo");
+        assertEquals(List.of("foo"), validatedValues.subList(1, validatedValues.size()));
+        assertEquals("foo", property.getConstrainedValue());
+    }
+
+    @Test
+    public void testInvalidationsAreCoalescedIntoSingleValidationRun() {
+        var property = new SimpleConstrainedStringProperty<>(maxLength3);
+        ValidationScheduler.setScheduler(property, scheduler);
+        validatedValues.clear();
+
+        property.set("a");
+        property.set("ab");
+        property.set("abc");
+        assertEquals(1, scheduledValidations.size());
+        assertTrue(validatedValues.isEmpty());
+        assertNull(property.getConstrainedValue());
+
+        runScheduledValidations();
+        assertEquals(List.of("abc"), validatedValues);
+        assertEquals("abc", property.getConstrainedValue());
+        assertTrue(property.isValid());
+    }
+
+    @Test
+    public void testValidationStateIsRetainedWhileValidationIsPending() {
+        var property = new SimpleConstrainedStringProperty<>(maxLength3);
+        ValidationScheduler.setScheduler(property, scheduler);
+        property.set("foo");
+        runScheduledValidations();
+
+        property.set("foobar");
+        assertTrue(property.isValid());
+        assertEquals("foo", property.getConstrainedValue());
+
+        runScheduledValidations();
+        assertTrue(property.isInvalid());
+        assertEquals("foo", property.getConstrainedValue());
+    }
+
+    @Test
+    public void testNewValidationIsScheduledAfterPendingValidationHasRun() {
+        var property = new SimpleConstrainedStringProperty<>(maxLength3);
+        ValidationScheduler.setScheduler(property, scheduler);
+
+        property.set("a");
+        runScheduledValidations();
+        property.set("b");
+        assertEquals(1, scheduledValidations.size());
+        runScheduledValidations();
+        assertEquals("b", property.getConstrainedValue());
+    }
+
+    @Test
+    public void testSwitchingToImmediateSchedulerRunsPendingValidation() {
+        var property = new SimpleConstrainedStringProperty<>(maxLength3);
+        ValidationScheduler.setScheduler(property, scheduler);
+        validatedValues.clear();
+
+        property.set("foobar");
+        assertTrue(validatedValues.isEmpty());
+
+        ValidationScheduler.setScheduler(property, ValidationScheduler.immediate());
+        assertEquals(List.of("foobar"), validatedValues);
+        assertTrue(property.isInvalid());
+
+        // The stale scheduled validation has no effect
+        runScheduledValidations();
+        assertEquals(List.of("foobar"), validatedValues);
+    }
+
+    @Test
+    public void testDefaultSchedulerIsUsedForInitialValidation() {
+        ValidationScheduler.setDefault(scheduler);
+        ConstrainedStringProperty<String> property = new SimpleConstrainedStringProperty<>("foobar", maxLength3);
+        assertTrue(validatedValues.isEmpty());
+        assertFalse(property.isValid());
+        assertFalse(property.isInvalid());
+
+        runScheduledValidations();
+        assertEquals(List.of("foobar"), validatedValues);
+        assertTrue(property.isInvalid());
+    }
+
+    @Test
+    public void testBatchValidatesEachPropertyOnce() {
+        var first = new SimpleConstrainedStringProperty<>(maxLength3);
+        var second = new SimpleConstrainedStringProperty<>(maxLength3);
+        validatedValues.clear();
+
+        ValidationScheduler.batch(() -> {
+            first.set("a");
+            first.set("ab");
+            second.set("foo");
+            second.set("foobar");
+            assertTrue(validatedValues.isEmpty());
+            assertNull(first.getConstrainedValue());
+        });
+
+        assertEquals(List.of("ab", "foobar"), validatedValues);
+        assertEquals("ab", first.getConstrainedValue());
+        assertTrue(first.isValid());
+        assertTrue(second.isInvalid());
+    }
+
+    @Test
+    public void testBatchValidatesDependentPropertyOnce() {
+        var dependency = new ObservableStringValueStub("x");
+        var property = new SimpleConstrainedStringProperty<String>(new SyncConstraint<>() {
+            @Override
+            public ValidationResult<String> validateSync(String value) {
+                validatedValues.add(value + dependency.get());
+                return ValidationResult.valid();
+            }
+
+            @Override
+            public Observable[] getDependencies() {
+                return new Observable[] {dependency};
+            }
+        });
+
+        validatedValues.clear();
+
+        ValidationScheduler.batch(() -> {
+            dependency.set("y");
+            property.set("foo");
+            dependency.set("z");
+        });
+
+        assertEquals(List.of("fooz"), validatedValues);
+        assertEquals("foo", property.getConstrainedValue());
+    }
+
+    @Test
+    public void testNestedBatchIsValidatedWhenOutermostBatchCompletes() {
+        var property = new SimpleConstrainedStringProperty<>(maxLength3);
+        validatedValues.clear();
+
+        ValidationScheduler.batch(() -> {
+            ValidationScheduler.batch(() -> property.set("foo"));
+            assertTrue(validatedValues.isEmpty());
+            property.set("bar");
+        });
+
+        assertEquals(List.of("bar"), validatedValues);
+    }
+
+    @Test
+    public void testBatchValidatesPropertiesWhenActionFails() {
+        var property = new SimpleConstrainedStringProperty<>(maxLength3);
+        validatedValues.clear();
+
+        assertThrows(IllegalStateException.class, () -> ValidationScheduler.batch(() -> {
+            property.set("foo");
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(List.of("foo"), validatedValues);
+        assertEquals("foo", property.getConstrainedValue());
+
+        property.set("bar");
+        assertEquals(List.of("foo", "bar"), validatedValues);
+    }
+
+    @Test
+    public void testBatchDoesNotAffectDeferringScheduler() {
+        var property = new SimpleConstrainedStringProperty<>(maxLength3);
+        ValidationScheduler.setScheduler(property, scheduler);
+        validatedValues.clear();
+
+        ValidationScheduler.batch(() -> property.set("foo"));
+        assertTrue(validatedValues.isEmpty());
+        assertEquals(1, scheduledValidations.size());
+
+        runScheduledValidations();
+        assertEquals(List.of("foo"), validatedValues);
+    }
+
+    @Test
+    public void testLazyPropertyIsValidatedWhenValidationStateIsQueried() {
+        var property = new SimpleConstrainedStringProperty<>(maxLength3);
+        ValidationScheduler.setScheduler(property, ValidationScheduler.lazy());
+        validatedValues.clear();
+
+        property.set("a");
+        property.set("foobar");
+        assertTrue(validatedValues.isEmpty());
+
+        assertTrue(property.isInvalid());
+        assertEquals(List.of("foobar"), validatedValues);
+
+        assertFalse(property.isValid());
+        assertEquals(List.of("foobar"), validatedValues);
+    }
+
+    @Test
+    public void testLazyPropertyIsValidatedWhenConstrainedValueIsQueried() {
+        var property = new SimpleConstrainedStringProperty<>(maxLength3);
+        ValidationScheduler.setScheduler(property, ValidationScheduler.lazy());
+        validatedValues.clear();
+
+        property.set("foo");
+        assertTrue(validatedValues.isEmpty());
+        assertEquals("foo", property.getConstrainedValue());
+        assertEquals(List.of("foo"), validatedValues);
+    }
+
+    @Test
+    public void testLazyPropertyIsValidatedWhenDiagnosticsAreRetrieved() {
+        var property = new SimpleConstrainedStringProperty<>(maxLength3);
+        ValidationScheduler.setScheduler(property, ValidationScheduler.lazy());
+        validatedValues.clear();
+
+        property.set("foo");
+        property.getDiagnostics();
+        assertEquals(List.of("foo"), validatedValues);
+
+        // The diagnostics list may be observed by the caller, so the property is now validated immediately
+        property.set("bar");
+        assertEquals(List.of("foo", "bar"), validatedValues);
+    }
+
+    @Test
+    public void testObservedLazyPropertyIsValidatedImmediately() {
+        var property = new SimpleConstrainedStringProperty<>(maxLength3);
+        ValidationScheduler.setScheduler(property, ValidationScheduler.lazy());
+        InvalidationListener listener = observable -> {};
+        validatedValues.clear();
+
+        property.set("foo");
+        property.validProperty().addListener(listener);
+        assertEquals(List.of("foo"), validatedValues);
+
+        property.set("bar");
+        assertEquals(List.of("foo", "bar"), validatedValues);
+
+        property.validProperty().removeListener(listener);
+        property.set("baz");
+        assertEquals(List.of("foo", "bar"), validatedValues);
+        assertEquals("baz", property.getConstrainedValue());
+        assertEquals(List.of("foo", "bar", "baz"), validatedValues);
+    }
+
+    @Test
+    public void testRemovingUnregisteredListenerDoesNotStopImmediateValidation() {
+        var property = new SimpleConstrainedStringProperty<>(maxLength3);
+        ValidationScheduler.setScheduler(property, ValidationScheduler.lazy());
+        InvalidationListener listener = observable -> {};
+        property.validProperty().addListener(listener);
+        validatedValues.clear();
+
+        // Neither of these listeners is registered, so the property is still observed
+        property.validProperty().removeListener(observable -> {});
+        property.constrainedValueProperty().removeListener(listener);
+        property.set("foo");
+        assertEquals(List.of("foo"), validatedValues);
+
+        // Removing another listener twice only removes one observer
+        InvalidationListener otherListener = observable -> {};
+        property.validProperty().addListener(otherListener);
+        property.validProperty().removeListener(otherListener);
+        property.validProperty().removeListener(otherListener);
+        property.set("bar");
+        assertEquals(List.of("foo", "bar"), validatedValues);
+    }
+
+    @Test
+    public void testObservedConstrainedValueOfLazyPropertyIsValidatedImmediately() {
+        var property = new SimpleConstrainedStringProperty<>(maxLength3);
+        ValidationScheduler.setScheduler(property, ValidationScheduler.lazy());
+        property.constrainedValueProperty().addListener(observable -> {});
+        validatedValues.clear();
+
+        property.set("foo");
+        assertEquals(List.of("foo"), validatedValues);
+    }
+
+    @Test
+    public void testLazyDependencyIsNotEvaluatedUntilQueried() {
+        var dependency = new ObservableStringValueStub("x");
+        List<String> dependencyValues = new ArrayList<>();
+        var property = new SimpleConstrainedStringProperty<String>(new SyncConstraint<>() {
+            @Override
+            public ValidationResult<String> validateSync(String value) {
+                dependencyValues.add(dependency.get());
+                return ValidationResult.valid();
+            }
+
+            @Override
+            public Observable[] getDependencies() {
+                return new Observable[] {dependency};
+            }
+        });
+
+        ValidationScheduler.setScheduler(property, ValidationScheduler.lazy());
+        dependencyValues.clear();
+
+        dependency.set("y");
+        dependency.set("z");
+        assertTrue(dependencyValues.isEmpty());
+        assertTrue(property.isValid());
+        assertEquals(List.of("z"), dependencyValues);
+    }
+
+    @Test
+    public void testInitialValidationIsDeferredWhenDefaultSchedulerIsLazy() {
+        ValidationScheduler.setDefault(ValidationScheduler.lazy());
+        var property = new SimpleConstrainedStringProperty<>("foobar", maxLength3);
+        assertTrue(validatedValues.isEmpty());
+
+        assertTrue(property.isInvalid());
+        assertEquals(List.of("foobar"), validatedValues);
+    }
+
+    @Test
+    public void testLazyPendingValidationRunsAfterDefaultSchedulerIsChanged() {
+        ValidationScheduler.setDefault(ValidationScheduler.lazy());
+        var property = new SimpleConstrainedStringProperty<>(maxLength3);
+        validatedValues.clear();
+
+        property.set("foobar");
+        assertTrue(validatedValues.isEmpty());
+
+        // The pending run was never scheduled, so it runs when the next change is validated immediately
+        ValidationScheduler.setDefault(ValidationScheduler.immediate());
+        property.set("foo");
+        assertEquals(List.of("foo"), validatedValues);
+
+        property.set("bar");
+        assertEquals(List.of("foo", "bar"), validatedValues);
+    }
+
+    @Test
+    public void testLazyPendingValidationRunsWhenQueriedAfterDefaultSchedulerIsChanged() {
+        ValidationScheduler.setDefault(ValidationScheduler.lazy());
+        var property = new SimpleConstrainedStringProperty<>(maxLength3);
+        validatedValues.clear();
+
+        property.set("foobar");
+        ValidationScheduler.setDefault(ValidationScheduler.immediate());
+        assertTrue(validatedValues.isEmpty());
+        assertTrue(property.isInvalid());
+        assertEquals(List.of("foobar"), validatedValues);
+    }
+
+}